@@ -109,13 +109,10 @@ public class BeanFactoryAspectInstanceFactory implements MetadataAwareAspectInst
 			// Rely on singleton semantics provided by the factory -> no local lock.
 			return null;
 		}
-		else if (this.beanFactory instanceof ConfigurableBeanFactory cbf) {
-			// No singleton guarantees from the factory -> let's lock locally but
-			// reuse the factory's singleton lock, just in case a lazy dependency
-			// of our advice bean happens to trigger the singleton lock implicitly...
-			return cbf.getSingletonMutex();
-		}
 		else {
+			// No singleton guarantees from the factory -> let's lock locally,
+			// not holding the factory's singleton mutex while obtaining the bean
+			// since the factory creates singletons under its own internal lock.
 			return this;
 		}
 	}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2022 the original author or authors.
+ * Copyright 2002-2023 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -38,7 +38,7 @@ public class AbstractPropertyAccessorBenchmark {
 	@State(Scope.Benchmark)
 	public static class BenchmarkState {
 
-		@Param({"DirectFieldAccessor", "BeanWrapper"})
+		@Param({"DirectFieldAccessor", "BeanWrapper", "BeanWrapperGeneratedAccessors"})
 		public String accessor;
 
 		@Param({"none", "stringTrimmer", "numberOnPath", "numberOnNestedPath", "numberOnType"})
@@ -57,6 +57,11 @@ public class AbstractPropertyAccessorBenchmark {
 			if (this.accessor.equals("DirectFieldAccessor")) {
 				this.propertyAccessor = new DirectFieldAccessor(this.target);
 			}
+			else if (this.accessor.equals("BeanWrapperGeneratedAccessors")) {
+				BeanWrapperImpl beanWrapper = new BeanWrapperImpl(this.target);
+				beanWrapper.setGeneratedAccessors(true);
+				this.propertyAccessor = beanWrapper;
+			}
 			else {
 				this.propertyAccessor = new BeanWrapperImpl(this.target);
 			}
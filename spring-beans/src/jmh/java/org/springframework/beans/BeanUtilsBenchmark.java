@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2022 the original author or authors.
+ * Copyright 2002-2023 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,6 +17,7 @@
 package org.springframework.beans;
 
 import java.lang.reflect.Constructor;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 import org.openjdk.jmh.annotations.Benchmark;
@@ -35,10 +36,19 @@ public class BeanUtilsBenchmark {
 	private Constructor<TestClass1> noArgConstructor;
 	private Constructor<TestClass2> constructor;
 
+	private SourceBean20 source20;
+
+	private TargetBean20 target20;
+
 	@Setup
 	public void setUp() throws NoSuchMethodException {
 		this.noArgConstructor = TestClass1.class.getDeclaredConstructor();
 		this.constructor = TestClass2.class.getDeclaredConstructor(int.class, String.class);
+		this.source20 = new SourceBean20();
+		this.source20.setProperty1("value");
+		this.source20.setProperty2(42);
+		this.source20.setProperty9(List.of("a", "b"));
+		this.target20 = new TargetBean20();
 	}
 
 	@Benchmark
@@ -51,6 +61,18 @@ public class BeanUtilsBenchmark {
 		return BeanUtils.instantiateClass(this.constructor, 1, "str");
 	}
 
+	@Benchmark
+	public Object copyProperties20() {
+		BeanUtils.copyProperties(this.source20, this.target20);
+		return this.target20;
+	}
+
+	@Benchmark
+	public Object copyProperties20WithIgnore() {
+		BeanUtils.copyProperties(this.source20, this.target20, "property1", "property20");
+		return this.target20;
+	}
+
 	static class TestClass1 {
 	}
 
@@ -65,4 +87,410 @@ public class BeanUtilsBenchmark {
 		}
 	}
 
+	public static class SourceBean20 {
+
+		private String property1;
+
+		private int property2;
+
+		private long property3;
+
+		private Integer property4;
+
+		private Long property5;
+
+		private boolean property6;
+
+		private double property7;
+
+		private String property8;
+
+		private List<String> property9;
+
+		private Double property10;
+
+		private String property11;
+
+		private int property12;
+
+		private long property13;
+
+		private Integer property14;
+
+		private Long property15;
+
+		private boolean property16;
+
+		private double property17;
+
+		private String property18;
+
+		private List<String> property19;
+
+		private Double property20;
+
+		public String getProperty1() {
+			return this.property1;
+		}
+
+		public void setProperty1(String property1) {
+			this.property1 = property1;
+		}
+
+		public int getProperty2() {
+			return this.property2;
+		}
+
+		public void setProperty2(int property2) {
+			this.property2 = property2;
+		}
+
+		public long getProperty3() {
+			return this.property3;
+		}
+
+		public void setProperty3(long property3) {
+			this.property3 = property3;
+		}
+
+		public Integer getProperty4() {
+			return this.property4;
+		}
+
+		public void setProperty4(Integer property4) {
+			this.property4 = property4;
+		}
+
+		public Long getProperty5() {
+			return this.property5;
+		}
+
+		public void setProperty5(Long property5) {
+			this.property5 = property5;
+		}
+
+		public boolean getProperty6() {
+			return this.property6;
+		}
+
+		public void setProperty6(boolean property6) {
+			this.property6 = property6;
+		}
+
+		public double getProperty7() {
+			return this.property7;
+		}
+
+		public void setProperty7(double property7) {
+			this.property7 = property7;
+		}
+
+		public String getProperty8() {
+			return this.property8;
+		}
+
+		public void setProperty8(String property8) {
+			this.property8 = property8;
+		}
+
+		public List<String> getProperty9() {
+			return this.property9;
+		}
+
+		public void setProperty9(List<String> property9) {
+			this.property9 = property9;
+		}
+
+		public Double getProperty10() {
+			return this.property10;
+		}
+
+		public void setProperty10(Double property10) {
+			this.property10 = property10;
+		}
+
+		public String getProperty11() {
+			return this.property11;
+		}
+
+		public void setProperty11(String property11) {
+			this.property11 = property11;
+		}
+
+		public int getProperty12() {
+			return this.property12;
+		}
+
+		public void setProperty12(int property12) {
+			this.property12 = property12;
+		}
+
+		public long getProperty13() {
+			return this.property13;
+		}
+
+		public void setProperty13(long property13) {
+			this.property13 = property13;
+		}
+
+		public Integer getProperty14() {
+			return this.property14;
+		}
+
+		public void setProperty14(Integer property14) {
+			this.property14 = property14;
+		}
+
+		public Long getProperty15() {
+			return this.property15;
+		}
+
+		public void setProperty15(Long property15) {
+			this.property15 = property15;
+		}
+
+		public boolean getProperty16() {
+			return this.property16;
+		}
+
+		public void setProperty16(boolean property16) {
+			this.property16 = property16;
+		}
+
+		public double getProperty17() {
+			return this.property17;
+		}
+
+		public void setProperty17(double property17) {
+			this.property17 = property17;
+		}
+
+		public String getProperty18() {
+			return this.property18;
+		}
+
+		public void setProperty18(String property18) {
+			this.property18 = property18;
+		}
+
+		public List<String> getProperty19() {
+			return this.property19;
+		}
+
+		public void setProperty19(List<String> property19) {
+			this.property19 = property19;
+		}
+
+		public Double getProperty20() {
+			return this.property20;
+		}
+
+		public void setProperty20(Double property20) {
+			this.property20 = property20;
+		}
+	}
+
+	public static class TargetBean20 {
+
+		private String property1;
+
+		private int property2;
+
+		private long property3;
+
+		private Integer property4;
+
+		private Long property5;
+
+		private boolean property6;
+
+		private double property7;
+
+		private String property8;
+
+		private List<String> property9;
+
+		private Double property10;
+
+		private String property11;
+
+		private int property12;
+
+		private long property13;
+
+		private Integer property14;
+
+		private Long property15;
+
+		private boolean property16;
+
+		private double property17;
+
+		private String property18;
+
+		private List<String> property19;
+
+		private Double property20;
+
+		public String getProperty1() {
+			return this.property1;
+		}
+
+		public void setProperty1(String property1) {
+			this.property1 = property1;
+		}
+
+		public int getProperty2() {
+			return this.property2;
+		}
+
+		public void setProperty2(int property2) {
+			this.property2 = property2;
+		}
+
+		public long getProperty3() {
+			return this.property3;
+		}
+
+		public void setProperty3(long property3) {
+			this.property3 = property3;
+		}
+
+		public Integer getProperty4() {
+			return this.property4;
+		}
+
+		public void setProperty4(Integer property4) {
+			this.property4 = property4;
+		}
+
+		public Long getProperty5() {
+			return this.property5;
+		}
+
+		public void setProperty5(Long property5) {
+			this.property5 = property5;
+		}
+
+		public boolean getProperty6() {
+			return this.property6;
+		}
+
+		public void setProperty6(boolean property6) {
+			this.property6 = property6;
+		}
+
+		public double getProperty7() {
+			return this.property7;
+		}
+
+		public void setProperty7(double property7) {
+			this.property7 = property7;
+		}
+
+		public String getProperty8() {
+			return this.property8;
+		}
+
+		public void setProperty8(String property8) {
+			this.property8 = property8;
+		}
+
+		public List<String> getProperty9() {
+			return this.property9;
+		}
+
+		public void setProperty9(List<String> property9) {
+			this.property9 = property9;
+		}
+
+		public Double getProperty10() {
+			return this.property10;
+		}
+
+		public void setProperty10(Double property10) {
+			this.property10 = property10;
+		}
+
+		public String getProperty11() {
+			return this.property11;
+		}
+
+		public void setProperty11(String property11) {
+			this.property11 = property11;
+		}
+
+		public int getProperty12() {
+			return this.property12;
+		}
+
+		public void setProperty12(int property12) {
+			this.property12 = property12;
+		}
+
+		public long getProperty13() {
+			return this.property13;
+		}
+
+		public void setProperty13(long property13) {
+			this.property13 = property13;
+		}
+
+		public Integer getProperty14() {
+			return this.property14;
+		}
+
+		public void setProperty14(Integer property14) {
+			this.property14 = property14;
+		}
+
+		public Long getProperty15() {
+			return this.property15;
+		}
+
+		public void setProperty15(Long property15) {
+			this.property15 = property15;
+		}
+
+		public boolean getProperty16() {
+			return this.property16;
+		}
+
+		public void setProperty16(boolean property16) {
+			this.property16 = property16;
+		}
+
+		public double getProperty17() {
+			return this.property17;
+		}
+
+		public void setProperty17(double property17) {
+			this.property17 = property17;
+		}
+
+		public String getProperty18() {
+			return this.property18;
+		}
+
+		public void setProperty18(String property18) {
+			this.property18 = property18;
+		}
+
+		public List<String> getProperty19() {
+			return this.property19;
+		}
+
+		public void setProperty19(List<String> property19) {
+			this.property19 = property19;
+		}
+
+		public Double getProperty20() {
+			return this.property20;
+		}
+
+		public void setProperty20(Double property20) {
+			this.property20 = property20;
+		}
+	}
+
 }
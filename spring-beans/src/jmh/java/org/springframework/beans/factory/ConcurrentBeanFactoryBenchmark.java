@@ -27,9 +27,15 @@ import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.infra.Blackhole;
 
+import org.springframework.beans.PropertyValues;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.config.InstantiationAwareBeanPostProcessor;
 import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
 import org.springframework.beans.factory.xml.XmlBeanDefinitionReader;
 import org.springframework.beans.propertyeditors.CustomDateEditor;
+import org.springframework.lang.Nullable;
 
 import static org.springframework.core.testfixture.io.ResourceTestUtils.qualifiedResource;
 
@@ -67,6 +73,58 @@ public class ConcurrentBeanFactoryBenchmark {
 		bh.consume(state.factory.getBean("bean2"));
 	}
 
+	/**
+	 * Re-creation of autowired prototype and scoped beans with a typical set of
+	 * post-processors, most of which only implement some of their callbacks.
+	 */
+	@State(Scope.Benchmark)
+	public static class AutowiredBenchmarkState {
+
+		public DefaultListableBeanFactory factory;
+
+		@Setup
+		public void setup() {
+			this.factory = new DefaultListableBeanFactory();
+			this.factory.registerScope("perCall", new PerCallScope());
+			this.factory.addBeanPostProcessor(new BeanPostProcessor() {
+				@Override
+				public Object postProcessBeforeInitialization(Object bean, String beanName) {
+					return bean;
+				}
+			});
+			this.factory.addBeanPostProcessor(new InstantiationAwareBeanPostProcessor() {
+				@Override
+				public PropertyValues postProcessProperties(PropertyValues pvs, Object bean, String beanName) {
+					return pvs;
+				}
+			});
+			this.factory.addBeanPostProcessor(new InstantiationAwareBeanPostProcessor() {
+			});
+			this.factory.addBeanPostProcessor(new BeanPostProcessor() {
+				@Override
+				public Object postProcessAfterInitialization(Object bean, String beanName) {
+					return bean;
+				}
+			});
+			this.factory.registerBeanDefinition("dependency", new RootBeanDefinition(ConcurrentBean.class));
+			RootBeanDefinition prototype = new RootBeanDefinition(AutowiredBean.class);
+			prototype.setScope(BeanDefinition.SCOPE_PROTOTYPE);
+			prototype.setAutowireMode(RootBeanDefinition.AUTOWIRE_BY_TYPE);
+			this.factory.registerBeanDefinition("prototypeBean", prototype);
+			RootBeanDefinition scoped = new RootBeanDefinition(AutowiredBean.class);
+			scoped.setScope("perCall");
+			scoped.setAutowireMode(RootBeanDefinition.AUTOWIRE_BY_TYPE);
+			this.factory.registerBeanDefinition("scopedBean", scoped);
+			this.factory.freezeConfiguration();
+		}
+	}
+
+	@Benchmark
+	public void concurrentAutowiredBeanCreation(AutowiredBenchmarkState state, Blackhole bh) {
+		bh.consume(state.factory.getBean("prototypeBean"));
+		bh.consume(state.factory.getBean("scopedBean"));
+	}
+
 
 	public static class ConcurrentBean {
 
@@ -80,4 +138,54 @@ public class ConcurrentBeanFactoryBenchmark {
 			this.date = date;
 		}
 	}
+
+
+	public static class AutowiredBean {
+
+		private ConcurrentBean dependency;
+
+		public ConcurrentBean getDependency() {
+			return this.dependency;
+		}
+
+		public void setDependency(ConcurrentBean dependency) {
+			this.dependency = dependency;
+		}
+	}
+
+
+	/**
+	 * Scope which creates a new instance for every lookup, similar to a request
+	 * scope with one lookup per request.
+	 */
+	static class PerCallScope implements org.springframework.beans.factory.config.Scope {
+
+		@Override
+		public Object get(String name, ObjectFactory<?> objectFactory) {
+			return objectFactory.getObject();
+		}
+
+		@Override
+		@Nullable
+		public Object remove(String name) {
+			return null;
+		}
+
+		@Override
+		public void registerDestructionCallback(String name, Runnable callback) {
+		}
+
+		@Override
+		@Nullable
+		public Object resolveContextualObject(String key) {
+			return null;
+		}
+
+		@Override
+		@Nullable
+		public String getConversationId() {
+			return null;
+		}
+	}
+
 }
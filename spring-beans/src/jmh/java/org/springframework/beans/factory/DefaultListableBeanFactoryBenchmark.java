@@ -18,6 +18,7 @@ package org.springframework.beans.factory;
 
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
 import org.openjdk.jmh.annotations.Mode;
 import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
@@ -28,7 +29,11 @@ import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.beans.factory.config.RuntimeBeanReference;
 import org.springframework.beans.factory.support.DefaultListableBeanFactory;
 import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.beans.testfixture.beans.DerivedTestBean;
+import org.springframework.beans.testfixture.beans.INestedTestBean;
+import org.springframework.beans.testfixture.beans.ITestBean;
 import org.springframework.beans.testfixture.beans.LifecycleBean;
+import org.springframework.beans.testfixture.beans.NestedTestBean;
 import org.springframework.beans.testfixture.beans.TestBean;
 
 /**
@@ -133,6 +138,45 @@ public class DefaultListableBeanFactoryBenchmark {
 		return state.beanFactory.getBean(B.class);
 	}
 
+	@State(Scope.Benchmark)
+	public static class DynamicRegistrationState extends Shared {
+
+		public final Class<?>[] lookupTypes = {A.class, B.class, TestBean.class, ITestBean.class,
+				DerivedTestBean.class, NestedTestBean.class, INestedTestBean.class, Runnable.class};
+
+		public int counter;
+
+		@Setup(Level.Iteration)
+		public void setup() {
+			this.beanFactory = new DefaultListableBeanFactory();
+			for (int i = 0; i < 1000; i++) {
+				this.beanFactory.registerBeanDefinition("a" + i, new RootBeanDefinition(A.class));
+			}
+			this.beanFactory.registerBeanDefinition("test", new RootBeanDefinition(TestBean.class));
+			this.beanFactory.freezeConfiguration();
+			for (Class<?> lookupType : this.lookupTypes) {
+				this.beanFactory.getBeanNamesForType(lookupType);
+			}
+			this.counter = 0;
+		}
+	}
+
+	/**
+	 * Registers a bean definition against a frozen configuration, followed by
+	 * by-type lookups for several distinct types, as with dynamically registered
+	 * beans and {@code getBeanProvider} calls at runtime.
+	 */
+	@Benchmark
+	public int lookupByTypeAfterDynamicRegistration(DynamicRegistrationState state) {
+		state.beanFactory.registerBeanDefinition("dynamic" + state.counter++,
+				new RootBeanDefinition(DerivedTestBean.class));
+		int count = 0;
+		for (Class<?> lookupType : state.lookupTypes) {
+			count += state.beanFactory.getBeanNamesForType(lookupType).length;
+		}
+		return count;
+	}
+
 	static class A {
 	}
 
@@ -24,6 +24,7 @@ import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.Type;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
@@ -78,6 +79,9 @@ public abstract class BeanUtils {
 	private static final Set<Class<?>> unknownEditorTypes =
 			Collections.newSetFromMap(new ConcurrentReferenceHashMap<>(64));
 
+	private static final Map<PropertyCopierKey, PropertyCopier[]> propertyCopierCache =
+			new ConcurrentReferenceHashMap<>(64);
+
 	private static final Map<Class<?>, Object> DEFAULT_TYPE_VALUES = Map.of(
 			boolean.class, false,
 			byte.class, (byte) 0,
@@ -786,35 +790,57 @@ public abstract class BeanUtils {
 			}
 			actualEditable = editable;
 		}
+		Set<String> ignoredProps = (ignoreProperties != null && ignoreProperties.length > 0 ?
+				new HashSet<>(Arrays.asList(ignoreProperties)) : Collections.emptySet());
+		PropertyCopierKey cacheKey = new PropertyCopierKey(source.getClass(), actualEditable);
+		PropertyCopier[] copiers = propertyCopierCache.get(cacheKey);
+		if (copiers == null) {
+			copiers = buildPropertyCopiers(source.getClass(), actualEditable);
+			propertyCopierCache.put(cacheKey, copiers);
+		}
+
+		for (PropertyCopier copier : copiers) {
+			if (ignoredProps.contains(copier.propertyName)) {
+				continue;
+			}
+			try {
+				copier.copy(source, target);
+			}
+			catch (Throwable ex) {
+				throw new FatalBeanException(
+						"Could not copy property '" + copier.propertyName + "' from source to target", ex);
+			}
+		}
+	}
+
+	/**
+	 * Determine the properties to copy between the given classes, with all
+	 * assignability checks (including generics) performed upfront.
+	 */
+	private static PropertyCopier[] buildPropertyCopiers(Class<?> sourceClass, Class<?> actualEditable) {
 		PropertyDescriptor[] targetPds = getPropertyDescriptors(actualEditable);
-		Set<String> ignoredProps = (ignoreProperties != null ? new HashSet<>(Arrays.asList(ignoreProperties)) : null);
-		CachedIntrospectionResults sourceResults = (actualEditable != source.getClass() ?
-				CachedIntrospectionResults.forClass(source.getClass()) : null);
+		CachedIntrospectionResults sourceResults = (actualEditable != sourceClass ?
+				CachedIntrospectionResults.forClass(sourceClass) : null);
 
+		List<PropertyCopier> copiers = new ArrayList<>(targetPds.length);
 		for (PropertyDescriptor targetPd : targetPds) {
 			Method writeMethod = targetPd.getWriteMethod();
-			if (writeMethod != null && (ignoredProps == null || !ignoredProps.contains(targetPd.getName()))) {
+			if (writeMethod != null) {
 				PropertyDescriptor sourcePd = (sourceResults != null ?
 						sourceResults.getPropertyDescriptor(targetPd.getName()) : targetPd);
 				if (sourcePd != null) {
 					Method readMethod = sourcePd.getReadMethod();
 					if (readMethod != null) {
 						if (isAssignable(writeMethod, readMethod, sourcePd, targetPd)) {
-							try {
-								ReflectionUtils.makeAccessible(readMethod);
-								Object value = readMethod.invoke(source);
-								ReflectionUtils.makeAccessible(writeMethod);
-								writeMethod.invoke(target, value);
-							}
-							catch (Throwable ex) {
-								throw new FatalBeanException(
-										"Could not copy property '" + targetPd.getName() + "' from source to target", ex);
-							}
+							copiers.add(new PropertyCopier(targetPd.getName(),
+									(GenericTypeAwarePropertyDescriptor) sourcePd,
+									(GenericTypeAwarePropertyDescriptor) targetPd));
 						}
 					}
 				}
 			}
 		}
+		return copiers.toArray(new PropertyCopier[0]);
 	}
 
 	private static boolean isAssignable(Method writeMethod, Method readMethod,
@@ -838,6 +864,65 @@ public abstract class BeanUtils {
 	}
 
 
+	/**
+	 * Cache key for the {@link PropertyCopier PropertyCopiers} between a source
+	 * class and a target ("editable") class. Ignored properties are skipped at
+	 * copy time, so that varying sets of ignored properties share the same entry.
+	 */
+	private static final class PropertyCopierKey {
+
+		private final Class<?> sourceClass;
+
+		private final Class<?> editableClass;
+
+		private final int hashCode;
+
+		PropertyCopierKey(Class<?> sourceClass, Class<?> editableClass) {
+			this.sourceClass = sourceClass;
+			this.editableClass = editableClass;
+			this.hashCode = sourceClass.hashCode() * 29 + editableClass.hashCode();
+		}
+
+		@Override
+		public boolean equals(@Nullable Object other) {
+			return (this == other || (other instanceof PropertyCopierKey that &&
+					this.sourceClass == that.sourceClass && this.editableClass == that.editableClass));
+		}
+
+		@Override
+		public int hashCode() {
+			return this.hashCode;
+		}
+	}
+
+
+	/**
+	 * Pre-validated copy step for a single property, reading from the source
+	 * and writing to the target through the generated accessors shared with
+	 * the corresponding property descriptors.
+	 */
+	private static final class PropertyCopier {
+
+		final String propertyName;
+
+		private final GeneratedPropertyAccessor reader;
+
+		private final GeneratedPropertyAccessor writer;
+
+		PropertyCopier(String propertyName, GenericTypeAwarePropertyDescriptor sourcePd,
+				GenericTypeAwarePropertyDescriptor targetPd) {
+
+			this.propertyName = propertyName;
+			this.reader = sourcePd.getGeneratedAccessor();
+			this.writer = targetPd.getGeneratedAccessor();
+		}
+
+		void copy(Object source, Object target) throws Exception {
+			this.writer.setValue(target, this.reader.getValue(source));
+		}
+	}
+
+
 	/**
 	 * Inner class to avoid a hard dependency on Kotlin at runtime.
 	 */
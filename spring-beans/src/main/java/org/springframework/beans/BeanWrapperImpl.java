@@ -20,6 +20,7 @@ import java.beans.PropertyDescriptor;
 import java.lang.reflect.Method;
 
 import org.springframework.core.ResolvableType;
+import org.springframework.core.SpringProperties;
 import org.springframework.core.convert.TypeDescriptor;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
@@ -57,6 +58,19 @@ import org.springframework.util.ReflectionUtils;
  */
 public class BeanWrapperImpl extends AbstractNestablePropertyAccessor implements BeanWrapper {
 
+	/**
+	 * System property that instructs Spring to use generated accessors for
+	 * bean property access by default: {@code "spring.beans.generated-accessors"}.
+	 * <p>The default is "false", invoking read and write methods reflectively.
+	 * @since 6.1.2
+	 * @see #setGeneratedAccessors
+	 */
+	public static final String GENERATED_ACCESSORS_PROPERTY_NAME = "spring.beans.generated-accessors";
+
+	private static final boolean defaultGeneratedAccessors =
+			SpringProperties.getFlag(GENERATED_ACCESSORS_PROPERTY_NAME);
+
+
 	/**
 	 * Cached introspections results for this object, to prevent encountering
 	 * the cost of JavaBeans introspection every time.
@@ -64,6 +78,8 @@ public class BeanWrapperImpl extends AbstractNestablePropertyAccessor implements
 	@Nullable
 	private CachedIntrospectionResults cachedIntrospectionResults;
 
+	private boolean generatedAccessors = defaultGeneratedAccessors;
+
 
 	/**
 	 * Create a new empty BeanWrapperImpl. Wrapped instance needs to be set afterwards.
@@ -120,6 +136,7 @@ public class BeanWrapperImpl extends AbstractNestablePropertyAccessor implements
 	 */
 	private BeanWrapperImpl(Object object, String nestedPath, BeanWrapperImpl parent) {
 		super(object, nestedPath, parent);
+		this.generatedAccessors = parent.generatedAccessors;
 	}
 
 
@@ -142,6 +159,29 @@ public class BeanWrapperImpl extends AbstractNestablePropertyAccessor implements
 		setIntrospectionClass(getWrappedClass());
 	}
 
+	/**
+	 * Specify whether to access bean properties through accessors generated
+	 * via {@link java.lang.invoke.LambdaMetafactory}, cached per property
+	 * along with the introspection results, instead of invoking the read
+	 * and write methods reflectively on every access.
+	 * <p>Default is "false", unless the {@link #GENERATED_ACCESSORS_PROPERTY_NAME}
+	 * system property is set. Applies to nested property paths as well.
+	 * Methods which cannot be linked in a generated accessor, e.g. in a
+	 * non-open module, are transparently invoked via reflection instead.
+	 * @since 6.1.2
+	 */
+	public void setGeneratedAccessors(boolean generatedAccessors) {
+		this.generatedAccessors = generatedAccessors;
+	}
+
+	/**
+	 * Return whether to access bean properties through generated accessors.
+	 * @since 6.1.2
+	 */
+	public boolean isGeneratedAccessors() {
+		return this.generatedAccessors;
+	}
+
 	/**
 	 * Set the class to introspect.
 	 * Needs to be called when the target object changes.
@@ -266,6 +306,9 @@ public class BeanWrapperImpl extends AbstractNestablePropertyAccessor implements
 		@Override
 		@Nullable
 		public Object getValue() throws Exception {
+			if (generatedAccessors) {
+				return this.pd.getGeneratedAccessor().getValue(getWrappedInstance());
+			}
 			Method readMethod = this.pd.getReadMethod();
 			Assert.state(readMethod != null, "No read method available");
 			ReflectionUtils.makeAccessible(readMethod);
@@ -274,6 +317,10 @@ public class BeanWrapperImpl extends AbstractNestablePropertyAccessor implements
 
 		@Override
 		public void setValue(@Nullable Object value) throws Exception {
+			if (generatedAccessors) {
+				this.pd.getGeneratedAccessor().setValue(getWrappedInstance(), value);
+				return;
+			}
 			Method writeMethod = this.pd.getWriteMethodForActualAccess();
 			ReflectionUtils.makeAccessible(writeMethod);
 			writeMethod.invoke(getWrappedInstance(), value);
@@ -138,6 +138,16 @@ public final class CachedIntrospectionResults {
 				isUnderneathClassLoader(beanClass.getClassLoader(), classLoader));
 	}
 
+	/**
+	 * Return the number of classes that introspection results are currently
+	 * cached for, for diagnostic purposes.
+	 * @since 6.1.2
+	 * @see #clearClassLoader(ClassLoader)
+	 */
+	public static int getCacheSize() {
+		return strongClassCache.size() + softClassCache.size();
+	}
+
 	/**
 	 * Create CachedIntrospectionResults for the given bean class.
 	 * @param beanClass the bean class to analyze
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.beans;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Generated accessor for the read and write method of a bean property,
+ * spun through {@link LambdaMetafactory} once per property descriptor and
+ * then invoked as a plain {@link Function} / {@link BiConsumer} call instead
+ * of going through {@link Method#invoke} on every access.
+ *
+ * <p>Falls back to reflective invocation for methods that cannot be linked
+ * (e.g. in a non-open module or across class loaders) as well as for values
+ * which would require a reflective widening conversion, so that the semantics
+ * of {@link Method#invoke} are retained, including the wrapping of exceptions
+ * thrown from the target method in an {@link InvocationTargetException}.
+ *
+ * @since 6.1.2
+ * @see BeanWrapperImpl#setGeneratedAccessors
+ */
+final class GeneratedPropertyAccessor {
+
+	@Nullable
+	private final Method readMethod;
+
+	@Nullable
+	private final Function<Object, Object> reader;
+
+	@Nullable
+	private final Method writeMethod;
+
+	@Nullable
+	private final BiConsumer<Object, Object> writer;
+
+	@Nullable
+	private final Class<?> writeType;
+
+	private final boolean writeNullable;
+
+
+	GeneratedPropertyAccessor(@Nullable Method readMethod, @Nullable Method writeMethod) {
+		this.readMethod = readMethod;
+		this.reader = (readMethod != null ? generateReader(readMethod) : null);
+		this.writeMethod = writeMethod;
+		this.writer = (writeMethod != null ? generateWriter(writeMethod) : null);
+		this.writeType = (writeMethod != null ?
+				ClassUtils.resolvePrimitiveIfNecessary(writeMethod.getParameterTypes()[0]) : null);
+		this.writeNullable = (writeMethod != null && !writeMethod.getParameterTypes()[0].isPrimitive());
+	}
+
+
+	@Nullable
+	public Object getValue(Object target) throws Exception {
+		Function<Object, Object> reader = this.reader;
+		if (reader != null) {
+			try {
+				return reader.apply(target);
+			}
+			catch (Throwable ex) {
+				throw new InvocationTargetException(ex);
+			}
+		}
+		Method readMethod = this.readMethod;
+		if (readMethod == null) {
+			throw new IllegalStateException("No read method available");
+		}
+		ReflectionUtils.makeAccessible(readMethod);
+		return readMethod.invoke(target, (Object[]) null);
+	}
+
+	public void setValue(Object target, @Nullable Object value) throws Exception {
+		BiConsumer<Object, Object> writer = this.writer;
+		if (writer != null && (value != null ? this.writeType != null && this.writeType.isInstance(value) :
+				this.writeNullable)) {
+			try {
+				writer.accept(target, value);
+				return;
+			}
+			catch (Throwable ex) {
+				throw new InvocationTargetException(ex);
+			}
+		}
+		Method writeMethod = this.writeMethod;
+		if (writeMethod == null) {
+			throw new IllegalStateException("No write method available");
+		}
+		ReflectionUtils.makeAccessible(writeMethod);
+		writeMethod.invoke(target, value);
+	}
+
+
+	@Nullable
+	@SuppressWarnings("unchecked")
+	private static Function<Object, Object> generateReader(Method readMethod) {
+		if (!isGeneratable(readMethod)) {
+			return null;
+		}
+		try {
+			MethodHandles.Lookup lookup = lookupFor(readMethod);
+			MethodHandle handle = lookup.unreflect(readMethod);
+			CallSite callSite = LambdaMetafactory.metafactory(lookup, "apply",
+					MethodType.methodType(Function.class), MethodType.methodType(Object.class, Object.class),
+					handle, handle.type().wrap());
+			return (Function<Object, Object>) callSite.getTarget().invoke();
+		}
+		catch (Throwable ex) {
+			logFallback(readMethod, ex);
+			return null;
+		}
+	}
+
+	@Nullable
+	@SuppressWarnings("unchecked")
+	private static BiConsumer<Object, Object> generateWriter(Method writeMethod) {
+		if (!isGeneratable(writeMethod)) {
+			return null;
+		}
+		try {
+			MethodHandles.Lookup lookup = lookupFor(writeMethod);
+			MethodHandle handle = lookup.unreflect(writeMethod);
+			CallSite callSite = LambdaMetafactory.metafactory(lookup, "accept",
+					MethodType.methodType(BiConsumer.class), MethodType.methodType(void.class, Object.class, Object.class),
+					handle, handle.type().wrap().changeReturnType(void.class));
+			return (BiConsumer<Object, Object>) callSite.getTarget().invoke();
+		}
+		catch (Throwable ex) {
+			logFallback(writeMethod, ex);
+			return null;
+		}
+	}
+
+	private static boolean isGeneratable(Method method) {
+		return (!Modifier.isStatic(method.getModifiers()) && !method.getDeclaringClass().isHidden());
+	}
+
+	private static MethodHandles.Lookup lookupFor(Method method) throws IllegalAccessException {
+		// The generated class becomes a nestmate of the declaring class,
+		// in the declaring class's ClassLoader: no pinning of other loaders.
+		return MethodHandles.privateLookupIn(method.getDeclaringClass(), MethodHandles.lookup());
+	}
+
+	private static void logFallback(Method method, Throwable ex) {
+		LogFactory.getLog(GeneratedPropertyAccessor.class).debug(
+				"Falling back to reflective invocation for property method [" + method + "]: " + ex);
+	}
+
+}
@@ -74,6 +74,9 @@ final class GenericTypeAwarePropertyDescriptor extends PropertyDescriptor {
 	@Nullable
 	private final Class<?> propertyEditorClass;
 
+	@Nullable
+	private volatile GeneratedPropertyAccessor generatedAccessor;
+
 
 	public GenericTypeAwarePropertyDescriptor(Class<?> beanClass, String propertyName,
 			@Nullable Method readMethod, @Nullable Method writeMethod,
@@ -186,6 +189,20 @@ final class GenericTypeAwarePropertyDescriptor extends PropertyDescriptor {
 		return typeDescriptor;
 	}
 
+	/**
+	 * Return the generated accessor for this property, creating it on first access.
+	 * @since 6.1.2
+	 */
+	public GeneratedPropertyAccessor getGeneratedAccessor() {
+		GeneratedPropertyAccessor generatedAccessor = this.generatedAccessor;
+		if (generatedAccessor == null) {
+			generatedAccessor = new GeneratedPropertyAccessor(this.readMethod,
+					(this.writeMethod != null ? getWriteMethodForActualAccess() : null));
+			this.generatedAccessor = generatedAccessor;
+		}
+		return generatedAccessor;
+	}
+
 	@Override
 	@Nullable
 	public Class<?> getPropertyType() {
@@ -19,6 +19,9 @@ package org.springframework.beans.factory.annotation;
 import java.beans.PropertyDescriptor;
 import java.io.IOException;
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.AccessibleObject;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
@@ -54,6 +57,7 @@ import org.springframework.beans.TypeConverter;
 import org.springframework.beans.factory.BeanCreationException;
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.FactoryBean;
 import org.springframework.beans.factory.InjectionPoint;
 import org.springframework.beans.factory.NoSuchBeanDefinitionException;
 import org.springframework.beans.factory.UnsatisfiedDependencyException;
@@ -68,6 +72,7 @@ import org.springframework.beans.factory.config.DependencyDescriptor;
 import org.springframework.beans.factory.config.SmartInstantiationAwareBeanPostProcessor;
 import org.springframework.beans.factory.support.AbstractAutowireCapableBeanFactory;
 import org.springframework.beans.factory.support.AutowireCandidateResolver;
+import org.springframework.beans.factory.support.BeanMetadataReport;
 import org.springframework.beans.factory.support.DefaultListableBeanFactory;
 import org.springframework.beans.factory.support.LookupOverride;
 import org.springframework.beans.factory.support.MergedBeanDefinitionPostProcessor;
@@ -75,6 +80,7 @@ import org.springframework.beans.factory.support.RegisteredBean;
 import org.springframework.beans.factory.support.RootBeanDefinition;
 import org.springframework.core.BridgeMethodResolver;
 import org.springframework.core.MethodParameter;
+import org.springframework.core.NativeDetector;
 import org.springframework.core.Ordered;
 import org.springframework.core.PriorityOrdered;
 import org.springframework.core.annotation.AnnotationUtils;
@@ -330,6 +336,23 @@ public class AutowiredAnnotationBeanPostProcessor implements SmartInstantiationA
 		this.injectionMetadataCache.remove(beanName);
 	}
 
+	@Override
+	public void compactMetadata(String beanName) {
+		this.injectionMetadataCache.remove(beanName);
+	}
+
+	@Override
+	public void reportMetadata(BeanMetadataReport report) {
+		report.addCache("AutowiredAnnotationBeanPostProcessor.injectionMetadata", this.injectionMetadataCache.size());
+		report.addCache("AutowiredAnnotationBeanPostProcessor.candidateConstructors", this.candidateConstructorsCache.size());
+		this.injectionMetadataCache.forEach((cacheKey, metadata) -> {
+			int elements = metadata.getInjectedElements().size();
+			if (elements > 0) {
+				report.addBeanMetadata(cacheKey, "AutowiredAnnotationBeanPostProcessor.injectionMetadata", elements);
+			}
+		});
+	}
+
 	@Override
 	public Class<?> determineBeanType(Class<?> beanClass, String beanName) throws BeanCreationException {
 		checkLookupMethods(beanClass, beanName);
@@ -708,6 +731,15 @@ public class AutowiredAnnotationBeanPostProcessor implements SmartInstantiationA
 	private Object resolveCachedArgument(@Nullable String beanName, @Nullable Object cachedArgument) {
 		if (cachedArgument instanceof DependencyDescriptor descriptor) {
 			Assert.state(this.beanFactory != null, "No BeanFactory available");
+			if (descriptor instanceof ShortcutDependencyDescriptor shortcutDescriptor) {
+				// Fast path for an existing singleton of the expected type: no need
+				// to go through the full dependency resolution algorithm again.
+				Object singleton = this.beanFactory.getSingleton(shortcutDescriptor.shortcut);
+				if (singleton != null && !(singleton instanceof FactoryBean) &&
+						shortcutDescriptor.getDependencyType().isInstance(singleton)) {
+					return singleton;
+				}
+			}
 			return this.beanFactory.resolveDependency(descriptor, beanName, null, null);
 		}
 		else {
@@ -723,10 +755,59 @@ public class AutowiredAnnotationBeanPostProcessor implements SmartInstantiationA
 
 		protected final boolean required;
 
+		@Nullable
+		private volatile MethodHandle injectionHandle;
+
+		private volatile boolean injectionHandleResolved;
+
 		protected AutowiredElement(Member member, @Nullable PropertyDescriptor pd, boolean required) {
 			super(member, pd);
 			this.required = required;
 		}
+
+		/**
+		 * Return a MethodHandle for repeated injection into this element's field or
+		 * method, adapted to an {@code (Object, Object)void} signature for a field
+		 * and an {@code (Object, Object[])void} signature for a method.
+		 * <p>Only to be called for repeated injection, e.g. into prototype beans,
+		 * since creating the handle is more expensive than a one-off reflective call.
+		 * @return the MethodHandle, or {@code null} if reflection needs to be used
+		 */
+		@Nullable
+		protected MethodHandle getInjectionHandle() {
+			if (!this.injectionHandleResolved) {
+				this.injectionHandle = createInjectionHandle(this.member);
+				this.injectionHandleResolved = true;
+			}
+			return this.injectionHandle;
+		}
+
+		@Nullable
+		private static MethodHandle createInjectionHandle(Member member) {
+			if (NativeDetector.inNativeImage()) {
+				return null;
+			}
+			try {
+				MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(
+						member.getDeclaringClass(), MethodHandles.lookup());
+				if (member instanceof Field field) {
+					return lookup.unreflectSetter(field)
+							.asType(MethodType.methodType(void.class, Object.class, Object.class));
+				}
+				Method method = (Method) member;
+				return lookup.unreflect(method).asFixedArity()
+						.asSpreader(Object[].class, method.getParameterCount())
+						.asType(MethodType.methodType(void.class, Object.class, Object[].class));
+			}
+			catch (Throwable ex) {
+				// E.g. a final field or a class in a non-open module -> use reflection
+				Log logger = LogFactory.getLog(AutowiredAnnotationBeanPostProcessor.class);
+				if (logger.isTraceEnabled()) {
+					logger.trace("Falling back to reflective injection for " + member + ": " + ex);
+				}
+				return null;
+			}
+		}
 	}
 
 
@@ -748,7 +829,8 @@ public class AutowiredAnnotationBeanPostProcessor implements SmartInstantiationA
 		protected void inject(Object bean, @Nullable String beanName, @Nullable PropertyValues pvs) throws Throwable {
 			Field field = (Field) this.member;
 			Object value;
-			if (this.cached) {
+			boolean cached = this.cached;
+			if (cached) {
 				try {
 					value = resolveCachedArgument(beanName, this.cachedFieldValue);
 				}
@@ -763,9 +845,15 @@ public class AutowiredAnnotationBeanPostProcessor implements SmartInstantiationA
 				value = resolveFieldValue(field, bean, beanName);
 			}
 			if (value != null) {
-				//通过反射,给属性赋值
-				ReflectionUtils.makeAccessible(field);
-				field.set(bean, value);
+				MethodHandle injectionHandle = (cached ? getInjectionHandle() : null);
+				if (injectionHandle != null) {
+					injectionHandle.invokeExact(bean, value);
+				}
+				else {
+					//通过反射,给属性赋值
+					ReflectionUtils.makeAccessible(field);
+					field.set(bean, value);
+				}
 			}
 		}
 
@@ -830,7 +918,8 @@ public class AutowiredAnnotationBeanPostProcessor implements SmartInstantiationA
 			}
 			Method method = (Method) this.member;
 			Object[] arguments;
-			if (this.cached) {
+			boolean cached = this.cached;
+			if (cached) {
 				try {
 					arguments = resolveCachedArguments(beanName, this.cachedMethodArguments);
 				}
@@ -845,6 +934,11 @@ public class AutowiredAnnotationBeanPostProcessor implements SmartInstantiationA
 				arguments = resolveMethodArguments(method, bean, beanName);
 			}
 			if (arguments != null) {
+				MethodHandle injectionHandle = (cached ? getInjectionHandle() : null);
+				if (injectionHandle != null) {
+					injectionHandle.invokeExact(bean, arguments);
+					return;
+				}
 				try {
 					ReflectionUtils.makeAccessible(method);
 					method.invoke(bean, arguments);
@@ -41,6 +41,7 @@ import org.springframework.beans.factory.BeanCreationException;
 import org.springframework.beans.factory.aot.BeanRegistrationAotContribution;
 import org.springframework.beans.factory.aot.BeanRegistrationAotProcessor;
 import org.springframework.beans.factory.config.DestructionAwareBeanPostProcessor;
+import org.springframework.beans.factory.support.BeanMetadataReport;
 import org.springframework.beans.factory.support.MergedBeanDefinitionPostProcessor;
 import org.springframework.beans.factory.support.RegisteredBean;
 import org.springframework.beans.factory.support.RootBeanDefinition;
@@ -261,6 +262,21 @@ public class InitDestroyAnnotationBeanPostProcessor implements DestructionAwareB
 		return findLifecycleMetadata(bean.getClass()).hasDestroyMethods();
 	}
 
+	@Override
+	public void reportMetadata(BeanMetadataReport report) {
+		if (this.lifecycleMetadataCache == null) {
+			return;
+		}
+		report.addCache("InitDestroyAnnotationBeanPostProcessor.lifecycleMetadata", this.lifecycleMetadataCache.size());
+		this.lifecycleMetadataCache.forEach((beanClass, metadata) -> {
+			int elements = metadata.initMethods.size() + metadata.destroyMethods.size();
+			if (elements > 0) {
+				report.addBeanMetadata(beanClass.getName(),
+						"InitDestroyAnnotationBeanPostProcessor.lifecycleMetadata", elements);
+			}
+		});
+	}
+
 
 	private LifecycleMetadata findLifecycleMetadata(Class<?> beanClass) {
 		if (this.lifecycleMetadataCache == null) {
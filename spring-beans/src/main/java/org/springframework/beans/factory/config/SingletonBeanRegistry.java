@@ -127,6 +127,9 @@ public interface SingletonBeanRegistry {
 
 	/**
 	 * Return the singleton mutex used by this registry (for external collaborators).
+	 * <p>Note that a registry may perform its own singleton creation under a
+	 * separate internal lock, with the returned mutex only coordinating
+	 * external collaborators among themselves.
 	 * @return the mutex object (never {@code null})
 	 * @since 4.2
 	 */
@@ -27,6 +27,7 @@ import java.util.Collection;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
@@ -52,9 +53,11 @@ import org.springframework.beans.factory.BeanDefinitionStoreException;
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.BeanFactoryAware;
 import org.springframework.beans.factory.BeanNameAware;
+import org.springframework.beans.factory.BeanNotOfRequiredTypeException;
 import org.springframework.beans.factory.FactoryBean;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.InjectionPoint;
+import org.springframework.beans.factory.NoSuchBeanDefinitionException;
 import org.springframework.beans.factory.UnsatisfiedDependencyException;
 import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
 import org.springframework.beans.factory.config.AutowiredPropertyMarker;
@@ -417,7 +420,7 @@ public abstract class AbstractAutowireCapableBeanFactory extends AbstractBeanFac
 			throws BeansException {
 
 		Object result = existingBean;
-		for (BeanPostProcessor processor : getBeanPostProcessors()) {
+		for (BeanPostProcessor processor : getBeanPostProcessorCache().beforeInitialization) {
 			Object current = processor.postProcessBeforeInitialization(result, beanName);
 			if (current == null) {
 				return result;
@@ -433,7 +436,7 @@ public abstract class AbstractAutowireCapableBeanFactory extends AbstractBeanFac
 			throws BeansException {
 
 		Object result = existingBean;
-		for (BeanPostProcessor processor : getBeanPostProcessors()) {
+		for (BeanPostProcessor processor : getBeanPostProcessorCache().afterInitialization) {
 			Object current = processor.postProcessAfterInitialization(result, beanName);
 			if (current == null) {
 				return result;
@@ -998,7 +1001,18 @@ public abstract class AbstractAutowireCapableBeanFactory extends AbstractBeanFac
 	 */
 	@Nullable
 	private FactoryBean<?> getSingletonFactoryBeanForTypeCheck(String beanName, RootBeanDefinition mbd) {
-		synchronized (getSingletonMutex()) {
+		boolean lenient = isLenientLocking();
+		if (lenient) {
+			// Lenient bootstrap thread: do not wait for the common singleton lock here,
+			// rather fall back to a type check without a FactoryBean instance.
+			if (!this.singletonLock.tryLock()) {
+				return null;
+			}
+		}
+		else {
+			this.singletonLock.lock();
+		}
+		try {
 			BeanWrapper bw = this.factoryBeanInstanceCache.get(beanName);
 			if (bw != null) {
 				return (FactoryBean<?>) bw.getWrappedInstance();
@@ -1008,7 +1022,10 @@ public abstract class AbstractAutowireCapableBeanFactory extends AbstractBeanFac
 				return factoryBean;
 			}
 			if (isSingletonCurrentlyInCreation(beanName) ||
-					(mbd.getFactoryBeanName() != null && isSingletonCurrentlyInCreation(mbd.getFactoryBeanName()))) {
+					(mbd.getFactoryBeanName() != null && isSingletonCurrentlyInCreation(mbd.getFactoryBeanName())) ||
+					lenient) {
+				// No partial creation of FactoryBean instances in lenient mode either,
+				// since the singleton may get created concurrently in another thread.
 				return null;
 			}
 
@@ -1051,6 +1068,9 @@ public abstract class AbstractAutowireCapableBeanFactory extends AbstractBeanFac
 			}
 			return fb;
 		}
+		finally {
+			this.singletonLock.unlock();
+		}
 	}
 
 	/**
@@ -1453,7 +1473,7 @@ public abstract class AbstractAutowireCapableBeanFactory extends AbstractBeanFac
 		//如果mdb是不是 syntheic且工厂具有InstiationAwareBeanPostProcessor
 		if (!mbd.isSynthetic() && hasInstantiationAwareBeanPostProcessors()) {
 			//遍历工厂中的BeanPostProcessor对象
-			for (InstantiationAwareBeanPostProcessor bp : getBeanPostProcessorCache().instantiationAware) {
+			for (InstantiationAwareBeanPostProcessor bp : getBeanPostProcessorCache().afterInstantiation) {
 				//PostProcessorAfterInstantiation:一般用于设置属性
 				if (!bp.postProcessAfterInstantiation(bw.getWrappedInstance(), beanName)) {
 					return;
@@ -1485,12 +1505,13 @@ public abstract class AbstractAutowireCapableBeanFactory extends AbstractBeanFac
 			pvs = newPvs;
 		}
 		//工厂是否拥有InstiationAwareBeanPostProcessor
-		if (hasInstantiationAwareBeanPostProcessors()) {
+		List<InstantiationAwareBeanPostProcessor> propertyProcessors = getBeanPostProcessorCache().propertyProcessing;
+		if (!propertyProcessors.isEmpty()) {
 			if (pvs == null) {
 				pvs = mbd.getPropertyValues();
 			}
 			//遍历工厂内所有后置处理器
-			for (InstantiationAwareBeanPostProcessor bp : getBeanPostProcessorCache().instantiationAware) {
+			for (InstantiationAwareBeanPostProcessor bp : propertyProcessors) {
 				PropertyValues pvsToUse = bp.postProcessProperties(pvs, bw.getWrappedInstance(), beanName);
 				if (pvsToUse == null) {
 					return;
@@ -1563,7 +1584,8 @@ public abstract class AbstractAutowireCapableBeanFactory extends AbstractBeanFac
 			converter = bw;
 		}
 		//获取bw中有setter方法&& 非简单类型属性,&& mbd的PropertyValues中没有该pd的属性名的PropertyDescriptor属性名组
-		String[] propertyNames = unsatisfiedNonSimpleProperties(mbd, bw);
+		ResolvedAutowireProperties resolvedProperties = getResolvedAutowireProperties(mbd, bw);
+		String[] propertyNames = resolvedProperties.propertyNames;
 		//遍历属性名
 		Set<String> autowiredBeanNames = new LinkedHashSet<>(propertyNames.length * 2);
 		for (String propertyName : propertyNames) {
@@ -1572,11 +1594,35 @@ public abstract class AbstractAutowireCapableBeanFactory extends AbstractBeanFac
 				// Don't try autowiring by type for type Object: never makes sense,
 				// even if it technically is an unsatisfied, non-simple property.
 				if (Object.class != pd.getPropertyType()) {
-					MethodParameter methodParam = BeanUtils.getWriteMethodParameter(pd);
-					// Do not allow eager init for type matching in case of a prioritized post-processor.
-					boolean eager = !(bw.getWrappedInstance() instanceof PriorityOrdered);
-					DependencyDescriptor desc = new AutowireByTypeDependencyDescriptor(methodParam, eager);
-					Object autowiredArgument = resolveDependency(desc, beanName, autowiredBeanNames, converter);
+					Object autowiredArgument = null;
+					boolean resolved = false;
+					String shortcut = resolvedProperties.getShortcut(propertyName);
+					if (shortcut != null) {
+						// Shortcut for re-creating the same non-singleton bean: the target bean name
+						// has been resolved before, so no need to go through dependency resolution again.
+						try {
+							autowiredArgument = getBean(shortcut, pd.getPropertyType());
+							autowiredBeanNames.add(shortcut);
+							resolved = true;
+						}
+						catch (NoSuchBeanDefinitionException | BeanNotOfRequiredTypeException ex) {
+							// Unexpected target bean mismatch for cached shortcut -> re-resolve
+							resolvedProperties.removeShortcut(propertyName);
+						}
+					}
+					if (!resolved) {
+						MethodParameter methodParam = BeanUtils.getWriteMethodParameter(pd);
+						// Do not allow eager init for type matching in case of a prioritized post-processor.
+						boolean eager = !(bw.getWrappedInstance() instanceof PriorityOrdered);
+						DependencyDescriptor desc = new AutowireByTypeDependencyDescriptor(methodParam, eager);
+						autowiredArgument = resolveDependency(desc, beanName, autowiredBeanNames, converter);
+						if (autowiredArgument != null && autowiredBeanNames.size() == 1) {
+							String autowiredBeanName = autowiredBeanNames.iterator().next();
+							if (containsBean(autowiredBeanName) && isTypeMatch(autowiredBeanName, pd.getPropertyType())) {
+								resolvedProperties.addShortcut(propertyName, autowiredBeanName);
+							}
+						}
+					}
 					if (autowiredArgument != null) {
 						pvs.add(propertyName, autowiredArgument);
 					}
@@ -1597,6 +1643,29 @@ public abstract class AbstractAutowireCapableBeanFactory extends AbstractBeanFac
 	}
 
 
+	/**
+	 * Obtain the properties to autowire by name or by type for the given bean,
+	 * cached in the merged bean definition for re-creating non-singleton beans.
+	 * @param mbd the merged bean definition the bean was created with
+	 * @param bw the BeanWrapper the bean was created with
+	 * @return the resolved autowire properties (potentially just for this call)
+	 * @since 6.1.2
+	 * @see #unsatisfiedNonSimpleProperties
+	 */
+	private ResolvedAutowireProperties getResolvedAutowireProperties(AbstractBeanDefinition mbd, BeanWrapper bw) {
+		Class<?> beanClass = bw.getWrappedClass();
+		if (!(mbd instanceof RootBeanDefinition rbd) || rbd.isSingleton()) {
+			return new ResolvedAutowireProperties(beanClass, unsatisfiedNonSimpleProperties(mbd, bw), false);
+		}
+		ResolvedAutowireProperties resolvedProperties = rbd.resolvedAutowireProperties;
+		if (resolvedProperties == null || resolvedProperties.beanClass != beanClass) {
+			resolvedProperties = new ResolvedAutowireProperties(
+					beanClass, unsatisfiedNonSimpleProperties(mbd, bw), true);
+			rbd.resolvedAutowireProperties = resolvedProperties;
+		}
+		return resolvedProperties;
+	}
+
 	/**
 	 * Return an array of non-simple bean properties that are unsatisfied.
 	 * These are probably unsatisfied references to other beans in the
@@ -1993,10 +2062,14 @@ public abstract class AbstractAutowireCapableBeanFactory extends AbstractBeanFac
 	 */
 	@Override
 	protected void removeSingleton(String beanName) {
-		synchronized (getSingletonMutex()) {
+		this.singletonLock.lock();
+		try {
 			super.removeSingleton(beanName);
 			this.factoryBeanInstanceCache.remove(beanName);
 		}
+		finally {
+			this.singletonLock.unlock();
+		}
 	}
 
 	/**
@@ -2004,10 +2077,14 @@ public abstract class AbstractAutowireCapableBeanFactory extends AbstractBeanFac
 	 */
 	@Override
 	protected void clearSingletonCache() {
-		synchronized (getSingletonMutex()) {
+		this.singletonLock.lock();
+		try {
 			super.clearSingletonCache();
 			this.factoryBeanInstanceCache.clear();
 		}
+		finally {
+			this.singletonLock.unlock();
+		}
 	}
 
 	/**
@@ -2072,6 +2149,46 @@ public abstract class AbstractAutowireCapableBeanFactory extends AbstractBeanFac
 	}
 
 
+	/**
+	 * Properties to autowire by name or by type for a specific bean class, along
+	 * with the target bean names resolved for autowiring by type (if unique).
+	 * Cached in the merged bean definition for re-creating non-singleton beans.
+	 * @since 6.1.2
+	 */
+	static final class ResolvedAutowireProperties {
+
+		final Class<?> beanClass;
+
+		final String[] propertyNames;
+
+		@Nullable
+		private final Map<String, String> shortcuts;
+
+		ResolvedAutowireProperties(Class<?> beanClass, String[] propertyNames, boolean cacheShortcuts) {
+			this.beanClass = beanClass;
+			this.propertyNames = propertyNames;
+			this.shortcuts = (cacheShortcuts ? new ConcurrentHashMap<>(4) : null);
+		}
+
+		@Nullable
+		String getShortcut(String propertyName) {
+			return (this.shortcuts != null ? this.shortcuts.get(propertyName) : null);
+		}
+
+		void addShortcut(String propertyName, String beanName) {
+			if (this.shortcuts != null) {
+				this.shortcuts.put(propertyName, beanName);
+			}
+		}
+
+		void removeShortcut(String propertyName) {
+			if (this.shortcuts != null) {
+				this.shortcuts.remove(propertyName);
+			}
+		}
+	}
+
+
 	/**
 	 * {@link MethodCallback} used to find {@link FactoryBean} type information.
 	 */
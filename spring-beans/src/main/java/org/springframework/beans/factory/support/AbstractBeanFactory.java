@@ -39,6 +39,7 @@ import org.springframework.beans.BeansException;
 import org.springframework.beans.PropertyEditorRegistrar;
 import org.springframework.beans.PropertyEditorRegistry;
 import org.springframework.beans.PropertyEditorRegistrySupport;
+import org.springframework.beans.PropertyValues;
 import org.springframework.beans.SimpleTypeConverter;
 import org.springframework.beans.TypeConverter;
 import org.springframework.beans.TypeMismatchException;
@@ -156,7 +157,7 @@ public abstract class AbstractBeanFactory extends FactoryBeanRegistrySupport imp
 
 	/** Cache of pre-filtered post-processors. */
 	@Nullable
-	private BeanPostProcessorCache beanPostProcessorCache;
+	private volatile BeanPostProcessorCache beanPostProcessorCache;
 
 	/** Map from scope identifier String to corresponding Scope. */
 	private final Map<String, Scope> scopes = new LinkedHashMap<>(8);
@@ -981,13 +982,34 @@ public abstract class AbstractBeanFactory extends FactoryBeanRegistrySupport imp
 	 * @since 5.3
 	 */
 	BeanPostProcessorCache getBeanPostProcessorCache() {
+		// Quick check on the volatile field, avoiding the monitor for every bean creation
+		BeanPostProcessorCache bppCache = this.beanPostProcessorCache;
+		if (bppCache != null) {
+			return bppCache;
+		}
 		synchronized (this.beanPostProcessors) {
-			BeanPostProcessorCache bppCache = this.beanPostProcessorCache;
+			bppCache = this.beanPostProcessorCache;
 			if (bppCache == null) {
 				bppCache = new BeanPostProcessorCache();
 				for (BeanPostProcessor bpp : this.beanPostProcessors) {
+					if (overridesDefault(bpp, BeanPostProcessor.class,
+							"postProcessBeforeInitialization", Object.class, String.class)) {
+						bppCache.beforeInitialization.add(bpp);
+					}
+					if (overridesDefault(bpp, BeanPostProcessor.class,
+							"postProcessAfterInitialization", Object.class, String.class)) {
+						bppCache.afterInitialization.add(bpp);
+					}
 					if (bpp instanceof InstantiationAwareBeanPostProcessor instantiationAwareBpp) {
 						bppCache.instantiationAware.add(instantiationAwareBpp);
+						if (overridesDefault(bpp, InstantiationAwareBeanPostProcessor.class,
+								"postProcessAfterInstantiation", Object.class, String.class)) {
+							bppCache.afterInstantiation.add(instantiationAwareBpp);
+						}
+						if (overridesDefault(bpp, InstantiationAwareBeanPostProcessor.class,
+								"postProcessProperties", PropertyValues.class, Object.class, String.class)) {
+							bppCache.propertyProcessing.add(instantiationAwareBpp);
+						}
 						if (bpp instanceof SmartInstantiationAwareBeanPostProcessor smartInstantiationAwareBpp) {
 							bppCache.smartInstantiationAware.add(smartInstantiationAwareBpp);
 						}
@@ -1005,6 +1027,27 @@ public abstract class AbstractBeanFactory extends FactoryBeanRegistrySupport imp
 		}
 	}
 
+	/**
+	 * Determine whether the given post-processor overrides the specified callback
+	 * method, as opposed to inheriting the no-op default from the given interface.
+	 * @param postProcessor the post-processor instance
+	 * @param ifc the interface declaring the default method
+	 * @param methodName the name of the callback method
+	 * @param paramTypes the parameter types of the callback method
+	 * @since 6.1.2
+	 */
+	private static boolean overridesDefault(
+			Object postProcessor, Class<?> ifc, String methodName, Class<?>... paramTypes) {
+
+		try {
+			return (postProcessor.getClass().getMethod(methodName, paramTypes).getDeclaringClass() != ifc);
+		}
+		catch (NoSuchMethodException | SecurityException ex) {
+			// Not introspectable: to be invoked in any case.
+			return true;
+		}
+	}
+
 	private void resetBeanPostProcessorCache() {
 		synchronized (this.beanPostProcessors) {
 			this.beanPostProcessorCache = null;
@@ -1498,6 +1541,62 @@ public abstract class AbstractBeanFactory extends FactoryBeanRegistrySupport imp
 		});
 	}
 
+	/**
+	 * Release metadata which is only needed for creating further instances of
+	 * singleton beans that have been created and fully initialized already:
+	 * cached constructor arguments in their merged bean definitions as well as
+	 * metadata cached by {@link MergedBeanDefinitionPostProcessor MergedBeanDefinitionPostProcessors}.
+	 * <p>Type information in merged bean definitions is kept for type matching.
+	 * Released metadata gets rebuilt on demand if a singleton happens to be
+	 * re-created. Typically triggered once after the singletons have been
+	 * pre-instantiated.
+	 * @since 6.1.2
+	 * @see MergedBeanDefinitionPostProcessor#compactMetadata
+	 * @see #getMetadataReport()
+	 */
+	public void compactMetadata() {
+		List<MergedBeanDefinitionPostProcessor> processors = getBeanPostProcessorCache().mergedDefinition;
+		this.mergedBeanDefinitions.forEach((beanName, mbd) -> {
+			if (mbd.isSingleton() && !mbd.stale && containsSingleton(beanName)) {
+				mbd.releaseCreationState();
+				for (MergedBeanDefinitionPostProcessor processor : processors) {
+					processor.compactMetadata(beanName);
+				}
+			}
+		});
+	}
+
+	/**
+	 * Build a report on the metadata currently retained by this factory
+	 * and its {@link MergedBeanDefinitionPostProcessor MergedBeanDefinitionPostProcessors},
+	 * per cache and per bean.
+	 * @since 6.1.2
+	 * @see #compactMetadata()
+	 * @see MergedBeanDefinitionPostProcessor#reportMetadata
+	 */
+	public BeanMetadataReport getMetadataReport() {
+		BeanMetadataReport report = new BeanMetadataReport();
+		reportMetadata(report);
+		for (MergedBeanDefinitionPostProcessor processor : getBeanPostProcessorCache().mergedDefinition) {
+			processor.reportMetadata(report);
+		}
+		return report;
+	}
+
+	/**
+	 * Contribute the metadata retained by this factory itself to the given report.
+	 * <p>The default implementation reports the merged bean definitions, including
+	 * their cached constructor arguments. Can be extended in subclasses.
+	 * @param report the report to contribute to
+	 * @since 6.1.2
+	 * @see #getMetadataReport()
+	 */
+	protected void reportMetadata(BeanMetadataReport report) {
+		report.addCache("BeanFactory.mergedBeanDefinitions", this.mergedBeanDefinitions.size());
+		this.mergedBeanDefinitions.forEach((beanName, mbd) -> report.addBeanMetadata(
+				beanName, "BeanFactory.mergedBeanDefinitions", 1 + mbd.getCreationStateSize()));
+	}
+
 	/**
 	 * Resolve the bean class for the specified bean definition,
 	 * resolving a bean class name into a Class reference (if necessary)
@@ -2051,13 +2150,24 @@ public abstract class AbstractBeanFactory extends FactoryBeanRegistrySupport imp
 
 	/**
 	 * Internal cache of pre-filtered post-processors.
+	 * <p>As of 6.1.2, the initialization and property processing lists only
+	 * contain post-processors which actually override the corresponding default
+	 * methods, avoiding no-op callbacks for every (non-singleton) bean creation.
 	 *
 	 * @since 5.3
 	 */
 	static class BeanPostProcessorCache {
 
+		final List<BeanPostProcessor> beforeInitialization = new ArrayList<>();
+
+		final List<BeanPostProcessor> afterInitialization = new ArrayList<>();
+
 		final List<InstantiationAwareBeanPostProcessor> instantiationAware = new ArrayList<>();
 
+		final List<InstantiationAwareBeanPostProcessor> afterInstantiation = new ArrayList<>();
+
+		final List<InstantiationAwareBeanPostProcessor> propertyProcessing = new ArrayList<>();
+
 		final List<SmartInstantiationAwareBeanPostProcessor> smartInstantiationAware = new ArrayList<>();
 
 		final List<DestructionAwareBeanPostProcessor> destructionAware = new ArrayList<>();
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.beans.factory.support;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Report on the metadata retained by a bean factory and its post-processors,
+ * per cache as well as per bean.
+ *
+ * <p>Sizes are expressed as numbers of retained metadata elements, e.g. cached
+ * merged bean definitions, resolved constructor arguments or injected members,
+ * rather than as bytes. They serve as a relative measure for comparing caches
+ * and beans with each other, and for checking the effect of
+ * {@link DefaultListableBeanFactory#compactMetadata() metadata compaction}.
+ *
+ * @since 6.1.2
+ * @see DefaultListableBeanFactory#getMetadataReport()
+ * @see MergedBeanDefinitionPostProcessor#reportMetadata
+ */
+public class BeanMetadataReport {
+
+	private final Map<String, Integer> cacheSizes = new TreeMap<>();
+
+	private final Map<String, Map<String, Integer>> beanMetadata = new TreeMap<>();
+
+
+	/**
+	 * Record the number of entries in the specified cache.
+	 * <p>Multiple calls for the same cache add up.
+	 * @param cacheName the name of the cache, qualified with its owner
+	 * (e.g. {@code "AutowiredAnnotationBeanPostProcessor.injectionMetadata"})
+	 * @param entries the number of entries in the cache
+	 */
+	public void addCache(String cacheName, int entries) {
+		this.cacheSizes.merge(cacheName, entries, Integer::sum);
+	}
+
+	/**
+	 * Record the number of metadata elements retained for the specified bean.
+	 * <p>Multiple calls for the same bean and cache add up.
+	 * @param beanName the name of the bean (or the name of the bean class
+	 * for metadata which is not associated with a specific bean)
+	 * @param cacheName the name of the cache which retains the metadata
+	 * @param elements the number of retained metadata elements
+	 */
+	public void addBeanMetadata(String beanName, String cacheName, int elements) {
+		this.beanMetadata.computeIfAbsent(beanName, name -> new TreeMap<>())
+				.merge(cacheName, elements, Integer::sum);
+	}
+
+	/**
+	 * Return the number of entries per cache, sorted by cache name.
+	 */
+	public Map<String, Integer> getCacheSizes() {
+		return Collections.unmodifiableMap(this.cacheSizes);
+	}
+
+	/**
+	 * Return the number of metadata elements retained for the specified bean,
+	 * per cache.
+	 * @param beanName the name of the bean
+	 * @return a Map from cache name to number of elements (empty if none)
+	 */
+	public Map<String, Integer> getBeanMetadata(String beanName) {
+		Map<String, Integer> metadata = this.beanMetadata.get(beanName);
+		return (metadata != null ? Collections.unmodifiableMap(metadata) : Collections.emptyMap());
+	}
+
+	/**
+	 * Return the number of metadata elements retained per bean, summed up
+	 * across all caches, sorted by bean name.
+	 */
+	public Map<String, Integer> getBeanMetadataSizes() {
+		Map<String, Integer> sizes = new TreeMap<>();
+		this.beanMetadata.forEach((beanName, metadata) ->
+				sizes.put(beanName, metadata.values().stream().mapToInt(Integer::intValue).sum()));
+		return sizes;
+	}
+
+	/**
+	 * Return the total number of entries across all caches.
+	 */
+	public int getTotalCacheSize() {
+		return this.cacheSizes.values().stream().mapToInt(Integer::intValue).sum();
+	}
+
+
+	@Override
+	public String toString() {
+		return "BeanMetadataReport: caches " + this.cacheSizes + "; beans " + getBeanMetadataSizes();
+	}
+
+}
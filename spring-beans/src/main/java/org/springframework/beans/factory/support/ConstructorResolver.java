@@ -33,6 +33,7 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -98,6 +99,9 @@ class ConstructorResolver {
 
 	private static final Object[] EMPTY_ARGS = new Object[0];
 
+	/** Maximum number of distinct argument type signatures to cache per bean definition. */
+	private static final int MAX_RESOLVED_EXECUTABLES_PER_BEAN = 32;
+
 	private static final NamedThreadLocal<InjectionPoint> currentInjectionPoint =
 			new NamedThreadLocal<>("Current injection point");
 
@@ -148,8 +152,15 @@ class ConstructorResolver {
 		Object[] argsToUse = null;
 
 		//如果传入参数的话,就直接使用传入的参数
+		ArgumentTypesKey explicitArgTypes = null;
 		if (explicitArgs != null) {
 			argsToUse = explicitArgs;
+			explicitArgTypes = new ArgumentTypesKey(explicitArgs);
+			if (getResolvedExecutable(mbd, explicitArgTypes) instanceof Constructor<?> ctor &&
+					(chosenCtors == null || ObjectUtils.containsElement(chosenCtors, ctor))) {
+				// Found a constructor resolved for the same argument types before...
+				constructorToUse = ctor;
+			}
 		}
 		//没有传入参数的话就走else
 		else {
@@ -356,6 +367,9 @@ class ConstructorResolver {
 				//将解析的构造函数加入缓存
 				argsHolderToUse.storeCache(mbd, constructorToUse);
 			}
+			else if (explicitArgTypes != null) {
+				cacheResolvedExecutable(mbd, explicitArgTypes, constructorToUse);
+			}
 		}
 
 		Assert.state(argsToUse != null, "Unresolved constructor arguments");
@@ -497,9 +511,16 @@ class ConstructorResolver {
 		//准备使用的参数
 		Object[] argsToUse = null;
 
+		ArgumentTypesKey explicitArgTypes = null;
 		if (explicitArgs != null) {
 			//如果有参数就是用参数
 			argsToUse = explicitArgs;
+			explicitArgTypes = new ArgumentTypesKey(explicitArgs);
+			if (getResolvedExecutable(mbd, explicitArgTypes) instanceof Method method &&
+					method.getDeclaringClass().isAssignableFrom(factoryClass)) {
+				// Found a factory method resolved for the same argument types before...
+				factoryMethodToUse = method;
+			}
 		}
 		else {
 			//解析出的参数
@@ -728,12 +749,48 @@ class ConstructorResolver {
 				mbd.factoryMethodToIntrospect = factoryMethodToUse;
 				argsHolderToUse.storeCache(mbd, factoryMethodToUse);
 			}
+			else if (explicitArgTypes != null) {
+				cacheResolvedExecutable(mbd, explicitArgTypes, factoryMethodToUse);
+			}
 		}
 
 		bw.setBeanInstance(instantiate(beanName, mbd, factoryBean, factoryMethodToUse, argsToUse));
 		return bw;
 	}
 
+	/**
+	 * Return the constructor or factory method resolved for the given types of
+	 * explicit arguments before, if any.
+	 */
+	@Nullable
+	private static Executable getResolvedExecutable(RootBeanDefinition mbd, ArgumentTypesKey argumentTypes) {
+		Map<ArgumentTypesKey, Executable> resolved = mbd.resolvedExecutablesByArgumentTypes;
+		return (resolved != null ? resolved.get(argumentTypes) : null);
+	}
+
+	/**
+	 * Cache the constructor or factory method resolved for the given types of
+	 * explicit arguments, so that subsequent calls with arguments of the same
+	 * types can skip the resolution algorithm.
+	 */
+	private static void cacheResolvedExecutable(
+			RootBeanDefinition mbd, ArgumentTypesKey argumentTypes, Executable executable) {
+
+		Map<ArgumentTypesKey, Executable> resolved = mbd.resolvedExecutablesByArgumentTypes;
+		if (resolved == null) {
+			synchronized (mbd.constructorArgumentLock) {
+				resolved = mbd.resolvedExecutablesByArgumentTypes;
+				if (resolved == null) {
+					resolved = new ConcurrentHashMap<>(4);
+					mbd.resolvedExecutablesByArgumentTypes = resolved;
+				}
+			}
+		}
+		if (resolved.size() < MAX_RESOLVED_EXECUTABLES_PER_BEAN) {
+			resolved.put(argumentTypes, executable);
+		}
+	}
+
 	private Object instantiate(String beanName, RootBeanDefinition mbd,
 			@Nullable Object factoryBean, Method factoryMethod, Object[] args) {
 
@@ -1486,6 +1543,42 @@ class ConstructorResolver {
 	}
 
 
+	/**
+	 * Cache key for the runtime types of explicit arguments, with {@code null}
+	 * standing for a {@code null} argument value.
+	 */
+	static final class ArgumentTypesKey {
+
+		private final Class<?>[] types;
+
+		private final int hashCode;
+
+		ArgumentTypesKey(Object[] args) {
+			this.types = new Class<?>[args.length];
+			for (int i = 0; i < args.length; i++) {
+				this.types[i] = (args[i] != null ? args[i].getClass() : null);
+			}
+			this.hashCode = Arrays.hashCode(this.types);
+		}
+
+		@Override
+		public boolean equals(@Nullable Object other) {
+			return (this == other || (other instanceof ArgumentTypesKey that &&
+					Arrays.equals(this.types, that.types)));
+		}
+
+		@Override
+		public int hashCode() {
+			return this.hashCode;
+		}
+
+		@Override
+		public String toString() {
+			return Arrays.toString(this.types);
+		}
+	}
+
+
 	/**
 	 * Delegate for checking Java's {@link ConstructorProperties} annotation.
 	 */
@@ -37,7 +37,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -46,6 +50,7 @@ import java.util.stream.Stream;
 import jakarta.inject.Provider;
 
 import org.springframework.beans.BeansException;
+import org.springframework.beans.CachedIntrospectionResults;
 import org.springframework.beans.TypeConverter;
 import org.springframework.beans.factory.BeanCreationException;
 import org.springframework.beans.factory.BeanCurrentlyInCreationException;
@@ -55,6 +60,7 @@ import org.springframework.beans.factory.BeanFactoryAware;
 import org.springframework.beans.factory.BeanFactoryUtils;
 import org.springframework.beans.factory.BeanNotOfRequiredTypeException;
 import org.springframework.beans.factory.CannotLoadBeanClassException;
+import org.springframework.beans.factory.FactoryBean;
 import org.springframework.beans.factory.InjectionPoint;
 import org.springframework.beans.factory.NoSuchBeanDefinitionException;
 import org.springframework.beans.factory.NoUniqueBeanDefinitionException;
@@ -153,6 +159,10 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 	@Nullable
 	private Comparator<Object> dependencyComparator;
 
+	/** Optional Executor for the parallel pre-instantiation of singletons. */
+	@Nullable
+	private Executor bootstrapExecutor;
+
 	/** Resolver to use for checking if a bean definition is an autowire candidate. */
 	private AutowireCandidateResolver autowireCandidateResolver = SimpleAutowireCandidateResolver.INSTANCE;
 
@@ -171,6 +181,9 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 	/** Map of singleton-only bean names, keyed by dependency type. */
 	private final Map<Class<?>, String[]> singletonBeanNamesByType = new ConcurrentHashMap<>(64);
 
+	/** Whether the by-type caches may be updated incrementally, rather than cleared, on registration. */
+	private volatile boolean byTypeCacheIncremental = true;
+
 	/** List of bean definition names, in registration order. */
 	private volatile List<String> beanDefinitionNames = new ArrayList<>(256);
 
@@ -287,6 +300,36 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 		return this.dependencyComparator;
 	}
 
+	/**
+	 * Set an {@link Executor} for the parallel pre-instantiation of singletons
+	 * in {@link #preInstantiateSingletons()}.
+	 * <p>By default, all non-lazy singletons get created one after another in the
+	 * calling thread. With a bootstrap executor, independent singletons get created
+	 * concurrently, following the dependency graph derived from the bean definitions
+	 * ({@code depends-on}, factory beans, bean references in constructor arguments
+	 * and property values). Beans in a circular reference get created serially
+	 * within the same thread. {@link SmartInitializingSingleton} callbacks still
+	 * get invoked serially in registration order, after all singletons got created.
+	 * <p>The executor should be bounded according to the number of singletons that
+	 * may reasonably get initialized at the same time, e.g. with slow I/O in their
+	 * initialization methods.
+	 * @since 6.1.2
+	 * @see #preInstantiateSingletons()
+	 */
+	public void setBootstrapExecutor(@Nullable Executor bootstrapExecutor) {
+		this.bootstrapExecutor = bootstrapExecutor;
+	}
+
+	/**
+	 * Return the {@link Executor} for the parallel pre-instantiation of singletons,
+	 * if any.
+	 * @since 6.1.2
+	 */
+	@Nullable
+	public Executor getBootstrapExecutor() {
+		return this.bootstrapExecutor;
+	}
+
 	/**
 	 * Set a custom autowire candidate resolver for this BeanFactory to use
 	 * when deciding whether a bean definition should be considered as a
@@ -315,6 +358,10 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 			this.allowBeanDefinitionOverriding = otherListableFactory.allowBeanDefinitionOverriding;
 			this.allowEagerClassLoading = otherListableFactory.allowEagerClassLoading;
 			this.dependencyComparator = otherListableFactory.dependencyComparator;
+			this.bootstrapExecutor = otherListableFactory.bootstrapExecutor;
+			setDestructionExecutor(otherListableFactory.getDestructionExecutor());
+			setDestructionTimeout(otherListableFactory.getDestructionTimeout());
+			setSlowDestructionThreshold(otherListableFactory.getSlowDestructionThreshold());
 			// A clone of the AutowireCandidateResolver since it is potentially BeanFactoryAware
 			setAutowireCandidateResolver(otherListableFactory.getAutowireCandidateResolver().cloneIfNecessary());
 			// Make resolvable dependencies (e.g. ResourceLoader) available here as well
@@ -589,6 +636,7 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 					if (allowEagerInit) {
 						throw ex;
 					}
+					this.byTypeCacheIncremental = false;
 					// Probably a placeholder: let's ignore it for type matching purposes.
 					LogMessage message = (ex instanceof CannotLoadBeanClassException ?
 							LogMessage.format("Ignoring bean class loading failure for bean '%s'", beanName) :
@@ -599,6 +647,8 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 				}
 				catch (NoSuchBeanDefinitionException ex) {
 					// Bean definition got removed while we were iterating -> ignore.
+					// Might also be a factory bean reference which is not registered yet.
+					this.byTypeCacheIncremental = false;
 				}
 			}
 		}
@@ -916,6 +966,15 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 		clearByTypeCache();
 	}
 
+	@Override
+	protected void reportMetadata(BeanMetadataReport report) {
+		super.reportMetadata(report);
+		report.addCache("BeanFactory.mergedBeanDefinitionHolders", this.mergedBeanDefinitionHolders.size());
+		report.addCache("BeanFactory.allBeanNamesByType", this.allBeanNamesByType.size());
+		report.addCache("BeanFactory.singletonBeanNamesByType", this.singletonBeanNamesByType.size());
+		report.addCache("CachedIntrospectionResults", CachedIntrospectionResults.getCacheSize());
+	}
+
 	@Override
 	public void freezeConfiguration() {
 		clearMetadataCache();
@@ -962,23 +1021,17 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 
 		// Trigger initialization of all non-lazy singleton beans...
 		//触发所有非延迟加载单一bean的初始化,遍历集合的对象
-		for (String beanName : beanNames) {
-			//合并父类BeanDefinition
-			RootBeanDefinition bd = getMergedLocalBeanDefinition(beanName);
-			//条件判断 抽象 单例 非懒加载
-			if (!bd.isAbstract() && bd.isSingleton() && !bd.isLazyInit()) {
-				//判断是否实现了FactoryBean接口
-				if (isFactoryBean(beanName)) {
-					//根据&+bean来获取具体的对象
-					Object bean = getBean(FACTORY_BEAN_PREFIX + beanName);
-					//进行类型转化
-					if (bean instanceof SmartFactoryBean<?> smartFactoryBean && smartFactoryBean.isEagerInit()) {
-						getBean(beanName);
-					}
-				}
-				else {
-					//如果对应的beanName不是FactoryBean,只是普通的bean,通过beanName过去bean实例
-					getBean(beanName);
+		Executor executor = getBootstrapExecutor();
+		if (executor != null) {
+			preInstantiateSingletonsInParallel(beanNames, executor);
+		}
+		else {
+			for (String beanName : beanNames) {
+				//合并父类BeanDefinition
+				RootBeanDefinition bd = getMergedLocalBeanDefinition(beanName);
+				//条件判断 抽象 单例 非懒加载
+				if (!bd.isAbstract() && bd.isSingleton() && !bd.isLazyInit()) {
+					preInstantiateSingleton(beanName);
 				}
 			}
 		}
@@ -996,6 +1049,95 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 	}
 
 
+	/**
+	 * Instantiate the given non-lazy singleton, including the object exposed
+	 * by a {@link SmartFactoryBean} if it asks for eager initialization.
+	 * @param beanName the name of the singleton
+	 */
+	private void preInstantiateSingleton(String beanName) {
+		//判断是否实现了FactoryBean接口
+		if (isFactoryBean(beanName)) {
+			//根据&+bean来获取具体的对象
+			Object bean = getBean(FACTORY_BEAN_PREFIX + beanName);
+			//进行类型转化
+			if (bean instanceof SmartFactoryBean<?> smartFactoryBean && smartFactoryBean.isEagerInit()) {
+				getBean(beanName);
+			}
+		}
+		else {
+			//如果对应的beanName不是FactoryBean,只是普通的bean,通过beanName过去bean实例
+			getBean(beanName);
+		}
+	}
+
+	/**
+	 * Instantiate all non-lazy singletons on the given executor, creating each
+	 * singleton once the singletons that it depends on have been created.
+	 * <p>Each group of beans in a circular reference gets created serially in
+	 * one task. Runtime-only dependencies (e.g. autowired beans) are resolved
+	 * on demand, with threads waiting for concurrent creation in another thread.
+	 * @param beanNames the bean definition names, in registration order
+	 * @param executor the bootstrap executor to use
+	 * @see #setBootstrapExecutor
+	 */
+	private void preInstantiateSingletonsInParallel(List<String> beanNames, Executor executor) {
+		List<String> singletonNames = new ArrayList<>(beanNames.size());
+		for (String beanName : beanNames) {
+			RootBeanDefinition bd = getMergedLocalBeanDefinition(beanName);
+			if (!bd.isAbstract() && bd.isSingleton() && !bd.isLazyInit()) {
+				singletonNames.add(beanName);
+			}
+		}
+
+		List<SingletonDependencyGraph.Group> groups = new SingletonDependencyGraph(this, singletonNames).getGroups();
+		Map<SingletonDependencyGraph.Group, CompletableFuture<Void>> futures = new IdentityHashMap<>(groups.size());
+		AtomicBoolean failed = new AtomicBoolean();
+		for (SingletonDependencyGraph.Group group : groups) {
+			CompletableFuture<?>[] dependencyFutures = group.getDependencies().stream()
+					.map(futures::get).toArray(CompletableFuture<?>[]::new);
+			Runnable task = () -> {
+				if (failed.get()) {
+					// Some other singleton failed already: skip remaining creation work.
+					return;
+				}
+				try {
+					doWithLenientLocking(() -> group.getBeanNames().forEach(this::preInstantiateSingleton));
+				}
+				catch (RuntimeException | Error ex) {
+					failed.set(true);
+					throw ex;
+				}
+			};
+			CompletableFuture<Void> future = (dependencyFutures.length == 0 ?
+					CompletableFuture.runAsync(task, executor) :
+					CompletableFuture.allOf(dependencyFutures).thenRunAsync(task, executor));
+			futures.put(group, future);
+		}
+
+		RuntimeException failure = null;
+		for (CompletableFuture<Void> future : futures.values()) {
+			try {
+				future.join();
+			}
+			catch (CompletionException ex) {
+				Throwable cause = ex.getCause();
+				while (cause instanceof CompletionException && cause.getCause() != null) {
+					cause = cause.getCause();
+				}
+				if (cause instanceof Error error) {
+					throw error;
+				}
+				if (failure == null) {
+					failure = (cause instanceof RuntimeException rex ? rex :
+							new BeanCreationException("Parallel singleton pre-instantiation failed", cause));
+				}
+			}
+		}
+		if (failure != null) {
+			throw failure;
+		}
+	}
+
 	//---------------------------------------------------------------------
 	// Implementation of BeanDefinitionRegistry interface
 	//---------------------------------------------------------------------
@@ -1094,7 +1236,7 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 			resetBeanDefinition(beanName);
 		}
 		else if (isConfigurationFrozen()) {
-			clearByTypeCache();
+			addToByTypeCache(beanName);
 		}
 	}
 
@@ -1198,8 +1340,14 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 	@Override
 	public void registerSingleton(String beanName, Object singletonObject) throws IllegalStateException {
 		super.registerSingleton(beanName, singletonObject);
-		updateManualSingletonNames(set -> set.add(beanName), set -> !this.beanDefinitionMap.containsKey(beanName));
-		clearByTypeCache();
+		boolean manualSingleton = !this.beanDefinitionMap.containsKey(beanName);
+		updateManualSingletonNames(set -> set.add(beanName), set -> manualSingleton);
+		if (manualSingleton && !(singletonObject instanceof FactoryBean) && !(singletonObject instanceof NullBean)) {
+			addToByTypeCache(beanName, singletonObject.getClass(), true, true);
+		}
+		else {
+			clearByTypeCache();
+		}
 	}
 
 	@Override
@@ -1251,6 +1399,90 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 	private void clearByTypeCache() {
 		this.allBeanNamesByType.clear();
 		this.singletonBeanNamesByType.clear();
+		this.byTypeCacheIncremental = true;
+	}
+
+	/**
+	 * Add a newly registered bean definition to the by-type caches, as far as
+	 * its type can be predicted without side effects, rather than clearing them.
+	 * Falls back to {@link #clearByTypeCache()} for any non-trivial definition.
+	 * @param beanName the name of the newly registered bean definition
+	 */
+	private void addToByTypeCache(String beanName) {
+		if (this.allBeanNamesByType.isEmpty() && this.singletonBeanNamesByType.isEmpty()) {
+			return;
+		}
+		Class<?> beanType = null;
+		boolean singleton = false;
+		try {
+			RootBeanDefinition mbd = getMergedLocalBeanDefinition(beanName);
+			if (mbd.isAbstract()) {
+				// Never matched by type.
+				return;
+			}
+			if (mbd.getDecoratedDefinition() == null) {
+				beanType = predictBeanType(beanName, mbd);
+				singleton = mbd.isSingleton();
+			}
+		}
+		catch (BeansException ex) {
+			// Probably a placeholder or a reference to a bean which is not registered yet.
+		}
+		if (beanType != null && !FactoryBean.class.isAssignableFrom(beanType)) {
+			addToByTypeCache(beanName, beanType, singleton, false);
+		}
+		else {
+			clearByTypeCache();
+		}
+	}
+
+	/**
+	 * Add the given bean to the cached by-type mappings for every supertype and
+	 * interface of its type, rather than clearing the entire by-type caches.
+	 * <p>Cached bean names follow the {@link #doGetBeanNamesForType} order:
+	 * bean definitions in registration order, then manual singletons.
+	 * @param beanName the name of the bean
+	 * @param beanType the type of the bean (not a FactoryBean)
+	 * @param singleton whether the bean is a singleton
+	 * @param manualSingleton whether the bean is a manually registered singleton
+	 * (as opposed to a bean definition)
+	 */
+	private void addToByTypeCache(String beanName, Class<?> beanType, boolean singleton, boolean manualSingleton) {
+		if (!this.byTypeCacheIncremental || beanType.isArray()) {
+			clearByTypeCache();
+			return;
+		}
+		Set<Class<?>> typeHierarchy = new LinkedHashSet<>();
+		Class<?> current = beanType;
+		while (current != null) {
+			typeHierarchy.add(current);
+			current = current.getSuperclass();
+		}
+		typeHierarchy.addAll(ClassUtils.getAllInterfacesForClassAsSet(beanType));
+		for (Class<?> type : typeHierarchy) {
+			this.allBeanNamesByType.computeIfPresent(type, (key, beanNames) ->
+					addBeanName(beanNames, beanName, manualSingleton));
+			if (singleton) {
+				this.singletonBeanNamesByType.computeIfPresent(type, (key, beanNames) ->
+						addBeanName(beanNames, beanName, manualSingleton));
+			}
+		}
+	}
+
+	private String[] addBeanName(String[] beanNames, String beanName, boolean manualSingleton) {
+		int index = beanNames.length;
+		if (!manualSingleton) {
+			// Bean definitions come before manually registered singletons.
+			while (index > 0 && this.manualSingletonNames.contains(
+					BeanFactoryUtils.transformedBeanName(beanNames[index - 1]))) {
+				index--;
+			}
+		}
+		String[] result = new String[beanNames.length + 1];
+		System.arraycopy(beanNames, 0, result, 0, index);
+		result[index] = beanName;
+		System.arraycopy(beanNames, index, result, index + 1, beanNames.length - index);
+		return result;
 	}
 
 
@@ -16,15 +16,26 @@
 
 package org.springframework.beans.factory.support;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.springframework.beans.factory.BeanCreationException;
 import org.springframework.beans.factory.BeanCreationNotAllowedException;
@@ -32,6 +43,7 @@ import org.springframework.beans.factory.BeanCurrentlyInCreationException;
 import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.ObjectFactory;
 import org.springframework.beans.factory.config.SingletonBeanRegistry;
+import org.springframework.core.NamedThreadLocal;
 import org.springframework.core.SimpleAliasRegistry;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
@@ -116,12 +128,51 @@ public class DefaultSingletonBeanRegistry extends SimpleAliasRegistry implements
 	/** Map between depending bean names: bean name to Set of bean names for the bean's dependencies. */
 	private final Map<String, Set<String>> dependenciesForBeanMap = new ConcurrentHashMap<>(64);
 
+	/**
+	 * Common lock for singleton creation and singleton cache updates.
+	 * <p>A {@link ReentrantLock} rather than a monitor on the singleton cache,
+	 * in order to not pin the carrier of a virtual thread that happens to block
+	 * in a bean's initialization code while holding the lock.
+	 */
+	final ReentrantLock singletonLock = new ReentrantLock();
+
+	/** Names of singletons in lenient creation: bean name to creating thread. */
+	private final Map<String, Thread> lenientCreationThreads = new ConcurrentHashMap<>(16);
+
+	/** Threads waiting for a lenient creation: waiting thread to creating thread. */
+	private final Map<Thread, Thread> lenientWaitingThreads = new ConcurrentHashMap<>(16);
+
+	/** Lock for coordinating lenient creation across threads. */
+	private final Lock lenientCreationLock = new ReentrantLock();
+
+	/** Condition signalled whenever a lenient creation has finished. */
+	private final Condition lenientCreationFinished = this.lenientCreationLock.newCondition();
+
+	/** Marks threads which create singletons without holding the common singleton lock. */
+	private final ThreadLocal<Boolean> lenientLocking = new NamedThreadLocal<>("Lenient singleton locking");
+
+	/** Optional Executor for the parallel destruction of singletons. */
+	@Nullable
+	private Executor destructionExecutor;
+
+	/** Optional timeout for the destruction of a singleton in parallel destruction mode. */
+	@Nullable
+	private Duration destructionTimeout;
+
+	/** Optional threshold for reporting slow destruction callbacks. */
+	@Nullable
+	private Duration slowDestructionThreshold;
+
+	/** Destruction callbacks which exceeded the threshold: bean name to duration. */
+	private final Map<String, Duration> slowDestructions = new ConcurrentHashMap<>(16);
+
 
 	@Override
 	public void registerSingleton(String beanName, Object singletonObject) throws IllegalStateException {
 		Assert.notNull(beanName, "Bean name must not be null");
 		Assert.notNull(singletonObject, "Singleton object must not be null");
-		synchronized (this.singletonObjects) {
+		this.singletonLock.lock();
+		try {
 			Object oldObject = this.singletonObjects.get(beanName);
 			if (oldObject != null) {
 				throw new IllegalStateException("Could not register object [" + singletonObject +
@@ -129,6 +180,9 @@ public class DefaultSingletonBeanRegistry extends SimpleAliasRegistry implements
 			}
 			addSingleton(beanName, singletonObject);
 		}
+		finally {
+			this.singletonLock.unlock();
+		}
 	}
 
 	/**
@@ -138,12 +192,16 @@ public class DefaultSingletonBeanRegistry extends SimpleAliasRegistry implements
 	 * @param singletonObject the singleton object
 	 */
 	protected void addSingleton(String beanName, Object singletonObject) {
-		synchronized (this.singletonObjects) {
+		this.singletonLock.lock();
+		try {
 			this.singletonObjects.put(beanName, singletonObject);
 			this.singletonFactories.remove(beanName);
 			this.earlySingletonObjects.remove(beanName);
 			this.registeredSingletons.add(beanName);
 		}
+		finally {
+			this.singletonLock.unlock();
+		}
 	}
 
 	/**
@@ -156,13 +214,17 @@ public class DefaultSingletonBeanRegistry extends SimpleAliasRegistry implements
 	 */
 	protected void addSingletonFactory(String beanName, ObjectFactory<?> singletonFactory) {
 		Assert.notNull(singletonFactory, "Singleton factory must not be null");
-		synchronized (this.singletonObjects) {
+		this.singletonLock.lock();
+		try {
 			if (!this.singletonObjects.containsKey(beanName)) {
 				this.singletonFactories.put(beanName, singletonFactory);
 				this.earlySingletonObjects.remove(beanName);
 				this.registeredSingletons.add(beanName);
 			}
 		}
+		finally {
+			this.singletonLock.unlock();
+		}
 	}
 
 	@Override
@@ -186,33 +248,55 @@ public class DefaultSingletonBeanRegistry extends SimpleAliasRegistry implements
 		Object singletonObject = this.singletonObjects.get(beanName);
 		//如果单例对象缓存中没有,并且该beanName对应的单例Bean正在创建中
 		if (singletonObject == null && isSingletonCurrentlyInCreation(beanName)) {
+			Thread creationThread = this.lenientCreationThreads.get(beanName);
+			if (creationThread != null && creationThread != Thread.currentThread()) {
+				// Avoid early singleton inference outside of the original creation thread.
+				return null;
+			}
 			//从二级缓存中获取单例对象
 			singletonObject = this.earlySingletonObjects.get(beanName);
 			//如果二级缓存中也没有,并且允许三级缓存创建早期单例对象引用
 			if (singletonObject == null && allowEarlyReference) {
-				//如果为空 加锁并进行处理
-				synchronized (this.singletonObjects) {
-					// Consistent creation of early reference within full singleton lock
-					singletonObject = this.singletonObjects.get(beanName);
-					if (singletonObject == null) {
-						singletonObject = this.earlySingletonObjects.get(beanName);
-						if (singletonObject == null) {
-							//当某些方法需要提前初始化的时候则会调用addSingletonFactory方法对应的ObjectFactory初始化策略存储在singletonFactories
-							ObjectFactory<?> singletonFactory = this.singletonFactories.get(beanName);
-							if (singletonFactory != null) {
-								//如果存在单例工厂,则通过工厂创建一个单例对象
-								singletonObject = singletonFactory.getObject();
-								//记录在缓存中,二级缓存和三级缓存的对象不能同时存在
-								this.earlySingletonObjects.put(beanName, singletonObject);
-								//从三级缓存中移除
-								this.singletonFactories.remove(beanName);
-							}
-						}
+				singletonObject = getEarlySingletonReference(beanName);
+			}
+		}
+		return singletonObject;
+	}
+
+	/**
+	 * Obtain an early reference to the specified singleton within the full
+	 * singleton lock, creating it through the registered singleton factory
+	 * if necessary.
+	 * @param beanName the name of the bean to look for
+	 * @return the early singleton reference, or {@code null} if none available
+	 */
+	@Nullable
+	private Object getEarlySingletonReference(String beanName) {
+		//如果为空 加锁并进行处理
+		this.singletonLock.lock();
+		try {
+			// Consistent creation of early reference within full singleton lock
+			Object singletonObject = this.singletonObjects.get(beanName);
+			if (singletonObject == null) {
+				singletonObject = this.earlySingletonObjects.get(beanName);
+				if (singletonObject == null) {
+					//当某些方法需要提前初始化的时候则会调用addSingletonFactory方法对应的ObjectFactory初始化策略存储在singletonFactories
+					ObjectFactory<?> singletonFactory = this.singletonFactories.get(beanName);
+					if (singletonFactory != null) {
+						//如果存在单例工厂,则通过工厂创建一个单例对象
+						singletonObject = singletonFactory.getObject();
+						//记录在缓存中,二级缓存和三级缓存的对象不能同时存在
+						this.earlySingletonObjects.put(beanName, singletonObject);
+						//从三级缓存中移除
+						this.singletonFactories.remove(beanName);
 					}
 				}
 			}
+			return singletonObject;
+		}
+		finally {
+			this.singletonLock.unlock();
 		}
-		return singletonObject;
 	}
 
 	/**
@@ -225,62 +309,281 @@ public class DefaultSingletonBeanRegistry extends SimpleAliasRegistry implements
 	 */
 	public Object getSingleton(String beanName, ObjectFactory<?> singletonFactory) {
 		Assert.notNull(beanName, "Bean name must not be null");
-		synchronized (this.singletonObjects) {
-			//首先检查一级缓存中是否存在对应的bean
-			Object singletonObject = this.singletonObjects.get(beanName);
-			if (singletonObject == null) {
+		if (isLenientLocking()) {
+			return getSingletonLeniently(beanName, singletonFactory);
+		}
+		while (true) {
+			if (!this.lenientCreationThreads.isEmpty()) {
+				Object singletonObject = awaitLenientCreation(beanName);
+				if (singletonObject != null) {
+					return singletonObject;
+				}
+			}
+			this.singletonLock.lock();
+			try {
+				//首先检查一级缓存中是否存在对应的bean
+				Object singletonObject = this.singletonObjects.get(beanName);
+				if (singletonObject == null) {
+					if (this.lenientCreationThreads.containsKey(beanName)) {
+						// Lenient creation in another thread: wait for it outside of the singleton lock,
+						// unless we are within a nested creation step and therefore unable to release it.
+						if (this.singletonLock.getHoldCount() == 1) {
+							continue;
+						}
+						throw new BeanCurrentlyInCreationException(beanName,
+								"Requested bean is currently in creation in another thread");
+					}
+					if (this.singletonsCurrentlyInDestruction) {
+						throw new BeanCreationNotAllowedException(beanName,
+								"Singleton bean creation not allowed while singletons of this factory are in destruction " +
+								"(Do not request a bean from a BeanFactory in a destroy method implementation!)");
+					}
+					if (logger.isDebugEnabled()) {
+						logger.debug("Creating shared instance of singleton bean '" + beanName + "'");
+					}
+					//记录当前对象的加载状态
+					beforeSingletonCreation(beanName);
+					boolean newSingleton = false;
+					boolean recordSuppressedExceptions = (this.suppressedExceptions == null);
+					if (recordSuppressedExceptions) {
+						this.suppressedExceptions = new LinkedHashSet<>();
+					}
+					try {
+						//开始进行bean对象的创建 通过执行一级缓存中传入的 第二个参数lamda表达式
+						singletonObject = singletonFactory.getObject();
+						newSingleton = true;
+					}
+					catch (IllegalStateException ex) {
+						// Has the singleton object implicitly appeared in the meantime ->
+						// if yes, proceed with it since the exception indicates that state.
+						singletonObject = this.singletonObjects.get(beanName);
+						if (singletonObject == null) {
+							throw ex;
+						}
+					}
+					catch (BeanCreationException ex) {
+						if (recordSuppressedExceptions) {
+							for (Exception suppressedException : this.suppressedExceptions) {
+								ex.addRelatedCause(suppressedException);
+							}
+						}
+						throw ex;
+					}
+					finally {
+						if (recordSuppressedExceptions) {
+							this.suppressedExceptions = null;
+						}
+						//移除缓存中对该bean的正在加载的记录
+						afterSingletonCreation(beanName);
+					}
+					//加入到一级缓存
+					if (newSingleton) {
+						addSingleton(beanName, singletonObject);
+					}
+				}
+				return singletonObject;
+			}
+			finally {
+				this.singletonLock.unlock();
+			}
+		}
+	}
+
+	/**
+	 * Variant of {@link #getSingleton(String, ObjectFactory)} for threads in
+	 * {@link #doWithLenientLocking lenient locking} mode: the singleton gets
+	 * created without holding the common singleton lock, with concurrent
+	 * requests for the same singleton waiting for the creating thread.
+	 * @param beanName the name of the bean
+	 * @param singletonFactory the ObjectFactory to lazily create the singleton
+	 * with, if necessary
+	 * @return the registered singleton object
+	 */
+	private Object getSingletonLeniently(String beanName, ObjectFactory<?> singletonFactory) {
+		Thread currentThread = Thread.currentThread();
+		boolean claimed = false;
+		while (!claimed) {
+			Object singletonObject = awaitLenientCreation(beanName);
+			if (singletonObject != null) {
+				return singletonObject;
+			}
+			this.lenientCreationLock.lock();
+			try {
+				singletonObject = this.singletonObjects.get(beanName);
+				if (singletonObject != null) {
+					return singletonObject;
+				}
+				Thread creationThread = this.lenientCreationThreads.putIfAbsent(beanName, currentThread);
+				if (creationThread == currentThread) {
+					// Nested request within our own creation: let the regular checks detect the cycle.
+					break;
+				}
+				claimed = (creationThread == null);
+			}
+			finally {
+				this.lenientCreationLock.unlock();
+			}
+		}
+
+		try {
+			// Regular creation in another thread holds the singleton lock throughout,
+			// so we either wait for its completion here or mark the singleton ourselves.
+			this.singletonLock.lock();
+			try {
+				Object singletonObject = this.singletonObjects.get(beanName);
+				if (singletonObject != null) {
+					return singletonObject;
+				}
 				if (this.singletonsCurrentlyInDestruction) {
 					throw new BeanCreationNotAllowedException(beanName,
 							"Singleton bean creation not allowed while singletons of this factory are in destruction " +
 							"(Do not request a bean from a BeanFactory in a destroy method implementation!)");
 				}
-				if (logger.isDebugEnabled()) {
-					logger.debug("Creating shared instance of singleton bean '" + beanName + "'");
-				}
-				//记录当前对象的加载状态
 				beforeSingletonCreation(beanName);
-				boolean newSingleton = false;
-				boolean recordSuppressedExceptions = (this.suppressedExceptions == null);
-				if (recordSuppressedExceptions) {
-					this.suppressedExceptions = new LinkedHashSet<>();
+			}
+			finally {
+				this.singletonLock.unlock();
+			}
+			if (logger.isDebugEnabled()) {
+				logger.debug("Creating shared instance of singleton bean '" + beanName + "' in thread '" +
+						currentThread.getName() + "'");
+			}
+			Object singletonObject;
+			boolean newSingleton = false;
+			try {
+				singletonObject = singletonFactory.getObject();
+				newSingleton = true;
+			}
+			catch (IllegalStateException ex) {
+				// Has the singleton object implicitly appeared in the meantime ->
+				// if yes, proceed with it since the exception indicates that state.
+				singletonObject = this.singletonObjects.get(beanName);
+				if (singletonObject == null) {
+					throw ex;
 				}
+			}
+			finally {
+				afterSingletonCreation(beanName);
+			}
+			if (newSingleton) {
+				addSingleton(beanName, singletonObject);
+			}
+			return singletonObject;
+		}
+		finally {
+			if (claimed) {
+				this.lenientCreationLock.lock();
 				try {
-					//开始进行bean对象的创建 通过执行一级缓存中传入的 第二个参数lamda表达式
-					singletonObject = singletonFactory.getObject();
-					newSingleton = true;
+					this.lenientCreationThreads.remove(beanName);
+					this.lenientCreationFinished.signalAll();
 				}
-				catch (IllegalStateException ex) {
-					// Has the singleton object implicitly appeared in the meantime ->
-					// if yes, proceed with it since the exception indicates that state.
-					singletonObject = this.singletonObjects.get(beanName);
-					if (singletonObject == null) {
-						throw ex;
-					}
+				finally {
+					this.lenientCreationLock.unlock();
 				}
-				catch (BeanCreationException ex) {
-					if (recordSuppressedExceptions) {
-						for (Exception suppressedException : this.suppressedExceptions) {
-							ex.addRelatedCause(suppressedException);
-						}
-					}
-					throw ex;
+			}
+		}
+	}
+
+	/**
+	 * Wait for the lenient creation of the specified singleton in another thread,
+	 * if any. If waiting would close a cycle between creation threads, or if the
+	 * current thread holds the common singleton lock, an early reference to the
+	 * singleton is returned instead (as for a regular circular reference).
+	 * @param beanName the name of the bean
+	 * @return the singleton object, or {@code null} if not created yet
+	 * @throws BeanCurrentlyInCreationException if the singleton cannot be waited
+	 * for and no early reference is available either
+	 */
+	@Nullable
+	private Object awaitLenientCreation(String beanName) {
+		Thread currentThread = Thread.currentThread();
+		boolean earlyReferenceRequired = false;
+		this.lenientCreationLock.lock();
+		try {
+			Thread creationThread;
+			while ((creationThread = this.lenientCreationThreads.get(beanName)) != null &&
+					creationThread != currentThread) {
+				if (this.singletonLock.isHeldByCurrentThread() || isWaitingFor(creationThread, currentThread)) {
+					earlyReferenceRequired = true;
+					break;
 				}
-				finally {
-					if (recordSuppressedExceptions) {
-						this.suppressedExceptions = null;
-					}
-					//移除缓存中对该bean的正在加载的记录
-					afterSingletonCreation(beanName);
+				this.lenientWaitingThreads.put(currentThread, creationThread);
+				try {
+					this.lenientCreationFinished.await();
 				}
-				//加入到一级缓存
-				if (newSingleton) {
-					addSingleton(beanName, singletonObject);
+				catch (InterruptedException ex) {
+					Thread.currentThread().interrupt();
+					throw new BeanCreationException(beanName,
+							"Interrupted while waiting for singleton creation in another thread", ex);
+				}
+				finally {
+					this.lenientWaitingThreads.remove(currentThread);
 				}
 			}
-			return singletonObject;
+		}
+		finally {
+			this.lenientCreationLock.unlock();
+		}
+
+		if (earlyReferenceRequired) {
+			Object earlyReference = getEarlySingletonReference(beanName);
+			if (earlyReference == null) {
+				throw new BeanCurrentlyInCreationException(beanName,
+						"Requested bean is currently in creation in another thread: " +
+						"Is there an unresolvable circular reference across bootstrap threads?");
+			}
+			return earlyReference;
+		}
+		return this.singletonObjects.get(beanName);
+	}
+
+	/**
+	 * Determine whether the given thread transitively waits for the target thread.
+	 */
+	private boolean isWaitingFor(Thread thread, Thread targetThread) {
+		Set<Thread> visited = new HashSet<>();
+		Thread current = thread;
+		while (current != null && visited.add(current)) {
+			if (current == targetThread) {
+				return true;
+			}
+			current = this.lenientWaitingThreads.get(current);
+		}
+		return false;
+	}
+
+	/**
+	 * Execute the given task in lenient locking mode for the current thread:
+	 * singletons get created without holding the common singleton lock, allowing
+	 * for independent singletons to be created concurrently in several threads.
+	 * <p>Requests for a singleton in lenient creation in another thread wait for
+	 * that creation to finish, falling back to an early reference if the threads
+	 * turn out to wait for each other (i.e. a circular reference across threads).
+	 * @param task the task to execute
+	 * @since 6.1.2
+	 */
+	void doWithLenientLocking(Runnable task) {
+		Boolean previous = this.lenientLocking.get();
+		this.lenientLocking.set(Boolean.TRUE);
+		try {
+			task.run();
+		}
+		finally {
+			if (previous == null) {
+				this.lenientLocking.remove();
+			}
 		}
 	}
 
+	/**
+	 * Return whether the current thread is in lenient locking mode.
+	 * @since 6.1.2
+	 * @see #doWithLenientLocking
+	 */
+	boolean isLenientLocking() {
+		return (this.lenientLocking.get() != null);
+	}
+
 	/**
 	 * Register an exception that happened to get suppressed during the creation of a
 	 * singleton bean instance, e.g. a temporary circular reference resolution problem.
@@ -291,11 +594,15 @@ public class DefaultSingletonBeanRegistry extends SimpleAliasRegistry implements
 	 * @see BeanCreationException#getRelatedCauses()
 	 */
 	protected void onSuppressedException(Exception ex) {
-		synchronized (this.singletonObjects) {
+		this.singletonLock.lock();
+		try {
 			if (this.suppressedExceptions != null && this.suppressedExceptions.size() < SUPPRESSED_EXCEPTIONS_LIMIT) {
 				this.suppressedExceptions.add(ex);
 			}
 		}
+		finally {
+			this.singletonLock.unlock();
+		}
 	}
 
 	/**
@@ -305,12 +612,16 @@ public class DefaultSingletonBeanRegistry extends SimpleAliasRegistry implements
 	 * @see #getSingletonMutex()
 	 */
 	protected void removeSingleton(String beanName) {
-		synchronized (this.singletonObjects) {
+		this.singletonLock.lock();
+		try {
 			this.singletonObjects.remove(beanName);
 			this.singletonFactories.remove(beanName);
 			this.earlySingletonObjects.remove(beanName);
 			this.registeredSingletons.remove(beanName);
 		}
+		finally {
+			this.singletonLock.unlock();
+		}
 	}
 
 	@Override
@@ -320,16 +631,24 @@ public class DefaultSingletonBeanRegistry extends SimpleAliasRegistry implements
 
 	@Override
 	public String[] getSingletonNames() {
-		synchronized (this.singletonObjects) {
+		this.singletonLock.lock();
+		try {
 			return StringUtils.toStringArray(this.registeredSingletons);
 		}
+		finally {
+			this.singletonLock.unlock();
+		}
 	}
 
 	@Override
 	public int getSingletonCount() {
-		synchronized (this.singletonObjects) {
+		this.singletonLock.lock();
+		try {
 			return this.registeredSingletons.size();
 		}
+		finally {
+			this.singletonLock.unlock();
+		}
 	}
 
 
@@ -521,41 +840,244 @@ public class DefaultSingletonBeanRegistry extends SimpleAliasRegistry implements
 		}
 	}
 
+	/**
+	 * Set an {@link Executor} for the parallel destruction of singletons
+	 * on {@link #destroySingletons()}.
+	 * <p>By default, all disposable singletons get destroyed one after another
+	 * in the calling thread. With a destruction executor, independent singletons
+	 * get destroyed concurrently, following the dependencies registered for the
+	 * singletons at runtime: a bean still gets destroyed after the beans that
+	 * depend on it, and an inner bean after its containing bean. Beans in a
+	 * circular reference get destroyed serially within the same thread.
+	 * <p>The executor must not be managed as a bean by this registry itself,
+	 * since it would be shut down as part of the destruction process.
+	 * @since 6.1.2
+	 * @see #setDestructionTimeout
+	 * @see #registerDependentBean
+	 * @see #registerContainedBean
+	 */
+	public void setDestructionExecutor(@Nullable Executor destructionExecutor) {
+		this.destructionExecutor = destructionExecutor;
+	}
+
+	/**
+	 * Return the {@link Executor} for the parallel destruction of singletons,
+	 * if any.
+	 * @since 6.1.2
+	 */
+	@Nullable
+	public Executor getDestructionExecutor() {
+		return this.destructionExecutor;
+	}
+
+	/**
+	 * Set a timeout for the destruction of each singleton (or each group of
+	 * singletons in a circular reference) in parallel destruction mode.
+	 * <p>Once the timeout has elapsed, the singletons that the pending bean
+	 * depends on get destroyed regardless, and a warning gets logged. The pending
+	 * destruction callback itself is not interrupted. Default is none, waiting
+	 * for each destruction callback to complete.
+	 * @since 6.1.2
+	 * @see #setDestructionExecutor
+	 */
+	public void setDestructionTimeout(@Nullable Duration destructionTimeout) {
+		this.destructionTimeout = destructionTimeout;
+	}
+
+	/**
+	 * Return the timeout for the destruction of each singleton in parallel
+	 * destruction mode, if any.
+	 * @since 6.1.2
+	 */
+	@Nullable
+	public Duration getDestructionTimeout() {
+		return this.destructionTimeout;
+	}
+
+	/**
+	 * Set a threshold for destruction callbacks to be reported as slow.
+	 * <p>If set, the time taken by each destruction callback gets measured,
+	 * and the callbacks exceeding the threshold get logged at info level once
+	 * {@link #destroySingletons()} has completed, slowest first.
+	 * Default is none, not measuring destruction callbacks at all.
+	 * @since 6.1.2
+	 */
+	public void setSlowDestructionThreshold(@Nullable Duration slowDestructionThreshold) {
+		this.slowDestructionThreshold = slowDestructionThreshold;
+	}
+
+	/**
+	 * Return the threshold for destruction callbacks to be reported as slow,
+	 * if any.
+	 * @since 6.1.2
+	 */
+	@Nullable
+	public Duration getSlowDestructionThreshold() {
+		return this.slowDestructionThreshold;
+	}
+
 	public void destroySingletons() {
 		if (logger.isTraceEnabled()) {
 			logger.trace("Destroying singletons in " + this);
 		}
-		synchronized (this.singletonObjects) {
+		this.singletonLock.lock();
+		try {
 			this.singletonsCurrentlyInDestruction = true;
 		}
+		finally {
+			this.singletonLock.unlock();
+		}
 
 		String[] disposableBeanNames;
 		synchronized (this.disposableBeans) {
 			disposableBeanNames = StringUtils.toStringArray(this.disposableBeans.keySet());
 		}
-		for (int i = disposableBeanNames.length - 1; i >= 0; i--) {
-			destroySingleton(disposableBeanNames[i]);
+		Executor executor = this.destructionExecutor;
+		if (executor != null && disposableBeanNames.length > 1) {
+			destroySingletonsInParallel(disposableBeanNames, executor);
+		}
+		else {
+			for (int i = disposableBeanNames.length - 1; i >= 0; i--) {
+				destroySingleton(disposableBeanNames[i]);
+			}
 		}
 
 		this.containedBeanMap.clear();
 		this.dependentBeanMap.clear();
 		this.dependenciesForBeanMap.clear();
 
+		logSlowDestructions();
 		clearSingletonCache();
 	}
 
+	/**
+	 * Destroy all singletons on the given executor, destroying each singleton
+	 * once the singletons that have to be destroyed before it are done.
+	 * <p>The registered dependencies get taken over into a dependency graph
+	 * upfront, so that the destruction of an individual bean does not trigger
+	 * the destruction of its dependent and contained beans anymore.
+	 * @param disposableBeanNames the disposable bean names, in registration order
+	 * @param executor the destruction executor to use
+	 * @see #setDestructionExecutor
+	 */
+	private void destroySingletonsInParallel(String[] disposableBeanNames, Executor executor) {
+		// Bean name to the names of the beans to be destroyed before it:
+		// its dependent beans as well as its containing beans.
+		Map<String, Set<String>> destroyAfter = new LinkedHashMap<>();
+		for (int i = disposableBeanNames.length - 1; i >= 0; i--) {
+			destroyAfter.put(disposableBeanNames[i], new LinkedHashSet<>());
+		}
+		synchronized (this.dependentBeanMap) {
+			for (Map.Entry<String, Set<String>> entry : this.dependentBeanMap.entrySet()) {
+				destroyAfter.computeIfAbsent(entry.getKey(), key -> new LinkedHashSet<>()).addAll(entry.getValue());
+				for (String dependentBeanName : entry.getValue()) {
+					destroyAfter.computeIfAbsent(dependentBeanName, key -> new LinkedHashSet<>());
+				}
+			}
+			this.dependentBeanMap.clear();
+		}
+		synchronized (this.containedBeanMap) {
+			for (Map.Entry<String, Set<String>> entry : this.containedBeanMap.entrySet()) {
+				destroyAfter.computeIfAbsent(entry.getKey(), key -> new LinkedHashSet<>());
+				for (String containedBeanName : entry.getValue()) {
+					destroyAfter.computeIfAbsent(containedBeanName, key -> new LinkedHashSet<>()).add(entry.getKey());
+				}
+			}
+			this.containedBeanMap.clear();
+		}
+
+		List<SingletonDependencyGraph.Group> groups = new SingletonDependencyGraph(destroyAfter).getGroups();
+		Map<SingletonDependencyGraph.Group, CompletableFuture<Void>> futures = new IdentityHashMap<>(groups.size());
+		for (SingletonDependencyGraph.Group group : groups) {
+			CompletableFuture<?>[] dependencyFutures = group.getDependencies().stream()
+					.map(futures::get).toArray(CompletableFuture<?>[]::new);
+			CompletableFuture<Void> done = new CompletableFuture<>();
+			CompletableFuture.allOf(dependencyFutures).whenComplete(
+					(result, ex) -> destroyGroup(group.getBeanNames(), executor, done));
+			futures.put(group, done);
+		}
+		CompletableFuture.allOf(futures.values().toArray(new CompletableFuture<?>[0])).join();
+	}
+
+	/**
+	 * Destroy the given group of singletons on the given executor, completing
+	 * the given future when done or when the destruction timeout has elapsed.
+	 */
+	private void destroyGroup(List<String> beanNames, Executor executor, CompletableFuture<Void> done) {
+		Duration timeout = this.destructionTimeout;
+		if (timeout != null) {
+			CompletableFuture.delayedExecutor(timeout.toNanos(), TimeUnit.NANOSECONDS).execute(() -> {
+				if (done.complete(null) && logger.isWarnEnabled()) {
+					logger.warn("Destruction of " + (beanNames.size() == 1 ? "bean with name '" +
+							beanNames.get(0) + "'" : "beans " + beanNames) + " did not complete within " +
+							timeout.toMillis() + " ms: proceeding with the destruction of remaining beans");
+				}
+			});
+		}
+		Runnable task = () -> {
+			try {
+				for (String beanName : beanNames) {
+					destroySingleton(beanName);
+				}
+			}
+			catch (Throwable ex) {
+				if (logger.isWarnEnabled()) {
+					logger.warn("Destruction of beans " + beanNames + " failed", ex);
+				}
+			}
+			finally {
+				done.complete(null);
+			}
+		};
+		try {
+			executor.execute(task);
+		}
+		catch (RejectedExecutionException ex) {
+			// Executor shut down or saturated: destroy the beans in the current thread.
+			task.run();
+		}
+	}
+
+	/**
+	 * Log the destruction callbacks which exceeded the slow destruction
+	 * threshold, if any, and reset the collected durations.
+	 * @see #setSlowDestructionThreshold
+	 */
+	private void logSlowDestructions() {
+		if (this.slowDestructions.isEmpty()) {
+			return;
+		}
+		List<Map.Entry<String, Duration>> entries = new ArrayList<>(this.slowDestructions.entrySet());
+		this.slowDestructions.clear();
+		if (logger.isInfoEnabled()) {
+			entries.sort(Map.Entry.<String, Duration>comparingByValue().reversed());
+			StringBuilder sb = new StringBuilder("Slow destruction callbacks (exceeding ")
+					.append(this.slowDestructionThreshold != null ? this.slowDestructionThreshold.toMillis() : 0)
+					.append(" ms):");
+			for (Map.Entry<String, Duration> entry : entries) {
+				sb.append(" '").append(entry.getKey()).append("' ").append(entry.getValue().toMillis()).append(" ms;");
+			}
+			sb.setLength(sb.length() - 1);
+			logger.info(sb.toString());
+		}
+	}
+
 	/**
 	 * Clear all cached singleton instances in this registry.
 	 * @since 4.3.15
 	 */
 	protected void clearSingletonCache() {
-		synchronized (this.singletonObjects) {
+		this.singletonLock.lock();
+		try {
 			this.singletonObjects.clear();
 			this.singletonFactories.clear();
 			this.earlySingletonObjects.clear();
 			this.registeredSingletons.clear();
 			this.singletonsCurrentlyInDestruction = false;
 		}
+		finally {
+			this.singletonLock.unlock();
+		}
 	}
 
 	/**
@@ -600,6 +1122,8 @@ public class DefaultSingletonBeanRegistry extends SimpleAliasRegistry implements
 
 		// Actually destroy the bean now...
 		if (bean != null) {
+			Duration threshold = this.slowDestructionThreshold;
+			long startTime = (threshold != null ? System.nanoTime() : 0);
 			try {
 				bean.destroy();
 			}
@@ -608,6 +1132,12 @@ public class DefaultSingletonBeanRegistry extends SimpleAliasRegistry implements
 					logger.warn("Destruction of bean with name '" + beanName + "' threw an exception", ex);
 				}
 			}
+			if (threshold != null) {
+				Duration duration = Duration.ofNanos(System.nanoTime() - startTime);
+				if (duration.compareTo(threshold) > 0) {
+					this.slowDestructions.put(beanName, duration);
+				}
+			}
 		}
 
 		// Trigger destruction of contained beans...
@@ -639,11 +1169,14 @@ public class DefaultSingletonBeanRegistry extends SimpleAliasRegistry implements
 	}
 
 	/**
-	 * Exposes the singleton mutex to subclasses and external collaborators.
-	 * <p>Subclasses should synchronize on the given Object if they perform
-	 * any sort of extended singleton creation phase. In particular, subclasses
-	 * should <i>not</i> have their own mutexes involved in singleton creation,
-	 * to avoid the potential for deadlocks in lazy-init situations.
+	 * Exposes the singleton mutex to external collaborators.
+	 * <p>As of 6.1.2, this registry and its subclasses perform singleton creation
+	 * under an internal {@link java.util.concurrent.locks.Lock} instead, so the
+	 * returned Object only serves as a shared monitor between external collaborators.
+	 * Subclasses performing any sort of extended singleton creation phase should
+	 * use the internal singleton lock rather than synchronizing on this mutex,
+	 * and external collaborators should not hold this mutex while obtaining
+	 * beans from the factory but rather use a local lock for that purpose.
 	 */
 	@Override
 	public final Object getSingletonMutex() {
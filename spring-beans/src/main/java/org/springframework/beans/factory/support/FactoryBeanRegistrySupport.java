@@ -118,7 +118,21 @@ public abstract class FactoryBeanRegistrySupport extends DefaultSingletonBeanReg
 	 */
 	protected Object getObjectFromFactoryBean(FactoryBean<?> factory, String beanName, boolean shouldPostProcess) {
 		if (factory.isSingleton() && containsSingleton(beanName)) {
-			synchronized (getSingletonMutex()) {
+			boolean locked;
+			if (isLenientLocking()) {
+				// Lenient bootstrap thread: avoid blocking on the common singleton lock
+				// which another thread may hold while waiting for this thread.
+				Object object = this.factoryBeanObjectCache.get(beanName);
+				if (object != null) {
+					return object;
+				}
+				locked = this.singletonLock.tryLock();
+			}
+			else {
+				this.singletonLock.lock();
+				locked = true;
+			}
+			try {
 				Object object = this.factoryBeanObjectCache.get(beanName);
 				if (object == null) {
 					object = doGetObjectFromFactoryBean(factory, beanName);
@@ -130,11 +144,13 @@ public abstract class FactoryBeanRegistrySupport extends DefaultSingletonBeanReg
 					}
 					else {
 						if (shouldPostProcess) {
-							if (isSingletonCurrentlyInCreation(beanName)) {
-								// Temporarily return non-post-processed object, not storing it yet..
-								return object;
+							if (locked) {
+								if (isSingletonCurrentlyInCreation(beanName)) {
+									// Temporarily return non-post-processed object, not storing it yet..
+									return object;
+								}
+								beforeSingletonCreation(beanName);
 							}
-							beforeSingletonCreation(beanName);
 							try {
 								object = postProcessObjectFromFactoryBean(object, beanName);
 							}
@@ -143,16 +159,27 @@ public abstract class FactoryBeanRegistrySupport extends DefaultSingletonBeanReg
 										"Post-processing of FactoryBean's singleton object failed", ex);
 							}
 							finally {
-								afterSingletonCreation(beanName);
+								if (locked) {
+									afterSingletonCreation(beanName);
+								}
 							}
 						}
 						if (containsSingleton(beanName)) {
-							this.factoryBeanObjectCache.put(beanName, object);
+							alreadyThere = this.factoryBeanObjectCache.putIfAbsent(beanName, object);
+							if (alreadyThere != null) {
+								// Concurrently obtained in another thread without the singleton lock
+								object = alreadyThere;
+							}
 						}
 					}
 				}
 				return object;
 			}
+			finally {
+				if (locked) {
+					this.singletonLock.unlock();
+				}
+			}
 		}
 		else {
 			Object object = doGetObjectFromFactoryBean(factory, beanName);
@@ -235,10 +262,14 @@ public abstract class FactoryBeanRegistrySupport extends DefaultSingletonBeanReg
 	 */
 	@Override
 	protected void removeSingleton(String beanName) {
-		synchronized (getSingletonMutex()) {
+		this.singletonLock.lock();
+		try {
 			super.removeSingleton(beanName);
 			this.factoryBeanObjectCache.remove(beanName);
 		}
+		finally {
+			this.singletonLock.unlock();
+		}
 	}
 
 	/**
@@ -246,10 +277,14 @@ public abstract class FactoryBeanRegistrySupport extends DefaultSingletonBeanReg
 	 */
 	@Override
 	protected void clearSingletonCache() {
-		synchronized (getSingletonMutex()) {
+		this.singletonLock.lock();
+		try {
 			super.clearSingletonCache();
 			this.factoryBeanObjectCache.clear();
 		}
+		finally {
+			this.singletonLock.unlock();
+		}
 	}
 
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2018 the original author or authors.
+ * Copyright 2002-2023 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -61,4 +61,28 @@ public interface MergedBeanDefinitionPostProcessor extends BeanPostProcessor {
 	default void resetBeanDefinition(String beanName) {
 	}
 
+	/**
+	 * A notification that the specified bean has been created as a fully
+	 * initialized singleton, and that this post-processor may release metadata
+	 * which is only needed for creating further instances of the bean.
+	 * <p>Such metadata needs to be rebuilt on demand in case the singleton
+	 * happens to be re-created. The default implementation is empty.
+	 * @param beanName the name of the bean
+	 * @since 6.1.2
+	 * @see DefaultListableBeanFactory#compactMetadata()
+	 */
+	default void compactMetadata(String beanName) {
+	}
+
+	/**
+	 * Contribute the metadata retained by this post-processor to the given
+	 * report, per cache and (where applicable) per bean.
+	 * <p>The default implementation is empty.
+	 * @param report the report to contribute to
+	 * @since 6.1.2
+	 * @see DefaultListableBeanFactory#getMetadataReport()
+	 */
+	default void reportMetadata(BeanMetadataReport report) {
+	}
+
 }
@@ -23,6 +23,7 @@ import java.lang.reflect.Member;
 import java.lang.reflect.Method;
 import java.util.Collections;
 import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Supplier;
 
@@ -98,7 +99,7 @@ public class RootBeanDefinition extends AbstractBeanDefinition {
 	@Nullable
 	volatile String resolvedDestroyMethodName;
 
-	/** Common lock for the four constructor fields below. */
+	/** Common lock for the constructor fields below. */
 	final Object constructorArgumentLock = new Object();
 
 	/** Package-visible field for caching the resolved constructor or factory method. */
@@ -116,6 +117,10 @@ public class RootBeanDefinition extends AbstractBeanDefinition {
 	@Nullable
 	Object[] preparedConstructorArguments;
 
+	/** Package-visible field for caching constructors or factory methods resolved for explicit argument types. */
+	@Nullable
+	volatile Map<ConstructorResolver.ArgumentTypesKey, Executable> resolvedExecutablesByArgumentTypes;
+
 	/** Common lock for the two post-processing fields below. */
 	final Object postProcessingLock = new Object();
 
@@ -126,6 +131,10 @@ public class RootBeanDefinition extends AbstractBeanDefinition {
 	@Nullable
 	volatile Boolean beforeInstantiationResolved;
 
+	/** Package-visible field for caching resolved autowire-by-name/by-type properties of non-singletons. */
+	@Nullable
+	volatile AbstractAutowireCapableBeanFactory.ResolvedAutowireProperties resolvedAutowireProperties;
+
 	@Nullable
 	private Set<Member> externallyManagedConfigMembers;
 
@@ -667,6 +676,39 @@ public class RootBeanDefinition extends AbstractBeanDefinition {
 		}
 	}
 
+	/**
+	 * Release cached state which is only needed for creating further instances
+	 * of the bean, i.e. resolved constructor arguments and autowired properties.
+	 * <p>The resolved constructor or factory method is kept, along with all type
+	 * information. Constructor arguments get resolved again on re-creation.
+	 * @since 6.1.2
+	 * @see DefaultListableBeanFactory#compactMetadata()
+	 */
+	void releaseCreationState() {
+		synchronized (this.constructorArgumentLock) {
+			this.resolvedConstructorArguments = null;
+			this.preparedConstructorArguments = null;
+		}
+		this.resolvedExecutablesByArgumentTypes = null;
+		this.resolvedAutowireProperties = null;
+	}
+
+	/**
+	 * Return the number of cached creation state elements, i.e. resolved
+	 * and prepared constructor arguments as well as constructors or factory
+	 * methods resolved for explicit argument types.
+	 * @since 6.1.2
+	 * @see DefaultListableBeanFactory#getMetadataReport()
+	 */
+	int getCreationStateSize() {
+		Map<ConstructorResolver.ArgumentTypesKey, Executable> resolvedExecutables = this.resolvedExecutablesByArgumentTypes;
+		synchronized (this.constructorArgumentLock) {
+			return (this.resolvedConstructorArguments != null ? this.resolvedConstructorArguments.length : 0) +
+					(this.preparedConstructorArguments != null ? this.preparedConstructorArguments.length : 0) +
+					(resolvedExecutables != null ? resolvedExecutables.size() : 0);
+		}
+	}
+
 
 	@Override
 	public RootBeanDefinition cloneBeanDefinition() {
@@ -0,0 +1,256 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.beans.factory.support;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.PropertyValue;
+import org.springframework.beans.factory.BeanFactoryUtils;
+import org.springframework.beans.factory.config.BeanReference;
+import org.springframework.beans.factory.config.ConstructorArgumentValues.ValueHolder;
+
+/**
+ * Dependency graph between singleton bean definitions, as declared in the bean
+ * definition metadata: {@code depends-on} relationships, factory bean references
+ * as well as bean references in constructor arguments and property values.
+ *
+ * <p>Groups the beans into strongly connected components, i.e. a circular
+ * reference ends up as a single {@link Group} with its beans to be created in
+ * registration order within the same thread. Dependencies which only show up
+ * at runtime (e.g. autowiring) are not part of the graph; those get resolved
+ * through regular {@code getBean} calls on creation.
+ *
+ * <p>Used by {@link DefaultListableBeanFactory} for the parallel pre-instantiation
+ * of singletons, and by {@link DefaultSingletonBeanRegistry} for the parallel
+ * destruction of singletons (based on the dependencies registered at runtime).
+ *
+ * @since 6.1.2
+ * @see DefaultListableBeanFactory#setBootstrapExecutor
+ * @see DefaultSingletonBeanRegistry#setDestructionExecutor
+ */
+final class SingletonDependencyGraph {
+
+	private final Map<String, Set<String>> dependencies = new LinkedHashMap<>();
+
+
+	/**
+	 * Build the dependency graph for the given singleton beans.
+	 * @param beanFactory the bean factory to resolve bean names against
+	 * @param beanNames the names of the singletons, in registration order
+	 */
+	SingletonDependencyGraph(DefaultListableBeanFactory beanFactory, List<String> beanNames) {
+		for (String beanName : beanNames) {
+			this.dependencies.put(beanName, new LinkedHashSet<>());
+		}
+		for (String beanName : beanNames) {
+			RootBeanDefinition mbd = beanFactory.getMergedLocalBeanDefinition(beanName);
+			Set<String> beanDependencies = this.dependencies.get(beanName);
+			String[] dependsOn = mbd.getDependsOn();
+			if (dependsOn != null) {
+				for (String dep : dependsOn) {
+					addDependency(beanFactory, beanDependencies, dep);
+				}
+			}
+			if (mbd.getFactoryBeanName() != null) {
+				addDependency(beanFactory, beanDependencies, mbd.getFactoryBeanName());
+			}
+			if (mbd.hasConstructorArgumentValues()) {
+				for (ValueHolder valueHolder : mbd.getConstructorArgumentValues().getIndexedArgumentValues().values()) {
+					addReference(beanFactory, beanDependencies, valueHolder.getValue());
+				}
+				for (ValueHolder valueHolder : mbd.getConstructorArgumentValues().getGenericArgumentValues()) {
+					addReference(beanFactory, beanDependencies, valueHolder.getValue());
+				}
+			}
+			if (mbd.hasPropertyValues()) {
+				for (PropertyValue pv : mbd.getPropertyValues().getPropertyValues()) {
+					addReference(beanFactory, beanDependencies, pv.getValue());
+				}
+			}
+			beanDependencies.remove(beanName);
+		}
+	}
+
+	/**
+	 * Build a dependency graph from the given dependencies between beans.
+	 * <p>Dependencies on beans which are not keys in the given map are ignored.
+	 * @param dependencies bean name to the names of the beans that it depends on,
+	 * in the order in which the beans should be processed when independent
+	 */
+	SingletonDependencyGraph(Map<String, ? extends Set<String>> dependencies) {
+		for (String beanName : dependencies.keySet()) {
+			this.dependencies.put(beanName, new LinkedHashSet<>());
+		}
+		for (Map.Entry<String, ? extends Set<String>> entry : dependencies.entrySet()) {
+			Set<String> beanDependencies = this.dependencies.get(entry.getKey());
+			for (String dependency : entry.getValue()) {
+				if (this.dependencies.containsKey(dependency)) {
+					beanDependencies.add(dependency);
+				}
+			}
+			beanDependencies.remove(entry.getKey());
+		}
+	}
+
+	private void addReference(DefaultListableBeanFactory beanFactory, Set<String> beanDependencies, Object value) {
+		if (value instanceof BeanReference beanReference) {
+			addDependency(beanFactory, beanDependencies, beanReference.getBeanName());
+		}
+	}
+
+	private void addDependency(DefaultListableBeanFactory beanFactory, Set<String> beanDependencies, String name) {
+		String dependency = beanFactory.canonicalName(BeanFactoryUtils.transformedBeanName(name));
+		if (this.dependencies.containsKey(dependency)) {
+			beanDependencies.add(dependency);
+		}
+	}
+
+
+	/**
+	 * Determine the groups of beans to be created together, in an order where
+	 * each group comes after the groups that it depends on.
+	 * <p>Implemented as an iterative variant of Tarjan's algorithm for strongly
+	 * connected components, which emits components in reverse topological order.
+	 * @return the groups of beans, with dependencies first
+	 */
+	List<Group> getGroups() {
+		Map<String, Integer> index = new HashMap<>();
+		Map<String, Integer> lowLink = new HashMap<>();
+		Deque<String> stack = new ArrayDeque<>();
+		Set<String> onStack = new LinkedHashSet<>();
+		Map<String, Group> groupsByBean = new HashMap<>();
+		List<Group> groups = new ArrayList<>();
+
+		for (String root : this.dependencies.keySet()) {
+			if (index.containsKey(root)) {
+				continue;
+			}
+			Deque<Map.Entry<String, Iterator<String>>> callStack = new ArrayDeque<>();
+			visit(root, index, lowLink, stack, onStack, callStack);
+			while (!callStack.isEmpty()) {
+				Map.Entry<String, Iterator<String>> frame = callStack.peek();
+				String beanName = frame.getKey();
+				Iterator<String> it = frame.getValue();
+				if (it.hasNext()) {
+					String dependency = it.next();
+					if (!index.containsKey(dependency)) {
+						visit(dependency, index, lowLink, stack, onStack, callStack);
+					}
+					else if (onStack.contains(dependency)) {
+						lowLink.put(beanName, Math.min(lowLink.get(beanName), index.get(dependency)));
+					}
+					continue;
+				}
+				callStack.pop();
+				Map.Entry<String, Iterator<String>> parent = callStack.peek();
+				if (parent != null) {
+					String parentName = parent.getKey();
+					lowLink.put(parentName, Math.min(lowLink.get(parentName), lowLink.get(beanName)));
+				}
+				if (lowLink.get(beanName).equals(index.get(beanName))) {
+					Set<String> members = new LinkedHashSet<>();
+					String member;
+					do {
+						member = stack.pop();
+						onStack.remove(member);
+						members.add(member);
+					}
+					while (!member.equals(beanName));
+					Group group = new Group(sortInRegistrationOrder(members));
+					for (String name : members) {
+						groupsByBean.put(name, group);
+					}
+					for (String name : members) {
+						for (String dependency : this.dependencies.get(name)) {
+							Group dependencyGroup = groupsByBean.get(dependency);
+							if (dependencyGroup != group) {
+								group.dependencies.add(dependencyGroup);
+							}
+						}
+					}
+					groups.add(group);
+				}
+			}
+		}
+		return groups;
+	}
+
+	private void visit(String beanName, Map<String, Integer> index, Map<String, Integer> lowLink,
+			Deque<String> stack, Set<String> onStack, Deque<Map.Entry<String, Iterator<String>>> callStack) {
+
+		int i = index.size();
+		index.put(beanName, i);
+		lowLink.put(beanName, i);
+		stack.push(beanName);
+		onStack.add(beanName);
+		callStack.push(Map.entry(beanName, this.dependencies.get(beanName).iterator()));
+	}
+
+	private List<String> sortInRegistrationOrder(Set<String> members) {
+		if (members.size() == 1) {
+			return Collections.singletonList(members.iterator().next());
+		}
+		List<String> sorted = new ArrayList<>(members.size());
+		for (String beanName : this.dependencies.keySet()) {
+			if (members.contains(beanName)) {
+				sorted.add(beanName);
+			}
+		}
+		return sorted;
+	}
+
+
+	/**
+	 * A group of singleton beans to be created together in a single thread:
+	 * either an individual bean or the beans in a circular reference.
+	 */
+	static final class Group {
+
+		private final List<String> beanNames;
+
+		private final Set<Group> dependencies = new LinkedHashSet<>();
+
+		Group(List<String> beanNames) {
+			this.beanNames = beanNames;
+		}
+
+		/**
+		 * Return the names of the beans in this group, in registration order.
+		 */
+		List<String> getBeanNames() {
+			return this.beanNames;
+		}
+
+		/**
+		 * Return the groups that this group depends on.
+		 */
+		Set<Group> getDependencies() {
+			return this.dependencies;
+		}
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2021 the original author or authors.
+ * Copyright 2002-2023 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,6 +21,11 @@ import java.net.URISyntaxException;
 import java.util.LinkedHashSet;
 import java.util.Set;
 
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.w3c.dom.Document;
@@ -96,6 +101,67 @@ public class DefaultBeanDefinitionDocumentReader implements BeanDefinitionDocume
 		doRegisterBeanDefinitions(doc.getDocumentElement());
 	}
 
+	/**
+	 * Register bean definitions from the given StAX stream, as an alternative to
+	 * {@link #registerBeanDefinitions(Document, XmlReaderContext)} for large files.
+	 * <p>Reads the root {@code <beans/>} element and initializes the default settings
+	 * from it; then reads and parses one top-level element at a time, each of them
+	 * as a DOM element which is discarded once its bean definitions are registered.
+	 * {@link #parseBeanDefinitions} gets invoked for each top-level element, with
+	 * a root element that contains just that element at that point, whereas
+	 * {@link #preProcessXml} and {@link #postProcessXml} are invoked once, with
+	 * the root element without any children.
+	 * @param streamReader the StAX reader, positioned at the start of the document
+	 * @param readerContext the current context of the reader
+	 * (includes the target registry and the resource being parsed)
+	 * @throws XMLStreamException in case of XML parsing errors
+	 * @since 6.1.2
+	 * @see XmlBeanDefinitionReader#setStreaming
+	 */
+	public void registerBeanDefinitions(XMLStreamReader streamReader, XmlReaderContext readerContext)
+			throws XMLStreamException {
+
+		this.readerContext = readerContext;
+		StaxElementReader elementReader = new StaxElementReader(streamReader, createDocument());
+		Element root = elementReader.readRootElement();
+
+		BeanDefinitionParserDelegate parent = this.delegate;
+		BeanDefinitionParserDelegate delegate = createDelegate(getReaderContext(), root, parent);
+		this.delegate = delegate;
+		try {
+			if (!delegate.isDefaultNamespace(root)) {
+				// Custom root element: to be parsed as a whole.
+				elementReader.readRemainingChildren(root);
+				parseBeanDefinitions(root, delegate);
+				return;
+			}
+			if (!isProfileAccepted(root)) {
+				return;
+			}
+			preProcessXml(root);
+			Element ele;
+			while ((ele = elementReader.readNextChildElement(root)) != null) {
+				parseBeanDefinitions(root, delegate);
+				root.removeChild(ele);
+			}
+			postProcessXml(root);
+		}
+		finally {
+			this.delegate = parent;
+		}
+	}
+
+	private static Document createDocument() {
+		try {
+			DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+			factory.setNamespaceAware(true);
+			return factory.newDocumentBuilder().newDocument();
+		}
+		catch (ParserConfigurationException ex) {
+			throw new IllegalStateException("Failed to create DOM document for streamed elements", ex);
+		}
+	}
+
 	/**
 	 * Return the descriptor for the XML resource that this parser works on.
 	 */
@@ -117,7 +183,6 @@ public class DefaultBeanDefinitionDocumentReader implements BeanDefinitionDocume
 	/**
 	 * Register each bean definition within the given root {@code <beans/>} element.
 	 */
-	@SuppressWarnings("deprecation")  // for Environment.acceptsProfiles(String...)
 	protected void doRegisterBeanDefinitions(Element root) {
 		// Any nested <beans> elements will cause recursion in this method. In
 		// order to propagate and preserve <beans> default-* attributes correctly,
@@ -128,21 +193,8 @@ public class DefaultBeanDefinitionDocumentReader implements BeanDefinitionDocume
 		BeanDefinitionParserDelegate parent = this.delegate;
 		this.delegate = createDelegate(getReaderContext(), root, parent);
 
-		if (this.delegate.isDefaultNamespace(root)) {
-			String profileSpec = root.getAttribute(PROFILE_ATTRIBUTE);
-			if (StringUtils.hasText(profileSpec)) {
-				String[] specifiedProfiles = StringUtils.tokenizeToStringArray(
-						profileSpec, BeanDefinitionParserDelegate.MULTI_VALUE_ATTRIBUTE_DELIMITERS);
-				// We cannot use Profiles.of(...) since profile expressions are not supported
-				// in XML config. See SPR-12458 for details.
-				if (!getReaderContext().getEnvironment().acceptsProfiles(specifiedProfiles)) {
-					if (logger.isDebugEnabled()) {
-						logger.debug("Skipped XML bean definition file due to specified profiles [" + profileSpec +
-								"] not matching: " + getReaderContext().getResource());
-					}
-					return;
-				}
-			}
+		if (this.delegate.isDefaultNamespace(root) && !isProfileAccepted(root)) {
+			return;
 		}
 
 		preProcessXml(root); //可以进行扩展
@@ -152,6 +204,29 @@ public class DefaultBeanDefinitionDocumentReader implements BeanDefinitionDocume
 		this.delegate = parent;
 	}
 
+	/**
+	 * Check the "profile" attribute of the given {@code <beans/>} element
+	 * against the active profiles in the environment.
+	 */
+	@SuppressWarnings("deprecation")  // for Environment.acceptsProfiles(String...)
+	private boolean isProfileAccepted(Element root) {
+		String profileSpec = root.getAttribute(PROFILE_ATTRIBUTE);
+		if (StringUtils.hasText(profileSpec)) {
+			String[] specifiedProfiles = StringUtils.tokenizeToStringArray(
+					profileSpec, BeanDefinitionParserDelegate.MULTI_VALUE_ATTRIBUTE_DELIMITERS);
+			// We cannot use Profiles.of(...) since profile expressions are not supported
+			// in XML config. See SPR-12458 for details.
+			if (!getReaderContext().getEnvironment().acceptsProfiles(specifiedProfiles)) {
+				if (logger.isDebugEnabled()) {
+					logger.debug("Skipped XML bean definition file due to specified profiles [" + profileSpec +
+							"] not matching: " + getReaderContext().getResource());
+				}
+				return false;
+			}
+		}
+		return true;
+	}
+
 	protected BeanDefinitionParserDelegate createDelegate(
 			XmlReaderContext readerContext, Element root, @Nullable BeanDefinitionParserDelegate parentDelegate) {
 
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.beans.factory.xml;
+
+import javax.xml.XMLConstants;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.StringUtils;
+
+/**
+ * Builds DOM elements from a StAX {@link XMLStreamReader}, one top-level
+ * element at a time: the root element is created without its children,
+ * which are then read on demand, each as a complete DOM subtree.
+ *
+ * <p>This allows for passing standard DOM elements to the
+ * {@link BeanDefinitionParserDelegate} and to custom {@link NamespaceHandler
+ * NamespaceHandlers}, while the memory footprint is bounded by the largest
+ * top-level element rather than by the size of the entire document.
+ *
+ * @since 6.1.2
+ * @see DefaultBeanDefinitionDocumentReader#registerBeanDefinitions(XMLStreamReader, XmlReaderContext)
+ */
+final class StaxElementReader {
+
+	private final XMLStreamReader streamReader;
+
+	private final Document document;
+
+
+	StaxElementReader(XMLStreamReader streamReader, Document document) {
+		this.streamReader = streamReader;
+		this.document = document;
+	}
+
+
+	/**
+	 * Read the root element of the document, including its attributes
+	 * but without any of its children.
+	 * @return the root element
+	 */
+	public Element readRootElement() throws XMLStreamException {
+		while (this.streamReader.hasNext()) {
+			if (this.streamReader.next() == XMLStreamConstants.START_ELEMENT) {
+				Element root = createElement();
+				this.document.appendChild(root);
+				return root;
+			}
+		}
+		throw new XMLStreamException("No root element found in XML document");
+	}
+
+	/**
+	 * Read the remaining children of the given root element completely.
+	 * @param root the root element as returned from {@link #readRootElement()}
+	 */
+	public void readRemainingChildren(Element root) throws XMLStreamException {
+		readChildren(root);
+	}
+
+	/**
+	 * Read the next child element of the given root element, including its
+	 * entire subtree, and append it to the root element.
+	 * @param root the root element as returned from {@link #readRootElement()}
+	 * @return the child element, or {@code null} if the end of the root element
+	 * has been reached
+	 */
+	@Nullable
+	public Element readNextChildElement(Element root) throws XMLStreamException {
+		while (this.streamReader.hasNext()) {
+			int event = this.streamReader.next();
+			if (event == XMLStreamConstants.START_ELEMENT) {
+				Element child = createElement();
+				root.appendChild(child);
+				readChildren(child);
+				return child;
+			}
+			else if (event == XMLStreamConstants.END_ELEMENT) {
+				return null;
+			}
+			// Text and comments between top-level elements are not relevant
+			// for bean definition parsing: skip them.
+		}
+		return null;
+	}
+
+	private void readChildren(Element parent) throws XMLStreamException {
+		while (this.streamReader.hasNext()) {
+			int event = this.streamReader.next();
+			switch (event) {
+				case XMLStreamConstants.START_ELEMENT -> {
+					Element child = createElement();
+					parent.appendChild(child);
+					readChildren(child);
+				}
+				case XMLStreamConstants.END_ELEMENT -> {
+					return;
+				}
+				case XMLStreamConstants.CHARACTERS, XMLStreamConstants.SPACE, XMLStreamConstants.ENTITY_REFERENCE ->
+						parent.appendChild(this.document.createTextNode(this.streamReader.getText()));
+				case XMLStreamConstants.CDATA ->
+						parent.appendChild(this.document.createCDATASection(this.streamReader.getText()));
+				case XMLStreamConstants.COMMENT ->
+						parent.appendChild(this.document.createComment(this.streamReader.getText()));
+				default -> {
+					// Processing instructions etc: not relevant for bean definitions
+				}
+			}
+		}
+	}
+
+	private Element createElement() {
+		XMLStreamReader reader = this.streamReader;
+		Element element = this.document.createElementNS(
+				emptyToNull(reader.getNamespaceURI()), qualifiedName(reader.getPrefix(), reader.getLocalName()));
+		for (int i = 0; i < reader.getNamespaceCount(); i++) {
+			String prefix = reader.getNamespacePrefix(i);
+			element.setAttributeNS(XMLConstants.XMLNS_ATTRIBUTE_NS_URI,
+					(StringUtils.hasLength(prefix) ? XMLConstants.XMLNS_ATTRIBUTE + ":" + prefix :
+							XMLConstants.XMLNS_ATTRIBUTE), reader.getNamespaceURI(i));
+		}
+		for (int i = 0; i < reader.getAttributeCount(); i++) {
+			element.setAttributeNS(emptyToNull(reader.getAttributeNamespace(i)),
+					qualifiedName(reader.getAttributePrefix(i), reader.getAttributeLocalName(i)),
+					reader.getAttributeValue(i));
+		}
+		return element;
+	}
+
+	private static String qualifiedName(@Nullable String prefix, String localName) {
+		return (StringUtils.hasLength(prefix) ? prefix + ":" + localName : localName);
+	}
+
+	@Nullable
+	private static String emptyToNull(@Nullable String value) {
+		return (StringUtils.hasLength(value) ? value : null);
+	}
+
+}
@@ -23,6 +23,10 @@ import java.util.Map;
 import java.util.Set;
 
 import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.Location;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 
 import org.w3c.dom.Document;
 import org.xml.sax.EntityResolver;
@@ -49,6 +53,7 @@ import org.springframework.core.io.support.EncodedResource;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.xml.SimpleSaxErrorHandler;
+import org.springframework.util.xml.StaxUtils;
 import org.springframework.util.xml.XmlValidationModeDetector;
 
 /**
@@ -115,6 +120,8 @@ public class XmlBeanDefinitionReader extends AbstractBeanDefinitionReader {
 
 	private boolean namespaceAware = false;
 
+	private boolean streaming = false;
+
 	private Class<? extends BeanDefinitionDocumentReader> documentReaderClass =
 			DefaultBeanDefinitionDocumentReader.class;
 
@@ -210,6 +217,37 @@ public class XmlBeanDefinitionReader extends AbstractBeanDefinitionReader {
 		return this.namespaceAware;
 	}
 
+	/**
+	 * Set whether to read XML bean definition files through a streaming StAX
+	 * parser instead of loading an entire DOM document upfront. Default is "false".
+	 * <p>In streaming mode, bean definitions get registered as the top-level
+	 * elements of a file are being read, with each of them turned into a DOM
+	 * element for the {@link BeanDefinitionParserDelegate} and for custom
+	 * {@link NamespaceHandler NamespaceHandlers} and discarded right after.
+	 * Peak memory consumption is therefore bounded by the largest top-level
+	 * element instead of by the size of the entire file.
+	 * <p>Note that streaming implies a namespace-aware parser without any XML
+	 * validation: the configured {@link #setValidationMode validation mode},
+	 * {@link #setDocumentLoader DocumentLoader} and {@link #setEntityResolver
+	 * EntityResolver} do not apply, and DTD declarations are being ignored.
+	 * Streaming also requires a {@link DefaultBeanDefinitionDocumentReader}
+	 * (or a subclass of it) as {@link #setDocumentReaderClass document reader};
+	 * other document readers keep receiving a complete DOM document.
+	 * @since 6.1.2
+	 * @see DefaultBeanDefinitionDocumentReader#registerBeanDefinitions(XMLStreamReader, XmlReaderContext)
+	 */
+	public void setStreaming(boolean streaming) {
+		this.streaming = streaming;
+	}
+
+	/**
+	 * Return whether to read XML bean definition files through a streaming StAX parser.
+	 * @since 6.1.2
+	 */
+	public boolean isStreaming() {
+		return this.streaming;
+	}
+
 	/**
 	 * Specify which {@link org.springframework.beans.factory.parsing.ProblemReporter} to use.
 	 * <p>The default implementation is {@link org.springframework.beans.factory.parsing.FailFastProblemReporter}
@@ -396,6 +434,9 @@ public class XmlBeanDefinitionReader extends AbstractBeanDefinitionReader {
 	protected int doLoadBeanDefinitions(InputSource inputSource, Resource resource)
 			throws BeanDefinitionStoreException {
 
+		if (isStreaming() && DefaultBeanDefinitionDocumentReader.class.isAssignableFrom(this.documentReaderClass)) {
+			return doLoadBeanDefinitionsStreaming(inputSource, resource);
+		}
 		try {
 			//此处获取xml文件的document对象,这个解析过程是由documentLoader完成的
 			//从string[] -> string -> Resource[] -> Resource 最终开始将resource读取成一个document
@@ -432,6 +473,70 @@ public class XmlBeanDefinitionReader extends AbstractBeanDefinitionReader {
 		}
 	}
 
+	/**
+	 * Actually load bean definitions from the specified XML file,
+	 * through a streaming StAX parser.
+	 * @param inputSource the SAX InputSource to read from
+	 * @param resource the resource descriptor for the XML file
+	 * @return the number of bean definitions found
+	 * @throws BeanDefinitionStoreException in case of loading or parsing errors
+	 * @since 6.1.2
+	 * @see #setStreaming
+	 */
+	protected int doLoadBeanDefinitionsStreaming(InputSource inputSource, Resource resource)
+			throws BeanDefinitionStoreException {
+
+		try {
+			XMLStreamReader streamReader = createStreamReader(inputSource);
+			try {
+				int count = registerBeanDefinitions(streamReader, resource);
+				if (logger.isDebugEnabled()) {
+					logger.debug("Loaded " + count + " bean definitions from " + resource + " (streaming)");
+				}
+				return count;
+			}
+			finally {
+				streamReader.close();
+			}
+		}
+		catch (BeanDefinitionStoreException ex) {
+			throw ex;
+		}
+		catch (XMLStreamException ex) {
+			Location location = ex.getLocation();
+			throw new BeanDefinitionStoreException(resource.getDescription(), (location != null ?
+					"Line " + location.getLineNumber() + " in XML document from " + resource + " is invalid" :
+					"XML document from " + resource + " is invalid"), ex);
+		}
+		catch (Throwable ex) {
+			throw new BeanDefinitionStoreException(resource.getDescription(),
+					"Unexpected exception parsing XML document from " + resource, ex);
+		}
+	}
+
+	/**
+	 * Create a StAX reader for the given SAX InputSource.
+	 * @param inputSource the SAX InputSource to read from
+	 * @return the StAX reader
+	 * @throws XMLStreamException if the reader could not be created
+	 * @since 6.1.2
+	 */
+	protected XMLStreamReader createStreamReader(InputSource inputSource) throws XMLStreamException {
+		XMLInputFactory inputFactory = StaxUtils.createDefensiveInputFactory();
+		inputFactory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, true);
+		inputFactory.setProperty(XMLInputFactory.IS_COALESCING, true);
+		if (inputSource.getCharacterStream() != null) {
+			return inputFactory.createXMLStreamReader(inputSource.getSystemId(), inputSource.getCharacterStream());
+		}
+		if (inputSource.getByteStream() != null) {
+			return (inputSource.getEncoding() != null ?
+					inputFactory.createXMLStreamReader(inputSource.getByteStream(), inputSource.getEncoding()) :
+					inputFactory.createXMLStreamReader(inputSource.getSystemId(), inputSource.getByteStream()));
+		}
+		throw new XMLStreamException("InputSource without character stream or byte stream: " +
+				inputSource.getSystemId());
+	}
+
 	/**
 	 * Actually load the specified document using the configured DocumentLoader.
 	 * @param inputSource the SAX InputSource to read from
@@ -529,6 +634,29 @@ public class XmlBeanDefinitionReader extends AbstractBeanDefinitionReader {
 		return getRegistry().getBeanDefinitionCount() - countBefore;
 	}
 
+	/**
+	 * Register the bean definitions contained in the given StAX stream.
+	 * Called by {@code loadBeanDefinitions} in {@link #setStreaming streaming} mode.
+	 * @param streamReader the StAX reader, positioned at the start of the document
+	 * @param resource the resource descriptor (for context information)
+	 * @return the number of bean definitions found
+	 * @throws XMLStreamException in case of XML parsing errors
+	 * @throws BeanDefinitionStoreException in case of parsing errors
+	 * @since 6.1.2
+	 * @see DefaultBeanDefinitionDocumentReader#registerBeanDefinitions(XMLStreamReader, XmlReaderContext)
+	 */
+	public int registerBeanDefinitions(XMLStreamReader streamReader, Resource resource)
+			throws XMLStreamException, BeanDefinitionStoreException {
+
+		BeanDefinitionDocumentReader documentReader = createBeanDefinitionDocumentReader();
+		if (!(documentReader instanceof DefaultBeanDefinitionDocumentReader defaultDocumentReader)) {
+			throw new IllegalStateException("Streaming requires a DefaultBeanDefinitionDocumentReader");
+		}
+		int countBefore = getRegistry().getBeanDefinitionCount();
+		defaultDocumentReader.registerBeanDefinitions(streamReader, createReaderContext(resource));
+		return getRegistry().getBeanDefinitionCount() - countBefore;
+	}
+
 	/**
 	 * Create the {@link BeanDefinitionDocumentReader} to use for actually
 	 * reading bean definitions from an XML document.
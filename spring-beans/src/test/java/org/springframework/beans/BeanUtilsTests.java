@@ -376,6 +376,33 @@ class BeanUtilsTests {
 		assertThat(tb2.getTouchy()).as("Touchy still empty").isNull();
 	}
 
+	@Test
+	void copyPropertiesRepeatedlyWithDifferentIgnoreSets() throws Exception {
+		TestBean tb = new TestBean("rod", 32);
+		tb.setTouchy("bla");
+
+		TestBean tb2 = new TestBean();
+		BeanUtils.copyProperties(tb, tb2, "age");
+		assertThat(tb2.getName()).isEqualTo("rod");
+		assertThat(tb2.getAge()).isEqualTo(0);
+
+		TestBean tb3 = new TestBean();
+		BeanUtils.copyProperties(tb, tb3, "name");
+		assertThat(tb3.getName()).isNull();
+		assertThat(tb3.getAge()).isEqualTo(32);
+
+		TestBean tb4 = new TestBean();
+		BeanUtils.copyProperties(tb, tb4);
+		assertThat(tb4.getName()).isEqualTo("rod");
+		assertThat(tb4.getAge()).isEqualTo(32);
+		assertThat(tb4.getTouchy()).isEqualTo("bla");
+
+		tb.setName(null);
+		BeanUtils.copyProperties(tb, tb4, "age");
+		assertThat(tb4.getName()).isNull();
+		assertThat(tb4.getAge()).isEqualTo(32);
+	}
+
 	@Test
 	void copyPropertiesWithIgnoredNonExistingProperty() {
 		NameAndSpecialProperty source = new NameAndSpecialProperty();
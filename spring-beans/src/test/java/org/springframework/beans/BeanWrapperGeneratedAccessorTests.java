@@ -0,0 +1,103 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.beans;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.testfixture.beans.TestBean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Runs the {@link BeanWrapperImpl} tests with generated property accessors.
+ *
+ * @since 6.1.2
+ * @see BeanWrapperImpl#setGeneratedAccessors
+ */
+class BeanWrapperGeneratedAccessorTests extends BeanWrapperTests {
+
+	@Override
+	protected BeanWrapperImpl createAccessor(Object target) {
+		BeanWrapperImpl accessor = new BeanWrapperImpl(target);
+		accessor.setGeneratedAccessors(true);
+		return accessor;
+	}
+
+
+	@Test
+	void generatedAccessorsForNestedPath() {
+		TestBean target = new TestBean();
+		target.setSpouse(new TestBean());
+		BeanWrapperImpl accessor = createAccessor(target);
+		accessor.setPropertyValue("spouse.age", 42);
+		accessor.setPropertyValue("spouse.name", "Kerry");
+		assertThat(accessor.getPropertyValue("spouse.age")).isEqualTo(42);
+		assertThat(accessor.getPropertyValue("spouse.name")).isEqualTo("Kerry");
+	}
+
+	@Test
+	void setterExceptionWrappedAsWithReflection() {
+		BeanWrapperImpl accessor = createAccessor(new ThrowingBean());
+		assertThatExceptionOfType(MethodInvocationException.class)
+				.isThrownBy(() -> accessor.setPropertyValue("value", "x"))
+				.withCauseInstanceOf(IllegalStateException.class);
+		assertThatExceptionOfType(InvalidPropertyException.class)
+				.isThrownBy(() -> accessor.getPropertyValue("value"))
+				.withRootCauseInstanceOf(IllegalStateException.class);
+	}
+
+	@Test
+	void nullForPrimitiveSetterAsWithReflection() {
+		PrimitiveBean target = new PrimitiveBean();
+		BeanWrapperImpl accessor = createAccessor(target);
+		accessor.setPropertyValue("value", 5L);
+		assertThat(target.getValue()).isEqualTo(5L);
+		accessor.setPropertyValue("value", 7);
+		assertThat(target.getValue()).isEqualTo(7L);
+		assertThatExceptionOfType(MethodInvocationException.class)
+				.isThrownBy(() -> accessor.setPropertyValue("value", null))
+				.withCauseInstanceOf(IllegalArgumentException.class);
+	}
+
+
+	public static class ThrowingBean {
+
+		public String getValue() {
+			throw new IllegalStateException("getter");
+		}
+
+		public void setValue(String value) {
+			throw new IllegalStateException("setter");
+		}
+	}
+
+
+	public static class PrimitiveBean {
+
+		private long value;
+
+		public long getValue() {
+			return this.value;
+		}
+
+		public void setValue(long value) {
+			this.value = value;
+		}
+	}
+
+}
@@ -1237,6 +1237,26 @@ class DefaultListableBeanFactoryTests {
 		assertThat(ab.getResourceArray()[1]).isEqualTo(new UrlResource("http://localhost:9090"));
 	}
 
+	@Test
+	void prototypeWithAutowiringByTypeRecreated() {
+		RootBeanDefinition bd = new RootBeanDefinition(DependenciesBean.class);
+		bd.setAutowireMode(RootBeanDefinition.AUTOWIRE_BY_TYPE);
+		bd.setScope(BeanDefinition.SCOPE_PROTOTYPE);
+		lbf.registerBeanDefinition("test", bd);
+		lbf.registerBeanDefinition("spouse", new RootBeanDefinition(TestBean.class));
+
+		DependenciesBean first = lbf.getBean("test", DependenciesBean.class);
+		DependenciesBean second = lbf.getBean("test", DependenciesBean.class);
+		assertThat(second).isNotSameAs(first);
+		assertThat(second.getSpouse()).isSameAs(first.getSpouse()).isSameAs(lbf.getBean("spouse"));
+		assertThat(lbf.getDependentBeans("spouse")).containsExactly("test");
+
+		lbf.removeBeanDefinition("spouse");
+		lbf.registerBeanDefinition("otherSpouse", new RootBeanDefinition(TestBean.class));
+		DependenciesBean third = lbf.getBean("test", DependenciesBean.class);
+		assertThat(third.getSpouse()).isSameAs(lbf.getBean("otherSpouse"));
+	}
+
 	@Test
 	void arrayPropertyWithOptionalAutowiring() throws MalformedURLException {
 		RootBeanDefinition rbd = new RootBeanDefinition(ArrayBean.class);
@@ -1550,6 +1570,30 @@ class DefaultListableBeanFactoryTests {
 		assertThat(bean.getBeanName()).isEqualTo("bd1");
 	}
 
+	@Test
+	void getBeanNamesForTypeWithLateRegistrationAgainstFrozen() {
+		lbf.registerBeanDefinition("bd1", new RootBeanDefinition(TestBean.class));
+		lbf.registerSingleton("manual1", new TestBean());
+		lbf.freezeConfiguration();
+		assertThat(lbf.getBeanNamesForType(ITestBean.class)).containsExactly("bd1", "manual1");
+		assertThat(lbf.getBeanNamesForType(DerivedTestBean.class)).isEmpty();
+		assertThat(lbf.getBeanNamesForType(DerivedTestBean.class, false, true)).isEmpty();
+		assertThat(lbf.getBeanNamesForType(NestedTestBean.class)).isEmpty();
+
+		lbf.registerBeanDefinition("bd2", new RootBeanDefinition(DerivedTestBean.class));
+		RootBeanDefinition bd3 = new RootBeanDefinition(DerivedTestBean.class);
+		bd3.setScope(BeanDefinition.SCOPE_PROTOTYPE);
+		lbf.registerBeanDefinition("bd3", bd3);
+		assertThat(lbf.getBeanNamesForType(ITestBean.class)).containsExactly("bd1", "bd2", "bd3", "manual1");
+		assertThat(lbf.getBeanNamesForType(DerivedTestBean.class)).containsExactly("bd2", "bd3");
+		assertThat(lbf.getBeanNamesForType(DerivedTestBean.class, false, true)).containsExactly("bd2");
+		assertThat(lbf.getBeanNamesForType(NestedTestBean.class)).isEmpty();
+
+		lbf.registerSingleton("manual2", new DerivedTestBean());
+		assertThat(lbf.getBeanNamesForType(ITestBean.class)).containsExactly("bd1", "bd2", "bd3", "manual1", "manual2");
+		assertThat(lbf.getBeanNamesForType(DerivedTestBean.class, false, true)).containsExactly("bd2", "manual2");
+	}
+
 	@Test
 	void getBeanByTypeDefinedInParent() {
 		DefaultListableBeanFactory parent = new DefaultListableBeanFactory();
@@ -1925,6 +1969,44 @@ class DefaultListableBeanFactoryTests {
 		assertThat(lbf.getBeanNamesForType(ResolvableType.forClassWithGenerics(FactoryBean.class, String.class), true, true)).isEmpty();
 	}
 
+	@Test
+	void getBeanWithArgsRepeatedlyForDifferentArgumentTypes() {
+		RootBeanDefinition bd = new RootBeanDefinition(TestBean.class);
+		bd.setScope(BeanDefinition.SCOPE_PROTOTYPE);
+		lbf.registerBeanDefinition("test", bd);
+
+		for (int i = 0; i < 3; i++) {
+			TestBean byName = (TestBean) lbf.getBean("test", "name" + i);
+			assertThat(byName.getName()).isEqualTo("name" + i);
+			TestBean byNameAndAge = (TestBean) lbf.getBean("test", "name", i);
+			assertThat(byNameAndAge.getAge()).isEqualTo(i);
+			TestBean spouse = new TestBean();
+			TestBean bySpouse = (TestBean) lbf.getBean("test", spouse);
+			assertThat(bySpouse.getSpouse()).isSameAs(spouse);
+			TestBean byList = (TestBean) lbf.getBean("test", List.of("element"));
+			assertThat(byList.getSomeList()).isEqualTo(List.of("element"));
+		}
+		assertThatExceptionOfType(BeanCreationException.class).isThrownBy(() ->
+				lbf.getBean("test", "name", "notAnInt"));
+	}
+
+	@Test
+	void getBeanWithArgsRepeatedlyForFactoryMethod() {
+		lbf.registerBeanDefinition("factoryBeanInstance", new RootBeanDefinition(BeanWithFactoryMethod.class));
+		RootBeanDefinition bd = new RootBeanDefinition();
+		bd.setFactoryBeanName("factoryBeanInstance");
+		bd.setFactoryMethodName("createWithArgs");
+		bd.setScope(BeanDefinition.SCOPE_PROTOTYPE);
+		lbf.registerBeanDefinition("fmWithArgs", bd);
+
+		for (int i = 0; i < 3; i++) {
+			assertThat(lbf.getBean("fmWithArgs", "name" + i)).extracting("name").isEqualTo("name" + i);
+		}
+		assertThat(((TestBean) lbf.getBean("fmWithArgs", (Object) null)).getName()).isNull();
+		assertThatExceptionOfType(BeanCreationException.class).isThrownBy(() ->
+				lbf.getBean("fmWithArgs", 42));
+	}
+
 	private RootBeanDefinition createConstructorDependencyBeanDefinition(int age) {
 		RootBeanDefinition bd = new RootBeanDefinition(ConstructorDependency.class);
 		bd.setScope(BeanDefinition.SCOPE_PROTOTYPE);
@@ -138,6 +138,29 @@ public class AutowiredAnnotationBeanPostProcessorTests {
 		assertThat(bf.getDependenciesForBean("annotatedBean")).isEqualTo(new String[] {"testBean"});
 	}
 
+	@Test
+	void resourceInjectionWithReplacedSingleton() {
+		RootBeanDefinition bd = new RootBeanDefinition(ResourceInjectionBean.class);
+		bd.setScope(BeanDefinition.SCOPE_PROTOTYPE);
+		bf.registerBeanDefinition("annotatedBean", bd);
+		TestBean tb = new TestBean();
+		bf.registerSingleton("testBean", tb);
+
+		for (int i = 0; i < 3; i++) {
+			ResourceInjectionBean bean = bf.getBean("annotatedBean", ResourceInjectionBean.class);
+			assertThat(bean.getTestBean()).isSameAs(tb);
+			assertThat(bean.getTestBean2()).isSameAs(tb);
+		}
+
+		bf.destroySingleton("testBean");
+		TestBean tb2 = new TestBean();
+		bf.registerSingleton("testBean", tb2);
+
+		ResourceInjectionBean bean = bf.getBean("annotatedBean", ResourceInjectionBean.class);
+		assertThat(bean.getTestBean()).isSameAs(tb2);
+		assertThat(bean.getTestBean2()).isSameAs(tb2);
+	}
+
 	@Test
 	@SuppressWarnings("rawtypes")
 	void resourceInjectionWithNullBean() {
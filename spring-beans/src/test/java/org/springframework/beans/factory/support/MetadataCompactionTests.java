@@ -0,0 +1,120 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.beans.factory.support;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.AutowiredAnnotationBeanPostProcessor;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.testfixture.beans.TestBean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link AbstractBeanFactory#compactMetadata()} and
+ * {@link AbstractBeanFactory#getMetadataReport()}.
+ *
+ * @since 6.1.2
+ */
+class MetadataCompactionTests {
+
+	private static final String INJECTION_METADATA = "AutowiredAnnotationBeanPostProcessor.injectionMetadata";
+
+	private static final String MERGED_BEAN_DEFINITIONS = "BeanFactory.mergedBeanDefinitions";
+
+	private final DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+
+
+	@BeforeEach
+	void setup() {
+		AutowiredAnnotationBeanPostProcessor bpp = new AutowiredAnnotationBeanPostProcessor();
+		bpp.setBeanFactory(this.beanFactory);
+		this.beanFactory.addBeanPostProcessor(bpp);
+		this.beanFactory.registerBeanDefinition("testBean", new RootBeanDefinition(TestBean.class));
+		this.beanFactory.registerBeanDefinition("fieldConsumer", new RootBeanDefinition(FieldConsumer.class));
+		RootBeanDefinition constructorConsumer = new RootBeanDefinition(ConstructorConsumer.class);
+		constructorConsumer.setAutowireMode(RootBeanDefinition.AUTOWIRE_CONSTRUCTOR);
+		this.beanFactory.registerBeanDefinition("constructorConsumer", constructorConsumer);
+		RootBeanDefinition prototypeConsumer = new RootBeanDefinition(FieldConsumer.class);
+		prototypeConsumer.setScope(BeanDefinition.SCOPE_PROTOTYPE);
+		this.beanFactory.registerBeanDefinition("prototypeConsumer", prototypeConsumer);
+		this.beanFactory.preInstantiateSingletons();
+		this.beanFactory.getBean("prototypeConsumer");
+	}
+
+
+	@Test
+	void reportBeforeCompaction() {
+		BeanMetadataReport report = this.beanFactory.getMetadataReport();
+		assertThat(report.getCacheSizes()).containsKeys(MERGED_BEAN_DEFINITIONS, INJECTION_METADATA);
+		assertThat(report.getBeanMetadata("fieldConsumer")).containsEntry(INJECTION_METADATA, 1);
+		assertThat(report.getBeanMetadata("prototypeConsumer")).containsEntry(INJECTION_METADATA, 1);
+		assertThat(report.getBeanMetadata("constructorConsumer").get(MERGED_BEAN_DEFINITIONS)).isGreaterThan(1);
+		assertThat(report.getBeanMetadataSizes()).containsKeys("testBean", "fieldConsumer", "constructorConsumer");
+		assertThat(report.getBeanMetadata("unknown")).isEmpty();
+	}
+
+	@Test
+	void compactMetadataReleasesSingletonMetadataOnly() {
+		int totalBefore = this.beanFactory.getMetadataReport().getTotalCacheSize();
+		this.beanFactory.compactMetadata();
+
+		BeanMetadataReport report = this.beanFactory.getMetadataReport();
+		assertThat(report.getTotalCacheSize()).isLessThan(totalBefore);
+		assertThat(report.getBeanMetadata("fieldConsumer")).doesNotContainKey(INJECTION_METADATA);
+		assertThat(report.getBeanMetadata("constructorConsumer")).containsEntry(MERGED_BEAN_DEFINITIONS, 1);
+		assertThat(report.getBeanMetadata("prototypeConsumer")).containsEntry(INJECTION_METADATA, 1);
+
+		FieldConsumer prototype = this.beanFactory.getBean("prototypeConsumer", FieldConsumer.class);
+		assertThat(prototype.testBean).isSameAs(this.beanFactory.getBean("testBean"));
+		assertThat(this.beanFactory.getBeanNamesForType(FieldConsumer.class))
+				.containsExactly("fieldConsumer", "prototypeConsumer");
+	}
+
+	@Test
+	void singletonRecreatedAfterCompaction() {
+		this.beanFactory.compactMetadata();
+		this.beanFactory.destroySingleton("fieldConsumer");
+		this.beanFactory.destroySingleton("constructorConsumer");
+
+		TestBean testBean = this.beanFactory.getBean("testBean", TestBean.class);
+		assertThat(this.beanFactory.getBean("fieldConsumer", FieldConsumer.class).testBean).isSameAs(testBean);
+		assertThat(this.beanFactory.getBean("constructorConsumer", ConstructorConsumer.class).testBean).isSameAs(testBean);
+		assertThat(this.beanFactory.getMetadataReport().getBeanMetadata("fieldConsumer"))
+				.containsEntry(INJECTION_METADATA, 1);
+	}
+
+
+	public static class FieldConsumer {
+
+		@Autowired
+		TestBean testBean;
+	}
+
+
+	public static class ConstructorConsumer {
+
+		final TestBean testBean;
+
+		public ConstructorConsumer(TestBean testBean) {
+			this.testBean = testBean;
+		}
+	}
+
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.beans.factory.support;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.lang.Nullable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for parallel singleton destruction in {@link DefaultSingletonBeanRegistry}
+ * with a destruction executor.
+ *
+ * @since 6.1.2
+ */
+class ParallelDestructionTests {
+
+	private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+	private final DefaultSingletonBeanRegistry registry = new DefaultSingletonBeanRegistry();
+
+	private final List<String> events = new CopyOnWriteArrayList<>();
+
+
+	@BeforeEach
+	void setup() {
+		this.registry.setDestructionExecutor(this.executor);
+	}
+
+	@AfterEach
+	void shutdown() {
+		this.executor.shutdownNow();
+	}
+
+
+	@Test
+	void independentSingletonsDestroyedConcurrently() {
+		CountDownLatch latch = new CountDownLatch(4);
+		for (int i = 0; i < 4; i++) {
+			registerDisposable("bean" + i, () -> {
+				latch.countDown();
+				// Only completes if all beans are in destruction at the same time
+				assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+			});
+		}
+		this.registry.destroySingletons();
+		assertThat(this.events).hasSize(4);
+		assertThat(this.registry.getSingletonCount()).isZero();
+	}
+
+	@Test
+	void dependentBeansDestroyedFirst() {
+		registerDisposable("early", null);
+		registerDisposable("middle", null);
+		registerDisposable("late", null);
+		registerDisposable("other", null);
+		this.registry.registerDependentBean("early", "middle");
+		this.registry.registerDependentBean("middle", "late");
+
+		this.registry.destroySingletons();
+		assertThat(this.events).containsExactlyInAnyOrder("early", "middle", "late", "other");
+		assertThat(this.events.indexOf("late")).isLessThan(this.events.indexOf("middle"));
+		assertThat(this.events.indexOf("middle")).isLessThan(this.events.indexOf("early"));
+		assertThat(this.registry.getDependentBeans("early")).isEmpty();
+	}
+
+	@Test
+	void containingBeanDestroyedBeforeInnerBean() {
+		registerDisposable("outer", null);
+		registerDisposable("inner", null);
+		this.registry.registerContainedBean("inner", "outer");
+
+		this.registry.destroySingletons();
+		assertThat(this.events).containsExactly("outer", "inner");
+	}
+
+	@Test
+	void circularDependenciesDestroyedInSameThread() {
+		registerDisposable("first", null);
+		registerDisposable("second", null);
+		registerDisposable("base", null);
+		this.registry.registerDependentBean("first", "second");
+		this.registry.registerDependentBean("second", "first");
+		this.registry.registerDependentBean("base", "first");
+
+		this.registry.destroySingletons();
+		assertThat(this.events).containsExactly("second", "first", "base");
+	}
+
+	@Test
+	void destructionTimeoutProceedsWithDependencies() throws InterruptedException {
+		CountDownLatch release = new CountDownLatch(1);
+		registerDisposable("base", null);
+		registerDisposable("slow", () -> release.await(10, TimeUnit.SECONDS));
+		this.registry.registerDependentBean("base", "slow");
+		this.registry.setDestructionTimeout(Duration.ofMillis(50));
+		this.registry.setSlowDestructionThreshold(Duration.ofMillis(10));
+
+		this.registry.destroySingletons();
+		assertThat(this.events).containsExactly("base");
+		assertThat(this.registry.getSingletonCount()).isZero();
+
+		release.countDown();
+		this.executor.shutdown();
+		assertThat(this.executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+		assertThat(this.events).containsExactly("base", "slow");
+	}
+
+	@Test
+	void rejectedExecutionFallsBackToCallingThread() {
+		this.executor.shutdown();
+		registerDisposable("first", null);
+		registerDisposable("second", null);
+		this.registry.registerDependentBean("first", "second");
+
+		this.registry.destroySingletons();
+		assertThat(this.events).containsExactly("second", "first");
+	}
+
+
+	private void registerDisposable(String beanName, @Nullable DisposableBean callback) {
+		this.registry.registerSingleton(beanName, new Object());
+		this.registry.registerDisposableBean(beanName, () -> {
+			if (callback != null) {
+				callback.destroy();
+			}
+			this.events.add(beanName);
+		});
+	}
+
+}
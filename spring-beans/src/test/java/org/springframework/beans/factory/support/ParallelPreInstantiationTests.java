@@ -0,0 +1,188 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.beans.factory.support;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.BeanCreationException;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.config.RuntimeBeanReference;
+import org.springframework.beans.testfixture.beans.TestBean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Tests for parallel singleton pre-instantiation in
+ * {@link DefaultListableBeanFactory} with a bootstrap executor.
+ *
+ * @since 6.1.2
+ */
+class ParallelPreInstantiationTests {
+
+	private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+	private final DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+
+	private final List<String> events = new CopyOnWriteArrayList<>();
+
+
+	@BeforeEach
+	void setup() {
+		this.beanFactory.setBootstrapExecutor(this.executor);
+	}
+
+	@AfterEach
+	void shutdown() {
+		this.executor.shutdownNow();
+	}
+
+
+	@Test
+	void independentSingletonsCreatedConcurrently() {
+		CountDownLatch latch = new CountDownLatch(4);
+		for (int i = 0; i < 4; i++) {
+			this.beanFactory.registerBeanDefinition("bean" + i, new RootBeanDefinition(Object.class, () -> {
+				latch.countDown();
+				try {
+					// Only completes if all beans are in creation at the same time
+					assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+				}
+				catch (InterruptedException ex) {
+					throw new IllegalStateException(ex);
+				}
+				return new Object();
+			}));
+		}
+		this.beanFactory.preInstantiateSingletons();
+		for (int i = 0; i < 4; i++) {
+			assertThat(this.beanFactory.containsSingleton("bean" + i)).isTrue();
+		}
+	}
+
+	@Test
+	void dependsOnRespected() {
+		this.beanFactory.registerBeanDefinition("late", recordingBean("late"));
+		RootBeanDefinition middle = recordingBean("middle");
+		middle.setDependsOn("early");
+		this.beanFactory.registerBeanDefinition("middle", middle);
+		this.beanFactory.registerBeanDefinition("early", recordingBean("early"));
+		((RootBeanDefinition) this.beanFactory.getBeanDefinition("late")).setDependsOn("middle");
+
+		this.beanFactory.preInstantiateSingletons();
+		assertThat(this.events).containsExactly("early", "middle", "late");
+	}
+
+	@Test
+	void circularReferenceResolved() {
+		RootBeanDefinition first = new RootBeanDefinition(TestBean.class);
+		first.getPropertyValues().add("spouse", new RuntimeBeanReference("second"));
+		this.beanFactory.registerBeanDefinition("first", first);
+		RootBeanDefinition second = new RootBeanDefinition(TestBean.class);
+		second.getPropertyValues().add("spouse", new RuntimeBeanReference("first"));
+		this.beanFactory.registerBeanDefinition("second", second);
+		for (int i = 0; i < 4; i++) {
+			this.beanFactory.registerBeanDefinition("other" + i, new RootBeanDefinition(TestBean.class));
+		}
+
+		this.beanFactory.preInstantiateSingletons();
+		TestBean firstBean = this.beanFactory.getBean("first", TestBean.class);
+		TestBean secondBean = this.beanFactory.getBean("second", TestBean.class);
+		assertThat(firstBean.getSpouse()).isSameAs(secondBean);
+		assertThat(secondBean.getSpouse()).isSameAs(firstBean);
+	}
+
+	@Test
+	void runtimeDependencyAcrossThreads() {
+		this.beanFactory.registerBeanDefinition("consumer", new RootBeanDefinition(TestBean.class,
+				() -> new TestBean(this.beanFactory.getBean("producer", TestBean.class).getName())));
+		this.beanFactory.registerBeanDefinition("producer", new RootBeanDefinition(TestBean.class, () -> {
+			sleep();
+			return new TestBean("producer");
+		}));
+
+		this.beanFactory.preInstantiateSingletons();
+		assertThat(this.beanFactory.getBean("consumer", TestBean.class).getName()).isEqualTo("producer");
+	}
+
+	@Test
+	void smartInitializingSingletonAfterAllSingletons() {
+		this.beanFactory.registerBeanDefinition("smart", new RootBeanDefinition(RecordingSmartSingleton.class,
+				() -> new RecordingSmartSingleton(this.events)));
+		for (int i = 0; i < 4; i++) {
+			this.beanFactory.registerBeanDefinition("bean" + i, recordingBean("bean" + i));
+		}
+
+		this.beanFactory.preInstantiateSingletons();
+		assertThat(this.events).hasSize(5).endsWith("afterSingletonsInstantiated");
+	}
+
+	@Test
+	void failurePropagated() {
+		this.beanFactory.registerBeanDefinition("ok", recordingBean("ok"));
+		this.beanFactory.registerBeanDefinition("broken", new RootBeanDefinition(Object.class, () -> {
+			throw new IllegalStateException("broken");
+		}));
+
+		assertThatExceptionOfType(BeanCreationException.class)
+				.isThrownBy(this.beanFactory::preInstantiateSingletons)
+				.satisfies(ex -> assertThat(ex.getBeanName()).isEqualTo("broken"));
+	}
+
+
+	private RootBeanDefinition recordingBean(String name) {
+		return new RootBeanDefinition(Object.class, () -> {
+			sleep();
+			this.events.add(name);
+			return new Object();
+		});
+	}
+
+	private static void sleep() {
+		try {
+			Thread.sleep(50);
+		}
+		catch (InterruptedException ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+
+
+	static class RecordingSmartSingleton implements SmartInitializingSingleton {
+
+		private final List<String> events;
+
+		RecordingSmartSingleton(List<String> events) {
+			this.events = events;
+		}
+
+		@Override
+		public void afterSingletonsInstantiated() {
+			this.events.add("afterSingletonsInstantiated");
+		}
+	}
+
+}
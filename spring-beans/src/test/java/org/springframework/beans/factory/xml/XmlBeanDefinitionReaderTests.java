@@ -17,10 +17,14 @@
 package org.springframework.beans.factory.xml;
 
 import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.List;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.xml.sax.InputSource;
 
 import org.springframework.beans.factory.BeanDefinitionStoreException;
@@ -28,6 +32,8 @@ import org.springframework.beans.factory.support.BeanDefinitionRegistry;
 import org.springframework.beans.factory.support.DefaultListableBeanFactory;
 import org.springframework.beans.factory.support.SimpleBeanDefinitionRegistry;
 import org.springframework.beans.testfixture.beans.TestBean;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.core.io.ByteArrayResource;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.core.io.InputStreamResource;
 import org.springframework.core.io.Resource;
@@ -165,6 +171,81 @@ class XmlBeanDefinitionReaderTests {
 		assertThatNoException().isThrownBy(() -> reader.setValidationMode(XmlBeanDefinitionReader.VALIDATION_XSD));
 	}
 
+	@ParameterizedTest
+	@ValueSource(strings = {"collections.xml", "testUtilNamespace.xml",
+			"simplePropertyNamespaceHandlerTests.xml", "import.xml", "withMeta.xml"})
+	void streamingRegistersSameBeanDefinitions(String resourceName) {
+		Resource resource = new ClassPathResource(resourceName, getClass());
+		new XmlBeanDefinitionReader(this.registry).loadBeanDefinitions(resource);
+
+		SimpleBeanDefinitionRegistry streamingRegistry = new SimpleBeanDefinitionRegistry();
+		XmlBeanDefinitionReader streamingReader = new XmlBeanDefinitionReader(streamingRegistry);
+		streamingReader.setStreaming(true);
+		streamingReader.loadBeanDefinitions(resource);
+
+		assertThat(streamingRegistry.getBeanDefinitionNames()).containsExactly(this.registry.getBeanDefinitionNames());
+		for (String beanName : this.registry.getBeanDefinitionNames()) {
+			assertThat(streamingRegistry.getBeanDefinition(beanName).getBeanClassName())
+					.isEqualTo(this.registry.getBeanDefinition(beanName).getBeanClassName());
+			assertThat(streamingRegistry.getBeanDefinition(beanName).getPropertyValues().size())
+					.isEqualTo(this.registry.getBeanDefinition(beanName).getPropertyValues().size());
+		}
+	}
+
+	@Test
+	void streamingWithNamespaceHandlers() {
+		DefaultListableBeanFactory bf = new DefaultListableBeanFactory();
+		XmlBeanDefinitionReader streamingReader = new XmlBeanDefinitionReader(bf);
+		streamingReader.setStreaming(true);
+		streamingReader.loadBeanDefinitions(new ClassPathResource("testUtilNamespace.xml", getClass()));
+		streamingReader.loadBeanDefinitions(new ClassPathResource("simplePropertyNamespaceHandlerTests.xml", getClass()));
+
+		assertThat(bf.getBean("min")).isEqualTo(Integer.MIN_VALUE);
+		assertThat(bf.getBean("simpleList", List.class)).containsExactly("Rob Harrop");
+		TestBean rob = bf.getBean("rob", TestBean.class);
+		assertThat(rob.getName()).isEqualTo("Rob Harrop");
+		assertThat(rob.getAge()).isEqualTo(24);
+		assertThat(rob.getSpouse()).isSameAs(bf.getBean("sally"));
+	}
+
+	@Test
+	void streamingWithNestedBeansAndProfiles() {
+		DefaultListableBeanFactory bf = new DefaultListableBeanFactory();
+		XmlBeanDefinitionReader streamingReader = new XmlBeanDefinitionReader(bf);
+		streamingReader.setStreaming(true);
+		StandardEnvironment environment = new StandardEnvironment();
+		environment.setActiveProfiles("dev");
+		streamingReader.setEnvironment(environment);
+		streamingReader.loadBeanDefinitions(new ClassPathResource("NestedBeansElementTests-context.xml", getClass()));
+
+		assertThat(bf.getBean("foo")).isInstanceOf(Integer.class);
+	}
+
+	@Test
+	void streamingLargeDocument() {
+		StringBuilder xml = new StringBuilder("<beans xmlns=\"http://www.springframework.org/schema/beans\">");
+		for (int i = 0; i < 10_000; i++) {
+			xml.append("<bean id=\"bean").append(i).append("\" class=\"").append(TestBean.class.getName())
+					.append("\"><property name=\"age\" value=\"").append(i).append("\"/></bean>");
+		}
+		xml.append("</beans>");
+		this.reader.setStreaming(true);
+
+		int count = this.reader.loadBeanDefinitions(new ByteArrayResource(xml.toString().getBytes(StandardCharsets.UTF_8)));
+		assertThat(count).isEqualTo(10_000);
+		assertThat(this.registry.getBeanDefinition("bean9999").getPropertyValues().get("age")).isNotNull();
+	}
+
+	@Test
+	void streamingWithMalformedDocument() {
+		String xml = "<beans xmlns=\"http://www.springframework.org/schema/beans\">\n<bean id=\"broken\">\n</beans>";
+		this.reader.setStreaming(true);
+
+		assertThatExceptionOfType(BeanDefinitionStoreException.class)
+				.isThrownBy(() -> this.reader.loadBeanDefinitions(new ByteArrayResource(xml.getBytes(StandardCharsets.UTF_8))))
+				.withMessageContaining("Line 3");
+	}
+
 
 	private static Stream<Field> streamValidationModeConstants() {
 		return Arrays.stream(XmlBeanDefinitionReader.class.getFields())
@@ -55,6 +55,8 @@ public class CandidateComponentsIndexer implements Processor {
 
 	private List<StereotypesProvider> stereotypesProviders;
 
+	private ComponentMetadataProvider componentMetadataProvider;
+
 
 	@Override
 	public Set<String> getSupportedOptions() {
@@ -75,6 +77,7 @@ public class CandidateComponentsIndexer implements Processor {
 	public synchronized void init(ProcessingEnvironment env) {
 		this.stereotypesProviders = getStereotypesProviders(env);
 		this.typeHelper = new TypeHelper(env);
+		this.componentMetadataProvider = new ComponentMetadataProvider(env);
 		this.metadataStore = new MetadataStore(env);
 		this.metadataCollector = new MetadataCollector(env, this.metadataStore.readMetadata());
 	}
@@ -115,7 +118,8 @@ public class CandidateComponentsIndexer implements Processor {
 		Set<String> stereotypes = new LinkedHashSet<>();
 		this.stereotypesProviders.forEach(p -> stereotypes.addAll(p.getStereotypes(element)));
 		if (!stereotypes.isEmpty()) {
-			this.metadataCollector.add(new ItemMetadata(this.typeHelper.getType(element), stereotypes));
+			this.metadataCollector.add(new ItemMetadata(this.typeHelper.getType(element), stereotypes,
+					this.componentMetadataProvider.getComponentMetadata(element)));
 		}
 	}
 
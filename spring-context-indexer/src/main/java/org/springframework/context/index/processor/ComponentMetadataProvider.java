@@ -0,0 +1,222 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.context.index.processor;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+
+/**
+ * Provide the class and annotation metadata of a candidate component in a
+ * compact format, so that the component can be registered from the index
+ * without reading its class file.
+ *
+ * <p>The format of a metadata entry is
+ * {@code 1|className|flags|superClassName|interfaceNames|enclosingClassName|annotations}
+ * where:
+ * <ul>
+ * <li>{@code 1} is the version of the format</li>
+ * <li>{@code className} is the binary name of the type</li>
+ * <li>{@code flags} contains {@code i} for an interface, {@code n} for an annotation,
+ * {@code a} for an abstract type, {@code f} for a final type and {@code d} for an
+ * independent type, i.e. a top-level or static nested type</li>
+ * <li>{@code interfaceNames} is a comma-separated list</li>
+ * <li>{@code annotations} lists the directly declared annotations that are retained
+ * at runtime, each as {@code @type(name=value,...)} with only the explicitly specified
+ * attributes, where a value is either a quoted string, an array as {@code {value,...}}
+ * or a nested annotation. Classes are represented by their name and enum constants
+ * by their simple name.</li>
+ * </ul>
+ * <p>Empty fields are left blank. No metadata is provided for types whose annotations
+ * cannot be fully represented, e.g. because of unresolved types; such components
+ * get registered from their class file as before.
+ *
+ * @since 6.1.2
+ */
+class ComponentMetadataProvider {
+
+	static final String FORMAT_VERSION = "1";
+
+	private final Elements elements;
+
+
+	ComponentMetadataProvider(ProcessingEnvironment env) {
+		this.elements = env.getElementUtils();
+	}
+
+
+	/**
+	 * Return the metadata for the specified element.
+	 * @param element the candidate component
+	 * @return the metadata entry, or {@code null} if the element is not a type
+	 * or if its metadata cannot be represented
+	 */
+	public String getComponentMetadata(Element element) {
+		if (!(element instanceof TypeElement type)) {
+			return null;
+		}
+		try {
+			StringBuilder sb = new StringBuilder(FORMAT_VERSION).append('|');
+			sb.append(getBinaryName(type)).append('|');
+			appendFlags(type, sb);
+			sb.append('|');
+			TypeMirror superclass = type.getSuperclass();
+			if (superclass.getKind() != TypeKind.NONE) {
+				sb.append(getClassName(superclass));
+			}
+			sb.append('|');
+			List<? extends TypeMirror> interfaces = type.getInterfaces();
+			for (int i = 0; i < interfaces.size(); i++) {
+				sb.append(i > 0 ? "," : "").append(getClassName(interfaces.get(i)));
+			}
+			sb.append('|');
+			if (type.getEnclosingElement() instanceof TypeElement enclosingType) {
+				sb.append(getBinaryName(enclosingType));
+			}
+			sb.append('|');
+			for (AnnotationMirror annotation : type.getAnnotationMirrors()) {
+				if (!isPlain(annotation) && isRuntimeRetained(annotation)) {
+					appendAnnotation(annotation, sb);
+				}
+			}
+			return sb.toString();
+		}
+		catch (UnsupportedOperationException ex) {
+			// Unresolved or unsupported type -> no metadata, read the class file at runtime.
+			return null;
+		}
+	}
+
+	private void appendFlags(TypeElement type, StringBuilder sb) {
+		Set<Modifier> modifiers = type.getModifiers();
+		boolean isInterface = type.getKind().isInterface();
+		if (isInterface) {
+			sb.append('i');
+		}
+		if (type.getKind() == ElementKind.ANNOTATION_TYPE) {
+			sb.append('n');
+		}
+		if (isInterface || modifiers.contains(Modifier.ABSTRACT)) {
+			sb.append('a');
+		}
+		if (modifiers.contains(Modifier.FINAL)) {
+			sb.append('f');
+		}
+		if (!(type.getEnclosingElement() instanceof TypeElement) || modifiers.contains(Modifier.STATIC) ||
+				isInterface || type.getKind() == ElementKind.ENUM || type.getKind() == ElementKind.RECORD) {
+			sb.append('d');
+		}
+	}
+
+	private void appendAnnotation(AnnotationMirror annotation, StringBuilder sb) {
+		sb.append('@').append(getClassName(annotation.getAnnotationType()));
+		Map<? extends ExecutableElement, ? extends AnnotationValue> values = annotation.getElementValues();
+		if (!values.isEmpty()) {
+			sb.append('(');
+			boolean first = true;
+			for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : values.entrySet()) {
+				sb.append(first ? "" : ",").append(entry.getKey().getSimpleName()).append('=');
+				appendValue(entry.getValue().getValue(), sb);
+				first = false;
+			}
+			sb.append(')');
+		}
+	}
+
+	private void appendValue(Object value, StringBuilder sb) {
+		if (value instanceof AnnotationMirror annotation) {
+			appendAnnotation(annotation, sb);
+		}
+		else if (value instanceof List<?> list) {
+			sb.append('{');
+			for (int i = 0; i < list.size(); i++) {
+				sb.append(i > 0 ? "," : "");
+				appendValue(((AnnotationValue) list.get(i)).getValue(), sb);
+			}
+			sb.append('}');
+		}
+		else if (value instanceof TypeMirror type) {
+			appendString(getClassName(type), sb);
+		}
+		else if (value instanceof VariableElement enumConstant) {
+			appendString(enumConstant.getSimpleName().toString(), sb);
+		}
+		else if (value != null) {
+			appendString(value.toString(), sb);
+		}
+		else {
+			throw new UnsupportedOperationException("Unresolved annotation value");
+		}
+	}
+
+	private static void appendString(String value, StringBuilder sb) {
+		sb.append('"');
+		for (int i = 0; i < value.length(); i++) {
+			char ch = value.charAt(i);
+			if (ch == '"' || ch == '\\') {
+				sb.append('\\');
+			}
+			sb.append(ch);
+		}
+		sb.append('"');
+	}
+
+	private String getClassName(TypeMirror type) {
+		if (type.getKind() == TypeKind.DECLARED) {
+			return getBinaryName((TypeElement) ((DeclaredType) type).asElement());
+		}
+		if (type instanceof ArrayType arrayType) {
+			return getClassName(arrayType.getComponentType()) + "[]";
+		}
+		if (type.getKind().isPrimitive() || type.getKind() == TypeKind.VOID) {
+			return type.toString();
+		}
+		throw new UnsupportedOperationException("Unsupported type " + type);
+	}
+
+	private String getBinaryName(TypeElement type) {
+		return this.elements.getBinaryName(type).toString();
+	}
+
+	private static boolean isRuntimeRetained(AnnotationMirror annotation) {
+		Retention retention = annotation.getAnnotationType().asElement().getAnnotation(Retention.class);
+		return (retention != null && retention.value() == RetentionPolicy.RUNTIME);
+	}
+
+	private boolean isPlain(AnnotationMirror annotation) {
+		String annotationName = getClassName(annotation.getAnnotationType());
+		return (annotationName.startsWith("java.lang.") || annotationName.startsWith("org.springframework.lang."));
+	}
+
+}
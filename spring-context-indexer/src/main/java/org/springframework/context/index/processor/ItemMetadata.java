@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2018 the original author or authors.
+ * Copyright 2002-2023 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -34,10 +34,17 @@ class ItemMetadata {
 
 	private final Set<String> stereotypes;
 
+	private final String componentMetadata;
+
 
 	public ItemMetadata(String type, Set<String> stereotypes) {
+		this(type, stereotypes, null);
+	}
+
+	public ItemMetadata(String type, Set<String> stereotypes, String componentMetadata) {
 		this.type = type;
 		this.stereotypes = new HashSet<>(stereotypes);
+		this.componentMetadata = componentMetadata;
 	}
 
 
@@ -49,4 +56,13 @@ class ItemMetadata {
 		return this.stereotypes;
 	}
 
+	/**
+	 * Return the class and annotation metadata of the candidate, if available.
+	 * @since 6.1.2
+	 * @see ComponentMetadataProvider
+	 */
+	public String getComponentMetadata() {
+		return this.componentMetadata;
+	}
+
 }
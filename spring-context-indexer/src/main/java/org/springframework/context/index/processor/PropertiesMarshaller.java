@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2022 the original author or authors.
+ * Copyright 2002-2023 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -37,13 +37,40 @@ abstract class PropertiesMarshaller {
 		props.store(out, null);
 	}
 
+	/**
+	 * Write the component metadata of the items that provide it.
+	 * @since 6.1.2
+	 * @see ItemMetadata#getComponentMetadata()
+	 */
+	public static void writeComponentMetadata(CandidateComponentsMetadata metadata, OutputStream out) throws IOException {
+		Properties props = new SortedProperties(true);
+		metadata.getItems().forEach(m -> {
+			if (m.getComponentMetadata() != null) {
+				props.put(m.getType(), m.getComponentMetadata());
+			}
+		});
+		props.store(out, null);
+	}
+
 	public static CandidateComponentsMetadata read(InputStream in) throws IOException {
+		return read(in, null);
+	}
+
+	/**
+	 * Read the stereotypes along with the component metadata, if any.
+	 * @since 6.1.2
+	 */
+	public static CandidateComponentsMetadata read(InputStream in, InputStream componentMetadataIn) throws IOException {
 		CandidateComponentsMetadata result = new CandidateComponentsMetadata();
 		Properties props = new Properties();
 		props.load(in);
+		Properties componentMetadata = new Properties();
+		if (componentMetadataIn != null) {
+			componentMetadata.load(componentMetadataIn);
+		}
 		props.forEach((type, value) -> {
 			Set<String> candidates = Set.of(((String) value).split(","));
-			result.add(new ItemMetadata((String) type, candidates));
+			result.add(new ItemMetadata((String) type, candidates, componentMetadata.getProperty((String) type)));
 		});
 		return result;
 	}
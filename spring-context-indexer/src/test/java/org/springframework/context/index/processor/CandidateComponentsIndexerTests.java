@@ -39,6 +39,7 @@ import org.springframework.context.index.sample.SampleController;
 import org.springframework.context.index.sample.SampleEmbedded;
 import org.springframework.context.index.sample.SampleMetaController;
 import org.springframework.context.index.sample.SampleMetaIndexedController;
+import org.springframework.context.index.sample.SampleMetadataComponent;
 import org.springframework.context.index.sample.SampleNonStaticEmbedded;
 import org.springframework.context.index.sample.SampleNone;
 import org.springframework.context.index.sample.SampleRepository;
@@ -217,6 +218,36 @@ class CandidateComponentsIndexerTests {
 		assertThat(metadata.getItems()).isEmpty();
 	}
 
+	@Test
+	void componentMetadata() {
+		CandidateComponentsMetadata metadata = compile(SampleMetadataComponent.class);
+		assertThat(metadata.getItems()).singleElement().satisfies(item ->
+				assertThat(item.getComponentMetadata()).isEqualTo("1|" + SampleMetadataComponent.class.getName() +
+						"|d|java.lang.Object|java.io.Serializable||" +
+						"@org.springframework.stereotype.Service(value=\"sample\")" +
+						"@org.springframework.context.index.sample.Scope(value=\"prototype\")" +
+						"@org.springframework.context.annotation.Lazy" +
+						"@org.springframework.context.annotation.Profile(value={\"dev\",\"test\"})" +
+						"@org.springframework.beans.factory.annotation.Qualifier(value=\"with \\\"quotes\\\"\")"));
+	}
+
+	@Test
+	void componentMetadataForNestedTypes() {
+		CandidateComponentsMetadata metadata = compile(SampleEmbedded.class);
+		assertThat(metadata.getItems()).extracting(ItemMetadata::getComponentMetadata).containsExactlyInAnyOrder(
+				"1|" + SampleEmbedded.PublicCandidate.class.getName() + "|d|java.lang.Object||" +
+						SampleEmbedded.class.getName() + "|@org.springframework.stereotype.Component",
+				"1|" + SampleEmbedded.Another.AnotherPublicCandidate.class.getName() + "|d|java.lang.Object||" +
+						SampleEmbedded.Another.class.getName() + "|@org.springframework.stereotype.Component");
+	}
+
+	@Test
+	void componentMetadataForAbstractClass() {
+		CandidateComponentsMetadata metadata = compile(AbstractController.class);
+		assertThat(metadata.getItems()).singleElement().satisfies(item ->
+				assertThat(item.getComponentMetadata()).startsWith("1|" + AbstractController.class.getName() + "|ad|"));
+	}
+
 	private void testComponent(Class<?>... classes) {
 		CandidateComponentsMetadata metadata = compile(classes);
 		for (Class<?> c : classes) {
@@ -247,9 +278,13 @@ class CandidateComponentsIndexerTests {
 
 	private CandidateComponentsMetadata readGeneratedMetadata(File outputLocation) {
 		File metadataFile = new File(outputLocation, MetadataStore.METADATA_PATH);
+		File componentMetadataFile = new File(outputLocation, MetadataStore.COMPONENT_METADATA_PATH);
 		if (metadataFile.isFile()) {
-			try (FileInputStream fileInputStream = new FileInputStream(metadataFile)) {
-				CandidateComponentsMetadata metadata = PropertiesMarshaller.read(fileInputStream);
+			try (FileInputStream fileInputStream = new FileInputStream(metadataFile);
+					FileInputStream componentMetadataInputStream = (componentMetadataFile.isFile() ?
+							new FileInputStream(componentMetadataFile) : null)) {
+				CandidateComponentsMetadata metadata =
+						PropertiesMarshaller.read(fileInputStream, componentMetadataInputStream);
 				return metadata;
 			}
 			catch (IOException ex) {
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2019 the original author or authors.
+ * Copyright 2002-2023 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -22,6 +22,7 @@ import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
@@ -63,6 +64,27 @@ public class PropertiesMarshallerTests {
 		assertThat(contents.split(System.lineSeparator())).containsExactly("com.a=type", "com.b=type", "com.c=type");
 	}
 
+	@Test
+	public void readWriteWithComponentMetadata() throws IOException {
+		CandidateComponentsMetadata metadata = new CandidateComponentsMetadata();
+		metadata.add(new ItemMetadata("com.foo", Set.of("first"), "1|com.foo|d|java.lang.Object|||@com.Ann(value=\"a=b\")"));
+		metadata.add(createItem("com.bar", "first"));
+
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		PropertiesMarshaller.write(metadata, outputStream);
+		ByteArrayOutputStream componentMetadataOutputStream = new ByteArrayOutputStream();
+		PropertiesMarshaller.writeComponentMetadata(metadata, componentMetadataOutputStream);
+		CandidateComponentsMetadata readMetadata = PropertiesMarshaller.read(
+				new ByteArrayInputStream(outputStream.toByteArray()),
+				new ByteArrayInputStream(componentMetadataOutputStream.toByteArray()));
+		assertThat(readMetadata.getItems()).hasSize(2);
+		assertThat(readMetadata.getItems()).filteredOn(item -> item.getType().equals("com.foo"))
+				.extracting(ItemMetadata::getComponentMetadata)
+				.containsExactly("1|com.foo|d|java.lang.Object|||@com.Ann(value=\"a=b\")");
+		assertThat(readMetadata.getItems()).filteredOn(item -> item.getType().equals("com.bar"))
+				.extracting(ItemMetadata::getComponentMetadata).containsNull();
+	}
+
 	private static ItemMetadata createItem(String type, String... stereotypes) {
 		return new ItemMetadata(type, new HashSet<>(Arrays.asList(stereotypes)));
 	}
@@ -0,0 +1,308 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cache.caffeine;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Two-tier {@link Cache} implementation which keeps a local Caffeine cache
+ * (the near cache) in front of a typically remote cache. Lookups are served
+ * from the near cache if possible, falling back to the remote cache and
+ * populating the near cache with any value found there. Modifications are
+ * written through to the remote cache, updating or invalidating the near
+ * cache accordingly.
+ *
+ * <p>Since other nodes may modify the remote cache at any time, the near cache
+ * should be bounded by a short time-to-live, and the modifications should be
+ * propagated to the near caches of other nodes through a
+ * {@link NearCacheInvalidationPublisher}. Concurrent invalidations prevent
+ * a lookup from populating the near cache with a value retrieved from the
+ * remote cache before the invalidation.
+ *
+ * <p>The {@link #retrieve(Object)} and {@link #retrieve(Object, Supplier)}
+ * operations are delegated to the remote cache, without near caching.
+ *
+ * @since 6.1.2
+ * @see CaffeineNearCacheManager
+ */
+public class CaffeineNearCache implements Cache {
+
+	private final String name;
+
+	private final com.github.benmanes.caffeine.cache.Cache<Object, ValueWrapper> nearCache;
+
+	private final Cache remoteCache;
+
+	@Nullable
+	private final NearCacheInvalidationPublisher invalidationPublisher;
+
+	private final AtomicLong invalidationCount = new AtomicLong();
+
+
+	/**
+	 * Create a {@link CaffeineNearCache} instance with the specified name
+	 * and the given caches.
+	 * @param name the name of the cache
+	 * @param nearCache the local Caffeine cache to use as near cache
+	 * @param remoteCache the cache to write through to
+	 */
+	public CaffeineNearCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, ValueWrapper> nearCache,
+			Cache remoteCache) {
+
+		this(name, nearCache, remoteCache, null);
+	}
+
+	/**
+	 * Create a {@link CaffeineNearCache} instance with the specified name
+	 * and the given caches.
+	 * @param name the name of the cache
+	 * @param nearCache the local Caffeine cache to use as near cache
+	 * @param remoteCache the cache to write through to
+	 * @param invalidationPublisher the publisher to propagate modifications
+	 * to other nodes with, if any
+	 */
+	public CaffeineNearCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, ValueWrapper> nearCache,
+			Cache remoteCache, @Nullable NearCacheInvalidationPublisher invalidationPublisher) {
+
+		Assert.notNull(name, "Name must not be null");
+		Assert.notNull(nearCache, "Near cache must not be null");
+		Assert.notNull(remoteCache, "Remote cache must not be null");
+		this.name = name;
+		this.nearCache = nearCache;
+		this.remoteCache = remoteCache;
+		this.invalidationPublisher = invalidationPublisher;
+	}
+
+
+	@Override
+	public final String getName() {
+		return this.name;
+	}
+
+	/**
+	 * Return the local Caffeine cache used as near cache.
+	 */
+	@Override
+	public final com.github.benmanes.caffeine.cache.Cache<Object, ValueWrapper> getNativeCache() {
+		return this.nearCache;
+	}
+
+	/**
+	 * Return the cache that this near cache writes through to.
+	 */
+	public final Cache getRemoteCache() {
+		return this.remoteCache;
+	}
+
+	@Override
+	@Nullable
+	public ValueWrapper get(Object key) {
+		ValueWrapper wrapper = this.nearCache.getIfPresent(key);
+		if (wrapper != null) {
+			return wrapper;
+		}
+		long invalidations = this.invalidationCount.get();
+		wrapper = this.remoteCache.get(key);
+		if (wrapper != null) {
+			populate(key, wrapper, invalidations);
+		}
+		return wrapper;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	@Nullable
+	public <T> T get(Object key, @Nullable Class<T> type) {
+		ValueWrapper wrapper = get(key);
+		Object value = (wrapper != null ? wrapper.get() : null);
+		if (value != null && type != null && !type.isInstance(value)) {
+			throw new IllegalStateException(
+					"Cached value is not of required type [" + type.getName() + "]: " + value);
+		}
+		return (T) value;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	@Nullable
+	public <T> T get(Object key, Callable<T> valueLoader) {
+		ValueWrapper wrapper = this.nearCache.getIfPresent(key);
+		if (wrapper != null) {
+			return (T) wrapper.get();
+		}
+		long invalidations = this.invalidationCount.get();
+		T value = this.remoteCache.get(key, valueLoader);
+		populate(key, new SimpleValueWrapper(value), invalidations);
+		return value;
+	}
+
+	/**
+	 * This implementation looks up the keys not present in the near cache
+	 * in a single bulk lookup against the remote cache.
+	 */
+	@Override
+	public Map<Object, ValueWrapper> getAll(Collection<?> keys) {
+		Map<Object, ValueWrapper> result = new LinkedHashMap<>(this.nearCache.getAllPresent(keys));
+		if (result.size() < keys.size()) {
+			List<Object> missingKeys = new ArrayList<>(keys.size() - result.size());
+			for (Object key : keys) {
+				if (!result.containsKey(key)) {
+					missingKeys.add(key);
+				}
+			}
+			long invalidations = this.invalidationCount.get();
+			Map<Object, ValueWrapper> remoteResult = this.remoteCache.getAll(missingKeys);
+			remoteResult.forEach((key, wrapper) -> populate(key, wrapper, invalidations));
+			result.putAll(remoteResult);
+		}
+		return result;
+	}
+
+	@Override
+	@Nullable
+	public CompletableFuture<?> retrieve(Object key) {
+		return this.remoteCache.retrieve(key);
+	}
+
+	@Override
+	public <T> CompletableFuture<T> retrieve(Object key, Supplier<CompletableFuture<T>> valueLoader) {
+		return this.remoteCache.retrieve(key, valueLoader);
+	}
+
+	@Override
+	public void put(Object key, @Nullable Object value) {
+		this.remoteCache.put(key, value);
+		this.invalidationCount.incrementAndGet();
+		this.nearCache.put(key, new SimpleValueWrapper(value));
+		publishInvalidation(key);
+	}
+
+	@Override
+	public void putAll(Map<?, ?> entries) {
+		this.remoteCache.putAll(entries);
+		this.invalidationCount.incrementAndGet();
+		entries.forEach((key, value) -> this.nearCache.put(key, new SimpleValueWrapper(value)));
+		entries.keySet().forEach(this::publishInvalidation);
+	}
+
+	@Override
+	@Nullable
+	public ValueWrapper putIfAbsent(Object key, @Nullable Object value) {
+		long invalidations = this.invalidationCount.get();
+		ValueWrapper existing = this.remoteCache.putIfAbsent(key, value);
+		if (existing != null) {
+			populate(key, existing, invalidations);
+			return existing;
+		}
+		this.invalidationCount.incrementAndGet();
+		this.nearCache.put(key, new SimpleValueWrapper(value));
+		publishInvalidation(key);
+		return null;
+	}
+
+	@Override
+	public void evict(Object key) {
+		this.remoteCache.evict(key);
+		invalidateNearCache(key);
+		publishInvalidation(key);
+	}
+
+	@Override
+	public boolean evictIfPresent(Object key) {
+		boolean present = this.remoteCache.evictIfPresent(key);
+		invalidateNearCache(key);
+		publishInvalidation(key);
+		return present;
+	}
+
+	@Override
+	public void clear() {
+		this.remoteCache.clear();
+		invalidateNearCache();
+		publishClear();
+	}
+
+	@Override
+	public boolean invalidate() {
+		boolean notEmpty = this.remoteCache.invalidate();
+		invalidateNearCache();
+		publishClear();
+		return notEmpty;
+	}
+
+	/**
+	 * Invalidate the near cache entry for the given key, without affecting the
+	 * remote cache or publishing the invalidation. To be called when receiving
+	 * an invalidation published by another node.
+	 * @param key the key of the entry to invalidate
+	 */
+	public void invalidateNearCache(Object key) {
+		this.invalidationCount.incrementAndGet();
+		this.nearCache.invalidate(key);
+	}
+
+	/**
+	 * Invalidate all near cache entries, without affecting the remote cache
+	 * or publishing the invalidation. To be called when receiving a clear
+	 * published by another node.
+	 */
+	public void invalidateNearCache() {
+		this.invalidationCount.incrementAndGet();
+		this.nearCache.invalidateAll();
+	}
+
+
+	/**
+	 * Populate the near cache with a value retrieved from the remote cache,
+	 * unless an invalidation happened since the retrieval started.
+	 */
+	private void populate(Object key, ValueWrapper wrapper, long invalidations) {
+		if (this.invalidationCount.get() == invalidations) {
+			this.nearCache.put(key, wrapper);
+			if (this.invalidationCount.get() != invalidations) {
+				// Concurrently invalidated: the value may be stale already
+				this.nearCache.invalidate(key);
+			}
+		}
+	}
+
+	private void publishInvalidation(Object key) {
+		if (this.invalidationPublisher != null) {
+			this.invalidationPublisher.publishInvalidation(this.name, key);
+		}
+	}
+
+	private void publishClear() {
+		if (this.invalidationPublisher != null) {
+			this.invalidationPublisher.publishClear(this.name);
+		}
+	}
+
+}
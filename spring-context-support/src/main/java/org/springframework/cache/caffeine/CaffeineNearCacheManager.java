@@ -0,0 +1,218 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cache.caffeine;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.CaffeineSpec;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * {@link CacheManager} implementation that puts a local Caffeine near cache
+ * in front of each cache of a target {@link CacheManager}, typically backed
+ * by a remote cache provider, as a {@link CaffeineNearCache}. Hot entries are
+ * served from the near cache, saving the network round-trip to the remote cache.
+ *
+ * <p>The near caches are bounded to {@value #DEFAULT_MAXIMUM_SIZE} entries each
+ * and expire their entries {@value #DEFAULT_TIME_TO_LIVE_SECONDS} seconds after
+ * they have been written, by default. Their configuration can be customized
+ * through a {@link Caffeine} builder or {@link CaffeineSpec}, passed into this
+ * CacheManager through {@link #setCaffeine}/{@link #setCaffeineSpec} or as a
+ * {@link #setCacheSpecification "cacheSpecification"} expression. Since other
+ * nodes may modify the remote caches at any time, the near caches should
+ * always be bounded by a short time-to-live.
+ *
+ * <p>In a multi-node setup, modifications should be propagated to the near
+ * caches of the other nodes through a {@link NearCacheInvalidationPublisher},
+ * with the receiving nodes calling {@link #invalidateNearCache(String, Object)}
+ * and {@link #invalidateNearCache(String)}.
+ *
+ * @since 6.1.2
+ * @see CaffeineNearCache
+ * @see #setInvalidationPublisher
+ */
+public class CaffeineNearCacheManager implements CacheManager {
+
+	/**
+	 * The default maximum number of entries of each near cache.
+	 */
+	public static final long DEFAULT_MAXIMUM_SIZE = 10_000;
+
+	/**
+	 * The default number of seconds after which near cache entries expire.
+	 */
+	public static final long DEFAULT_TIME_TO_LIVE_SECONDS = 10;
+
+
+	private final CacheManager remoteCacheManager;
+
+	private Caffeine<Object, Object> cacheBuilder = Caffeine.newBuilder()
+			.maximumSize(DEFAULT_MAXIMUM_SIZE)
+			.expireAfterWrite(Duration.ofSeconds(DEFAULT_TIME_TO_LIVE_SECONDS));
+
+	@Nullable
+	private NearCacheInvalidationPublisher invalidationPublisher;
+
+	private final Map<String, CaffeineNearCache> cacheMap = new ConcurrentHashMap<>(16);
+
+
+	/**
+	 * Create a new CaffeineNearCacheManager for the given target CacheManager.
+	 * @param remoteCacheManager the CacheManager providing the caches to write
+	 * through to, typically backed by a remote cache provider
+	 */
+	public CaffeineNearCacheManager(CacheManager remoteCacheManager) {
+		Assert.notNull(remoteCacheManager, "Remote CacheManager must not be null");
+		this.remoteCacheManager = remoteCacheManager;
+	}
+
+
+	/**
+	 * Set the Caffeine to use for building each individual near cache.
+	 * @see #createNearCache
+	 * @see Caffeine#build()
+	 */
+	public void setCaffeine(Caffeine<Object, Object> caffeine) {
+		Assert.notNull(caffeine, "Caffeine must not be null");
+		doSetCaffeine(caffeine);
+	}
+
+	/**
+	 * Set the {@link CaffeineSpec} to use for building each individual near cache.
+	 * @see #createNearCache
+	 * @see Caffeine#from(CaffeineSpec)
+	 */
+	public void setCaffeineSpec(CaffeineSpec caffeineSpec) {
+		doSetCaffeine(Caffeine.from(caffeineSpec));
+	}
+
+	/**
+	 * Set the Caffeine cache specification String to use for building each
+	 * individual near cache. The given value needs to comply with Caffeine's
+	 * {@link CaffeineSpec} (see its javadoc).
+	 * @see #createNearCache
+	 * @see Caffeine#from(String)
+	 */
+	public void setCacheSpecification(String cacheSpecification) {
+		doSetCaffeine(Caffeine.from(cacheSpecification));
+	}
+
+	private void doSetCaffeine(Caffeine<Object, Object> cacheBuilder) {
+		if (!ObjectUtils.nullSafeEquals(this.cacheBuilder, cacheBuilder)) {
+			this.cacheBuilder = cacheBuilder;
+			refreshNearCaches();
+		}
+	}
+
+	/**
+	 * Set the publisher to propagate modifications of the caches of this
+	 * manager to the near caches of other nodes with.
+	 * <p>Default is none, only keeping the near caches of this node in sync.
+	 */
+	public void setInvalidationPublisher(@Nullable NearCacheInvalidationPublisher invalidationPublisher) {
+		if (this.invalidationPublisher != invalidationPublisher) {
+			this.invalidationPublisher = invalidationPublisher;
+			refreshNearCaches();
+		}
+	}
+
+	/**
+	 * Return the CacheManager providing the caches to write through to.
+	 */
+	public CacheManager getRemoteCacheManager() {
+		return this.remoteCacheManager;
+	}
+
+
+	@Override
+	public Collection<String> getCacheNames() {
+		return this.remoteCacheManager.getCacheNames();
+	}
+
+	@Override
+	@Nullable
+	public Cache getCache(String name) {
+		CaffeineNearCache cache = this.cacheMap.get(name);
+		if (cache == null) {
+			Cache remoteCache = this.remoteCacheManager.getCache(name);
+			if (remoteCache == null) {
+				return null;
+			}
+			cache = this.cacheMap.computeIfAbsent(name, key -> createNearCache(key, remoteCache));
+		}
+		return cache;
+	}
+
+	/**
+	 * Invalidate the near cache entry for the given key, without affecting the
+	 * remote cache or publishing the invalidation. To be called when receiving
+	 * an invalidation published by another node.
+	 * @param cacheName the name of the cache
+	 * @param key the key of the entry to invalidate
+	 * @see NearCacheInvalidationPublisher#publishInvalidation
+	 */
+	public void invalidateNearCache(String cacheName, Object key) {
+		CaffeineNearCache cache = this.cacheMap.get(cacheName);
+		if (cache != null) {
+			cache.invalidateNearCache(key);
+		}
+	}
+
+	/**
+	 * Invalidate all near cache entries of the given cache, without affecting
+	 * the remote cache or publishing the invalidation. To be called when
+	 * receiving a clear published by another node.
+	 * @param cacheName the name of the cache
+	 * @see NearCacheInvalidationPublisher#publishClear
+	 */
+	public void invalidateNearCache(String cacheName) {
+		CaffeineNearCache cache = this.cacheMap.get(cacheName);
+		if (cache != null) {
+			cache.invalidateNearCache();
+		}
+	}
+
+	/**
+	 * Build a near cache for the specified cache name, in front of the
+	 * given remote cache.
+	 * @param name the name of the cache
+	 * @param remoteCache the remote cache to write through to
+	 * @return the near cache
+	 */
+	protected CaffeineNearCache createNearCache(String name, Cache remoteCache) {
+		return new CaffeineNearCache(name, this.cacheBuilder.build(), remoteCache, this.invalidationPublisher);
+	}
+
+	/**
+	 * Recreate the near caches with the current state of this manager.
+	 */
+	private void refreshNearCaches() {
+		for (Map.Entry<String, CaffeineNearCache> entry : this.cacheMap.entrySet()) {
+			entry.setValue(createNearCache(entry.getKey(), entry.getValue().getRemoteCache()));
+		}
+	}
+
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cache.caffeine;
+
+/**
+ * Callback interface for propagating modifications of a {@link CaffeineNearCache}
+ * to the near caches of other nodes, typically by sending a message through a
+ * messaging system shared by all nodes.
+ *
+ * <p>The receiving nodes are expected to invalidate their near cache entries
+ * through {@link CaffeineNearCacheManager#invalidateNearCache(String, Object)}
+ * and {@link CaffeineNearCacheManager#invalidateNearCache(String)}, which do
+ * not publish any further invalidations.
+ *
+ * @since 6.1.2
+ * @see CaffeineNearCacheManager#setInvalidationPublisher
+ */
+public interface NearCacheInvalidationPublisher {
+
+	/**
+	 * Publish the invalidation of the entry for the given key, after the entry
+	 * has been updated or evicted in the remote cache.
+	 * @param cacheName the name of the cache
+	 * @param key the key of the modified entry
+	 */
+	void publishInvalidation(String cacheName, Object key);
+
+	/**
+	 * Publish the invalidation of all entries, after the remote cache
+	 * has been cleared.
+	 * @param cacheName the name of the cache
+	 */
+	void publishClear(String cacheName);
+
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cache.caffeine;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link CaffeineNearCacheManager}.
+ *
+ * @since 6.1.2
+ */
+class CaffeineNearCacheManagerTests {
+
+	private final ConcurrentMapCacheManager remoteCacheManager = new ConcurrentMapCacheManager("c1", "c2");
+
+
+	@Test
+	void nearCachePerRemoteCache() {
+		CaffeineNearCacheManager cm = new CaffeineNearCacheManager(this.remoteCacheManager);
+		Cache cache1 = cm.getCache("c1");
+		assertThat(cache1).isInstanceOf(CaffeineNearCache.class);
+		assertThat(((CaffeineNearCache) cache1).getRemoteCache()).isSameAs(this.remoteCacheManager.getCache("c1"));
+		assertThat(cm.getCache("c1")).isSameAs(cache1);
+		assertThat(cm.getCache("c3")).isNull();
+		assertThat(cm.getCacheNames()).containsOnly("c1", "c2");
+
+		cache1.put("key", "value");
+		assertThat(this.remoteCacheManager.getCache("c1").get("key").get()).isEqualTo("value");
+	}
+
+	@Test
+	void defaultNearCacheIsBoundedAndExpiring() {
+		CaffeineNearCacheManager cm = new CaffeineNearCacheManager(this.remoteCacheManager);
+		CaffeineNearCache cache = (CaffeineNearCache) cm.getCache("c1");
+
+		assertThat(cache.getNativeCache().policy().eviction()).hasValueSatisfying(eviction ->
+				assertThat(eviction.getMaximum()).isEqualTo(CaffeineNearCacheManager.DEFAULT_MAXIMUM_SIZE));
+		assertThat(cache.getNativeCache().policy().expireAfterWrite()).isPresent();
+	}
+
+	@Test
+	void changeCacheSpecificationRecreatesNearCaches() {
+		CaffeineNearCacheManager cm = new CaffeineNearCacheManager(this.remoteCacheManager);
+		Cache cache1 = cm.getCache("c1");
+
+		cm.setCacheSpecification("maximumSize=10,expireAfterWrite=1s");
+		CaffeineNearCache cache1x = (CaffeineNearCache) cm.getCache("c1");
+		assertThat(cache1x).isNotSameAs(cache1);
+		assertThat(cache1x.getNativeCache().policy().eviction()).hasValueSatisfying(eviction ->
+				assertThat(eviction.getMaximum()).isEqualTo(10));
+	}
+
+	@Test
+	void publishAndReceiveInvalidations() {
+		List<String> published = new ArrayList<>();
+		CaffeineNearCacheManager node1 = new CaffeineNearCacheManager(this.remoteCacheManager);
+		CaffeineNearCacheManager node2 = new CaffeineNearCacheManager(this.remoteCacheManager);
+		node1.setInvalidationPublisher(new NearCacheInvalidationPublisher() {
+			@Override
+			public void publishInvalidation(String cacheName, Object key) {
+				published.add(cacheName + ":" + key);
+				node2.invalidateNearCache(cacheName, key);
+			}
+			@Override
+			public void publishClear(String cacheName) {
+				published.add(cacheName);
+				node2.invalidateNearCache(cacheName);
+			}
+		});
+
+		node1.getCache("c1").put("key", "v1");
+		assertThat(node2.getCache("c1").get("key").get()).isEqualTo("v1");
+		node1.getCache("c1").put("key", "v2");
+		assertThat(node2.getCache("c1").get("key").get()).isEqualTo("v2");
+
+		node1.getCache("c1").evict("key");
+		assertThat(node2.getCache("c1").get("key")).isNull();
+
+		node1.getCache("c1").put("key", "v3");
+		assertThat(node2.getCache("c1").get("key").get()).isEqualTo("v3");
+		node1.getCache("c1").clear();
+		assertThat(node2.getCache("c1").get("key")).isNull();
+
+		assertThat(published).containsExactly("c1:key", "c1:key", "c1:key", "c1:key", "c1");
+	}
+
+	@Test
+	void withoutPublisherOtherNodesServeLocalValues() {
+		CaffeineNearCacheManager node1 = new CaffeineNearCacheManager(this.remoteCacheManager);
+		CaffeineNearCacheManager node2 = new CaffeineNearCacheManager(this.remoteCacheManager);
+
+		node1.getCache("c1").put("key", "v1");
+		assertThat(node2.getCache("c1").get("key").get()).isEqualTo("v1");
+		node1.getCache("c1").put("key", "v2");
+		assertThat(node2.getCache("c1").get("key").get()).isEqualTo("v1");
+
+		node2.invalidateNearCache("c1", "key");
+		assertThat(node2.getCache("c1").get("key").get()).isEqualTo("v2");
+	}
+
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cache.caffeine;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.cache.Cache.ValueWrapper;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.context.testfixture.cache.AbstractCacheTests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link CaffeineNearCache}.
+ *
+ * @since 6.1.2
+ */
+class CaffeineNearCacheTests extends AbstractCacheTests<CaffeineNearCache> {
+
+	private com.github.benmanes.caffeine.cache.Cache<Object, ValueWrapper> nearCache;
+
+	private CountingCache remoteCache;
+
+	private CaffeineNearCache cache;
+
+
+	@BeforeEach
+	void setUp() {
+		this.nearCache = Caffeine.newBuilder().build();
+		this.remoteCache = new CountingCache();
+		this.cache = new CaffeineNearCache(CACHE_NAME, this.nearCache, this.remoteCache);
+	}
+
+	@Override
+	protected CaffeineNearCache getCache() {
+		return this.cache;
+	}
+
+	@Override
+	protected Object getNativeCache() {
+		return this.nearCache;
+	}
+
+
+	@Test
+	void readThroughIntoNearCache() {
+		this.remoteCache.put("key", "value");
+
+		assertThat(this.cache.get("key").get()).isEqualTo("value");
+		assertThat(this.cache.get("key", String.class)).isEqualTo("value");
+		assertThat(this.cache.get("key", () -> "other")).isEqualTo("value");
+		assertThat(this.remoteCache.lookups).hasValue(1);
+		assertThat(this.nearCache.getIfPresent("key").get()).isEqualTo("value");
+	}
+
+	@Test
+	void missIsNotCachedLocally() {
+		assertThat(this.cache.get("key")).isNull();
+		assertThat(this.cache.get("key")).isNull();
+		assertThat(this.remoteCache.lookups).hasValue(2);
+	}
+
+	@Test
+	void loadValueThroughRemoteCache() {
+		assertThat(this.cache.get("key", () -> "value")).isEqualTo("value");
+		assertThat(this.remoteCache.get("key").get()).isEqualTo("value");
+		assertThat(this.nearCache.getIfPresent("key").get()).isEqualTo("value");
+	}
+
+	@Test
+	void writeThroughToRemoteCache() {
+		this.cache.put("key", "value");
+		assertThat(this.remoteCache.get("key").get()).isEqualTo("value");
+		assertThat(this.nearCache.getIfPresent("key").get()).isEqualTo("value");
+
+		this.cache.evict("key");
+		assertThat(this.remoteCache.get("key")).isNull();
+		assertThat(this.nearCache.getIfPresent("key")).isNull();
+	}
+
+	@Test
+	void bulkLookupOfMissingKeysOnly() {
+		this.cache.put("a", 1);
+		this.remoteCache.put("b", 2);
+
+		Map<Object, ValueWrapper> result = this.cache.getAll(List.of("a", "b", "c"));
+		assertThat(result).containsOnlyKeys("a", "b");
+		assertThat(this.remoteCache.bulkLookups).containsExactly(List.of("b", "c"));
+		assertThat(this.nearCache.getIfPresent("b").get()).isEqualTo(2);
+	}
+
+	@Test
+	void invalidateNearCacheOnly() {
+		this.cache.put("a", 1);
+		this.cache.put("b", 2);
+
+		this.cache.invalidateNearCache("a");
+		assertThat(this.nearCache.getIfPresent("a")).isNull();
+		assertThat(this.remoteCache.get("a").get()).isEqualTo(1);
+
+		this.cache.invalidateNearCache();
+		assertThat(this.nearCache.asMap()).isEmpty();
+		assertThat(this.remoteCache.get("b").get()).isEqualTo(2);
+	}
+
+	@Test
+	void concurrentInvalidationPreventsStalePopulation() {
+		this.remoteCache.put("key", "stale");
+		this.remoteCache.onLookup = () -> this.cache.invalidateNearCache("key");
+
+		assertThat(this.cache.get("key").get()).isEqualTo("stale");
+		assertThat(this.nearCache.getIfPresent("key")).isNull();
+	}
+
+
+	static class CountingCache extends ConcurrentMapCache {
+
+		final AtomicInteger lookups = new AtomicInteger();
+
+		final List<List<?>> bulkLookups = new ArrayList<>();
+
+		Runnable onLookup = () -> {};
+
+		CountingCache() {
+			super("remote");
+		}
+
+		@Override
+		protected Object lookup(Object key) {
+			this.lookups.incrementAndGet();
+			Object value = super.lookup(key);
+			this.onLookup.run();
+			return value;
+		}
+
+		@Override
+		public Map<Object, ValueWrapper> getAll(Collection<?> keys) {
+			this.bulkLookups.add(List.copyOf(keys));
+			return super.getAll(keys);
+		}
+	}
+
+}
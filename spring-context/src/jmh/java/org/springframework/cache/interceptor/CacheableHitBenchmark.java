@@ -0,0 +1,170 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cache.interceptor;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.expression.spel.SpelParserConfiguration;
+
+/**
+ * Benchmark for the overhead of a cache hit on a {@link Cacheable @Cacheable}
+ * method, depending on the kind of key and condition expressions, with
+ * compiled or interpreted expressions.
+ *
+ * @since 6.1.2
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CacheableHitBenchmark {
+
+	@State(Scope.Benchmark)
+	public static class BenchmarkState {
+
+		@Param({"mixed", "off"})
+		public String compilerMode;
+
+		public AnnotationConfigApplicationContext context;
+
+		public BookService service;
+
+		public Book book;
+
+		@Setup(Level.Trial)
+		public void setup() {
+			System.setProperty(SpelParserConfiguration.SPRING_EXPRESSION_COMPILER_MODE_PROPERTY_NAME, this.compilerMode);
+			this.context = new AnnotationConfigApplicationContext(CachingConfig.class);
+			this.service = this.context.getBean(BookService.class);
+			this.book = new Book("isbn-1", 42);
+		}
+
+		@TearDown(Level.Trial)
+		public void teardown() {
+			this.context.close();
+			System.clearProperty(SpelParserConfiguration.SPRING_EXPRESSION_COMPILER_MODE_PROPERTY_NAME);
+		}
+	}
+
+	@Benchmark
+	public Object defaultKey(BenchmarkState state) {
+		return state.service.defaultKey(state.book);
+	}
+
+	@Benchmark
+	public Object argumentKey(BenchmarkState state) {
+		return state.service.argumentKey(state.book);
+	}
+
+	@Benchmark
+	public Object propertyKey(BenchmarkState state) {
+		return state.service.propertyKey(state.book);
+	}
+
+	@Benchmark
+	public Object compositeKey(BenchmarkState state) {
+		return state.service.compositeKey(state.book);
+	}
+
+	@Benchmark
+	public Object conditionalPropertyKey(BenchmarkState state) {
+		return state.service.conditionalPropertyKey(state.book);
+	}
+
+
+	@Configuration
+	@EnableCaching
+	static class CachingConfig {
+
+		@Bean
+		CacheManager cacheManager() {
+			return new ConcurrentMapCacheManager();
+		}
+
+		@Bean
+		BookService bookService() {
+			return new BookService();
+		}
+	}
+
+
+	public static class BookService {
+
+		@Cacheable("default")
+		public Object defaultKey(Book book) {
+			return book;
+		}
+
+		@Cacheable(cacheNames = "argument", key = "#book")
+		public Object argumentKey(Book book) {
+			return book;
+		}
+
+		@Cacheable(cacheNames = "property", key = "#book.isbn")
+		public Object propertyKey(Book book) {
+			return book;
+		}
+
+		@Cacheable(cacheNames = "composite", key = "#book.isbn + '-' + #book.edition")
+		public Object compositeKey(Book book) {
+			return book;
+		}
+
+		@Cacheable(cacheNames = "conditional", key = "#book.isbn", condition = "#book.edition > 1")
+		public Object conditionalPropertyKey(Book book) {
+			return book;
+		}
+	}
+
+
+	public static class Book {
+
+		private final String isbn;
+
+		private final int edition;
+
+		public Book(String isbn, int edition) {
+			this.isbn = isbn;
+			this.edition = edition;
+		}
+
+		public String getIsbn() {
+			return this.isbn;
+		}
+
+		public int getEdition() {
+			return this.edition;
+		}
+	}
+
+}
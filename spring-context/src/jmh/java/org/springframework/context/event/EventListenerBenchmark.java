@@ -0,0 +1,149 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.context.event;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.expression.spel.SpelParserConfiguration;
+import org.springframework.stereotype.Component;
+
+/**
+ * Benchmark for the latency from publishing an event to invoking the
+ * matching {@link EventListener @EventListener} methods, with and without
+ * conditions and with compiled or interpreted conditions.
+ *
+ * @since 6.1.2
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EventListenerBenchmark {
+
+	@State(Scope.Benchmark)
+	public static class BenchmarkState {
+
+		@Param({"plain", "conditional"})
+		public String listener;
+
+		@Param({"mixed", "off"})
+		public String compilerMode;
+
+		public AnnotationConfigApplicationContext context;
+
+		public OrderEvent event;
+
+		@Setup(Level.Trial)
+		public void setup() {
+			System.setProperty(SpelParserConfiguration.SPRING_EXPRESSION_COMPILER_MODE_PROPERTY_NAME, this.compilerMode);
+			this.context = new AnnotationConfigApplicationContext();
+			this.context.register("plain".equals(this.listener) ? PlainListeners.class : ConditionalListeners.class);
+			this.context.refresh();
+			this.event = new OrderEvent(this, "order-1", 42);
+		}
+
+		@TearDown(Level.Trial)
+		public void teardown() {
+			this.context.close();
+			System.clearProperty(SpelParserConfiguration.SPRING_EXPRESSION_COMPILER_MODE_PROPERTY_NAME);
+		}
+	}
+
+	@Benchmark
+	public void publishEvent(BenchmarkState state) {
+		state.context.publishEvent(state.event);
+	}
+
+	@Benchmark
+	public void publishPayload(BenchmarkState state) {
+		state.context.publishEvent(state.event.getOrderId());
+	}
+
+
+	@SuppressWarnings("serial")
+	public static class OrderEvent extends ApplicationEvent {
+
+		private final String orderId;
+
+		private final int quantity;
+
+		public OrderEvent(Object source, String orderId, int quantity) {
+			super(source);
+			this.orderId = orderId;
+			this.quantity = quantity;
+		}
+
+		public String getOrderId() {
+			return this.orderId;
+		}
+
+		public int getQuantity() {
+			return this.quantity;
+		}
+	}
+
+
+	@Component
+	public static class PlainListeners {
+
+		public long count;
+
+		@EventListener
+		public void onOrder(OrderEvent event) {
+			this.count++;
+		}
+
+		@EventListener
+		public void onOrderId(String orderId) {
+			this.count++;
+		}
+	}
+
+
+	@Component
+	public static class ConditionalListeners {
+
+		public long count;
+
+		@EventListener(condition = "#p0.quantity > 10")
+		public void onLargeOrder(OrderEvent event) {
+			this.count++;
+		}
+
+		@EventListener(condition = "#p0.quantity <= 10")
+		public void onSmallOrder(OrderEvent event) {
+			this.count++;
+		}
+
+		@EventListener(condition = "#p0.startsWith('order-')")
+		public void onOrderId(String orderId) {
+			this.count++;
+		}
+	}
+
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.scheduling.concurrent;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import org.springframework.scheduling.TaskScheduler;
+
+/**
+ * Benchmark for scheduling and cancelling timeouts, the typical usage for
+ * session or request timeouts which hardly ever fire, comparing
+ * {@link HashedWheelTaskScheduler} with the {@code ScheduledThreadPoolExecutor}
+ * based {@link ThreadPoolTaskScheduler} and {@link SimpleAsyncTaskScheduler},
+ * with a given number of other timers scheduled already.
+ *
+ * @since 6.1.2
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TaskSchedulerBenchmark {
+
+	@State(Scope.Benchmark)
+	public static class BenchmarkState {
+
+		@Param({"wheel", "threadPool", "simpleAsync"})
+		public String scheduler;
+
+		@Param({"0", "100000"})
+		public int scheduledTimers;
+
+		public TaskScheduler taskScheduler;
+
+		public Duration timeout = Duration.ofSeconds(1);
+
+		public Runnable task = () -> {};
+
+		@Setup(Level.Trial)
+		public void setup() {
+			this.taskScheduler = switch (this.scheduler) {
+				case "wheel" -> new HashedWheelTaskScheduler();
+				case "threadPool" -> {
+					ThreadPoolTaskScheduler threadPoolTaskScheduler = new ThreadPoolTaskScheduler();
+					threadPoolTaskScheduler.setRemoveOnCancelPolicy(true);
+					threadPoolTaskScheduler.initialize();
+					yield threadPoolTaskScheduler;
+				}
+				case "simpleAsync" -> new SimpleAsyncTaskScheduler();
+				default -> throw new IllegalArgumentException(this.scheduler);
+			};
+			Instant startTime = Instant.now().plus(Duration.ofHours(1));
+			for (int i = 0; i < this.scheduledTimers; i++) {
+				this.taskScheduler.schedule(this.task, startTime.plusMillis(i));
+			}
+		}
+
+		@TearDown(Level.Trial)
+		public void shutdown() {
+			if (this.taskScheduler instanceof HashedWheelTaskScheduler wheelTaskScheduler) {
+				wheelTaskScheduler.close();
+			}
+			else if (this.taskScheduler instanceof ThreadPoolTaskScheduler threadPoolTaskScheduler) {
+				threadPoolTaskScheduler.shutdown();
+			}
+			else if (this.taskScheduler instanceof SimpleAsyncTaskScheduler simpleAsyncTaskScheduler) {
+				simpleAsyncTaskScheduler.close();
+			}
+		}
+	}
+
+
+	@Benchmark
+	public boolean scheduleAndCancel(BenchmarkState state) {
+		ScheduledFuture<?> future = state.taskScheduler.schedule(state.task, Instant.now().plus(state.timeout));
+		return future.cancel(false);
+	}
+
+}
@@ -16,6 +16,9 @@
 
 package org.springframework.cache;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Supplier;
@@ -108,6 +111,32 @@ public interface Cache {
 	@Nullable
 	<T> T get(Object key, Callable<T> valueLoader);
 
+	/**
+	 * Return the values to which this cache maps the specified keys,
+	 * performing a single bulk lookup if supported by the cache provider.
+	 * <p>Keys without a mapping are not contained in the returned map;
+	 * each cached value (which may be {@code null} itself) is returned
+	 * in a {@link ValueWrapper}, as with {@link #get(Object)}.
+	 * <p>The default implementation delegates to {@link #get(Object)}
+	 * for each key.
+	 * @param keys the keys whose associated values are to be returned
+	 * @return a map from each key with a mapping in this cache to its value
+	 * (never {@code null})
+	 * @since 6.1.2
+	 * @see #get(Object)
+	 * @see #putAll(Map)
+	 */
+	default Map<Object, ValueWrapper> getAll(Collection<?> keys) {
+		Map<Object, ValueWrapper> result = new LinkedHashMap<>(keys.size());
+		for (Object key : keys) {
+			ValueWrapper value = get(key);
+			if (value != null) {
+				result.put(key, value);
+			}
+		}
+		return result;
+	}
+
 	/**
 	 * Return the value to which this cache maps the specified key,
 	 * wrapped in a {@link CompletableFuture}. This operation must not block
@@ -223,6 +252,22 @@ public interface Cache {
 		return existingValue;
 	}
 
+	/**
+	 * Associate the specified values with their keys in this cache,
+	 * performing a single bulk write if supported by the cache provider.
+	 * <p>The same deferred registration semantics as for
+	 * {@link #put(Object, Object)} apply.
+	 * <p>The default implementation delegates to {@link #put(Object, Object)}
+	 * for each entry.
+	 * @param entries the keys and the values to be associated with them
+	 * @since 6.1.2
+	 * @see #put(Object, Object)
+	 * @see #getAll(Collection)
+	 */
+	default void putAll(Map<?, ?> entries) {
+		entries.forEach(this::put);
+	}
+
 	/**
 	 * Evict the mapping for this key from this cache if it is present.
 	 * <p>Actual eviction may be performed in an asynchronous or deferred
@@ -194,4 +194,38 @@ public @interface Cacheable {
 	 */
 	boolean sync() default false;
 
+	/**
+	 * Cache the result of a method with a single {@link java.util.Collection}
+	 * parameter per element of that collection, using each element as the key
+	 * of the corresponding value.
+	 * <p>All elements are looked up in the cache(s) at once through
+	 * {@link org.springframework.cache.Cache#getAll}, and the underlying method
+	 * is only invoked with the elements not found in the cache (if any), in a
+	 * single call. The method must either return a {@link java.util.Map} from
+	 * element to value, or a {@link java.util.List} with a value for each given
+	 * element, in the order of the given collection. The cached and the newly
+	 * retrieved values are merged into a result of the same kind, following the
+	 * order of the original collection. Elements without a value (absent from a
+	 * returned map, or {@code null} in a returned list) are not cached.
+	 * <p>The key for each element is computed by the {@link #keyGenerator()} as if
+	 * the element was the only method argument, so a bulk operation and a regular
+	 * single-argument {@code @Cacheable} method share cache entries by default.
+	 * The {@link #unless()} expression is evaluated for each value, with
+	 * {@code #result} referring to that value. Bulk caching leads to the
+	 * following limitations:
+	 * <ol>
+	 * <li>{@link #key()} and {@link #sync()} are not supported</li>
+	 * <li>No other cache-related operation can be combined</li>
+	 * <li>The collection argument is replaced for the invocation of the
+	 * underlying method, which requires a proxy-based cache interceptor
+	 * (with AspectJ, the method sees the entire collection, and only the
+	 * values for the elements not found in the cache are taken from its
+	 * result)</li>
+	 * </ol>
+	 * @since 6.1.2
+	 * @see org.springframework.cache.Cache#getAll(java.util.Collection)
+	 * @see org.springframework.cache.Cache#putAll(java.util.Map)
+	 */
+	boolean bulk() default false;
+
 }
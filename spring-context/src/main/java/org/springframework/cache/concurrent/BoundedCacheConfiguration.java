@@ -0,0 +1,153 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cache.concurrent;
+
+import java.time.Duration;
+import java.util.function.ToLongBiFunction;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Immutable configuration for a {@link BoundedConcurrentMapCache}: the maximum
+ * number of entries, the maximum total weight of the entries as determined by a
+ * weigher function, and the time-to-live of each entry.
+ *
+ * <p>Each {@code with} method returns a new configuration instance, so a common
+ * base configuration can be shared and specialized per cache:
+ *
+ * <pre class="code">
+ * BoundedCacheConfiguration base = BoundedCacheConfiguration.defaultConfiguration()
+ *         .withTimeToLive(Duration.ofMinutes(10));
+ * cacheManager.setCacheConfigurations(Map.of(
+ *         "products", base.withMaximumSize(10_000),
+ *         "images", base.withMaximumWeight(64 * 1024 * 1024, (key, value) -&gt; ((byte[]) value).length)));
+ * </pre>
+ *
+ * @since 6.1.2
+ * @see BoundedConcurrentMapCache
+ * @see ConcurrentMapCacheManager#setCacheConfigurations
+ */
+public final class BoundedCacheConfiguration {
+
+	private static final long UNBOUNDED = -1;
+
+	private static final BoundedCacheConfiguration DEFAULT =
+			new BoundedCacheConfiguration(UNBOUNDED, UNBOUNDED, null, null);
+
+
+	private final long maximumSize;
+
+	private final long maximumWeight;
+
+	@Nullable
+	private final ToLongBiFunction<Object, Object> weigher;
+
+	@Nullable
+	private final Duration timeToLive;
+
+
+	private BoundedCacheConfiguration(long maximumSize, long maximumWeight,
+			@Nullable ToLongBiFunction<Object, Object> weigher, @Nullable Duration timeToLive) {
+
+		this.maximumSize = maximumSize;
+		this.maximumWeight = maximumWeight;
+		this.weigher = weigher;
+		this.timeToLive = timeToLive;
+	}
+
+
+	/**
+	 * Return a new configuration with the given maximum number of entries.
+	 * @param maximumSize the maximum number of entries (greater than 0)
+	 */
+	public BoundedCacheConfiguration withMaximumSize(long maximumSize) {
+		Assert.isTrue(maximumSize > 0, "Maximum size must be greater than 0");
+		return new BoundedCacheConfiguration(maximumSize, this.maximumWeight, this.weigher, this.timeToLive);
+	}
+
+	/**
+	 * Return a new configuration with the given maximum total weight of all entries.
+	 * @param maximumWeight the maximum total weight (greater than 0)
+	 * @param weigher the function determining the weight of an entry, receiving
+	 * the key and the (potentially {@code null}) value of the entry and returning
+	 * a non-negative weight; called once when the entry is stored
+	 */
+	public BoundedCacheConfiguration withMaximumWeight(long maximumWeight, ToLongBiFunction<Object, Object> weigher) {
+		Assert.isTrue(maximumWeight > 0, "Maximum weight must be greater than 0");
+		Assert.notNull(weigher, "Weigher must not be null");
+		return new BoundedCacheConfiguration(this.maximumSize, maximumWeight, weigher, this.timeToLive);
+	}
+
+	/**
+	 * Return a new configuration with the given time-to-live for each entry,
+	 * counted from the time the entry was stored.
+	 * @param timeToLive the time-to-live (greater than 0)
+	 */
+	public BoundedCacheConfiguration withTimeToLive(Duration timeToLive) {
+		Assert.notNull(timeToLive, "Time-to-live must not be null");
+		Assert.isTrue(!timeToLive.isNegative() && !timeToLive.isZero(), "Time-to-live must be greater than 0");
+		return new BoundedCacheConfiguration(this.maximumSize, this.maximumWeight, this.weigher, timeToLive);
+	}
+
+
+	/**
+	 * Return the maximum number of entries, or -1 if not bounded by size.
+	 */
+	public long getMaximumSize() {
+		return this.maximumSize;
+	}
+
+	/**
+	 * Return the maximum total weight of all entries, or -1 if not bounded by weight.
+	 */
+	public long getMaximumWeight() {
+		return this.maximumWeight;
+	}
+
+	/**
+	 * Return the weigher function, if bounded by weight.
+	 */
+	@Nullable
+	public ToLongBiFunction<Object, Object> getWeigher() {
+		return this.weigher;
+	}
+
+	/**
+	 * Return the time-to-live for each entry, if any.
+	 */
+	@Nullable
+	public Duration getTimeToLive() {
+		return this.timeToLive;
+	}
+
+	@Override
+	public String toString() {
+		return "BoundedCacheConfiguration: maximumSize=" + this.maximumSize + ", maximumWeight=" +
+				this.maximumWeight + ", timeToLive=" + this.timeToLive;
+	}
+
+
+	/**
+	 * Return the default configuration, neither bounded nor expiring,
+	 * as a starting point for the {@code with} methods.
+	 */
+	public static BoundedCacheConfiguration defaultConfiguration() {
+		return DEFAULT;
+	}
+
+}
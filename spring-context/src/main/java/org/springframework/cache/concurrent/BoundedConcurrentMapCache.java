@@ -0,0 +1,509 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cache.concurrent;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.function.ToLongBiFunction;
+
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+import org.springframework.core.serializer.support.SerializationDelegate;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Variant of {@link ConcurrentMapCache} which is bounded in size and/or weight
+ * and may expire its entries after a time-to-live, as specified through a
+ * {@link BoundedCacheConfiguration}. Based on the core JDK
+ * {@code java.util.concurrent} package, without any further dependencies.
+ *
+ * <p>Once the cache exceeds its maximum size or weight, entries are evicted
+ * according to an approximate LRU policy (CLOCK, also known as second chance):
+ * a cursor rotates over the cache, evicting the first entry which has not been
+ * accessed since the cursor passed it last time, or which has expired. Reads
+ * only mark an entry as accessed, without any reordering or locking.
+ *
+ * <p>Expired entries are removed lazily when accessed. In addition, each write
+ * operation checks a few further entries for expiration, so that expired entries
+ * which are not accessed anymore are removed over time, without the need for a
+ * background thread.
+ *
+ * <p>Cache hits expose the age of the cached value through an
+ * {@link org.springframework.cache.support.AgedValueWrapper}, allowing the
+ * cache aspect to {@linkplain org.springframework.cache.interceptor.CacheAspectSupport#setRefreshAheadAge
+ * refresh values ahead} of their expiration.
+ *
+ * <p>For advanced local caching needs, consider
+ * {@link org.springframework.cache.caffeine.CaffeineCache}.
+ *
+ * @since 6.1.2
+ * @see BoundedCacheConfiguration
+ * @see ConcurrentMapCacheManager#setCacheConfigurations
+ */
+public class BoundedConcurrentMapCache extends AbstractValueAdaptingCache {
+
+	private static final int EXPIRATION_SAMPLE_SIZE = 4;
+
+
+	private final String name;
+
+	private final ConcurrentMap<Object, Entry> store = new ConcurrentHashMap<>(256);
+
+	private final long maximumSize;
+
+	private final long maximumWeight;
+
+	@Nullable
+	private final ToLongBiFunction<Object, Object> weigher;
+
+	private final long timeToLiveNanos;
+
+	@Nullable
+	private final SerializationDelegate serialization;
+
+	private final AtomicLong weightedSize = new AtomicLong();
+
+	private final LongAdder evictionCount = new LongAdder();
+
+	private final ReentrantLock evictionLock = new ReentrantLock();
+
+	@Nullable
+	private Iterator<Map.Entry<Object, Entry>> evictionCursor;
+
+	private LongSupplier ticker = System::nanoTime;
+
+
+	/**
+	 * Create a new BoundedConcurrentMapCache with the specified name and configuration.
+	 * @param name the name of the cache
+	 * @param configuration the bounds and time-to-live to apply
+	 */
+	public BoundedConcurrentMapCache(String name, BoundedCacheConfiguration configuration) {
+		this(name, configuration, true);
+	}
+
+	/**
+	 * Create a new BoundedConcurrentMapCache with the specified name and configuration.
+	 * @param name the name of the cache
+	 * @param configuration the bounds and time-to-live to apply
+	 * @param allowNullValues whether to accept and convert {@code null}
+	 * values for this cache
+	 */
+	public BoundedConcurrentMapCache(String name, BoundedCacheConfiguration configuration, boolean allowNullValues) {
+		this(name, configuration, allowNullValues, null);
+	}
+
+	/**
+	 * Create a new BoundedConcurrentMapCache with the specified name and configuration.
+	 * If the {@link SerializationDelegate} is specified,
+	 * {@link #isStoreByValue() store-by-value} is enabled.
+	 * @param name the name of the cache
+	 * @param configuration the bounds and time-to-live to apply
+	 * @param allowNullValues whether to accept and convert {@code null}
+	 * values for this cache
+	 * @param serialization the {@link SerializationDelegate} to use
+	 * to serialize cache entry or {@code null} to store the reference
+	 */
+	protected BoundedConcurrentMapCache(String name, BoundedCacheConfiguration configuration,
+			boolean allowNullValues, @Nullable SerializationDelegate serialization) {
+
+		super(allowNullValues);
+		Assert.notNull(name, "Name must not be null");
+		Assert.notNull(configuration, "BoundedCacheConfiguration must not be null");
+		this.name = name;
+		this.maximumSize = configuration.getMaximumSize();
+		this.maximumWeight = configuration.getMaximumWeight();
+		this.weigher = configuration.getWeigher();
+		Duration timeToLive = configuration.getTimeToLive();
+		this.timeToLiveNanos = (timeToLive != null ? timeToLive.toNanos() : 0);
+		this.serialization = serialization;
+	}
+
+
+	/**
+	 * Return whether this cache stores a copy of each entry ({@code true}) or
+	 * a reference ({@code false}, default). If store by value is enabled, each
+	 * entry in the cache must be serializable.
+	 */
+	public final boolean isStoreByValue() {
+		return (this.serialization != null);
+	}
+
+	/**
+	 * Return the current number of entries, including expired entries
+	 * which have not been removed yet.
+	 */
+	public long getEstimatedSize() {
+		return this.store.size();
+	}
+
+	/**
+	 * Return the current total weight of all entries, as determined by
+	 * the weigher function, or the number of entries if not bounded by weight.
+	 */
+	public long getWeightedSize() {
+		return this.weightedSize.get();
+	}
+
+	/**
+	 * Return the number of entries evicted due to the size or weight bound
+	 * of this cache (not counting expired entries).
+	 */
+	public long getEvictionCount() {
+		return this.evictionCount.sum();
+	}
+
+	/**
+	 * Set the source of the current time in nanoseconds, for testing purposes.
+	 */
+	void setTicker(LongSupplier ticker) {
+		this.ticker = ticker;
+	}
+
+	@Override
+	public final String getName() {
+		return this.name;
+	}
+
+	/**
+	 * This implementation returns the cache itself, since the internal
+	 * store holds entry metadata next to the cached values.
+	 */
+	@Override
+	public final Object getNativeCache() {
+		return this;
+	}
+
+	/**
+	 * This implementation exposes the age of the cached value through an
+	 * {@link org.springframework.cache.support.AgedValueWrapper}.
+	 */
+	@Override
+	@Nullable
+	public ValueWrapper get(Object key) {
+		long now = this.ticker.getAsLong();
+		Entry entry = lookupEntry(key, now);
+		return (entry != null ? toValueWrapper(entry.storeValue, now - entry.writtenAt) : null);
+	}
+
+	@Override
+	@Nullable
+	protected Object lookup(Object key) {
+		Entry entry = lookupEntry(key, this.ticker.getAsLong());
+		return (entry != null ? entry.storeValue : null);
+	}
+
+	@Nullable
+	private Entry lookupEntry(Object key, long now) {
+		Entry entry = this.store.get(key);
+		if (entry == null) {
+			return null;
+		}
+		if (entry.isExpired(now)) {
+			removeEntry(key, entry);
+			return null;
+		}
+		if (!entry.referenced) {
+			entry.referenced = true;
+		}
+		return entry;
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	@Nullable
+	public <T> T get(Object key, Callable<T> valueLoader) {
+		Object storeValue = lookup(key);
+		if (storeValue != null) {
+			return (T) fromStoreValue(storeValue);
+		}
+		// Index 0: the created entry, index 1: the expired entry replaced by it
+		Entry[] written = new Entry[2];
+		Entry entry = this.store.compute(key, (k, existing) -> {
+			if (existing != null && !existing.isExpired(this.ticker.getAsLong())) {
+				return existing;
+			}
+			try {
+				written[0] = createEntry(key, valueLoader.call());
+			}
+			catch (Throwable ex) {
+				throw new ValueRetrievalException(key, valueLoader, ex);
+			}
+			written[1] = existing;
+			return written[0];
+		});
+		if (written[0] != null) {
+			afterWrite(written[0], written[1]);
+		}
+		return (T) fromStoreValue(entry.storeValue);
+	}
+
+	@Override
+	@Nullable
+	public CompletableFuture<?> retrieve(Object key) {
+		Object value = lookup(key);
+		return (value != null ? CompletableFuture.completedFuture(
+				isAllowNullValues() ? toValueWrapper(value) : fromStoreValue(value)) : null);
+	}
+
+	@Override
+	public <T> CompletableFuture<T> retrieve(Object key, Supplier<CompletableFuture<T>> valueLoader) {
+		return CompletableFuture.supplyAsync(() -> get(key, () -> valueLoader.get().join()));
+	}
+
+	@Override
+	public void put(Object key, @Nullable Object value) {
+		Entry entry = createEntry(key, value);
+		afterWrite(entry, this.store.put(key, entry));
+	}
+
+	@Override
+	@Nullable
+	public ValueWrapper putIfAbsent(Object key, @Nullable Object value) {
+		Entry newEntry = createEntry(key, value);
+		Entry[] replaced = new Entry[1];
+		Entry entry = this.store.compute(key, (k, existing) -> {
+			if (existing != null && !existing.isExpired(this.ticker.getAsLong())) {
+				return existing;
+			}
+			replaced[0] = existing;
+			return newEntry;
+		});
+		if (entry != newEntry) {
+			entry.referenced = true;
+			return toValueWrapper(entry.storeValue);
+		}
+		afterWrite(newEntry, replaced[0]);
+		return null;
+	}
+
+	@Override
+	public void evict(Object key) {
+		Entry removed = this.store.remove(key);
+		if (removed != null) {
+			this.weightedSize.addAndGet(-removed.weight);
+		}
+	}
+
+	@Override
+	public boolean evictIfPresent(Object key) {
+		Entry removed = this.store.remove(key);
+		if (removed != null) {
+			this.weightedSize.addAndGet(-removed.weight);
+			return !removed.isExpired(this.ticker.getAsLong());
+		}
+		return false;
+	}
+
+	@Override
+	public void clear() {
+		for (Object key : this.store.keySet()) {
+			evict(key);
+		}
+	}
+
+	@Override
+	public boolean invalidate() {
+		boolean notEmpty = !this.store.isEmpty();
+		clear();
+		return notEmpty;
+	}
+
+	private Entry createEntry(Object key, @Nullable Object value) {
+		Object storeValue = toStoreValue(value);
+		long weight = 1;
+		if (this.weigher != null) {
+			weight = this.weigher.applyAsLong(key, value);
+			if (weight < 0) {
+				throw new IllegalStateException("Negative weight " + weight + " for cache key '" + key + "'");
+			}
+		}
+		long now = this.ticker.getAsLong();
+		long expiresAt = (this.timeToLiveNanos > 0 ? now + this.timeToLiveNanos : 0);
+		return new Entry(storeValue, weight, now, expiresAt);
+	}
+
+	private void removeEntry(Object key, Entry entry) {
+		if (this.store.remove(key, entry)) {
+			this.weightedSize.addAndGet(-entry.weight);
+		}
+	}
+
+	private void afterWrite(Entry added, @Nullable Entry replaced) {
+		this.weightedSize.addAndGet(added.weight - (replaced != null ? replaced.weight : 0));
+		if (isOverCapacity()) {
+			evictEntries();
+		}
+		else if (this.timeToLiveNanos > 0 && this.evictionLock.tryLock()) {
+			// Amortized expiration: check a few further entries on each write
+			try {
+				long now = this.ticker.getAsLong();
+				for (int i = 0; i < EXPIRATION_SAMPLE_SIZE; i++) {
+					Map.Entry<Object, Entry> candidate = nextCandidate();
+					if (candidate == null) {
+						break;
+					}
+					if (candidate.getValue().isExpired(now)) {
+						removeEntry(candidate.getKey(), candidate.getValue());
+					}
+				}
+			}
+			finally {
+				this.evictionLock.unlock();
+			}
+		}
+	}
+
+	private boolean isOverCapacity() {
+		return ((this.maximumSize > 0 && this.store.size() > this.maximumSize) ||
+				(this.maximumWeight > 0 && this.weightedSize.get() > this.maximumWeight));
+	}
+
+	private void evictEntries() {
+		this.evictionLock.lock();
+		try {
+			long now = this.ticker.getAsLong();
+			while (isOverCapacity()) {
+				if (!evictNextEntry(now)) {
+					break;
+				}
+			}
+		}
+		finally {
+			this.evictionLock.unlock();
+		}
+	}
+
+	/**
+	 * Advance the cursor to the next entry to evict, and evict it.
+	 * To be called with the eviction lock held.
+	 * @return whether an entry has been evicted
+	 */
+	private boolean evictNextEntry(long now) {
+		// After two full rounds, all entries have lost their reference bit
+		for (long scans = 2L * this.store.size() + 2; scans > 0; scans--) {
+			Map.Entry<Object, Entry> candidate = nextCandidate();
+			if (candidate == null) {
+				return false;
+			}
+			Entry entry = candidate.getValue();
+			boolean expired = entry.isExpired(now);
+			if (!expired && entry.referenced) {
+				// Second chance for an entry accessed since the cursor passed it last time
+				entry.referenced = false;
+			}
+			else if (this.store.remove(candidate.getKey(), entry)) {
+				this.weightedSize.addAndGet(-entry.weight);
+				if (!expired) {
+					this.evictionCount.increment();
+				}
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Return the next entry from the cursor rotating over the store,
+	 * or {@code null} if the store is empty. To be called with the
+	 * eviction lock held.
+	 */
+	@Nullable
+	private Map.Entry<Object, Entry> nextCandidate() {
+		Iterator<Map.Entry<Object, Entry>> cursor = this.evictionCursor;
+		if (cursor == null || !cursor.hasNext()) {
+			cursor = this.store.entrySet().iterator();
+			this.evictionCursor = cursor;
+			if (!cursor.hasNext()) {
+				return null;
+			}
+		}
+		return cursor.next();
+	}
+
+	@Override
+	protected Object toStoreValue(@Nullable Object userValue) {
+		Object storeValue = super.toStoreValue(userValue);
+		if (this.serialization != null) {
+			try {
+				return this.serialization.serializeToByteArray(storeValue);
+			}
+			catch (Throwable ex) {
+				throw new IllegalArgumentException("Failed to serialize cache value '" + userValue +
+						"'. Does it implement Serializable?", ex);
+			}
+		}
+		else {
+			return storeValue;
+		}
+	}
+
+	@Override
+	protected Object fromStoreValue(@Nullable Object storeValue) {
+		if (storeValue != null && this.serialization != null) {
+			try {
+				return super.fromStoreValue(this.serialization.deserializeFromByteArray((byte[]) storeValue));
+			}
+			catch (Throwable ex) {
+				throw new IllegalArgumentException("Failed to deserialize cache value '" + storeValue + "'", ex);
+			}
+		}
+		else {
+			return super.fromStoreValue(storeValue);
+		}
+	}
+
+
+	/**
+	 * A cache entry: the store value along with its weight, its expiration
+	 * time in nanoseconds (0 if not expiring) and its reference bit.
+	 */
+	private static final class Entry {
+
+		final Object storeValue;
+
+		final long weight;
+
+		final long writtenAt;
+
+		final long expiresAt;
+
+		volatile boolean referenced;
+
+		Entry(Object storeValue, long weight, long writtenAt, long expiresAt) {
+			this.storeValue = storeValue;
+			this.weight = weight;
+			this.writtenAt = writtenAt;
+			this.expiresAt = expiresAt;
+		}
+
+		boolean isExpired(long now) {
+			return (this.expiresAt != 0 && now - this.expiresAt >= 0);
+		}
+	}
+
+}
@@ -63,6 +63,11 @@ public class ConcurrentMapCacheManager implements CacheManager, BeanClassLoaderA
 	@Nullable
 	private SerializationDelegate serialization;
 
+	@Nullable
+	private BoundedCacheConfiguration defaultCacheConfiguration;
+
+	private Map<String, BoundedCacheConfiguration> cacheConfigurations = Collections.emptyMap();
+
 
 	/**
 	 * Construct a dynamic ConcurrentMapCacheManager,
@@ -150,6 +155,34 @@ public class ConcurrentMapCacheManager implements CacheManager, BeanClassLoaderA
 		return this.storeByValue;
 	}
 
+	/**
+	 * Specify a {@link BoundedCacheConfiguration} to apply to all caches
+	 * without a specific configuration, creating {@link BoundedConcurrentMapCache}
+	 * instances instead of unbounded {@link ConcurrentMapCache} instances.
+	 * <p>Note: A change of the cache configuration will reset all existing caches,
+	 * if any, to reconfigure them with the new configuration.
+	 * @since 6.1.2
+	 * @see #setCacheConfigurations
+	 */
+	public void setDefaultCacheConfiguration(@Nullable BoundedCacheConfiguration defaultCacheConfiguration) {
+		this.defaultCacheConfiguration = defaultCacheConfiguration;
+		recreateCaches();
+	}
+
+	/**
+	 * Specify a {@link BoundedCacheConfiguration} per cache name, creating
+	 * {@link BoundedConcurrentMapCache} instances for the specified caches.
+	 * Caches without a specific configuration fall back to the
+	 * {@linkplain #setDefaultCacheConfiguration default configuration}, if any.
+	 * <p>Note: A change of the cache configurations will reset all existing caches,
+	 * if any, to reconfigure them with the new configurations.
+	 * @since 6.1.2
+	 */
+	public void setCacheConfigurations(Map<String, BoundedCacheConfiguration> cacheConfigurations) {
+		this.cacheConfigurations = Map.copyOf(cacheConfigurations);
+		recreateCaches();
+	}
+
 	@Override
 	public void setBeanClassLoader(ClassLoader classLoader) {
 		this.serialization = new SerializationDelegate(classLoader);
@@ -182,12 +215,19 @@ public class ConcurrentMapCacheManager implements CacheManager, BeanClassLoaderA
 	}
 
 	/**
-	 * Create a new ConcurrentMapCache instance for the specified cache name.
+	 * Create a new ConcurrentMapCache instance for the specified cache name,
+	 * or a {@link BoundedConcurrentMapCache} if a {@link BoundedCacheConfiguration}
+	 * applies to the cache.
 	 * @param name the name of the cache
 	 * @return the ConcurrentMapCache (or a decorator thereof)
 	 */
 	protected Cache createConcurrentMapCache(String name) {
 		SerializationDelegate actualSerialization = (isStoreByValue() ? this.serialization : null);
+		BoundedCacheConfiguration configuration =
+				this.cacheConfigurations.getOrDefault(name, this.defaultCacheConfiguration);
+		if (configuration != null) {
+			return new BoundedConcurrentMapCache(name, configuration, isAllowNullValues(), actualSerialization);
+		}
 		return new ConcurrentMapCache(name, new ConcurrentHashMap<>(256), isAllowNullValues(), actualSerialization);
 	}
 
@@ -18,14 +18,30 @@ package org.springframework.cache.interceptor;
 
 import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 import org.apache.commons.logging.Log;
@@ -46,9 +62,11 @@ import org.springframework.beans.factory.SmartInitializingSingleton;
 import org.springframework.beans.factory.annotation.BeanFactoryAnnotationUtils;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
+import org.springframework.cache.support.AgedValueWrapper;
 import org.springframework.context.expression.AnnotatedElementKey;
 import org.springframework.context.expression.BeanFactoryResolver;
 import org.springframework.core.BridgeMethodResolver;
+import org.springframework.core.CollectionFactory;
 import org.springframework.core.KotlinDetector;
 import org.springframework.core.ReactiveAdapter;
 import org.springframework.core.ReactiveAdapterRegistry;
@@ -120,6 +138,26 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 	@Nullable
 	private BeanFactory beanFactory;
 
+	private boolean coalesceCacheMisses = false;
+
+	@Nullable
+	private Duration coalescingTimeout;
+
+	private CoalescingFailurePolicy coalescingFailurePolicy = CoalescingFailurePolicy.PROPAGATE;
+
+	private final Map<InFlightKey, CompletableFuture<Object>> inFlightInvocations = new ConcurrentHashMap<>(64);
+
+	@Nullable
+	private Duration refreshAheadAge;
+
+	@Nullable
+	private Executor refreshAheadExecutor;
+
+	private final Set<InFlightKey> refreshesInProgress = ConcurrentHashMap.newKeySet(64);
+
+	@Nullable
+	private CacheInstrumentation cacheInstrumentation;
+
 	private boolean initialized = false;
 
 
@@ -219,6 +257,100 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 		this.cacheResolver = SingletonSupplier.of(new SimpleCacheResolver(cacheManager));
 	}
 
+	/**
+	 * Specify whether concurrent cache misses for the same key should be coalesced
+	 * for non-synchronized {@code @Cacheable} operations: the first caller invokes
+	 * the method while concurrent callers for the same key wait for its result
+	 * instead of invoking the method as well.
+	 * <p>Default is "false". In contrast to {@code sync=true}, this applies to
+	 * operations with multiple caches and {@code unless} conditions as well, and
+	 * to {@code CompletableFuture} and reactive return types (coalescing on
+	 * subscription). Only applies to invocations without any {@code @CachePut}
+	 * or {@code @CacheEvict} operations involved. A re-entrant invocation for
+	 * the same key from the thread invoking the method is not coalesced.
+	 * @since 6.1.2
+	 * @see #setCoalescingTimeout
+	 * @see #setCoalescingFailurePolicy
+	 */
+	public void setCoalesceCacheMisses(boolean coalesceCacheMisses) {
+		this.coalesceCacheMisses = coalesceCacheMisses;
+	}
+
+	/**
+	 * Specify the maximum time to wait for the result of a coalesced invocation,
+	 * after which a waiting caller invokes the method itself.
+	 * <p>Default is none, waiting for the result as long as it takes.
+	 * @since 6.1.2
+	 * @see #setCoalesceCacheMisses
+	 */
+	public void setCoalescingTimeout(@Nullable Duration coalescingTimeout) {
+		this.coalescingTimeout = coalescingTimeout;
+	}
+
+	/**
+	 * Specify how callers waiting for the result of a coalesced invocation
+	 * react to a failure of that invocation.
+	 * <p>Default is {@link CoalescingFailurePolicy#PROPAGATE}.
+	 * @since 6.1.2
+	 * @see #setCoalesceCacheMisses
+	 */
+	public void setCoalescingFailurePolicy(CoalescingFailurePolicy coalescingFailurePolicy) {
+		Assert.notNull(coalescingFailurePolicy, "CoalescingFailurePolicy must not be null");
+		this.coalescingFailurePolicy = coalescingFailurePolicy;
+	}
+
+	/**
+	 * Specify the age after which a cached value is refreshed ahead of its
+	 * expiration: the stale value is returned to the caller right away while
+	 * a single background invocation of the method, on the
+	 * {@linkplain #setRefreshAheadExecutor refresh-ahead executor}, stores
+	 * a fresh value in the cache.
+	 * <p>Default is none, never refreshing cached values. Only applies to caches
+	 * exposing the age of their values through an {@link AgedValueWrapper}, such
+	 * as {@link org.springframework.cache.concurrent.BoundedConcurrentMapCache},
+	 * and to non-synchronized {@code @Cacheable} operations with regular return
+	 * types, without any {@code @CachePut} or {@code @CacheEvict} operations
+	 * involved. The value should be shorter than the time-to-live of the cache.
+	 * <p>Note that the background invocation does not see any thread-bound
+	 * state of the original caller, such as a transaction or security context.
+	 * @since 6.1.2
+	 * @see #setRefreshAheadExecutor
+	 */
+	public void setRefreshAheadAge(@Nullable Duration refreshAheadAge) {
+		Assert.isTrue(refreshAheadAge == null || !refreshAheadAge.isNegative(),
+				"Refresh-ahead age must not be negative");
+		this.refreshAheadAge = refreshAheadAge;
+	}
+
+	/**
+	 * Specify the executor to refresh cached values on, required in case of a
+	 * {@linkplain #setRefreshAheadAge refresh-ahead age}.
+	 * @since 6.1.2
+	 * @see #setRefreshAheadAge
+	 */
+	public void setRefreshAheadExecutor(@Nullable Executor refreshAheadExecutor) {
+		this.refreshAheadExecutor = refreshAheadExecutor;
+	}
+
+	/**
+	 * Set the {@link CacheInstrumentation} to record statistics about the
+	 * caching operations with, such as a {@link SimpleCacheInstrumentation}.
+	 * <p>Default is none, not recording any statistics.
+	 * @since 6.1.2
+	 */
+	public void setCacheInstrumentation(@Nullable CacheInstrumentation cacheInstrumentation) {
+		this.cacheInstrumentation = cacheInstrumentation;
+	}
+
+	/**
+	 * Return the {@link CacheInstrumentation} to use, if any.
+	 * @since 6.1.2
+	 */
+	@Nullable
+	public CacheInstrumentation getCacheInstrumentation() {
+		return this.cacheInstrumentation;
+	}
+
 	/**
 	 * Set the containing {@link BeanFactory} for {@link CacheManager} and other
 	 * service lookups.
@@ -235,6 +367,8 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 	public void afterPropertiesSet() {
 		Assert.state(getCacheOperationSource() != null, "The 'cacheOperationSources' property is required: " +
 				"If there are no cacheable methods, then don't use a cache aspect.");
+		Assert.state(this.refreshAheadAge == null || this.refreshAheadExecutor != null,
+				"The 'refreshAheadExecutor' property is required in case of a refresh-ahead age");
 	}
 
 	@Override
@@ -398,6 +532,10 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 			// Special handling of synchronized invocation
 			return executeSynchronized(invoker, method, contexts);
 		}
+		if (contexts.isBulk()) {
+			// Special handling of per-element caching for a collection argument
+			return executeBulk(invoker, method, contexts);
+		}
 
 		// Process any early evictions
 		processCacheEvicts(contexts.get(CacheEvictOperation.class), true,
@@ -405,29 +543,75 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 
 		// Check if we have a cached value matching the conditions
 		Object cacheHit = findCachedValue(invoker, method, contexts);
+		if (cacheHit instanceof AgedValueWrapper agedHit && this.refreshAheadAge != null &&
+				agedHit.isOlderThan(this.refreshAheadAge)) {
+			refreshAhead(invoker, method, contexts);
+		}
 		if (cacheHit == null || cacheHit instanceof Cache.ValueWrapper) {
 			return evaluate(cacheHit, invoker, method, contexts);
 		}
 		return cacheHit;
 	}
 
+	/**
+	 * Refresh the cached value for the given invocation in the background,
+	 * unless a refresh for the same method and cache key is in progress already.
+	 */
+	private void refreshAhead(CacheOperationInvoker invoker, Method method, CacheOperationContexts contexts) {
+		Executor executor = this.refreshAheadExecutor;
+		InFlightKey refreshKey = determineInFlightKey(method, contexts);
+		if (executor == null || refreshKey == null || !this.refreshesInProgress.add(refreshKey)) {
+			return;
+		}
+		try {
+			executor.execute(() -> {
+				try {
+					doEvaluate(null, invoker, method, contexts);
+				}
+				catch (Throwable ex) {
+					if (logger.isWarnEnabled()) {
+						logger.warn("Failed to refresh cached value for " + refreshKey, ex);
+					}
+				}
+				finally {
+					this.refreshesInProgress.remove(refreshKey);
+				}
+			});
+		}
+		catch (RejectedExecutionException ex) {
+			this.refreshesInProgress.remove(refreshKey);
+			if (logger.isDebugEnabled()) {
+				logger.debug("Refresh of cached value for " + refreshKey + " rejected: " + ex);
+			}
+		}
+	}
+
 	@Nullable
 	private Object executeSynchronized(CacheOperationInvoker invoker, Method method, CacheOperationContexts contexts) {
 		CacheOperationContext context = contexts.get(CacheableOperation.class).iterator().next();
 		if (isConditionPassing(context, CacheOperationExpressionEvaluator.NO_RESULT)) {
 			Object key = generateKey(context, CacheOperationExpressionEvaluator.NO_RESULT);
 			Cache cache = context.getCaches().iterator().next();
+			AtomicBoolean loaded = (this.cacheInstrumentation != null ? new AtomicBoolean() : null);
 			if (CompletableFuture.class.isAssignableFrom(method.getReturnType())) {
-				return cache.retrieve(key, () -> (CompletableFuture<?>) invokeOperation(invoker));
+				CompletableFuture<?> result = cache.retrieve(key,
+						() -> (CompletableFuture<?>) invokeSynchronizedLoad(invoker, context, cache, loaded));
+				recordSynchronizedHit(context, cache, loaded);
+				return result;
 			}
 			if (this.reactiveCachingHandler != null) {
-				Object returnValue = this.reactiveCachingHandler.executeSynchronized(invoker, method, cache, key);
+				Object returnValue = this.reactiveCachingHandler.executeSynchronized(
+						invoker, method, context, cache, key, loaded);
 				if (returnValue != ReactiveCachingHandler.NOT_HANDLED) {
+					recordSynchronizedHit(context, cache, loaded);
 					return returnValue;
 				}
 			}
 			try {
-				return wrapCacheValue(method, cache.get(key, () -> unwrapReturnValue(invokeOperation(invoker))));
+				Object returnValue = wrapCacheValue(method, cache.get(key,
+						() -> unwrapReturnValue(invokeSynchronizedLoad(invoker, context, cache, loaded))));
+				recordSynchronizedHit(context, cache, loaded);
+				return returnValue;
 			}
 			catch (Cache.ValueRetrievalException ex) {
 				// Directly propagate ThrowableWrapper from the invoker,
@@ -443,6 +627,180 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 		}
 	}
 
+	/**
+	 * Invoke the method as the value loader of a synchronized operation,
+	 * recording a cache miss if instrumented.
+	 */
+	@Nullable
+	private Object invokeSynchronizedLoad(CacheOperationInvoker invoker, CacheOperationContext context,
+			Cache cache, @Nullable AtomicBoolean loaded) {
+
+		if (loaded != null) {
+			loaded.set(true);
+			recordLookup(context, cache, false);
+		}
+		return invokeLoad(invoker, context);
+	}
+
+	/**
+	 * Record a cache hit for a synchronized operation if the value loader
+	 * has not been invoked.
+	 */
+	private void recordSynchronizedHit(CacheOperationContext context, Cache cache, @Nullable AtomicBoolean loaded) {
+		if (loaded != null && !loaded.get()) {
+			recordLookup(context, cache, true);
+		}
+	}
+
+	@Nullable
+	private Object executeBulk(CacheOperationInvoker invoker, Method method, CacheOperationContexts contexts) {
+		CacheOperationContext context = contexts.get(CacheableOperation.class).iterator().next();
+		Object[] args = context.getArgs();
+		if (!(args[0] instanceof Collection<?> elements) ||
+				!isConditionPassing(context, CacheOperationExpressionEvaluator.NO_RESULT)) {
+			// No caching required, just call the underlying method
+			return invokeOperation(invoker);
+		}
+
+		// Look up all elements at once, consulting further caches for the remaining misses
+		Map<Object, Object> keys = new LinkedHashMap<>(elements.size());
+		for (Object element : elements) {
+			keys.computeIfAbsent(element, e -> generateBulkKey(context, e));
+		}
+		Map<Object, Object> values = new HashMap<>(keys.size());
+		Set<Object> missingKeys = new LinkedHashSet<>(keys.values());
+		for (Cache cache : context.getCaches()) {
+			Map<Object, Cache.ValueWrapper> hits = doGetAll(cache, missingKeys);
+			if (this.cacheInstrumentation != null) {
+				for (Object key : missingKeys) {
+					recordLookup(context, cache, hits.containsKey(key));
+				}
+			}
+			hits.forEach((key, hit) -> values.put(key, hit.get()));
+			missingKeys.removeAll(hits.keySet());
+			if (missingKeys.isEmpty()) {
+				break;
+			}
+		}
+		if (logger.isTraceEnabled()) {
+			logger.trace("Cache entries for " + values.size() + " of " + keys.size() + " key(s) found in cache(s) " +
+					context.getCacheNames() + ", missing key(s): " + missingKeys);
+		}
+
+		// Invoke the method with the missing elements only, caching the returned values
+		if (!missingKeys.isEmpty()) {
+			Collection<Object> missingElements = CollectionFactory.createCollection(
+					method.getParameterTypes()[0], missingKeys.size());
+			keys.forEach((element, key) -> {
+				if (missingKeys.contains(key)) {
+					missingElements.add(element);
+				}
+			});
+			Object returnValue;
+			args[0] = missingElements;
+			try {
+				returnValue = invokeLoad(invoker, context);
+			}
+			finally {
+				args[0] = elements;
+			}
+			// An invoker which cannot substitute the argument (e.g. AspectJ's proceed with
+			// the original arguments) returns a list with values for all given elements
+			Collection<?> invokedElements = (returnValue instanceof List<?> list &&
+					list.size() != missingElements.size() && list.size() == elements.size() ?
+					elements : missingElements);
+			Map<Object, Object> loadedValues = collectBulkValues(method, invokedElements, returnValue);
+			Map<Object, Object> cacheEntries = new LinkedHashMap<>(loadedValues.size());
+			loadedValues.forEach((element, value) -> {
+				Object key = keys.get(element);
+				if (missingKeys.contains(key)) {
+					values.put(key, value);
+					if (context.canPutToCache(value)) {
+						cacheEntries.put(key, value);
+					}
+				}
+			});
+			if (!cacheEntries.isEmpty()) {
+				for (Cache cache : context.getCaches()) {
+					doPutAll(cache, cacheEntries);
+					if (this.cacheInstrumentation != null) {
+						for (int i = 0; i < cacheEntries.size(); i++) {
+							this.cacheInstrumentation.recordPut(cache.getName(), context.metadata.operation);
+						}
+					}
+				}
+			}
+		}
+
+		// Merge cached and loaded values in the order of the given elements
+		if (Map.class.isAssignableFrom(method.getReturnType())) {
+			Map<Object, Object> result = new LinkedHashMap<>(keys.size());
+			keys.forEach((element, key) -> {
+				Object value = values.get(key);
+				if (value != null) {
+					result.put(element, value);
+				}
+			});
+			return result;
+		}
+		List<Object> result = new ArrayList<>(elements.size());
+		for (Object element : elements) {
+			result.add(values.get(keys.get(element)));
+		}
+		return result;
+	}
+
+	/**
+	 * Collect the non-null values per element from the given return value
+	 * of a bulk operation, either a {@code Map} or a {@code List}.
+	 */
+	private Map<Object, Object> collectBulkValues(
+			Method method, Collection<?> elements, @Nullable Object returnValue) {
+
+		Map<Object, Object> values = new LinkedHashMap<>(elements.size());
+		if (returnValue instanceof Map<?, ?> map) {
+			for (Object element : elements) {
+				Object value = map.get(element);
+				if (value != null) {
+					values.put(element, value);
+				}
+			}
+		}
+		else if (returnValue instanceof List<?> list) {
+			if (list.size() != elements.size()) {
+				throw new IllegalStateException("A bulk=true operation returned " + list.size() +
+						" value(s) for " + elements.size() + " element(s) on '" + method + "'");
+			}
+			Iterator<?> valueIterator = list.iterator();
+			for (Object element : elements) {
+				Object value = valueIterator.next();
+				if (value != null) {
+					values.put(element, value);
+				}
+			}
+		}
+		return values;
+	}
+
+	/**
+	 * Compute the key for the given element of the collection argument
+	 * of a bulk caching operation.
+	 */
+	private Object generateBulkKey(CacheOperationContext context, @Nullable Object element) {
+		CacheInstrumentation instrumentation = this.cacheInstrumentation;
+		long start = (instrumentation != null ? System.nanoTime() : 0L);
+		Object key = context.metadata.keyGenerator.generate(
+				context.getTarget(), context.getMethod(), new Object[] {element});
+		if (instrumentation != null) {
+			instrumentation.recordKeyGeneration(context.metadata.operation, System.nanoTime() - start);
+		}
+		if (key == null) {
+			throw new IllegalArgumentException("Null key returned for element '" + element +
+					"' of bulk cache operation " + context.metadata.operation);
+		}
+		return key;
+	}
+
 	/**
 	 * Find a cached value only for {@link CacheableOperation} that passes the condition.
 	 * @param contexts the cacheable operations
@@ -479,6 +837,7 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 			if (CompletableFuture.class.isAssignableFrom(context.getMethod().getReturnType())) {
 				CompletableFuture<?> result = cache.retrieve(key);
 				if (result != null) {
+					recordLookup(context, cache, result);
 					return result.thenCompose(value -> (CompletableFuture<?>) evaluate(
 							(value != null ? CompletableFuture.completedFuture(unwrapCacheValue(value)) : null),
 							invoker, method, contexts));
@@ -492,6 +851,7 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 				}
 			}
 			Cache.ValueWrapper result = doGet(cache, key);
+			recordLookup(context, cache, result != null);
 			if (result != null) {
 				return result;
 			}
@@ -499,10 +859,45 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 		return null;
 	}
 
+	private void recordLookup(CacheOperationContext context, Cache cache, boolean hit) {
+		CacheInstrumentation instrumentation = this.cacheInstrumentation;
+		if (instrumentation != null) {
+			if (hit) {
+				instrumentation.recordHit(cache.getName(), context.metadata.operation);
+			}
+			else {
+				instrumentation.recordMiss(cache.getName(), context.metadata.operation);
+			}
+		}
+	}
+
+	private void recordLookup(CacheOperationContext context, Cache cache, CompletableFuture<?> result) {
+		if (this.cacheInstrumentation != null) {
+			result.whenComplete((value, ex) -> {
+				if (ex == null) {
+					recordLookup(context, cache, value != null);
+				}
+			});
+		}
+	}
+
 	@Nullable
 	private Object evaluate(@Nullable Object cacheHit, CacheOperationInvoker invoker, Method method,
 			CacheOperationContexts contexts) {
 
+		if (cacheHit == null && this.coalesceCacheMisses) {
+			InFlightKey inFlightKey = determineInFlightKey(method, contexts);
+			if (inFlightKey != null) {
+				return coalesce(inFlightKey, method, () -> doEvaluate(null, invoker, method, contexts));
+			}
+		}
+		return doEvaluate(cacheHit, invoker, method, contexts);
+	}
+
+	@Nullable
+	private Object doEvaluate(@Nullable Object cacheHit, CacheOperationInvoker invoker, Method method,
+			CacheOperationContexts contexts) {
+
 		Object cacheValue;
 		Object returnValue;
 
@@ -513,7 +908,7 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 		}
 		else {
 			// Invoke the method if we don't have a cache hit
-			returnValue = invokeOperation(invoker);
+			returnValue = (cacheHit == null ? invokeLoad(invoker, contexts) : invokeOperation(invoker));
 			cacheValue = unwrapReturnValue(returnValue);
 		}
 
@@ -544,6 +939,218 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 		return returnValue;
 	}
 
+	/**
+	 * Invoke the method for a cache miss, recording the load for the first
+	 * applicable {@link CacheableOperation} if instrumented.
+	 */
+	@Nullable
+	private Object invokeLoad(CacheOperationInvoker invoker, CacheOperationContexts contexts) {
+		if (this.cacheInstrumentation != null) {
+			for (CacheOperationContext context : contexts.get(CacheableOperation.class)) {
+				if (context.isConditionPassing(CacheOperationExpressionEvaluator.NO_RESULT)) {
+					return invokeLoad(invoker, context);
+				}
+			}
+		}
+		return invokeOperation(invoker);
+	}
+
+	/**
+	 * Invoke the method for a cache miss of the given operation, recording
+	 * the load if instrumented: on completion of a {@code CompletableFuture},
+	 * or right away for any other return value.
+	 */
+	@Nullable
+	private Object invokeLoad(CacheOperationInvoker invoker, CacheOperationContext context) {
+		CacheInstrumentation instrumentation = this.cacheInstrumentation;
+		if (instrumentation == null) {
+			return invokeOperation(invoker);
+		}
+		long start = System.nanoTime();
+		Object returnValue;
+		try {
+			returnValue = invokeOperation(invoker);
+		}
+		catch (Throwable ex) {
+			instrumentation.recordLoad(context.getCacheNames(), context.metadata.operation,
+					System.nanoTime() - start, false);
+			throw ex;
+		}
+		if (returnValue instanceof CompletableFuture<?> future) {
+			future.whenComplete((value, ex) -> instrumentation.recordLoad(context.getCacheNames(),
+					context.metadata.operation, System.nanoTime() - start, ex == null));
+		}
+		else {
+			instrumentation.recordLoad(context.getCacheNames(), context.metadata.operation,
+					System.nanoTime() - start, true);
+		}
+		return returnValue;
+	}
+
+	/**
+	 * Determine the key for coalescing a cache miss with concurrent misses
+	 * for the same method and cache key, if applicable.
+	 */
+	@Nullable
+	private InFlightKey determineInFlightKey(Method method, CacheOperationContexts contexts) {
+		if (!contexts.get(CachePutOperation.class).isEmpty() || !contexts.get(CacheEvictOperation.class).isEmpty() ||
+				(KotlinDetector.isKotlinReflectPresent() && KotlinDetector.isSuspendingFunction(method))) {
+			return null;
+		}
+		for (CacheOperationContext context : contexts.get(CacheableOperation.class)) {
+			if (isConditionPassing(context, CacheOperationExpressionEvaluator.NO_RESULT)) {
+				Object key = generateKey(context, CacheOperationExpressionEvaluator.NO_RESULT);
+				return new InFlightKey(context.metadata.methodKey, context.getCacheNames(), key,
+						context.metadata.operation);
+			}
+		}
+		return null;
+	}
+
+	@Nullable
+	private Object coalesce(InFlightKey inFlightKey, Method method, Supplier<Object> invocation) {
+		if (CompletableFuture.class.isAssignableFrom(method.getReturnType())) {
+			return coalesceFuture(inFlightKey, invocation);
+		}
+		if (this.reactiveCachingHandler != null) {
+			Object returnValue = this.reactiveCachingHandler.coalesce(inFlightKey, method, invocation);
+			if (returnValue != ReactiveCachingHandler.NOT_HANDLED) {
+				return returnValue;
+			}
+		}
+
+		InFlightInvocation flight = new InFlightInvocation();
+		CompletableFuture<Object> existing = this.inFlightInvocations.putIfAbsent(inFlightKey, flight);
+		if (existing != null) {
+			if (isReentrantInvocation(existing)) {
+				return invocation.get();
+			}
+			return awaitInFlightInvocation(inFlightKey, existing, invocation);
+		}
+		Object returnValue;
+		try {
+			returnValue = invocation.get();
+		}
+		catch (Throwable ex) {
+			this.inFlightInvocations.remove(inFlightKey, flight);
+			flight.completeExceptionally(ex);
+			throw ex;
+		}
+		finally {
+			flight.invocationReturned();
+		}
+		this.inFlightInvocations.remove(inFlightKey, flight);
+		flight.complete(returnValue);
+		return returnValue;
+	}
+
+	@Nullable
+	private Object awaitInFlightInvocation(
+			InFlightKey inFlightKey, CompletableFuture<Object> flight, Supplier<Object> invocation) {
+
+		if (logger.isTraceEnabled()) {
+			logger.trace("Awaiting in-flight invocation for " + inFlightKey);
+		}
+		long start = System.nanoTime();
+		try {
+			Duration timeout = this.coalescingTimeout;
+			return (timeout != null ? flight.get(timeout.toNanos(), TimeUnit.NANOSECONDS) : flight.get());
+		}
+		catch (ExecutionException ex) {
+			if (this.coalescingFailurePolicy == CoalescingFailurePolicy.PROPAGATE) {
+				ReflectionUtils.rethrowRuntimeException(ex.getCause());
+			}
+		}
+		catch (TimeoutException | CancellationException ex) {
+			if (logger.isDebugEnabled()) {
+				logger.debug("In-flight invocation for " + inFlightKey + " not completed in time: invoking directly");
+			}
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+		finally {
+			recordCoalescedWait(inFlightKey, start);
+		}
+		return invocation.get();
+	}
+
+	/**
+	 * Determine whether the given in-flight invocation is led by the current
+	 * thread, i.e. whether the method calls itself for the same key: waiting
+	 * would never complete in that case.
+	 */
+	private boolean isReentrantInvocation(CompletableFuture<Object> flight) {
+		return (flight instanceof InFlightInvocation invocation && invocation.isLedByCurrentThread());
+	}
+
+	private void recordCoalescedWait(InFlightKey inFlightKey, long startNanos) {
+		if (this.cacheInstrumentation != null) {
+			this.cacheInstrumentation.recordCoalescedWait(
+					inFlightKey.cacheNames(), inFlightKey.operation(), System.nanoTime() - startNanos);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private CompletableFuture<?> coalesceFuture(InFlightKey inFlightKey, Supplier<Object> invocation) {
+		InFlightInvocation flight = new InFlightInvocation();
+		CompletableFuture<Object> existing = this.inFlightInvocations.putIfAbsent(inFlightKey, flight);
+		if (existing != null) {
+			if (isReentrantInvocation(existing)) {
+				return (CompletableFuture<?>) invocation.get();
+			}
+			CompletableFuture<Object> result = existing.copy();
+			if (this.coalescingTimeout != null) {
+				result = result.orTimeout(this.coalescingTimeout.toNanos(), TimeUnit.NANOSECONDS);
+			}
+			if (this.cacheInstrumentation != null) {
+				long start = System.nanoTime();
+				result.whenComplete((value, ex) -> recordCoalescedWait(inFlightKey, start));
+			}
+			return result.handle((value, ex) -> (ex == null ? CompletableFuture.completedFuture(value) :
+					invokeAfterInFlightFailure(ex) ? (CompletableFuture<Object>) invocation.get() :
+					CompletableFuture.failedFuture(ex instanceof CompletionException ? ex.getCause() : ex)))
+					.thenCompose(Function.identity());
+		}
+		CompletableFuture<?> returnValue;
+		try {
+			returnValue = (CompletableFuture<?>) invocation.get();
+		}
+		catch (Throwable ex) {
+			this.inFlightInvocations.remove(inFlightKey, flight);
+			flight.completeExceptionally(ex);
+			throw ex;
+		}
+		finally {
+			flight.invocationReturned();
+		}
+		if (returnValue == null) {
+			this.inFlightInvocations.remove(inFlightKey, flight);
+			flight.complete(null);
+			return null;
+		}
+		returnValue.whenComplete((value, ex) -> {
+			this.inFlightInvocations.remove(inFlightKey, flight);
+			if (ex != null) {
+				flight.completeExceptionally(ex);
+			}
+			else {
+				flight.complete(value);
+			}
+		});
+		return returnValue;
+	}
+
+	/**
+	 * Determine whether a caller waiting for a coalesced invocation should invoke
+	 * the method itself after the given failure, rather than propagating it.
+	 */
+	private boolean invokeAfterInFlightFailure(Throwable ex) {
+		Throwable cause = (ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex);
+		return (this.coalescingFailurePolicy == CoalescingFailurePolicy.INVOKE ||
+				cause instanceof TimeoutException || cause instanceof CancellationException);
+	}
+
 	@Nullable
 	private Object unwrapCacheValue(@Nullable Object cacheValue) {
 		return (cacheValue instanceof Cache.ValueWrapper wrapper ? wrapper.get() : cacheValue);
@@ -621,6 +1228,7 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 					if (operation.isCacheWide()) {
 						logInvalidating(context, operation, null);
 						doClear(cache, operation.isBeforeInvocation());
+						recordEviction(context, cache);
 					}
 					else {
 						if (key == null) {
@@ -628,12 +1236,19 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 						}
 						logInvalidating(context, operation, key);
 						doEvict(cache, key, operation.isBeforeInvocation());
+						recordEviction(context, cache);
 					}
 				}
 			}
 		}
 	}
 
+	private void recordEviction(CacheOperationContext context, Cache cache) {
+		if (this.cacheInstrumentation != null) {
+			this.cacheInstrumentation.recordEviction(cache.getName(), context.metadata.operation);
+		}
+	}
+
 	private void logInvalidating(CacheOperationContext context, CacheEvictOperation operation, @Nullable Object key) {
 		if (logger.isTraceEnabled()) {
 			logger.trace("Invalidating " + (key != null ? "cache key [" + key + "]" : "entire cache") +
@@ -668,7 +1283,12 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 	}
 
 	private Object generateKey(CacheOperationContext context, @Nullable Object result) {
+		CacheInstrumentation instrumentation = this.cacheInstrumentation;
+		long start = (instrumentation != null ? System.nanoTime() : 0L);
 		Object key = context.generateKey(result);
+		if (instrumentation != null) {
+			instrumentation.recordKeyGeneration(context.metadata.operation, System.nanoTime() - start);
+		}
 		if (key == null) {
 			throw new IllegalArgumentException("Null key returned for cache operation (maybe you are " +
 					"using named params on classes without debug info?) " + context.metadata.operation);
@@ -686,6 +1306,8 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 
 		private final boolean sync;
 
+		private final boolean bulk;
+
 		public CacheOperationContexts(Collection<? extends CacheOperation> operations, Method method,
 				Object[] args, Object target, Class<?> targetClass) {
 
@@ -694,6 +1316,7 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 				this.contexts.add(op.getClass(), getOperationContext(op, method, args, target, targetClass));
 			}
 			this.sync = determineSyncFlag(method);
+			this.bulk = determineBulkFlag(method);
 		}
 
 		public Collection<CacheOperationContext> get(Class<? extends CacheOperation> operationClass) {
@@ -705,6 +1328,10 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 			return this.sync;
 		}
 
+		public boolean isBulk() {
+			return this.bulk;
+		}
+
 		private boolean determineSyncFlag(Method method) {
 			List<CacheOperationContext> cacheableContexts = this.contexts.get(CacheableOperation.class);
 			if (cacheableContexts == null) {  // no @Cacheable operation at all
@@ -740,6 +1367,51 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 			}
 			return false;
 		}
+
+		private boolean determineBulkFlag(Method method) {
+			List<CacheOperationContext> cacheableContexts = this.contexts.get(CacheableOperation.class);
+			if (cacheableContexts == null) {  // no @Cacheable operation at all
+				return false;
+			}
+			boolean bulkEnabled = false;
+			for (CacheOperationContext context : cacheableContexts) {
+				if (context.getOperation() instanceof CacheableOperation cacheable && cacheable.isBulk()) {
+					bulkEnabled = true;
+					break;
+				}
+			}
+			if (bulkEnabled) {
+				if (this.contexts.size() > 1) {
+					throw new IllegalStateException(
+							"A bulk=true operation cannot be combined with other cache operations on '" + method + "'");
+				}
+				if (cacheableContexts.size() > 1) {
+					throw new IllegalStateException(
+							"Only one bulk=true operation is allowed on '" + method + "'");
+				}
+				CacheableOperation operation = (CacheableOperation) cacheableContexts.get(0).getOperation();
+				if (operation.isSync()) {
+					throw new IllegalStateException(
+							"A bulk=true operation cannot be combined with sync=true on '" + operation + "'");
+				}
+				if (StringUtils.hasText(operation.getKey())) {
+					throw new IllegalStateException(
+							"A bulk=true operation does not support the key attribute on '" + operation + "'");
+				}
+				if (method.getParameterCount() != 1 ||
+						!Collection.class.isAssignableFrom(method.getParameterTypes()[0])) {
+					throw new IllegalStateException(
+							"A bulk=true operation requires a single Collection parameter on '" + method + "'");
+				}
+				Class<?> returnType = method.getReturnType();
+				if (!returnType.isAssignableFrom(LinkedHashMap.class) && !returnType.isAssignableFrom(ArrayList.class)) {
+					throw new IllegalStateException(
+							"A bulk=true operation requires a Map or List return type on '" + method + "'");
+				}
+				return true;
+			}
+			return false;
+		}
 	}
 
 
@@ -838,9 +1510,11 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 		protected boolean isConditionPassing(@Nullable Object result) {
 			if (this.conditionPassing == null) {
 				if (StringUtils.hasText(this.metadata.operation.getCondition())) {
+					long start = (cacheInstrumentation != null ? System.nanoTime() : 0L);
 					EvaluationContext evaluationContext = createEvaluationContext(result);
 					this.conditionPassing = evaluator.condition(this.metadata.operation.getCondition(),
 							this.metadata.methodKey, evaluationContext);
+					recordExpressionEvaluation(start);
 				}
 				else {
 					this.conditionPassing = true;
@@ -858,20 +1532,30 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 				unless = cachePutOperation.getUnless();
 			}
 			if (StringUtils.hasText(unless)) {
+				long start = (cacheInstrumentation != null ? System.nanoTime() : 0L);
 				EvaluationContext evaluationContext = createEvaluationContext(value);
-				return !evaluator.unless(unless, this.metadata.methodKey, evaluationContext);
+				boolean unlessPassing = evaluator.unless(unless, this.metadata.methodKey, evaluationContext);
+				recordExpressionEvaluation(start);
+				return !unlessPassing;
 			}
 			return true;
 		}
 
+		private void recordExpressionEvaluation(long startNanos) {
+			CacheInstrumentation instrumentation = cacheInstrumentation;
+			if (instrumentation != null) {
+				instrumentation.recordExpressionEvaluation(this.metadata.operation, System.nanoTime() - startNanos);
+			}
+		}
+
 		/**
 		 * Compute the key for the given caching operation.
 		 */
 		@Nullable
 		protected Object generateKey(@Nullable Object result) {
 			if (StringUtils.hasText(this.metadata.operation.getKey())) {
-				EvaluationContext evaluationContext = createEvaluationContext(result);
-				return evaluator.key(this.metadata.operation.getKey(), this.metadata.methodKey, evaluationContext);
+				return evaluator.key(this.metadata.operation.getKey(), this.metadata.methodKey,
+						this.metadata.targetMethod, this.args, () -> createEvaluationContext(result));
 			}
 			return this.metadata.keyGenerator.generate(this.target, this.metadata.method, this.args);
 		}
@@ -938,6 +1622,32 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 	}
 
 
+	/**
+	 * Key for an in-flight invocation to coalesce concurrent cache misses with.
+	 */
+	private record InFlightKey(AnnotatedElementKey methodKey, Collection<String> cacheNames, Object key,
+			CacheOperation operation) {
+	}
+
+
+	/**
+	 * In-flight invocation, recording the leader thread while it invokes the method.
+	 */
+	private static final class InFlightInvocation extends CompletableFuture<Object> {
+
+		@Nullable
+		private volatile Thread leader = Thread.currentThread();
+
+		boolean isLedByCurrentThread() {
+			return (this.leader == Thread.currentThread());
+		}
+
+		void invocationReturned() {
+			this.leader = null;
+		}
+	}
+
+
 	private class CachePutRequest {
 
 		private final CacheOperationContext context;
@@ -974,6 +1684,9 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 				}
 				for (Cache cache : this.context.getCaches()) {
 					doPut(cache, key, value);
+					if (cacheInstrumentation != null) {
+						cacheInstrumentation.recordPut(cache.getName(), this.context.metadata.operation);
+					}
 				}
 			}
 		}
@@ -1021,25 +1734,30 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 		private final ReactiveAdapterRegistry registry = ReactiveAdapterRegistry.getSharedInstance();
 
 		@Nullable
-		public Object executeSynchronized(CacheOperationInvoker invoker, Method method, Cache cache, Object key) {
+		public Object executeSynchronized(CacheOperationInvoker invoker, Method method,
+				CacheOperationContext context, Cache cache, Object key, @Nullable AtomicBoolean loaded) {
+
 			ReactiveAdapter adapter = this.registry.getAdapter(method.getReturnType());
 			if (adapter != null) {
 				if (adapter.isMultiValue()) {
 					// Flux or similar
 					return adapter.fromPublisher(Flux.from(Mono.fromFuture(
 							cache.retrieve(key,
-									() -> Flux.from(adapter.toPublisher(invokeOperation(invoker))).collectList().toFuture())))
+									() -> Flux.from(adapter.toPublisher(invokeSynchronizedLoad(invoker, context, cache, loaded)))
+											.collectList().toFuture())))
 							.flatMap(Flux::fromIterable));
 				}
 				else {
 					// Mono or similar
 					return adapter.fromPublisher(Mono.fromFuture(
 							cache.retrieve(key,
-									() -> Mono.from(adapter.toPublisher(invokeOperation(invoker))).toFuture())));
+									() -> Mono.from(adapter.toPublisher(invokeSynchronizedLoad(invoker, context, cache, loaded)))
+											.toFuture())));
 				}
 			}
 			if (KotlinDetector.isKotlinReflectPresent() && KotlinDetector.isSuspendingFunction(method)) {
-				return Mono.fromFuture(cache.retrieve(key, () -> ((Mono<?>) invokeOperation(invoker)).toFuture()));
+				return Mono.fromFuture(cache.retrieve(key,
+						() -> ((Mono<?>) invokeSynchronizedLoad(invoker, context, cache, loaded)).toFuture()));
 			}
 			return NOT_HANDLED;
 		}
@@ -1063,8 +1781,10 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 			if (adapter != null) {
 				CompletableFuture<?> cachedFuture = cache.retrieve(key);
 				if (cachedFuture == null) {
+					recordLookup(context, cache, false);
 					return null;
 				}
+				recordLookup(context, cache, cachedFuture);
 				if (adapter.isMultiValue()) {
 					return adapter.fromPublisher(Flux.from(
 							Mono.fromFuture(cachedFuture)
@@ -1081,6 +1801,83 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 			return NOT_HANDLED;
 		}
 
+		@SuppressWarnings("unchecked")
+		@Nullable
+		public Object coalesce(InFlightKey inFlightKey, Method method, Supplier<Object> invocation) {
+			ReactiveAdapter adapter = this.registry.getAdapter(method.getReturnType());
+			if (adapter == null) {
+				return NOT_HANDLED;
+			}
+			if (adapter.isMultiValue()) {
+				// Flux or similar
+				return adapter.fromPublisher(Flux.defer(() -> {
+					CompletableFuture<Object> flight = new CompletableFuture<>();
+					CompletableFuture<Object> existing = inFlightInvocations.putIfAbsent(inFlightKey, flight);
+					if (existing != null) {
+						return awaitInFlightInvocation(inFlightKey, existing)
+								.flatMapMany(values -> Flux.fromIterable((List<Object>) values))
+								.onErrorResume(CacheAspectSupport.this::invokeAfterInFlightFailure,
+										ex -> Flux.from(adapter.toPublisher(invocation.get())));
+					}
+					List<Object> values = new ArrayList<>();
+					return Flux.from(adapter.toPublisher(invocation.get()))
+							.doOnNext(values::add)
+							.doOnComplete(() -> {
+								inFlightInvocations.remove(inFlightKey, flight);
+								flight.complete(values);
+							})
+							.doOnError(failInFlightInvocation(inFlightKey, flight))
+							.doOnCancel(cancelInFlightInvocation(inFlightKey, flight));
+				}));
+			}
+			else {
+				// Mono or similar
+				return adapter.fromPublisher(Mono.defer(() -> {
+					CompletableFuture<Object> flight = new CompletableFuture<>();
+					CompletableFuture<Object> existing = inFlightInvocations.putIfAbsent(inFlightKey, flight);
+					if (existing != null) {
+						return awaitInFlightInvocation(inFlightKey, existing)
+								.onErrorResume(CacheAspectSupport.this::invokeAfterInFlightFailure,
+										ex -> Mono.from(adapter.toPublisher(invocation.get())));
+					}
+					return Mono.from(adapter.toPublisher(invocation.get()))
+							.doOnSuccess(value -> {
+								inFlightInvocations.remove(inFlightKey, flight);
+								flight.complete(value);
+							})
+							.doOnError(failInFlightInvocation(inFlightKey, flight))
+							.doOnCancel(cancelInFlightInvocation(inFlightKey, flight));
+				}));
+			}
+		}
+
+		private Mono<Object> awaitInFlightInvocation(InFlightKey inFlightKey, CompletableFuture<Object> flight) {
+			Mono<Object> result = Mono.fromFuture(flight.copy());
+			if (coalescingTimeout != null) {
+				result = result.timeout(coalescingTimeout);
+			}
+			if (cacheInstrumentation != null) {
+				long start = System.nanoTime();
+				result = result.doFinally(signal -> recordCoalescedWait(inFlightKey, start));
+			}
+			return result;
+		}
+
+		private Consumer<Throwable> failInFlightInvocation(InFlightKey inFlightKey, CompletableFuture<Object> flight) {
+			return ex -> {
+				inFlightInvocations.remove(inFlightKey, flight);
+				flight.completeExceptionally(ex);
+			};
+		}
+
+		private Runnable cancelInFlightInvocation(InFlightKey inFlightKey, CompletableFuture<Object> flight) {
+			return () -> {
+				// Let waiting subscribers invoke the method themselves
+				inFlightInvocations.remove(inFlightKey, flight);
+				flight.cancel(false);
+			};
+		}
+
 		@Nullable
 		public Object processPutRequest(CachePutRequest request, @Nullable Object result) {
 			ReactiveAdapter adapter = (result != null ? this.registry.getAdapter(result.getClass()) : null);
@@ -1099,4 +1896,26 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 		}
 	}
 
+
+	/**
+	 * Policy for callers waiting for the result of a coalesced invocation
+	 * in case of a failure of that invocation.
+	 * @since 6.1.2
+	 * @see #setCoalescingFailurePolicy
+	 */
+	public enum CoalescingFailurePolicy {
+
+		/**
+		 * Propagate the exception thrown by the coalesced invocation
+		 * to all callers waiting for it.
+		 */
+		PROPAGATE,
+
+		/**
+		 * Let each caller waiting for the coalesced invocation invoke
+		 * the method itself.
+		 */
+		INVOKE
+	}
+
 }
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cache.interceptor;
+
+import java.util.Collection;
+
+/**
+ * Strategy for recording statistics about the caching operations performed
+ * by a {@link CacheAspectSupport cache aspect}, independent of the underlying
+ * cache provider: cache hits, misses, puts and evictions per cache as well as
+ * the invocations of the cached method on a cache miss, the time spent waiting
+ * for coalesced invocations and the cost of key generation and of evaluating
+ * {@code condition} and {@code unless} expressions.
+ *
+ * <p>All methods are invoked on the calling thread of the cached method (or on
+ * the thread completing its asynchronous result) and should therefore return
+ * quickly and must be thread-safe. All durations are given in nanoseconds.
+ * Each method has an empty default implementation, so that implementations
+ * only need to override the events they are interested in.
+ *
+ * @since 6.1.2
+ * @see CacheAspectSupport#setCacheInstrumentation
+ * @see SimpleCacheInstrumentation
+ */
+public interface CacheInstrumentation {
+
+	/**
+	 * Record a cache hit for the given operation.
+	 * @param cacheName the name of the cache holding the value
+	 * @param operation the cache operation
+	 */
+	default void recordHit(String cacheName, CacheOperation operation) {
+	}
+
+	/**
+	 * Record a cache miss for the given operation, once per cache consulted
+	 * without finding a value.
+	 * @param cacheName the name of the cache not holding a value
+	 * @param operation the cache operation
+	 */
+	default void recordMiss(String cacheName, CacheOperation operation) {
+	}
+
+	/**
+	 * Record a value being stored in a cache for the given operation.
+	 * @param cacheName the name of the cache
+	 * @param operation the cache operation
+	 */
+	default void recordPut(String cacheName, CacheOperation operation) {
+	}
+
+	/**
+	 * Record an explicit eviction of an entry, or the clearing of an entire
+	 * cache, for the given operation.
+	 * @param cacheName the name of the cache
+	 * @param operation the cache operation
+	 */
+	default void recordEviction(String cacheName, CacheOperation operation) {
+	}
+
+	/**
+	 * Record an invocation of the cached method in order to load the value
+	 * for a cache miss. For methods returning a {@code CompletableFuture},
+	 * the duration covers the completion of the future; for reactive types,
+	 * it only covers the invocation of the method.
+	 * @param cacheNames the names of the caches to load the value for
+	 * @param operation the cache operation
+	 * @param durationNanos the duration of the invocation
+	 * @param success whether the invocation succeeded
+	 */
+	default void recordLoad(Collection<String> cacheNames, CacheOperation operation,
+			long durationNanos, boolean success) {
+	}
+
+	/**
+	 * Record a caller waiting for the result of a concurrent invocation
+	 * of the cached method for the same key.
+	 * @param cacheNames the names of the caches to load the value for
+	 * @param operation the cache operation
+	 * @param durationNanos the time spent waiting
+	 * @see CacheAspectSupport#setCoalesceCacheMisses
+	 */
+	default void recordCoalescedWait(Collection<String> cacheNames, CacheOperation operation,
+			long durationNanos) {
+	}
+
+	/**
+	 * Record the computation of a cache key, either through a {@code key}
+	 * expression or through the {@link KeyGenerator}.
+	 * @param operation the cache operation
+	 * @param durationNanos the time spent computing the key
+	 */
+	default void recordKeyGeneration(CacheOperation operation, long durationNanos) {
+	}
+
+	/**
+	 * Record the evaluation of a {@code condition} or {@code unless} expression.
+	 * @param operation the cache operation
+	 * @param durationNanos the time spent evaluating the expression
+	 */
+	default void recordExpressionEvaluation(CacheOperation operation, long durationNanos) {
+	}
+
+}
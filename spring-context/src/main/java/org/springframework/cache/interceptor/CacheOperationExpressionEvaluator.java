@@ -16,24 +16,44 @@
 
 package org.springframework.cache.interceptor;
 
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 import org.springframework.cache.Cache;
 import org.springframework.context.expression.AnnotatedElementKey;
 import org.springframework.context.expression.CachedExpressionEvaluator;
+import org.springframework.core.KotlinDetector;
+import org.springframework.core.ParameterNameDiscoverer;
 import org.springframework.expression.EvaluationContext;
 import org.springframework.expression.Expression;
+import org.springframework.expression.spel.SpelNode;
+import org.springframework.expression.spel.ast.CompoundExpression;
+import org.springframework.expression.spel.ast.PropertyOrFieldReference;
+import org.springframework.expression.spel.ast.VariableReference;
+import org.springframework.expression.spel.standard.SpelExpression;
 import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.util.StringUtils;
 
 /**
  * Utility class handling the SpEL expression parsing.
  * Meant to be used as a reusable, thread-safe component.
  *
  * <p>Performs internal caching for performance reasons
- * using {@link AnnotatedElementKey}.
+ * using {@link AnnotatedElementKey}. As of 6.1.2, expressions are
+ * {@linkplain #createCompilingParser compiled} once they have been evaluated
+ * repeatedly, unless configured otherwise, and key expressions which simply
+ * refer to a method argument or to a property of a method argument, such as
+ * {@code #p0}, {@code #id} or {@code #book.isbn}, are evaluated against the
+ * arguments directly, without creating an {@link EvaluationContext}.
  *
  * @author Costin Leau
  * @author Phillip Webb
@@ -65,10 +85,12 @@ class CacheOperationExpressionEvaluator extends CachedExpressionEvaluator {
 
 	private final Map<ExpressionKey, Expression> unlessCache = new ConcurrentHashMap<>(64);
 
+	private final Map<Expression, ArgumentAccessor> argumentAccessorCache = new ConcurrentHashMap<>(64);
+
 	private final CacheEvaluationContextFactory evaluationContextFactory;
 
 	public CacheOperationExpressionEvaluator(CacheEvaluationContextFactory evaluationContextFactory) {
-		super();
+		super(createCompilingParser(null));
 		this.evaluationContextFactory = evaluationContextFactory;
 		this.evaluationContextFactory.setParameterNameDiscoverer(this::getParameterNameDiscoverer);
 	}
@@ -106,6 +128,33 @@ class CacheOperationExpressionEvaluator extends CachedExpressionEvaluator {
 		return getExpression(this.keyCache, methodKey, keyExpression).getValue(evalContext);
 	}
 
+	/**
+	 * Evaluate the given key expression, accessing the given arguments directly
+	 * if the expression refers to a method argument or to a chain of properties
+	 * of a method argument, and only creating an {@link EvaluationContext}
+	 * through the given supplier otherwise.
+	 * @param keyExpression the key expression
+	 * @param methodKey the key of the method the expression is defined on
+	 * @param targetMethod the target method, determining the parameter names
+	 * @param args the method arguments
+	 * @param evalContext the supplier for the evaluation context
+	 * @return the evaluated key
+	 * @since 6.1.2
+	 */
+	@Nullable
+	public Object key(String keyExpression, AnnotatedElementKey methodKey, Method targetMethod, Object[] args,
+			Supplier<EvaluationContext> evalContext) {
+
+		Expression expression = getExpression(this.keyCache, methodKey, keyExpression);
+		ArgumentAccessor accessor = this.argumentAccessorCache.get(expression);
+		if (accessor == null) {
+			accessor = ArgumentAccessor.forExpression(expression, targetMethod, getParameterNameDiscoverer());
+			this.argumentAccessorCache.put(expression, accessor);
+		}
+		Object key = accessor.getValue(args);
+		return (key != ArgumentAccessor.NOT_ACCESSIBLE ? key : expression.getValue(evalContext.get()));
+	}
+
 	public boolean condition(String conditionExpression, AnnotatedElementKey methodKey, EvaluationContext evalContext) {
 		return (Boolean.TRUE.equals(getExpression(this.conditionCache, methodKey, conditionExpression).getValue(
 				evalContext, Boolean.class)));
@@ -123,6 +172,129 @@ class CacheOperationExpressionEvaluator extends CachedExpressionEvaluator {
 		this.keyCache.clear();
 		this.conditionCache.clear();
 		this.unlessCache.clear();
+		this.argumentAccessorCache.clear();
+	}
+
+
+	/**
+	 * Direct accessor for a method argument or for a chain of properties of a
+	 * method argument, equivalent to evaluating a simple expression such as
+	 * {@code #p0} or {@code #book.isbn} against a {@link CacheEvaluationContext}.
+	 * Properties are read through the public getter of the declared parameter
+	 * or property type, as resolved by SpEL's reflective property access.
+	 * Any case the accessor does not cover, such as a {@code null} value in the
+	 * property chain, is left to the regular evaluation of the expression.
+	 */
+	private static final class ArgumentAccessor {
+
+		static final Object NOT_ACCESSIBLE = new Object();
+
+		static final ArgumentAccessor NONE = new ArgumentAccessor(-1, new Method[0]);
+
+		private final int index;
+
+		private final Method[] getters;
+
+		private ArgumentAccessor(int index, Method[] getters) {
+			this.index = index;
+			this.getters = getters;
+		}
+
+		@Nullable
+		Object getValue(Object[] args) {
+			if (this.index < 0 || this.index >= args.length) {
+				return NOT_ACCESSIBLE;
+			}
+			Object value = args[this.index];
+			for (Method getter : this.getters) {
+				if (value == null) {
+					return NOT_ACCESSIBLE;
+				}
+				try {
+					value = getter.invoke(value);
+				}
+				catch (IllegalAccessException ex) {
+					return NOT_ACCESSIBLE;
+				}
+				catch (InvocationTargetException ex) {
+					// Propagate exceptions thrown by the getter itself, without invoking it again
+					ReflectionUtils.rethrowRuntimeException(ex.getTargetException());
+				}
+			}
+			return value;
+		}
+
+		static ArgumentAccessor forExpression(Expression expression, Method method,
+				ParameterNameDiscoverer parameterNameDiscoverer) {
+
+			if (!(expression instanceof SpelExpression spelExpression) || method.isVarArgs() ||
+					(KotlinDetector.isKotlinReflectPresent() && KotlinDetector.isSuspendingFunction(method))) {
+				return NONE;
+			}
+			SpelNode ast = spelExpression.getAST();
+			SpelNode variable = (ast instanceof CompoundExpression ? ast.getChild(0) : ast);
+			if (!(variable instanceof VariableReference)) {
+				return NONE;
+			}
+			String variableName = variable.toStringAST().substring(1);
+			if (variableName.equals("root") || variableName.equals("this") || variableName.equals(RESULT_VARIABLE)) {
+				return NONE;
+			}
+
+			// Same variable precedence as in MethodBasedEvaluationContext
+			String[] paramNames = parameterNameDiscoverer.getParameterNames(method);
+			int paramCount = (paramNames != null ? paramNames.length : method.getParameterCount());
+			int index = -1;
+			for (int i = 0; i < paramCount; i++) {
+				if (variableName.equals("a" + i) || variableName.equals("p" + i) ||
+						(paramNames != null && variableName.equals(paramNames[i]))) {
+					index = i;
+				}
+			}
+			if (index < 0 || index >= method.getParameterCount()) {
+				return NONE;
+			}
+
+			Class<?> type = method.getParameterTypes()[index];
+			List<Method> getters = new ArrayList<>();
+			for (int i = 1; i < ast.getChildCount() && ast instanceof CompoundExpression; i++) {
+				if (!(ast.getChild(i) instanceof PropertyOrFieldReference property) || property.isNullSafe()) {
+					return NONE;
+				}
+				Method getter = findGetter(type, property.getName());
+				if (getter == null) {
+					return NONE;
+				}
+				getters.add(getter);
+				type = getter.getReturnType();
+			}
+			return new ArgumentAccessor(index, getters.toArray(new Method[0]));
+		}
+
+		@Nullable
+		private static Method findGetter(Class<?> type, String propertyName) {
+			if (propertyName.length() > 1 && Character.isUpperCase(propertyName.charAt(1))) {
+				return null;
+			}
+			String suffix = StringUtils.capitalize(propertyName);
+			Method getter = ClassUtils.getMethodIfAvailable(type, "get" + suffix);
+			if (getter == null) {
+				getter = ClassUtils.getMethodIfAvailable(type, "is" + suffix);
+				if (getter != null && getter.getReturnType() != boolean.class && getter.getReturnType() != Boolean.class) {
+					return null;
+				}
+			}
+			if (getter == null || getter.getReturnType() == void.class || Modifier.isStatic(getter.getModifiers())) {
+				return null;
+			}
+			try {
+				ReflectionUtils.makeAccessible(getter);
+			}
+			catch (RuntimeException ex) {
+				return null;
+			}
+			return getter;
+		}
 	}
 
 }
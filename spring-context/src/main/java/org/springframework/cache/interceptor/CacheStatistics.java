@@ -0,0 +1,227 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cache.interceptor;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Statistics about the caching operations on a cache or for a cache operation,
+ * as recorded by a {@link SimpleCacheInstrumentation}. Counters are backed by
+ * {@link LongAdder} instances, keeping contention between concurrent callers
+ * low; each getter returns the current sum of the corresponding counter.
+ *
+ * <p>Key generation and expression evaluation are only recorded per operation.
+ * Note that cache statistics only include the operations performed through
+ * the cache aspect, not any direct use of the cache.
+ *
+ * @since 6.1.2
+ * @see SimpleCacheInstrumentation#getCacheStatistics(String)
+ * @see SimpleCacheInstrumentation#getOperationStatistics(CacheOperation)
+ */
+public class CacheStatistics {
+
+	private final LongAdder hits = new LongAdder();
+
+	private final LongAdder misses = new LongAdder();
+
+	private final LongAdder puts = new LongAdder();
+
+	private final LongAdder evictions = new LongAdder();
+
+	private final LongAdder loads = new LongAdder();
+
+	private final LongAdder loadFailures = new LongAdder();
+
+	private final LongAdder loadTime = new LongAdder();
+
+	private final LongAdder coalescedWaits = new LongAdder();
+
+	private final LongAdder coalescedWaitTime = new LongAdder();
+
+	private final LongAdder keyGenerations = new LongAdder();
+
+	private final LongAdder keyGenerationTime = new LongAdder();
+
+	private final LongAdder expressionEvaluations = new LongAdder();
+
+	private final LongAdder expressionEvaluationTime = new LongAdder();
+
+
+	void recordHit() {
+		this.hits.increment();
+	}
+
+	void recordMiss() {
+		this.misses.increment();
+	}
+
+	void recordPut() {
+		this.puts.increment();
+	}
+
+	void recordEviction() {
+		this.evictions.increment();
+	}
+
+	void recordLoad(long durationNanos, boolean success) {
+		this.loads.increment();
+		if (!success) {
+			this.loadFailures.increment();
+		}
+		this.loadTime.add(durationNanos);
+	}
+
+	void recordCoalescedWait(long durationNanos) {
+		this.coalescedWaits.increment();
+		this.coalescedWaitTime.add(durationNanos);
+	}
+
+	void recordKeyGeneration(long durationNanos) {
+		this.keyGenerations.increment();
+		this.keyGenerationTime.add(durationNanos);
+	}
+
+	void recordExpressionEvaluation(long durationNanos) {
+		this.expressionEvaluations.increment();
+		this.expressionEvaluationTime.add(durationNanos);
+	}
+
+
+	/**
+	 * Return the number of cache hits.
+	 */
+	public long getHitCount() {
+		return this.hits.sum();
+	}
+
+	/**
+	 * Return the number of cache misses.
+	 */
+	public long getMissCount() {
+		return this.misses.sum();
+	}
+
+	/**
+	 * Return the ratio of cache hits to cache lookups, or {@code 1.0}
+	 * if there were no lookups yet.
+	 */
+	public double getHitRatio() {
+		long hits = getHitCount();
+		long lookups = hits + getMissCount();
+		return (lookups == 0 ? 1.0 : (double) hits / lookups);
+	}
+
+	/**
+	 * Return the number of values stored in the cache.
+	 */
+	public long getPutCount() {
+		return this.puts.sum();
+	}
+
+	/**
+	 * Return the number of explicit evictions and clears.
+	 */
+	public long getEvictionCount() {
+		return this.evictions.sum();
+	}
+
+	/**
+	 * Return the number of method invocations for a cache miss,
+	 * including failed invocations.
+	 */
+	public long getLoadCount() {
+		return this.loads.sum();
+	}
+
+	/**
+	 * Return the number of failed method invocations for a cache miss.
+	 */
+	public long getLoadFailureCount() {
+		return this.loadFailures.sum();
+	}
+
+	/**
+	 * Return the total time spent in method invocations for a cache miss,
+	 * in nanoseconds.
+	 */
+	public long getTotalLoadTimeNanos() {
+		return this.loadTime.sum();
+	}
+
+	/**
+	 * Return the average time spent in a method invocation for a cache miss,
+	 * in nanoseconds.
+	 */
+	public double getAverageLoadTimeNanos() {
+		long loads = getLoadCount();
+		return (loads == 0 ? 0.0 : (double) getTotalLoadTimeNanos() / loads);
+	}
+
+	/**
+	 * Return the number of callers that waited for a concurrent invocation.
+	 */
+	public long getCoalescedWaitCount() {
+		return this.coalescedWaits.sum();
+	}
+
+	/**
+	 * Return the total time callers spent waiting for a concurrent invocation,
+	 * in nanoseconds.
+	 */
+	public long getTotalCoalescedWaitTimeNanos() {
+		return this.coalescedWaitTime.sum();
+	}
+
+	/**
+	 * Return the number of cache keys computed.
+	 */
+	public long getKeyGenerationCount() {
+		return this.keyGenerations.sum();
+	}
+
+	/**
+	 * Return the total time spent computing cache keys, in nanoseconds.
+	 */
+	public long getTotalKeyGenerationTimeNanos() {
+		return this.keyGenerationTime.sum();
+	}
+
+	/**
+	 * Return the number of {@code condition} and {@code unless} expressions evaluated.
+	 */
+	public long getExpressionEvaluationCount() {
+		return this.expressionEvaluations.sum();
+	}
+
+	/**
+	 * Return the total time spent evaluating {@code condition} and {@code unless}
+	 * expressions, in nanoseconds.
+	 */
+	public long getTotalExpressionEvaluationTimeNanos() {
+		return this.expressionEvaluationTime.sum();
+	}
+
+	@Override
+	public String toString() {
+		return "CacheStatistics: hits=" + getHitCount() + ", misses=" + getMissCount() + ", puts=" + getPutCount() +
+				", evictions=" + getEvictionCount() + ", loads=" + getLoadCount() + ", loadFailures=" +
+				getLoadFailureCount() + ", totalLoadTimeNanos=" + getTotalLoadTimeNanos() + ", coalescedWaits=" +
+				getCoalescedWaitCount() + ", keyGenerations=" + getKeyGenerationCount() +
+				", expressionEvaluations=" + getExpressionEvaluationCount();
+	}
+
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cache.interceptor;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Simple {@link CacheInstrumentation} implementation, keeping low-overhead
+ * {@link CacheStatistics} in memory per cache name and per cache operation,
+ * for example to tune cache sizes and expiration based on the actual hit
+ * ratio and load times of an application:
+ *
+ * <pre class="code">
+ * SimpleCacheInstrumentation instrumentation = new SimpleCacheInstrumentation();
+ * cacheInterceptor.setCacheInstrumentation(instrumentation);
+ * // ...
+ * CacheStatistics statistics = instrumentation.getCacheStatistics("books");
+ * </pre>
+ *
+ * @since 6.1.2
+ */
+public class SimpleCacheInstrumentation implements CacheInstrumentation {
+
+	private final Map<String, CacheStatistics> cacheStatistics = new ConcurrentHashMap<>(16);
+
+	private final Map<CacheOperation, CacheStatistics> operationStatistics = new ConcurrentHashMap<>(64);
+
+
+	@Override
+	public void recordHit(String cacheName, CacheOperation operation) {
+		forCache(cacheName).recordHit();
+		forOperation(operation).recordHit();
+	}
+
+	@Override
+	public void recordMiss(String cacheName, CacheOperation operation) {
+		forCache(cacheName).recordMiss();
+		forOperation(operation).recordMiss();
+	}
+
+	@Override
+	public void recordPut(String cacheName, CacheOperation operation) {
+		forCache(cacheName).recordPut();
+		forOperation(operation).recordPut();
+	}
+
+	@Override
+	public void recordEviction(String cacheName, CacheOperation operation) {
+		forCache(cacheName).recordEviction();
+		forOperation(operation).recordEviction();
+	}
+
+	@Override
+	public void recordLoad(Collection<String> cacheNames, CacheOperation operation,
+			long durationNanos, boolean success) {
+
+		for (String cacheName : cacheNames) {
+			forCache(cacheName).recordLoad(durationNanos, success);
+		}
+		forOperation(operation).recordLoad(durationNanos, success);
+	}
+
+	@Override
+	public void recordCoalescedWait(Collection<String> cacheNames, CacheOperation operation, long durationNanos) {
+		for (String cacheName : cacheNames) {
+			forCache(cacheName).recordCoalescedWait(durationNanos);
+		}
+		forOperation(operation).recordCoalescedWait(durationNanos);
+	}
+
+	@Override
+	public void recordKeyGeneration(CacheOperation operation, long durationNanos) {
+		forOperation(operation).recordKeyGeneration(durationNanos);
+	}
+
+	@Override
+	public void recordExpressionEvaluation(CacheOperation operation, long durationNanos) {
+		forOperation(operation).recordExpressionEvaluation(durationNanos);
+	}
+
+	private CacheStatistics forCache(String cacheName) {
+		CacheStatistics statistics = this.cacheStatistics.get(cacheName);
+		return (statistics != null ? statistics :
+				this.cacheStatistics.computeIfAbsent(cacheName, name -> new CacheStatistics()));
+	}
+
+	private CacheStatistics forOperation(CacheOperation operation) {
+		CacheStatistics statistics = this.operationStatistics.get(operation);
+		return (statistics != null ? statistics :
+				this.operationStatistics.computeIfAbsent(operation, op -> new CacheStatistics()));
+	}
+
+
+	/**
+	 * Return the statistics for the cache with the given name,
+	 * or {@code null} if no operation has been recorded for it.
+	 */
+	@Nullable
+	public CacheStatistics getCacheStatistics(String cacheName) {
+		return this.cacheStatistics.get(cacheName);
+	}
+
+	/**
+	 * Return the statistics for all caches, keyed by cache name.
+	 */
+	public Map<String, CacheStatistics> getCacheStatistics() {
+		return Collections.unmodifiableMap(this.cacheStatistics);
+	}
+
+	/**
+	 * Return the statistics for the given cache operation,
+	 * or {@code null} if it has not been recorded.
+	 */
+	@Nullable
+	public CacheStatistics getOperationStatistics(CacheOperation operation) {
+		return this.operationStatistics.get(operation);
+	}
+
+	/**
+	 * Return the statistics for all cache operations.
+	 */
+	public Map<CacheOperation, CacheStatistics> getOperationStatistics() {
+		return Collections.unmodifiableMap(this.operationStatistics);
+	}
+
+	/**
+	 * Discard all statistics recorded so far.
+	 */
+	public void reset() {
+		this.cacheStatistics.clear();
+		this.operationStatistics.clear();
+	}
+
+}
@@ -122,4 +122,18 @@ public abstract class AbstractValueAdaptingCache implements Cache {
 		return (storeValue != null ? new SimpleValueWrapper(fromStoreValue(storeValue)) : null);
 	}
 
+	/**
+	 * Wrap the given store value with an {@link AgedValueWrapper}, also going
+	 * through {@link #fromStoreValue} conversion. Useful for {@link #get(Object)}
+	 * implementations of caches which keep track of the time each value was stored.
+	 * @param storeValue the original value
+	 * @param ageNanos the time elapsed since the value was stored, in nanoseconds
+	 * @return the wrapped value
+	 * @since 6.1.2
+	 */
+	@Nullable
+	protected Cache.ValueWrapper toValueWrapper(@Nullable Object storeValue, long ageNanos) {
+		return (storeValue != null ? new AgedValueWrapper(fromStoreValue(storeValue), ageNanos) : null);
+	}
+
 }
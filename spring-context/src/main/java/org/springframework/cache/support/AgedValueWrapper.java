@@ -0,0 +1,66 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cache.support;
+
+import java.time.Duration;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Extension of {@link SimpleValueWrapper} that additionally exposes the age
+ * of the cached value, that is, the time elapsed since the value was stored,
+ * as determined at the time of the lookup.
+ *
+ * <p>Returned by caches that keep track of the time each value was stored,
+ * allowing callers to refresh values ahead of their expiration.
+ *
+ * @since 6.1.2
+ * @see AbstractValueAdaptingCache#toValueWrapper(Object, long)
+ * @see org.springframework.cache.interceptor.CacheAspectSupport#setRefreshAheadAge
+ */
+public class AgedValueWrapper extends SimpleValueWrapper {
+
+	private final long ageNanos;
+
+
+	/**
+	 * Create a new AgedValueWrapper instance for exposing the given value.
+	 * @param value the value to expose (may be {@code null})
+	 * @param ageNanos the time elapsed since the value was stored, in nanoseconds
+	 */
+	public AgedValueWrapper(@Nullable Object value, long ageNanos) {
+		super(value);
+		this.ageNanos = Math.max(ageNanos, 0);
+	}
+
+
+	/**
+	 * Return the time elapsed since the value was stored.
+	 */
+	public Duration getAge() {
+		return Duration.ofNanos(this.ageNanos);
+	}
+
+	/**
+	 * Return whether the value has been stored for at least the given duration.
+	 * @param age the age to compare against
+	 */
+	public boolean isOlderThan(Duration age) {
+		return (this.ageNanos >= age.toNanos());
+	}
+
+}
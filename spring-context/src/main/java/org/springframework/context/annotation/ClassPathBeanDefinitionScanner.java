@@ -16,8 +16,15 @@
 
 package org.springframework.context.annotation;
 
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 
 import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
 import org.springframework.beans.factory.config.BeanDefinition;
@@ -31,6 +38,7 @@ import org.springframework.core.env.Environment;
 import org.springframework.core.env.EnvironmentCapable;
 import org.springframework.core.env.StandardEnvironment;
 import org.springframework.core.io.ResourceLoader;
+import org.springframework.core.type.classreading.MetadataReader;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.ObjectUtils;
@@ -63,6 +71,17 @@ import org.springframework.util.PatternMatchUtils;
  */
 public class ClassPathBeanDefinitionScanner extends ClassPathScanningCandidateComponentProvider {
 
+	/**
+	 * Boolean flag controlled by a {@code spring.context.parallel-scanning} system
+	 * property that instructs Spring to scan the base packages of each
+	 * {@link ComponentScan @ComponentScan} declaration concurrently, using the
+	 * {@link java.util.concurrent.ForkJoinPool#commonPool() common pool}.
+	 * <p>The default is "false".
+	 * @since 6.1.2
+	 * @see #setScanExecutor
+	 */
+	public static final String PARALLEL_SCANNING_PROPERTY_NAME = "spring.context.parallel-scanning";
+
 	private final BeanDefinitionRegistry registry;
 
 	private BeanDefinitionDefaults beanDefinitionDefaults = new BeanDefinitionDefaults();
@@ -76,6 +95,9 @@ public class ClassPathBeanDefinitionScanner extends ClassPathScanningCandidateCo
 
 	private boolean includeAnnotationConfig = true;
 
+	@Nullable
+	private Executor scanExecutor;
+
 
 	/**
 	 * Create a new {@code ClassPathBeanDefinitionScanner} for the given bean factory.
@@ -243,6 +265,35 @@ public class ClassPathBeanDefinitionScanner extends ClassPathScanningCandidateCo
 		this.includeAnnotationConfig = includeAnnotationConfig;
 	}
 
+	/**
+	 * Set an {@link Executor} for scanning several base packages concurrently.
+	 * <p>By default, base packages get scanned one after another. With a scan
+	 * executor, the classpath scanning for each base package runs concurrently,
+	 * whereas the detected components still get named and registered in the
+	 * order of the given base packages, with the same outcome as sequential
+	 * scanning. {@code @Profile} conditions on scanned components get evaluated
+	 * within the concurrent scanning; any other conditions may depend on previously
+	 * registered beans and are therefore evaluated in registration order.
+	 * <p>Note that any custom {@link org.springframework.core.type.filter.TypeFilter
+	 * TypeFilters} need to be thread-safe when scanning concurrently.
+	 * @param scanExecutor the executor to use, or {@code null} for sequential scanning
+	 * @since 6.1.2
+	 * @see #doScan
+	 */
+	public void setScanExecutor(@Nullable Executor scanExecutor) {
+		this.scanExecutor = scanExecutor;
+	}
+
+	/**
+	 * Return the {@link Executor} for scanning several base packages concurrently,
+	 * if any.
+	 * @since 6.1.2
+	 */
+	@Nullable
+	public Executor getScanExecutor() {
+		return this.scanExecutor;
+	}
+
 
 	/**
 	 * Perform a scan within the specified base packages.
@@ -269,34 +320,116 @@ public class ClassPathBeanDefinitionScanner extends ClassPathScanningCandidateCo
 	 * but rather leaves this up to the caller.
 	 * @param basePackages the packages to check for annotated classes
 	 * @return set of beans registered if any for tooling registration purposes (never {@code null})
+	 * @see #setScanExecutor
 	 */
 	protected Set<BeanDefinitionHolder> doScan(String... basePackages) {
 		Assert.notEmpty(basePackages, "At least one base package must be specified");
+		Executor executor = this.scanExecutor;
+		if (executor != null && basePackages.length > 1) {
+			return doScanConcurrently(basePackages, executor);
+		}
 		Set<BeanDefinitionHolder> beanDefinitions = new LinkedHashSet<>();
 		for (String basePackage : basePackages) {
-			Set<BeanDefinition> candidates = findCandidateComponents(basePackage);
-			for (BeanDefinition candidate : candidates) {
-				ScopeMetadata scopeMetadata = this.scopeMetadataResolver.resolveScopeMetadata(candidate);
-				candidate.setScope(scopeMetadata.getScopeName());
-				String beanName = this.beanNameGenerator.generateBeanName(candidate, this.registry);
-				if (candidate instanceof AbstractBeanDefinition abstractBeanDefinition) {
-					postProcessBeanDefinition(abstractBeanDefinition, beanName);
-				}
-				if (candidate instanceof AnnotatedBeanDefinition annotatedBeanDefinition) {
-					AnnotationConfigUtils.processCommonDefinitionAnnotations(annotatedBeanDefinition);
-				}
-				if (checkCandidate(beanName, candidate)) {
-					BeanDefinitionHolder definitionHolder = new BeanDefinitionHolder(candidate, beanName);
-					definitionHolder =
-							AnnotationConfigUtils.applyScopedProxyMode(scopeMetadata, definitionHolder, this.registry);
-					beanDefinitions.add(definitionHolder);
-					registerBeanDefinition(definitionHolder, this.registry);
+			registerCandidates(findCandidateComponents(basePackage), beanDefinitions);
+		}
+		return beanDefinitions;
+	}
+
+	/**
+	 * Scan the specified base packages concurrently on the given executor,
+	 * registering the candidates of each base package in declaration order.
+	 * @see #setScanExecutor
+	 */
+	private Set<BeanDefinitionHolder> doScanConcurrently(String[] basePackages, Executor executor) {
+		List<CompletableFuture<Set<BeanDefinition>>> scans = new ArrayList<>(basePackages.length);
+		for (String basePackage : basePackages) {
+			scans.add(scanAsync(basePackage, executor));
+		}
+		Set<BeanDefinitionHolder> beanDefinitions = new LinkedHashSet<>();
+		try {
+			for (CompletableFuture<Set<BeanDefinition>> scan : scans) {
+				Set<BeanDefinition> candidates = new LinkedHashSet<>();
+				for (BeanDefinition candidate : awaitScan(scan)) {
+					if (isDeferredConditionMatch(candidate)) {
+						candidates.add(candidate);
+					}
 				}
+				registerCandidates(candidates, beanDefinitions);
 			}
 		}
+		finally {
+			clearDeferredConditions();
+		}
 		return beanDefinitions;
 	}
 
+	private CompletableFuture<Set<BeanDefinition>> scanAsync(String basePackage, Executor executor) {
+		try {
+			return CompletableFuture.supplyAsync(() -> findCandidateComponentsWithDeferredConditions(basePackage), executor);
+		}
+		catch (RejectedExecutionException ex) {
+			// Executor not accepting tasks (e.g. shut down): scan in the calling thread.
+			return CompletableFuture.completedFuture(findCandidateComponentsWithDeferredConditions(basePackage));
+		}
+	}
+
+	private Set<BeanDefinition> awaitScan(CompletableFuture<Set<BeanDefinition>> scan) {
+		try {
+			return scan.join();
+		}
+		catch (CompletionException ex) {
+			if (ex.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			if (ex.getCause() instanceof Error error) {
+				throw error;
+			}
+			throw ex;
+		}
+	}
+
+	/**
+	 * Register the given component classes like {@link #doScan} would if it found
+	 * them as candidates, without scanning and without checking any filters or
+	 * conditions, e.g. for replaying a previously recorded scan.
+	 * @param candidateClasses the names of the component classes
+	 * @return set of beans registered
+	 * @since 6.1.2
+	 */
+	Set<BeanDefinitionHolder> registerCandidateClasses(List<String> candidateClasses) throws IOException {
+		Set<BeanDefinition> candidates = new LinkedHashSet<>();
+		for (String candidateClass : candidateClasses) {
+			MetadataReader metadataReader = getMetadataReaderFactory().getMetadataReader(candidateClass);
+			ScannedGenericBeanDefinition sbd = new ScannedGenericBeanDefinition(metadataReader);
+			sbd.setSource(metadataReader.getResource());
+			candidates.add(sbd);
+		}
+		Set<BeanDefinitionHolder> beanDefinitions = new LinkedHashSet<>();
+		registerCandidates(candidates, beanDefinitions);
+		return beanDefinitions;
+	}
+
+	private void registerCandidates(Set<BeanDefinition> candidates, Set<BeanDefinitionHolder> beanDefinitions) {
+		for (BeanDefinition candidate : candidates) {
+			ScopeMetadata scopeMetadata = this.scopeMetadataResolver.resolveScopeMetadata(candidate);
+			candidate.setScope(scopeMetadata.getScopeName());
+			String beanName = this.beanNameGenerator.generateBeanName(candidate, this.registry);
+			if (candidate instanceof AbstractBeanDefinition abstractBeanDefinition) {
+				postProcessBeanDefinition(abstractBeanDefinition, beanName);
+			}
+			if (candidate instanceof AnnotatedBeanDefinition annotatedBeanDefinition) {
+				AnnotationConfigUtils.processCommonDefinitionAnnotations(annotatedBeanDefinition);
+			}
+			if (checkCandidate(beanName, candidate)) {
+				BeanDefinitionHolder definitionHolder = new BeanDefinitionHolder(candidate, beanName);
+				definitionHolder =
+						AnnotationConfigUtils.applyScopedProxyMode(scopeMetadata, definitionHolder, this.registry);
+				beanDefinitions.add(definitionHolder);
+				registerBeanDefinition(definitionHolder, this.registry);
+			}
+		}
+	}
+
 	/**
 	 * Apply further settings to the given bean definition,
 	 * beyond the contents retrieved from scanning the component class.
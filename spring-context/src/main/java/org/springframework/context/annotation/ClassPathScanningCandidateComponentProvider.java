@@ -24,6 +24,7 @@ import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -36,6 +37,7 @@ import org.springframework.beans.factory.support.BeanDefinitionRegistry;
 import org.springframework.context.ResourceLoaderAware;
 import org.springframework.context.index.CandidateComponentsIndex;
 import org.springframework.context.index.CandidateComponentsIndexLoader;
+import org.springframework.core.NamedThreadLocal;
 import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.core.env.Environment;
 import org.springframework.core.env.EnvironmentCapable;
@@ -70,7 +72,9 @@ import org.springframework.util.ClassUtils;
  * {@link AnnotationTypeFilter} and {@link AssignableTypeFilter} include filters
  * for an annotation/target-type that is annotated with {@link Indexed} are
  * supported: if any other include filter is specified, the index is ignored and
- * classpath scanning is used instead.
+ * classpath scanning is used instead. If the index also provides the class and
+ * annotation metadata of its components, they are identified and registered
+ * without reading their class files.
  *
  * <p>This implementation is based on Spring's
  * {@link org.springframework.core.type.classreading.MetadataReader MetadataReader}
@@ -117,6 +121,10 @@ public class ClassPathScanningCandidateComponentProvider implements EnvironmentC
 	@Nullable
 	private CandidateComponentsIndex componentsIndex;
 
+	private final ThreadLocal<Boolean> deferringConditions = new NamedThreadLocal<>("Deferred condition evaluation");
+
+	private final Set<String> deferredConditionClasses = ConcurrentHashMap.newKeySet();
+
 
 	/**
 	 * Protected constructor for flexible subclass initialization.
@@ -406,7 +414,12 @@ public class ClassPathScanningCandidateComponentProvider implements EnvironmentC
 			boolean traceEnabled = logger.isTraceEnabled();
 			boolean debugEnabled = logger.isDebugEnabled();
 			for (String type : types) {
-				MetadataReader metadataReader = getMetadataReaderFactory().getMetadataReader(type);
+				// Prefer the metadata recorded in the index over reading the class file
+				MetadataReader metadataReader = index.getMetadataReader(
+						type, getResourcePatternResolver(), getMetadataReaderFactory());
+				if (metadataReader == null) {
+					metadataReader = getMetadataReaderFactory().getMetadataReader(type);
+				}
 				if (isCandidateComponent(metadataReader)) {
 					ScannedGenericBeanDefinition sbd = new ScannedGenericBeanDefinition(metadataReader);
 					sbd.setSource(metadataReader.getResource());
@@ -532,11 +545,79 @@ public class ClassPathScanningCandidateComponentProvider implements EnvironmentC
 	 * @return whether the class qualifies as a candidate component
 	 */
 	private boolean isConditionMatch(MetadataReader metadataReader) {
-		if (this.conditionEvaluator == null) {
-			this.conditionEvaluator =
-					new ConditionEvaluator(getRegistry(), this.environment, this.resourcePatternResolver);
+		ConditionEvaluator conditionEvaluator = getConditionEvaluator();
+		AnnotationMetadata metadata = metadataReader.getAnnotationMetadata();
+		if (this.deferringConditions.get() != null && !conditionEvaluator.isRegistryIndependent(metadata)) {
+			// Conditions which may depend on the registry state get evaluated in
+			// registration order: see isDeferredConditionMatch(BeanDefinition).
+			this.deferredConditionClasses.add(metadata.getClassName());
+			return true;
+		}
+		return !conditionEvaluator.shouldSkip(metadata);
+	}
+
+	/**
+	 * Use the given {@link ConditionEvaluator} for evaluating conditions on
+	 * candidate components, e.g. one shared with the configuration class parser.
+	 * @since 6.1.2
+	 */
+	void setConditionEvaluator(ConditionEvaluator conditionEvaluator) {
+		this.conditionEvaluator = conditionEvaluator;
+	}
+
+	private ConditionEvaluator getConditionEvaluator() {
+		ConditionEvaluator conditionEvaluator = this.conditionEvaluator;
+		if (conditionEvaluator == null) {
+			conditionEvaluator = new ConditionEvaluator(getRegistry(), this.environment, this.resourcePatternResolver);
+			this.conditionEvaluator = conditionEvaluator;
+		}
+		return conditionEvaluator;
+	}
+
+	/**
+	 * Scan the specified base package for candidate components like
+	 * {@link #findCandidateComponents}, but only evaluating conditions which do
+	 * not depend on the state of the bean definition registry. Any other conditions
+	 * are left to {@link #isDeferredConditionMatch} in registration order.
+	 * <p>Safe to be called concurrently for several base packages, as long as the
+	 * configured type filters are thread-safe.
+	 * @param basePackage the package to check for annotated classes
+	 * @return a corresponding Set of autodetected bean definitions
+	 * @since 6.1.2
+	 */
+	Set<BeanDefinition> findCandidateComponentsWithDeferredConditions(String basePackage) {
+		this.deferringConditions.set(Boolean.TRUE);
+		try {
+			return findCandidateComponents(basePackage);
+		}
+		finally {
+			this.deferringConditions.remove();
 		}
-		return !this.conditionEvaluator.shouldSkip(metadataReader.getAnnotationMetadata());
+	}
+
+	/**
+	 * Evaluate any conditions which have been deferred for the given candidate
+	 * in {@link #findCandidateComponentsWithDeferredConditions}.
+	 * @param candidate the candidate component
+	 * @return whether the candidate still qualifies after its deferred conditions
+	 * @since 6.1.2
+	 */
+	boolean isDeferredConditionMatch(BeanDefinition candidate) {
+		if (candidate instanceof AnnotatedBeanDefinition annotatedBeanDefinition) {
+			AnnotationMetadata metadata = annotatedBeanDefinition.getMetadata();
+			if (this.deferredConditionClasses.contains(metadata.getClassName())) {
+				return !getConditionEvaluator().shouldSkip(metadata);
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Clear the record of deferred conditions after a scan.
+	 * @since 6.1.2
+	 */
+	void clearDeferredConditions() {
+		this.deferredConditionClasses.clear();
 	}
 
 	/**
@@ -48,6 +48,7 @@ import org.springframework.beans.factory.config.ConfigurableBeanFactory;
 import org.springframework.beans.factory.config.DependencyDescriptor;
 import org.springframework.beans.factory.config.EmbeddedValueResolver;
 import org.springframework.beans.factory.config.InstantiationAwareBeanPostProcessor;
+import org.springframework.beans.factory.support.BeanMetadataReport;
 import org.springframework.beans.factory.support.RootBeanDefinition;
 import org.springframework.core.BridgeMethodResolver;
 import org.springframework.core.MethodParameter;
@@ -306,6 +307,23 @@ public class CommonAnnotationBeanPostProcessor extends InitDestroyAnnotationBean
 		this.injectionMetadataCache.remove(beanName);
 	}
 
+	@Override
+	public void compactMetadata(String beanName) {
+		this.injectionMetadataCache.remove(beanName);
+	}
+
+	@Override
+	public void reportMetadata(BeanMetadataReport report) {
+		super.reportMetadata(report);
+		report.addCache("CommonAnnotationBeanPostProcessor.injectionMetadata", this.injectionMetadataCache.size());
+		this.injectionMetadataCache.forEach((cacheKey, metadata) -> {
+			int elements = metadata.getInjectedElements().size();
+			if (elements > 0) {
+				report.addBeanMetadata(cacheKey, "CommonAnnotationBeanPostProcessor.injectionMetadata", elements);
+			}
+		});
+	}
+
 	@Override
 	public Object postProcessBeforeInstantiation(Class<?> beanClass, String beanName) {
 		return null;
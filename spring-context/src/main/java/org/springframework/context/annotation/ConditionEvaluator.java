@@ -82,6 +82,20 @@ class ConditionEvaluator {
 		if (metadata == null || !metadata.isAnnotated(Conditional.class.getName())) {
 			return false;
 		}
+		boolean skip = doShouldSkip(metadata, phase);
+		ConfigurationModel recorder = this.context.recorder;
+		if (recorder != null) {
+			if (metadata instanceof AnnotationMetadata annotationMetadata) {
+				recorder.addConditionOutcome(annotationMetadata.getClassName(), phase, skip);
+			}
+			else {
+				recorder.markNotReplayable("conditions on " + metadata);
+			}
+		}
+		return skip;
+	}
+
+	private boolean doShouldSkip(AnnotatedTypeMetadata metadata, @Nullable ConfigurationPhase phase) {
 		//采用递归的方式进行判断,第一次执行的时候phase为空, 向下执行
 		if (phase == null) {
 			/*
@@ -96,9 +110,9 @@ class ConditionEvaluator {
 
 			if (metadata instanceof AnnotationMetadata annotationMetadata &&
 					ConfigurationClassUtils.isConfigurationCandidate(annotationMetadata)) {
-				return shouldSkip(metadata, ConfigurationPhase.PARSE_CONFIGURATION);
+				return doShouldSkip(metadata, ConfigurationPhase.PARSE_CONFIGURATION);
 			}
-			return shouldSkip(metadata, ConfigurationPhase.REGISTER_BEAN);
+			return doShouldSkip(metadata, ConfigurationPhase.REGISTER_BEAN);
 		}
 
 		List<Condition> conditions = new ArrayList<>();
@@ -124,6 +138,42 @@ class ConditionEvaluator {
 		return false;
 	}
 
+	/**
+	 * Determine whether the {@code @Conditional} annotations on the given item
+	 * only declare conditions which are known to depend on the {@link Environment}
+	 * alone (i.e. {@code @Profile}), not on the state of the bean definition registry.
+	 * <p>Such conditions may be evaluated concurrently with bean definition
+	 * registration, with the same outcome as in registration order.
+	 * @param metadata the meta data
+	 * @return {@code true} if the item carries no conditions or environment-only
+	 * conditions, {@code false} if any condition may depend on the registry
+	 * @since 6.1.2
+	 */
+	boolean isRegistryIndependent(AnnotatedTypeMetadata metadata) {
+		if (!metadata.isAnnotated(Conditional.class.getName())) {
+			return true;
+		}
+		for (String[] conditionClasses : getConditionClasses(metadata)) {
+			for (String conditionClass : conditionClasses) {
+				if (!ProfileCondition.class.getName().equals(conditionClass)) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Record the outcome of all conditions evaluated by this evaluator in the
+	 * given model, marking the model as not replayable if a condition accesses
+	 * the bean definition registry or the bean factory.
+	 * @param recorder the model to record into, or {@code null} to stop recording
+	 * @since 6.1.2
+	 */
+	void setRecorder(@Nullable ConfigurationModel recorder) {
+		this.context.recorder = recorder;
+	}
+
 	@SuppressWarnings("unchecked")
 	private List<String[]> getConditionClasses(AnnotatedTypeMetadata metadata) {
 		MultiValueMap<String, Object> attributes = metadata.getAllAnnotationAttributes(Conditional.class.getName(), true);
@@ -155,6 +205,9 @@ class ConditionEvaluator {
 		@Nullable
 		private final ClassLoader classLoader;
 
+		@Nullable
+		volatile ConfigurationModel recorder;
+
 		public ConditionContextImpl(@Nullable BeanDefinitionRegistry registry,
 				@Nullable Environment environment, @Nullable ResourceLoader resourceLoader) {
 
@@ -209,12 +262,14 @@ class ConditionEvaluator {
 		@Override
 		public BeanDefinitionRegistry getRegistry() {
 			Assert.state(this.registry != null, "No BeanDefinitionRegistry available");
+			registryAccessed();
 			return this.registry;
 		}
 
 		@Override
 		@Nullable
 		public ConfigurableListableBeanFactory getBeanFactory() {
+			registryAccessed();
 			return this.beanFactory;
 		}
 
@@ -233,6 +288,13 @@ class ConditionEvaluator {
 		public ClassLoader getClassLoader() {
 			return this.classLoader;
 		}
+
+		private void registryAccessed() {
+			ConfigurationModel recorder = this.recorder;
+			if (recorder != null) {
+				recorder.markNotReplayable("condition accessing the bean definition registry");
+			}
+		}
 	}
 
 }
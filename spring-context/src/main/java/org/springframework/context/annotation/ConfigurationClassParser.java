@@ -25,6 +25,8 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.Deque;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
@@ -49,6 +51,11 @@ import org.springframework.beans.factory.support.BeanDefinitionReader;
 import org.springframework.beans.factory.support.BeanDefinitionRegistry;
 import org.springframework.beans.factory.support.BeanNameGenerator;
 import org.springframework.context.annotation.ConfigurationCondition.ConfigurationPhase;
+import org.springframework.context.annotation.ConfigurationModel.BeanMethodModel;
+import org.springframework.context.annotation.ConfigurationModel.ComponentScanModel;
+import org.springframework.context.annotation.ConfigurationModel.ConditionOutcome;
+import org.springframework.context.annotation.ConfigurationModel.ConfigurationClassModel;
+import org.springframework.context.annotation.ConfigurationModel.ImportModel;
 import org.springframework.context.annotation.DeferredImportSelector.Group;
 import org.springframework.core.OrderComparator;
 import org.springframework.core.Ordered;
@@ -134,6 +141,11 @@ class ConfigurationClassParser {
 
 	private final SourceClass objectSourceClass = new SourceClass(Object.class);
 
+	@Nullable
+	private ConfigurationModel recorder;
+
+	private final Deque<String> replayedPropertySourceClasses = new ArrayDeque<>();
+
 
 	/**
 	 * Create a new {@link ConfigurationClassParser} instance that will be used
@@ -153,6 +165,7 @@ class ConfigurationClassParser {
 		this.componentScanParser = new ComponentScanAnnotationParser(
 				environment, resourceLoader, componentScanBeanNameGenerator, registry);
 		this.conditionEvaluator = new ConditionEvaluator(registry, environment, resourceLoader);
+		this.componentScanParser.setConditionEvaluator(this.conditionEvaluator);
 	}
 
 
@@ -216,6 +229,102 @@ class ConfigurationClassParser {
 				Collections.emptyList());
 	}
 
+	/**
+	 * Parse the given configuration candidates like {@link #parse(Set)},
+	 * recording the outcome for a later {@link #replay}.
+	 * @param configCandidates the configuration candidates to parse
+	 * @return the recorded model (which may turn out to be not replayable)
+	 * @since 6.1.2
+	 */
+	ConfigurationModel parseAndRecord(Set<BeanDefinitionHolder> configCandidates) {
+		ConfigurationModel model = new ConfigurationModel();
+		Set<ConfigurationClass> existingClasses = Collections.newSetFromMap(new IdentityHashMap<>());
+		existingClasses.addAll(this.configurationClasses.keySet());
+		Map<String, ConfigurationClass> existingSuperclasses = new HashMap<>(this.knownSuperclasses);
+		this.recorder = model;
+		this.conditionEvaluator.setRecorder(model);
+		try {
+			parse(configCandidates);
+		}
+		finally {
+			this.recorder = null;
+			this.conditionEvaluator.setRecorder(null);
+			this.replayedPropertySourceClasses.clear();
+		}
+		for (ConfigurationClass configClass : this.configurationClasses.keySet()) {
+			if (!existingClasses.contains(configClass)) {
+				model.addConfigurationClass(asConfigurationClassModel(configClass));
+			}
+		}
+		this.knownSuperclasses.forEach((superclass, configClass) -> {
+			if (existingSuperclasses.get(superclass) != configClass) {
+				model.addKnownSuperclass(superclass, configClass.getMetadata().getClassName());
+			}
+		});
+		return model;
+	}
+
+	private ConfigurationClassModel asConfigurationClassModel(ConfigurationClass configClass) {
+		List<String> importedBy = new ArrayList<>(configClass.getImportedBy().size());
+		for (ConfigurationClass importingClass : configClass.getImportedBy()) {
+			importedBy.add(importingClass.getMetadata().getClassName());
+		}
+		List<BeanMethodModel> beanMethods = new ArrayList<>(configClass.getBeanMethods().size());
+		for (BeanMethod beanMethod : configClass.getBeanMethods()) {
+			MethodMetadata metadata = beanMethod.getMetadata();
+			beanMethods.add(new BeanMethodModel(
+					metadata.getDeclaringClassName(), metadata.getMethodName(), metadata.getReturnTypeName()));
+		}
+		Map<String, String> importedResources = new LinkedHashMap<>();
+		configClass.getImportedResources().forEach((resource, readerClass) ->
+				importedResources.put(resource, readerClass.getName()));
+		List<ImportModel> registrars = new ArrayList<>(configClass.getImportBeanDefinitionRegistrars().size());
+		configClass.getImportBeanDefinitionRegistrars().forEach((registrar, importingClass) ->
+				registrars.add(new ImportModel(importingClass.getClassName(), registrar.getClass().getName())));
+		return new ConfigurationClassModel(configClass.getMetadata().getClassName(), configClass.getBeanName(),
+				importedBy, beanMethods, importedResources, registrars);
+	}
+
+	/**
+	 * Replay the given model as recorded by {@link #parseAndRecord} for the
+	 * same configuration candidates, as an alternative to parsing them.
+	 * <p>The recorded conditions are evaluated again first, with the recorded
+	 * {@code @PropertySource} declarations processed in between as in the original
+	 * parse: if any of them has a different outcome now, or if any recorded class
+	 * cannot be resolved anymore, this method returns {@code false} without applying
+	 * the model. Property sources processed up to that point are not processed again
+	 * by a subsequent {@link #parseAndRecord} call for the same candidates.
+	 * @param configCandidates the configuration candidates to replay the model for
+	 * @param model the recorded model
+	 * @return {@code true} if the model has been applied, {@code false} if the
+	 * candidates need to be parsed instead
+	 * @since 6.1.2
+	 */
+	boolean replay(Set<BeanDefinitionHolder> configCandidates, ConfigurationModel model) {
+		ModelReplay replay = new ModelReplay(configCandidates);
+		this.replayedPropertySourceClasses.clear();
+		try {
+			if (!replay.prepare(model)) {
+				this.replayedPropertySourceClasses.addAll(replay.processedPropertySourceClasses);
+				return false;
+			}
+		}
+		catch (IOException | ClassNotFoundException | IllegalStateException ex) {
+			if (logger.isDebugEnabled()) {
+				logger.debug("Recorded configuration model not applicable: " + ex.getMessage());
+			}
+			this.replayedPropertySourceClasses.addAll(replay.processedPropertySourceClasses);
+			return false;
+		}
+		try {
+			replay.apply(model);
+		}
+		catch (IOException ex) {
+			throw new BeanDefinitionStoreException("I/O failure while replaying configuration model", ex);
+		}
+		return true;
+	}
+
 	protected void processConfigurationClass(ConfigurationClass configClass, Predicate<String> filter) throws IOException {
 		//判断是否跳过
 		if (this.conditionEvaluator.shouldSkip(configClass.getMetadata(), ConfigurationPhase.PARSE_CONFIGURATION)) {
@@ -281,17 +390,7 @@ class ConfigurationClassParser {
 
 		// Process any @PropertySource annotations
 		//如果配置类上加了 @PropertySource注解,那么就解析加载properties文件,并将属性添加到spring上下文中
-		for (AnnotationAttributes propertySource : AnnotationConfigUtils.attributesForRepeatable(
-				sourceClass.getMetadata(), org.springframework.context.annotation.PropertySource.class,
-				PropertySources.class, true)) {
-			if (this.propertySourceRegistry != null) {
-				this.propertySourceRegistry.processPropertySource(propertySource);
-			}
-			else {
-				logger.info("Ignoring @PropertySource annotation on [" + sourceClass.getMetadata().getClassName() +
-						"]. Reason: Environment must implement ConfigurableEnvironment");
-			}
-		}
+		processPropertySources(sourceClass.getMetadata());
 
 		// Process any @ComponentScan annotations
 		//处理@ComponentScan或者@ComponentScans注解,并将扫描包下所有bean转换成填充后的ConfigurationClass
@@ -300,18 +399,21 @@ class ConfigurationClassParser {
 				sourceClass.getMetadata(), ComponentScan.class, ComponentScans.class);
 		if (!componentScans.isEmpty() &&
 				!this.conditionEvaluator.shouldSkip(sourceClass.getMetadata(), ConfigurationPhase.REGISTER_BEAN)) {
+			int componentScanIndex = 0;
 			for (AnnotationAttributes componentScan : componentScans) {
 				// The config class is annotated with @ComponentScan -> perform the scan immediately
 				//解析@ComponentScan 和 @ComponentScans配置的扫描包所包含的类
 				//比如 basePackages = com.qiqi ,那么在这一步会扫描出这个包以及这个包下的所有class,然后将其解析成BeanDefinition
 				Set<BeanDefinitionHolder> scannedBeanDefinitions =
 						this.componentScanParser.parse(componentScan, sourceClass.getMetadata().getClassName());
+				if (this.recorder != null) {
+					this.recorder.addComponentScan(sourceClass.getMetadata().getClassName(), componentScanIndex,
+							getScannedClassNames(scannedBeanDefinitions));
+				}
+				componentScanIndex++;
 				// Check the set of scanned definitions for any further config classes and parse recursively if needed
 				for (BeanDefinitionHolder holder : scannedBeanDefinitions) {
-					BeanDefinition bdCand = holder.getBeanDefinition().getOriginatingBeanDefinition();
-					if (bdCand == null) {
-						bdCand = holder.getBeanDefinition();
-					}
+					BeanDefinition bdCand = getOriginatingBeanDefinition(holder);
 					//判断是否是一个解析类,并设置full 或者 lite属性
 					if (ConfigurationClassUtils.checkConfigurationClassCandidate(bdCand, this.metadataReaderFactory)) {
 						//通过递归方法进行解析
@@ -365,6 +467,47 @@ class ConfigurationClassParser {
 		return null;
 	}
 
+	private void processPropertySources(AnnotationMetadata metadata) throws IOException {
+		Set<AnnotationAttributes> propertySources = AnnotationConfigUtils.attributesForRepeatable(
+				metadata, org.springframework.context.annotation.PropertySource.class, PropertySources.class, true);
+		if (propertySources.isEmpty()) {
+			return;
+		}
+		if (this.recorder != null) {
+			this.recorder.addPropertySourceClass(metadata.getClassName());
+		}
+		if (!this.replayedPropertySourceClasses.isEmpty()) {
+			if (metadata.getClassName().equals(this.replayedPropertySourceClasses.peek())) {
+				// Already processed by a replay attempt that turned out not to be applicable
+				this.replayedPropertySourceClasses.poll();
+				return;
+			}
+			this.replayedPropertySourceClasses.clear();
+		}
+		for (AnnotationAttributes propertySource : propertySources) {
+			if (this.propertySourceRegistry != null) {
+				this.propertySourceRegistry.processPropertySource(propertySource);
+			}
+			else {
+				logger.info("Ignoring @PropertySource annotation on [" + metadata.getClassName() +
+						"]. Reason: Environment must implement ConfigurableEnvironment");
+			}
+		}
+	}
+
+	private static BeanDefinition getOriginatingBeanDefinition(BeanDefinitionHolder holder) {
+		BeanDefinition bdCand = holder.getBeanDefinition().getOriginatingBeanDefinition();
+		return (bdCand != null ? bdCand : holder.getBeanDefinition());
+	}
+
+	private static List<String> getScannedClassNames(Set<BeanDefinitionHolder> scannedBeanDefinitions) {
+		List<String> classNames = new ArrayList<>(scannedBeanDefinitions.size());
+		for (BeanDefinitionHolder holder : scannedBeanDefinitions) {
+			classNames.add(getOriginatingBeanDefinition(holder).getBeanClassName());
+		}
+		return classNames;
+	}
+
 	/**
 	 * Register member (nested) classes that happen to be configuration classes themselves.
 	 */
@@ -563,6 +706,10 @@ class ConfigurationClassParser {
 						// process it as an @Configuration class
 						this.importStack.registerImport(
 								currentSourceClass.getMetadata(), candidate.getMetadata().getClassName());
+						if (this.recorder != null) {
+							this.recorder.addImport(currentSourceClass.getMetadata().getClassName(),
+									candidate.getMetadata().getClassName());
+						}
 						processConfigurationClass(candidate.asConfigClass(configClass), exclusionFilter);
 					}
 				}
@@ -663,6 +810,215 @@ class ConfigurationClassParser {
 	}
 
 
+	/**
+	 * Replay of a recorded {@link ConfigurationModel}: resolves all recorded
+	 * classes before applying anything, so that a model which does not match
+	 * the current classpath and environment leaves the parser untouched, except
+	 * for {@code @PropertySource} declarations which are processed at the same
+	 * position relative to condition evaluation as in the original parse.
+	 */
+	private class ModelReplay {
+
+		private final Map<String, BeanDefinitionHolder> candidates = new HashMap<>();
+
+		private final Map<String, ConfigurationClassModel> classModels = new HashMap<>();
+
+		private final Map<String, ConfigurationClass> configClasses = new LinkedHashMap<>();
+
+		private final Set<String> configClassesInCreation = new HashSet<>();
+
+		private final List<AnnotationMetadata> propertySourceClasses = new ArrayList<>();
+
+		private final List<String> processedPropertySourceClasses = new ArrayList<>();
+
+		private final List<AnnotationAttributes> componentScans = new ArrayList<>();
+
+		ModelReplay(Set<BeanDefinitionHolder> configCandidates) {
+			for (BeanDefinitionHolder holder : configCandidates) {
+				this.candidates.put(holder.getBeanName(), holder);
+			}
+		}
+
+		boolean prepare(ConfigurationModel model) throws IOException, ClassNotFoundException {
+			for (String className : model.getPropertySourceClasses()) {
+				this.propertySourceClasses.add(getMetadata(className));
+			}
+			for (ConditionOutcome outcome : model.getConditionOutcomes()) {
+				AnnotationMetadata metadata = getMetadata(outcome.className());
+				// Conditions may depend on property sources declared by the importing classes
+				processPropertySources(outcome.propertySourceCount());
+				if (conditionEvaluator.shouldSkip(metadata, outcome.phase()) != outcome.skip()) {
+					if (logger.isDebugEnabled()) {
+						logger.debug("Recorded configuration model not applicable: outcome of conditions on [" +
+								outcome.className() + "] has changed");
+					}
+					return false;
+				}
+			}
+			for (ComponentScanModel scan : model.getComponentScans()) {
+				List<AnnotationAttributes> declared = new ArrayList<>(AnnotationConfigUtils.attributesForRepeatable(
+						getMetadata(scan.declaringClass()), ComponentScan.class, ComponentScans.class));
+				Assert.state(scan.index() < declared.size(), () -> "No @ComponentScan declaration at index " +
+						scan.index() + " on [" + scan.declaringClass() + "]");
+				this.componentScans.add(declared.get(scan.index()));
+			}
+			for (ConfigurationClassModel classModel : model.getConfigurationClasses()) {
+				this.classModels.put(classModel.className(), classModel);
+			}
+			for (ConfigurationClassModel classModel : model.getConfigurationClasses()) {
+				ConfigurationClass configClass = getConfigurationClass(classModel.className());
+				addBeanMethods(configClass, classModel.beanMethods());
+				for (Map.Entry<String, String> entry : classModel.importedResources().entrySet()) {
+					configClass.addImportedResource(entry.getKey(), loadReaderClass(entry.getValue()));
+				}
+				for (ImportModel registrar : classModel.registrars()) {
+					getMetadata(registrar.importingClass());
+					ClassUtils.forName(registrar.importedClass(), resourceLoader.getClassLoader());
+				}
+			}
+			for (String className : model.getKnownSuperclasses().values()) {
+				getConfigurationClass(className);
+			}
+			for (ImportModel importModel : model.getImports()) {
+				getMetadata(importModel.importingClass());
+			}
+			return true;
+		}
+
+		void apply(ConfigurationModel model) throws IOException {
+			processPropertySources(this.propertySourceClasses.size());
+			List<ComponentScanModel> scans = model.getComponentScans();
+			for (int i = 0; i < scans.size(); i++) {
+				for (BeanDefinitionHolder holder : componentScanParser.register(
+						this.componentScans.get(i), scans.get(i).candidateClasses())) {
+					ConfigurationClassUtils.checkConfigurationClassCandidate(
+							getOriginatingBeanDefinition(holder), metadataReaderFactory);
+				}
+			}
+			for (ConfigurationClassModel classModel : model.getConfigurationClasses()) {
+				ConfigurationClass configClass = this.configClasses.get(classModel.className());
+				for (ImportModel registrar : classModel.registrars()) {
+					Class<?> registrarClass = ClassUtils.resolveClassName(
+							registrar.importedClass(), resourceLoader.getClassLoader());
+					configClass.addImportBeanDefinitionRegistrar(ParserStrategyUtils.instantiateClass(
+							registrarClass, ImportBeanDefinitionRegistrar.class, environment, resourceLoader, registry),
+							getMetadata(registrar.importingClass()));
+				}
+				configurationClasses.remove(configClass);
+				knownSuperclasses.values().removeIf(configClass::equals);
+			}
+			model.getKnownSuperclasses().forEach((superclass, className) ->
+					knownSuperclasses.put(superclass, this.configClasses.get(className)));
+			for (ConfigurationClassModel classModel : model.getConfigurationClasses()) {
+				ConfigurationClass configClass = this.configClasses.get(classModel.className());
+				configurationClasses.put(configClass, configClass);
+			}
+			for (ImportModel importModel : model.getImports()) {
+				importStack.registerImport(getMetadata(importModel.importingClass()), importModel.importedClass());
+			}
+		}
+
+		private void processPropertySources(int count) throws IOException {
+			while (this.processedPropertySourceClasses.size() < count) {
+				AnnotationMetadata metadata = this.propertySourceClasses.get(this.processedPropertySourceClasses.size());
+				ConfigurationClassParser.this.processPropertySources(metadata);
+				this.processedPropertySourceClasses.add(metadata.getClassName());
+			}
+		}
+
+		private ConfigurationClass getConfigurationClass(String className) throws IOException {
+			ConfigurationClass configClass = this.configClasses.get(className);
+			if (configClass != null) {
+				return configClass;
+			}
+			ConfigurationClassModel classModel = this.classModels.get(className);
+			if (classModel == null) {
+				// Parsed before, e.g. in a previous parse run
+				for (ConfigurationClass existing : configurationClasses.keySet()) {
+					if (existing.getMetadata().getClassName().equals(className)) {
+						this.configClasses.put(className, existing);
+						return existing;
+					}
+				}
+				throw new IllegalStateException("Unknown configuration class [" + className + "]");
+			}
+			Assert.state(this.configClassesInCreation.add(className),
+					() -> "Circular import of configuration class [" + className + "]");
+			String beanName = classModel.beanName();
+			if (beanName != null) {
+				BeanDefinitionHolder holder = this.candidates.get(beanName);
+				BeanDefinition bd = (holder != null ? holder.getBeanDefinition() : null);
+				if (bd != null && className.equals(bd.getBeanClassName())) {
+					if (bd instanceof AnnotatedBeanDefinition annotatedBeanDef) {
+						configClass = new ConfigurationClass(annotatedBeanDef.getMetadata(), beanName);
+					}
+					else if (bd instanceof AbstractBeanDefinition abstractBeanDef && abstractBeanDef.hasBeanClass()) {
+						configClass = new ConfigurationClass(abstractBeanDef.getBeanClass(), beanName);
+					}
+				}
+				if (configClass == null) {
+					configClass = new ConfigurationClass(metadataReaderFactory.getMetadataReader(className), beanName);
+				}
+			}
+			else {
+				Assert.state(!classModel.importedBy().isEmpty(),
+						() -> "No importing class for configuration class [" + className + "]");
+				List<ConfigurationClass> importedBy = new ArrayList<>(classModel.importedBy().size());
+				for (String importingClass : classModel.importedBy()) {
+					importedBy.add(getConfigurationClass(importingClass));
+				}
+				configClass = new ConfigurationClass(metadataReaderFactory.getMetadataReader(className), importedBy.get(0));
+				configClass.getImportedBy().addAll(importedBy);
+			}
+			this.configClassesInCreation.remove(className);
+			this.configClasses.put(className, configClass);
+			return configClass;
+		}
+
+		private void addBeanMethods(ConfigurationClass configClass, List<BeanMethodModel> beanMethods)
+				throws IOException {
+
+			Map<String, List<MethodMetadata>> candidateMethods = new HashMap<>();
+			for (BeanMethodModel beanMethod : beanMethods) {
+				List<MethodMetadata> candidates = candidateMethods.get(beanMethod.declaringClass());
+				if (candidates == null) {
+					AnnotationMetadata declaringClass =
+							(beanMethod.declaringClass().equals(configClass.getMetadata().getClassName()) ?
+									configClass.getMetadata() : getMetadata(beanMethod.declaringClass()));
+					candidates = new ArrayList<>(declaringClass.getAnnotatedMethods(Bean.class.getName()));
+					candidateMethods.put(beanMethod.declaringClass(), candidates);
+				}
+				MethodMetadata match = null;
+				for (Iterator<MethodMetadata> it = candidates.iterator(); it.hasNext();) {
+					MethodMetadata candidate = it.next();
+					if (candidate.getMethodName().equals(beanMethod.methodName()) &&
+							candidate.getReturnTypeName().equals(beanMethod.returnType())) {
+						match = candidate;
+						it.remove();
+						break;
+					}
+				}
+				Assert.state(match != null, () -> "No @Bean method '" + beanMethod.methodName() +
+						"' found on [" + beanMethod.declaringClass() + "]");
+				configClass.addBeanMethod(new BeanMethod(match, configClass));
+			}
+		}
+
+		@SuppressWarnings("unchecked")
+		private Class<? extends BeanDefinitionReader> loadReaderClass(String className) throws ClassNotFoundException {
+			return (Class<? extends BeanDefinitionReader>) ClassUtils.forName(className, resourceLoader.getClassLoader());
+		}
+
+		private AnnotationMetadata getMetadata(String className) throws IOException {
+			ConfigurationClass configClass = this.configClasses.get(className);
+			if (configClass != null) {
+				return configClass.getMetadata();
+			}
+			return metadataReaderFactory.getMetadataReader(className).getAnnotationMetadata();
+		}
+	}
+
+
 	@SuppressWarnings("serial")
 	private static class ImportStack extends ArrayDeque<ConfigurationClass> implements ImportRegistry {
 
@@ -20,6 +20,7 @@ import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Executable;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -82,6 +83,7 @@ import org.springframework.context.ResourceLoaderAware;
 import org.springframework.context.annotation.ConfigurationClassEnhancer.EnhancedConfiguration;
 import org.springframework.core.Ordered;
 import org.springframework.core.PriorityOrdered;
+import org.springframework.core.SpringProperties;
 import org.springframework.core.env.ConfigurableEnvironment;
 import org.springframework.core.env.Environment;
 import org.springframework.core.env.StandardEnvironment;
@@ -106,6 +108,7 @@ import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
 import org.springframework.util.CollectionUtils;
+import org.springframework.util.StringUtils;
 
 
 /*
@@ -151,6 +154,15 @@ public class ConfigurationClassPostProcessor implements BeanDefinitionRegistryPo
 	public static final AnnotationBeanNameGenerator IMPORT_BEAN_NAME_GENERATOR =
 			FullyQualifiedAnnotationBeanNameGenerator.INSTANCE;
 
+	/**
+	 * System property that specifies a file for caching the parsed configuration
+	 * model across restarts, e.g. {@code -Dspring.context.configuration-model-cache=
+	 * build/configuration-model.cache}: see {@link #setConfigurationModelCacheLocation}.
+	 * <p>May also be configured through a {@code spring.properties} file.
+	 * @since 6.1.2
+	 */
+	public static final String CONFIGURATION_MODEL_CACHE_PROPERTY_NAME = "spring.context.configuration-model-cache";
+
 	private static final String IMPORT_REGISTRY_BEAN_NAME =
 			ConfigurationClassPostProcessor.class.getName() + ".importRegistry";
 
@@ -193,6 +205,9 @@ public class ConfigurationClassPostProcessor implements BeanDefinitionRegistryPo
 	@Nullable
 	private List<PropertySourceDescriptor> propertySourceDescriptors;
 
+	@Nullable
+	private Path configurationModelCacheLocation = getDefaultConfigurationModelCacheLocation();
+
 
 	@Override
 	public int getOrder() {
@@ -251,6 +266,29 @@ public class ConfigurationClassPostProcessor implements BeanDefinitionRegistryPo
 		this.importBeanNameGenerator = beanNameGenerator;
 	}
 
+	/**
+	 * Specify a file for caching the parsed configuration model across restarts.
+	 * <p>When set, the outcome of parsing the configuration classes is recorded
+	 * in the given file, keyed by the configuration candidates and the active
+	 * profiles, and replayed on subsequent runs with the same classpath instead
+	 * of walking the import graph again. Conditions evaluated while parsing are
+	 * evaluated again on replay, falling back to a full parse if any of them has
+	 * a different outcome.
+	 * <p>This assumes that {@link ImportSelector ImportSelectors} select their
+	 * imports based on the classpath, the annotation metadata and the environment
+	 * only, and that placeholders in {@link ComponentScan @ComponentScan} base
+	 * packages and {@link ImportResource @ImportResource} locations resolve to the
+	 * same values as when recording. Parse results depending on conditions which
+	 * access the bean definition registry or the bean factory are never cached.
+	 * <p>Default is none, unless specified through the
+	 * {@value #CONFIGURATION_MODEL_CACHE_PROPERTY_NAME} property.
+	 * @param location the cache file, or {@code null} to always parse
+	 * @since 6.1.2
+	 */
+	public void setConfigurationModelCacheLocation(@Nullable Path location) {
+		this.configurationModelCacheLocation = location;
+	}
+
 	@Override
 	public void setEnvironment(Environment environment) {
 		Assert.notNull(environment, "Environment must not be null");
@@ -443,10 +481,13 @@ public class ConfigurationClassPostProcessor implements BeanDefinitionRegistryPo
 		//alreadyParsed用于判断是否应处理过了
 		Set<BeanDefinitionHolder> candidates = new LinkedHashSet<>(configCandidates);
 		Set<ConfigurationClass> alreadyParsed = new HashSet<>(configCandidates.size());
+		ConfigurationModelCache modelCache = (this.configurationModelCacheLocation != null ?
+				ConfigurationModelCache.load(this.configurationModelCacheLocation,
+						this.resourceLoader.getClassLoader()) : null);
 		do {
 			//解析带有@Controller @Import @ImportResource @ComponentScan @ComponentScans @Bean的BeanDefinition
 			StartupStep processConfig = this.applicationStartup.start("spring.context.config-classes.parse");
-			parser.parse(candidates);
+			parseConfigurationClasses(parser, candidates, modelCache);
 			parser.validate();
 
 			//移除掉已经解析的配置类
@@ -493,6 +534,10 @@ public class ConfigurationClassPostProcessor implements BeanDefinitionRegistryPo
 		// Store the PropertySourceDescriptors to contribute them Ahead-of-time if necessary
 		this.propertySourceDescriptors = parser.getPropertySourceDescriptors();
 
+		if (modelCache != null) {
+			modelCache.store();
+		}
+
 		if (this.metadataReaderFactory instanceof CachingMetadataReaderFactory cachingMetadataReaderFactory) {
 			// Clear cache in externally provided MetadataReaderFactory; this is a no-op
 			// for a shared cache since it'll be cleared by the ApplicationContext.
@@ -500,6 +545,37 @@ public class ConfigurationClassPostProcessor implements BeanDefinitionRegistryPo
 		}
 	}
 
+	private void parseConfigurationClasses(ConfigurationClassParser parser, Set<BeanDefinitionHolder> candidates,
+			@Nullable ConfigurationModelCache modelCache) {
+
+		if (modelCache == null) {
+			parser.parse(candidates);
+			return;
+		}
+		Assert.state(this.environment != null, "No Environment set");
+		String key = modelCache.getKey(candidates, this.environment);
+		ConfigurationModel model = modelCache.get(key);
+		if (model != null && parser.replay(candidates, model)) {
+			if (logger.isDebugEnabled()) {
+				logger.debug("Replayed cached configuration model for " + candidates.size() + " candidates");
+			}
+			return;
+		}
+		model = parser.parseAndRecord(candidates);
+		if (model.isReplayable()) {
+			modelCache.put(key, model);
+		}
+		else if (logger.isDebugEnabled()) {
+			logger.debug("Not caching configuration model, depending on " + model.getNotReplayableReason());
+		}
+	}
+
+	@Nullable
+	private static Path getDefaultConfigurationModelCacheLocation() {
+		String location = SpringProperties.getProperty(CONFIGURATION_MODEL_CACHE_PROPERTY_NAME);
+		return (StringUtils.hasText(location) ? Path.of(location.trim()) : null);
+	}
+
 	/**
 	 * Post-processes a BeanFactory in search of Configuration class BeanDefinitions;
 	 * any candidates are then enhanced by a {@link ConfigurationClassEnhancer}.
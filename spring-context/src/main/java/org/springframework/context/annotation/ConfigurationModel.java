@@ -0,0 +1,307 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.context.annotation;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.context.annotation.ConfigurationCondition.ConfigurationPhase;
+import org.springframework.lang.Nullable;
+
+/**
+ * Recorded outcome of a single {@link ConfigurationClassParser#parse(java.util.Set)}
+ * run, in terms of class names only: the configuration classes with their
+ * {@code @Bean} methods, imported resources and registrars, the classes found
+ * by component scanning, the processed {@code @PropertySource} declarations,
+ * the import relationships, and the outcome of every condition evaluated
+ * while parsing.
+ *
+ * <p>A model can be replayed against an unchanged classpath through
+ * {@link ConfigurationClassParser#replay}, re-evaluating the recorded
+ * conditions only instead of walking the import graph again.
+ *
+ * <p>A model is not replayable if any of its conditions accessed the bean
+ * definition registry or the bean factory while being evaluated, since their
+ * outcome depends on registration order rather than on the classpath and the
+ * environment.
+ *
+ * @since 6.1.2
+ * @see ConfigurationModelCache
+ */
+final class ConfigurationModel {
+
+	private final List<ConditionOutcome> conditionOutcomes = new ArrayList<>();
+
+	private final List<String> propertySourceClasses = new ArrayList<>();
+
+	private final List<ComponentScanModel> componentScans = new ArrayList<>();
+
+	private final Map<String, String> knownSuperclasses = new LinkedHashMap<>();
+
+	private final List<ConfigurationClassModel> configurationClasses = new ArrayList<>();
+
+	private final List<ImportModel> imports = new ArrayList<>();
+
+	@Nullable
+	private volatile String notReplayableReason;
+
+
+	synchronized void addConditionOutcome(String className, @Nullable ConfigurationPhase phase, boolean skip) {
+		this.conditionOutcomes.add(new ConditionOutcome(className, phase, skip, this.propertySourceClasses.size()));
+	}
+
+	List<ConditionOutcome> getConditionOutcomes() {
+		return this.conditionOutcomes;
+	}
+
+	synchronized void addPropertySourceClass(String className) {
+		this.propertySourceClasses.add(className);
+	}
+
+	List<String> getPropertySourceClasses() {
+		return this.propertySourceClasses;
+	}
+
+	void addComponentScan(String declaringClass, int index, List<String> candidateClasses) {
+		this.componentScans.add(new ComponentScanModel(declaringClass, index, candidateClasses));
+	}
+
+	List<ComponentScanModel> getComponentScans() {
+		return this.componentScans;
+	}
+
+	void addKnownSuperclass(String superclass, String configurationClass) {
+		this.knownSuperclasses.put(superclass, configurationClass);
+	}
+
+	Map<String, String> getKnownSuperclasses() {
+		return this.knownSuperclasses;
+	}
+
+	void addConfigurationClass(ConfigurationClassModel configurationClass) {
+		this.configurationClasses.add(configurationClass);
+	}
+
+	List<ConfigurationClassModel> getConfigurationClasses() {
+		return this.configurationClasses;
+	}
+
+	void addImport(String importingClass, String importedClass) {
+		this.imports.add(new ImportModel(importingClass, importedClass));
+	}
+
+	List<ImportModel> getImports() {
+		return this.imports;
+	}
+
+	/**
+	 * Mark this model as not replayable.
+	 * @param reason the reason for logging purposes
+	 */
+	void markNotReplayable(String reason) {
+		if (this.notReplayableReason == null) {
+			this.notReplayableReason = reason;
+		}
+	}
+
+	boolean isReplayable() {
+		return (this.notReplayableReason == null);
+	}
+
+	@Nullable
+	String getNotReplayableReason() {
+		return this.notReplayableReason;
+	}
+
+
+	void writeTo(DataOutputStream out) throws IOException {
+		out.writeInt(this.conditionOutcomes.size());
+		for (ConditionOutcome outcome : this.conditionOutcomes) {
+			out.writeUTF(outcome.className());
+			out.writeByte(outcome.phase() != null ? outcome.phase().ordinal() + 1 : 0);
+			out.writeBoolean(outcome.skip());
+			out.writeInt(outcome.propertySourceCount());
+		}
+		writeStrings(out, this.propertySourceClasses);
+		out.writeInt(this.componentScans.size());
+		for (ComponentScanModel componentScan : this.componentScans) {
+			out.writeUTF(componentScan.declaringClass());
+			out.writeInt(componentScan.index());
+			writeStrings(out, componentScan.candidateClasses());
+		}
+		writeStringMap(out, this.knownSuperclasses);
+		out.writeInt(this.configurationClasses.size());
+		for (ConfigurationClassModel configClass : this.configurationClasses) {
+			out.writeUTF(configClass.className());
+			out.writeBoolean(configClass.beanName() != null);
+			if (configClass.beanName() != null) {
+				out.writeUTF(configClass.beanName());
+			}
+			writeStrings(out, configClass.importedBy());
+			out.writeInt(configClass.beanMethods().size());
+			for (BeanMethodModel beanMethod : configClass.beanMethods()) {
+				out.writeUTF(beanMethod.declaringClass());
+				out.writeUTF(beanMethod.methodName());
+				out.writeUTF(beanMethod.returnType());
+			}
+			writeStringMap(out, configClass.importedResources());
+			out.writeInt(configClass.registrars().size());
+			for (ImportModel registrar : configClass.registrars()) {
+				out.writeUTF(registrar.importingClass());
+				out.writeUTF(registrar.importedClass());
+			}
+		}
+		out.writeInt(this.imports.size());
+		for (ImportModel importModel : this.imports) {
+			out.writeUTF(importModel.importingClass());
+			out.writeUTF(importModel.importedClass());
+		}
+	}
+
+	static ConfigurationModel readFrom(DataInputStream in) throws IOException {
+		ConfigurationModel model = new ConfigurationModel();
+		int conditionCount = in.readInt();
+		for (int i = 0; i < conditionCount; i++) {
+			String className = in.readUTF();
+			int phase = in.readByte();
+			model.conditionOutcomes.add(new ConditionOutcome(className,
+					(phase > 0 ? ConfigurationPhase.values()[phase - 1] : null), in.readBoolean(), in.readInt()));
+		}
+		model.propertySourceClasses.addAll(readStrings(in));
+		int scanCount = in.readInt();
+		for (int i = 0; i < scanCount; i++) {
+			model.addComponentScan(in.readUTF(), in.readInt(), readStrings(in));
+		}
+		model.knownSuperclasses.putAll(readStringMap(in));
+		int configClassCount = in.readInt();
+		for (int i = 0; i < configClassCount; i++) {
+			String className = in.readUTF();
+			String beanName = (in.readBoolean() ? in.readUTF() : null);
+			List<String> importedBy = readStrings(in);
+			int beanMethodCount = in.readInt();
+			List<BeanMethodModel> beanMethods = new ArrayList<>(beanMethodCount);
+			for (int j = 0; j < beanMethodCount; j++) {
+				beanMethods.add(new BeanMethodModel(in.readUTF(), in.readUTF(), in.readUTF()));
+			}
+			Map<String, String> importedResources = readStringMap(in);
+			int registrarCount = in.readInt();
+			List<ImportModel> registrars = new ArrayList<>(registrarCount);
+			for (int j = 0; j < registrarCount; j++) {
+				registrars.add(new ImportModel(in.readUTF(), in.readUTF()));
+			}
+			model.addConfigurationClass(new ConfigurationClassModel(
+					className, beanName, importedBy, beanMethods, importedResources, registrars));
+		}
+		int importCount = in.readInt();
+		for (int i = 0; i < importCount; i++) {
+			model.addImport(in.readUTF(), in.readUTF());
+		}
+		return model;
+	}
+
+	private static void writeStrings(DataOutputStream out, List<String> values) throws IOException {
+		out.writeInt(values.size());
+		for (String value : values) {
+			out.writeUTF(value);
+		}
+	}
+
+	private static List<String> readStrings(DataInputStream in) throws IOException {
+		int size = in.readInt();
+		List<String> values = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			values.add(in.readUTF());
+		}
+		return values;
+	}
+
+	private static void writeStringMap(DataOutputStream out, Map<String, String> values) throws IOException {
+		out.writeInt(values.size());
+		for (Map.Entry<String, String> entry : values.entrySet()) {
+			out.writeUTF(entry.getKey());
+			out.writeUTF(entry.getValue());
+		}
+	}
+
+	private static Map<String, String> readStringMap(DataInputStream in) throws IOException {
+		int size = in.readInt();
+		Map<String, String> values = new LinkedHashMap<>(size);
+		for (int i = 0; i < size; i++) {
+			values.put(in.readUTF(), in.readUTF());
+		}
+		return values;
+	}
+
+
+	/**
+	 * The outcome of evaluating the conditions on a class.
+	 * @param className the name of the conditional class
+	 * @param phase the phase the conditions were evaluated for, if specified
+	 * @param skip whether the class was skipped
+	 * @param propertySourceCount the number of classes with {@code @PropertySource}
+	 * declarations processed before the conditions were evaluated
+	 */
+	record ConditionOutcome(String className, @Nullable ConfigurationPhase phase, boolean skip,
+			int propertySourceCount) {
+	}
+
+
+	/**
+	 * The registered classes of a {@code @ComponentScan} declaration.
+	 * @param declaringClass the name of the class declaring the scan
+	 * @param index the index of the declaration on the class
+	 * @param candidateClasses the names of the registered component classes
+	 */
+	record ComponentScanModel(String declaringClass, int index, List<String> candidateClasses) {
+	}
+
+
+	/**
+	 * A parsed {@link ConfigurationClass}.
+	 * @param className the name of the configuration class
+	 * @param beanName the bean name, or {@code null} if imported
+	 * @param importedBy the names of the importing configuration classes
+	 * @param beanMethods the {@code @Bean} methods, in registration order
+	 * @param importedResources the imported resources, mapped to the
+	 * name of the {@code BeanDefinitionReader} class to use
+	 * @param registrars the imports of {@code ImportBeanDefinitionRegistrar}
+	 * classes, each with the name of the class declaring the import
+	 */
+	record ConfigurationClassModel(String className, @Nullable String beanName, List<String> importedBy,
+			List<BeanMethodModel> beanMethods, Map<String, String> importedResources, List<ImportModel> registrars) {
+	}
+
+
+	/**
+	 * A {@code @Bean} method, identified by name and return type.
+	 */
+	record BeanMethodModel(String declaringClass, String methodName, String returnType) {
+	}
+
+
+	/**
+	 * An import relationship between two classes.
+	 */
+	record ImportModel(String importingClass, String importedClass) {
+	}
+
+}
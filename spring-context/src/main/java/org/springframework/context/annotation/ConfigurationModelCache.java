@@ -0,0 +1,296 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.context.annotation;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.Enumeration;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.beans.factory.config.BeanDefinitionHolder;
+import org.springframework.core.env.Environment;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ResourceUtils;
+import org.springframework.util.StringUtils;
+
+/**
+ * File-based cache of {@link ConfigurationModel ConfigurationModels}, keyed by
+ * configuration candidates and active profiles and valid for a specific
+ * classpath only.
+ *
+ * <p>The classpath is identified by a fingerprint over the roots visible to
+ * the {@link ClassLoader}: the entries of the {@code java.class.path} and
+ * {@code jdk.module.path} system properties, the URLs of any
+ * {@link URLClassLoader} in the hierarchy (e.g. {@code WEB-INF/classes} and
+ * {@code WEB-INF/lib} jars in a servlet container) and the roots of the
+ * {@code ""} and {@code META-INF/} resources. The fingerprint covers the size
+ * and last-modified timestamp of every jar file and of every file within a
+ * directory root. A cache file recorded for a different classpath is ignored
+ * and replaced on {@link #store()}. If any root cannot be resolved to a file
+ * in the file system, the cache is not used at all.
+ *
+ * @since 6.1.2
+ * @see ConfigurationClassPostProcessor#setConfigurationModelCacheLocation
+ */
+final class ConfigurationModelCache {
+
+	private static final int VERSION = 2;
+
+	private static final Log logger = LogFactory.getLog(ConfigurationModelCache.class);
+
+
+	private final Path location;
+
+	private final String fingerprint;
+
+	private final Map<String, ConfigurationModel> models = new LinkedHashMap<>();
+
+	private boolean modified;
+
+
+	private ConfigurationModelCache(Path location, String fingerprint) {
+		this.location = location;
+		this.fingerprint = fingerprint;
+	}
+
+
+	/**
+	 * Return the key for the given configuration candidates in the given environment.
+	 */
+	String getKey(Collection<BeanDefinitionHolder> configCandidates, Environment environment) {
+		StringBuilder key = new StringBuilder();
+		key.append(StringUtils.arrayToCommaDelimitedString(environment.getActiveProfiles())).append(';');
+		key.append(StringUtils.arrayToCommaDelimitedString(environment.getDefaultProfiles())).append(';');
+		for (BeanDefinitionHolder holder : configCandidates) {
+			key.append(holder.getBeanName()).append('=');
+			key.append(holder.getBeanDefinition().getBeanClassName()).append(';');
+		}
+		return HexFormat.of().formatHex(digest().digest(key.toString().getBytes(StandardCharsets.UTF_8)));
+	}
+
+	@Nullable
+	ConfigurationModel get(String key) {
+		return this.models.get(key);
+	}
+
+	void put(String key, ConfigurationModel model) {
+		this.models.put(key, model);
+		this.modified = true;
+	}
+
+	/**
+	 * Write the cached models to the cache file if any have been added.
+	 */
+	void store() {
+		if (!this.modified) {
+			return;
+		}
+		try {
+			Path directory = this.location.toAbsolutePath().getParent();
+			Files.createDirectories(directory);
+			Path tempFile = Files.createTempFile(directory, this.location.getFileName().toString(), ".tmp");
+			try (DataOutputStream out = new DataOutputStream(
+					new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+				out.writeInt(VERSION);
+				out.writeUTF(this.fingerprint);
+				out.writeInt(this.models.size());
+				for (Map.Entry<String, ConfigurationModel> entry : this.models.entrySet()) {
+					out.writeUTF(entry.getKey());
+					entry.getValue().writeTo(out);
+				}
+			}
+			try {
+				Files.move(tempFile, this.location, StandardCopyOption.REPLACE_EXISTING,
+						StandardCopyOption.ATOMIC_MOVE);
+			}
+			catch (AtomicMoveNotSupportedException ex) {
+				Files.move(tempFile, this.location, StandardCopyOption.REPLACE_EXISTING);
+			}
+			this.modified = false;
+		}
+		catch (IOException ex) {
+			logger.warn("Failed to store configuration model cache [" + this.location + "]", ex);
+		}
+	}
+
+
+	/**
+	 * Load the cache from the given file, if it exists and has been recorded
+	 * for the current classpath.
+	 * @param location the cache file
+	 * @param classLoader the ClassLoader to determine the classpath for
+	 * @return the cache, or {@code null} if the classpath cannot be determined
+	 */
+	@Nullable
+	static ConfigurationModelCache load(Path location, @Nullable ClassLoader classLoader) {
+		String fingerprint;
+		try {
+			fingerprint = computeClasspathFingerprint(classLoader);
+		}
+		catch (IOException | UncheckedIOException ex) {
+			logger.debug("Failed to compute classpath fingerprint - not using configuration model cache", ex);
+			return null;
+		}
+		if (fingerprint == null) {
+			logger.warn("Cannot resolve all classpath roots of ClassLoader [" + classLoader +
+					"] in the file system - not using configuration model cache [" + location + "]");
+			return null;
+		}
+		ConfigurationModelCache cache = new ConfigurationModelCache(location, fingerprint);
+		if (Files.isRegularFile(location)) {
+			try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(location)))) {
+				if (in.readInt() == VERSION && in.readUTF().equals(fingerprint)) {
+					int size = in.readInt();
+					for (int i = 0; i < size; i++) {
+						cache.models.put(in.readUTF(), ConfigurationModel.readFrom(in));
+					}
+				}
+				else if (logger.isDebugEnabled()) {
+					logger.debug("Ignoring configuration model cache [" + location + "] recorded for a different classpath");
+				}
+			}
+			catch (IOException | RuntimeException ex) {
+				cache.models.clear();
+				if (logger.isDebugEnabled()) {
+					logger.debug("Ignoring unreadable configuration model cache [" + location + "]", ex);
+				}
+			}
+		}
+		return cache;
+	}
+
+	/**
+	 * Compute a fingerprint over all classpath roots visible to the given ClassLoader.
+	 * @return the fingerprint, or {@code null} if a root cannot be resolved to a file
+	 */
+	@Nullable
+	private static String computeClasspathFingerprint(@Nullable ClassLoader classLoader) throws IOException {
+		Set<Path> roots = new LinkedHashSet<>();
+		for (String property : new String[] {"java.class.path", "jdk.module.path"}) {
+			String path = System.getProperty(property);
+			if (path != null) {
+				for (String entry : StringUtils.tokenizeToStringArray(path, File.pathSeparator)) {
+					roots.add(Path.of(entry).toAbsolutePath());
+				}
+			}
+		}
+		if (classLoader != null) {
+			for (ClassLoader current = classLoader; current != null; current = current.getParent()) {
+				if (current instanceof URLClassLoader urlClassLoader) {
+					for (URL url : urlClassLoader.getURLs()) {
+						if (!addRoot(roots, url, "")) {
+							return null;
+						}
+					}
+				}
+			}
+			for (String resourceName : new String[] {"", "META-INF/"}) {
+				Enumeration<URL> urls = classLoader.getResources(resourceName);
+				while (urls.hasMoreElements()) {
+					if (!addRoot(roots, urls.nextElement(), resourceName)) {
+						return null;
+					}
+				}
+			}
+		}
+		MessageDigest digest = digest();
+		digest.update(Runtime.version().toString().getBytes(StandardCharsets.UTF_8));
+		for (Path root : roots) {
+			updateDigest(digest, root);
+		}
+		return HexFormat.of().formatHex(digest.digest());
+	}
+
+	/**
+	 * Add the classpath root for the given URL of the given resource.
+	 * @return {@code false} if the URL cannot be resolved to a file
+	 */
+	private static boolean addRoot(Set<Path> roots, URL url, String resourceName) throws IOException {
+		if ("jrt".equals(url.getProtocol())) {
+			// Part of the runtime image: covered by the JDK version
+			return true;
+		}
+		URL rootUrl = url;
+		if (ResourceUtils.isJarURL(url)) {
+			rootUrl = ResourceUtils.extractArchiveURL(url);
+		}
+		if (!ResourceUtils.URL_PROTOCOL_FILE.equals(rootUrl.getProtocol())) {
+			return false;
+		}
+		Path root = ResourceUtils.getFile(rootUrl).toPath().toAbsolutePath();
+		if (rootUrl == url && !resourceName.isEmpty()) {
+			root = root.getParent();
+		}
+		roots.add(root);
+		return true;
+	}
+
+	private static void updateDigest(MessageDigest digest, Path entry) throws IOException {
+		digest.update(entry.toString().getBytes(StandardCharsets.UTF_8));
+		if (Files.isDirectory(entry)) {
+			List<Path> files;
+			try (Stream<Path> stream = Files.walk(entry)) {
+				files = stream.filter(Files::isRegularFile).sorted().toList();
+			}
+			for (Path file : files) {
+				updateDigest(digest, entry.relativize(file).toString(), file);
+			}
+		}
+		else if (Files.isRegularFile(entry)) {
+			updateDigest(digest, "", entry);
+		}
+	}
+
+	private static void updateDigest(MessageDigest digest, String name, Path file) throws IOException {
+		String attributes = name + ':' + Files.size(file) + ':' + Files.getLastModifiedTime(file).toMillis() + ';';
+		digest.update(attributes.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static MessageDigest digest() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		}
+		catch (NoSuchAlgorithmException ex) {
+			throw new IllegalStateException("SHA-256 not supported", ex);
+		}
+	}
+
+}
@@ -24,6 +24,8 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Predicate;
 
 import org.springframework.aop.framework.AopProxyUtils;
@@ -69,6 +71,9 @@ public abstract class AbstractApplicationEventMulticaster
 
 	final Map<ListenerCacheKey, CachedListenerRetriever> retrieverCache = new ConcurrentHashMap<>(64);
 
+	/** Guards the default retriever; a Lock since listener beans may get initialized within. */
+	private final Lock retrievalLock = new ReentrantLock();
+
 	@Nullable
 	private ClassLoader beanClassLoader;
 
@@ -103,7 +108,8 @@ public abstract class AbstractApplicationEventMulticaster
 
 	@Override
 	public void addApplicationListener(ApplicationListener<?> listener) {
-		synchronized (this.defaultRetriever) {
+		this.retrievalLock.lock();
+		try {
 			// Explicitly remove target for a proxy, if registered already,
 			// in order to avoid double invocations of the same listener.
 			Object singletonTarget = AopProxyUtils.getSingletonTarget(listener);
@@ -113,55 +119,82 @@ public abstract class AbstractApplicationEventMulticaster
 			this.defaultRetriever.applicationListeners.add(listener);
 			this.retrieverCache.clear();
 		}
+		finally {
+			this.retrievalLock.unlock();
+		}
 	}
 
 	@Override
 	public void addApplicationListenerBean(String listenerBeanName) {
-		synchronized (this.defaultRetriever) {
+		this.retrievalLock.lock();
+		try {
 			this.defaultRetriever.applicationListenerBeans.add(listenerBeanName);
 			this.retrieverCache.clear();
 		}
+		finally {
+			this.retrievalLock.unlock();
+		}
 	}
 
 	@Override
 	public void removeApplicationListener(ApplicationListener<?> listener) {
-		synchronized (this.defaultRetriever) {
+		this.retrievalLock.lock();
+		try {
 			this.defaultRetriever.applicationListeners.remove(listener);
 			this.retrieverCache.clear();
 		}
+		finally {
+			this.retrievalLock.unlock();
+		}
 	}
 
 	@Override
 	public void removeApplicationListenerBean(String listenerBeanName) {
-		synchronized (this.defaultRetriever) {
+		this.retrievalLock.lock();
+		try {
 			this.defaultRetriever.applicationListenerBeans.remove(listenerBeanName);
 			this.retrieverCache.clear();
 		}
+		finally {
+			this.retrievalLock.unlock();
+		}
 	}
 
 	@Override
 	public void removeApplicationListeners(Predicate<ApplicationListener<?>> predicate) {
-		synchronized (this.defaultRetriever) {
+		this.retrievalLock.lock();
+		try {
 			this.defaultRetriever.applicationListeners.removeIf(predicate);
 			this.retrieverCache.clear();
 		}
+		finally {
+			this.retrievalLock.unlock();
+		}
 	}
 
 	@Override
 	public void removeApplicationListenerBeans(Predicate<String> predicate) {
-		synchronized (this.defaultRetriever) {
+		this.retrievalLock.lock();
+		try {
 			this.defaultRetriever.applicationListenerBeans.removeIf(predicate);
 			this.retrieverCache.clear();
 		}
+		finally {
+			this.retrievalLock.unlock();
+		}
 	}
 
 	@Override
 	public void removeAllListeners() {
-		synchronized (this.defaultRetriever) {
+		this.retrievalLock.lock();
+		try {
 			this.defaultRetriever.applicationListeners.clear();
 			this.defaultRetriever.applicationListenerBeans.clear();
 			this.retrieverCache.clear();
 		}
+		finally {
+			this.retrievalLock.unlock();
+		}
 	}
 
 
@@ -171,9 +204,13 @@ public abstract class AbstractApplicationEventMulticaster
 	 * @see org.springframework.context.ApplicationListener
 	 */
 	protected Collection<ApplicationListener<?>> getApplicationListeners() {
-		synchronized (this.defaultRetriever) {
+		this.retrievalLock.lock();
+		try {
 			return this.defaultRetriever.getApplicationListeners();
 		}
+		finally {
+			this.retrievalLock.unlock();
+		}
 	}
 
 	/**
@@ -238,10 +275,14 @@ public abstract class AbstractApplicationEventMulticaster
 
 		Set<ApplicationListener<?>> listeners;
 		Set<String> listenerBeans;
-		synchronized (this.defaultRetriever) {
+		this.retrievalLock.lock();
+		try {
 			listeners = new LinkedHashSet<>(this.defaultRetriever.applicationListeners);
 			listenerBeans = new LinkedHashSet<>(this.defaultRetriever.applicationListenerBeans);
 		}
+		finally {
+			this.retrievalLock.unlock();
+		}
 
 		// Add programmatically registered listeners, including ones coming
 		// from ApplicationListenerDetector (singleton beans and inner beans).
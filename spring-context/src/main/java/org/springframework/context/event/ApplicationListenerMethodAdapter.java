@@ -63,6 +63,9 @@ import org.springframework.util.StringUtils;
  * to define any arbitrary event type. If a condition is defined, it is
  * evaluated prior to invoking the underlying method.
  *
+ * <p>As of 6.1.2, the underlying method is invoked through a generated
+ * invoker rather than through reflection where possible.
+ *
  * @author Stephane Nicoll
  * @author Juergen Hoeller
  * @author Sam Brannen
@@ -101,6 +104,11 @@ public class ApplicationListenerMethodAdapter implements GenericApplicationListe
 	@Nullable
 	private EventExpressionEvaluator evaluator;
 
+	@Nullable
+	private volatile ListenerMethodInvoker invoker;
+
+	private volatile boolean invokerResolved;
+
 
 	/**
 	 * Construct a new ApplicationListenerMethodAdapter.
@@ -357,6 +365,20 @@ public class ApplicationListenerMethodAdapter implements GenericApplicationListe
 			return null;
 		}
 
+		ListenerMethodInvoker invoker = getInvoker();
+		if (invoker != null && invoker.canInvoke(bean, args)) {
+			try {
+				return invoker.invoke(bean, args);
+			}
+			catch (RuntimeException ex) {
+				throw ex;
+			}
+			catch (Throwable ex) {
+				String msg = getInvocationErrorMessage(bean, "Failed to invoke event listener method", args);
+				throw new UndeclaredThrowableException(ex, msg);
+			}
+		}
+
 		ReflectionUtils.makeAccessible(this.method);
 		try {
 			if (KotlinDetector.isSuspendingFunction(this.method)) {
@@ -384,6 +406,21 @@ public class ApplicationListenerMethodAdapter implements GenericApplicationListe
 		}
 	}
 
+	/**
+	 * Return a generated invoker for the listener method, resolved on first use.
+	 * Kotlin suspending functions are always invoked reflectively.
+	 */
+	@Nullable
+	private ListenerMethodInvoker getInvoker() {
+		if (!this.invokerResolved) {
+			if (!KotlinDetector.isSuspendingFunction(this.method)) {
+				this.invoker = ListenerMethodInvoker.generate(this.method);
+			}
+			this.invokerResolved = true;
+		}
+		return this.invoker;
+	}
+
 	/**
 	 * Return the target bean instance to use.
 	 */
@@ -0,0 +1,379 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.context.event;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.support.TaskUtils;
+import org.springframework.util.Assert;
+import org.springframework.util.ErrorHandler;
+
+/**
+ * {@link GenericApplicationListener} that accumulates events of a given type
+ * in a bounded queue and hands them to a batch consumer in micro-batches,
+ * either once {@linkplain #setMaxBatchSize a batch is full} or once the
+ * {@linkplain #setMaxBatchDelay maximum batch delay} has elapsed since the
+ * first event of the batch has been received.
+ *
+ * <p>Batches are delivered by a single worker, started on the first event
+ * through the configured {@linkplain #setExecutor executor}, in the order in
+ * which the events have been published. Events are enqueued in the publishing
+ * thread; if the queue is full, the {@linkplain #setOverflowPolicy overflow
+ * policy} determines whether the publisher is blocked or an event is dropped.
+ *
+ * <p>On {@link #destroy()}, the remaining events are delivered before the
+ * worker stops, waiting up to the {@linkplain #setAwaitTerminationPeriod
+ * await termination period}.
+ *
+ * <pre class="code">
+ * &#064;Bean
+ * BatchingApplicationListener&lt;OrderPlacedEvent&gt; orderListener(OrderIndexer indexer) {
+ *     BatchingApplicationListener&lt;OrderPlacedEvent&gt; listener =
+ *             new BatchingApplicationListener&lt;&gt;(OrderPlacedEvent.class, indexer::index);
+ *     listener.setMaxBatchSize(500);
+ *     listener.setMaxBatchDelay(Duration.ofMillis(50));
+ *     return listener;
+ * }</pre>
+ *
+ * @since 6.1.2
+ * @param <E> the type of events to accumulate
+ * @see SimpleApplicationEventMulticaster#setTaskExecutorResolver
+ */
+public class BatchingApplicationListener<E extends ApplicationEvent> implements GenericApplicationListener, DisposableBean {
+
+	private static final long IDLE_POLL_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+	private static final Log logger = LogFactory.getLog(BatchingApplicationListener.class);
+
+
+	private final Class<E> eventType;
+
+	private final Consumer<List<E>> batchConsumer;
+
+	private int maxBatchSize = 100;
+
+	private Duration maxBatchDelay = Duration.ofMillis(100);
+
+	private int queueCapacity = 10_000;
+
+	private OverflowPolicy overflowPolicy = OverflowPolicy.BLOCK;
+
+	private Executor executor = createDefaultExecutor();
+
+	private ErrorHandler errorHandler = TaskUtils.LOG_AND_SUPPRESS_ERROR_HANDLER;
+
+	private Duration awaitTerminationPeriod = Duration.ofSeconds(10);
+
+	@Nullable
+	private volatile BlockingQueue<E> queue;
+
+	private final AtomicBoolean started = new AtomicBoolean();
+
+	private final CountDownLatch terminated = new CountDownLatch(1);
+
+	private final LongAdder droppedEventCount = new LongAdder();
+
+	private volatile boolean closed;
+
+
+	/**
+	 * Create a new BatchingApplicationListener.
+	 * @param eventType the type of events to accumulate (including subclasses)
+	 * @param batchConsumer the consumer to hand each batch of events to
+	 */
+	public BatchingApplicationListener(Class<E> eventType, Consumer<List<E>> batchConsumer) {
+		Assert.notNull(eventType, "Event type must not be null");
+		Assert.notNull(batchConsumer, "Batch consumer must not be null");
+		this.eventType = eventType;
+		this.batchConsumer = batchConsumer;
+	}
+
+
+	/**
+	 * Set the maximum number of events per batch. Default is 100.
+	 */
+	public void setMaxBatchSize(int maxBatchSize) {
+		Assert.isTrue(maxBatchSize > 0, "Max batch size must be greater than 0");
+		this.maxBatchSize = maxBatchSize;
+	}
+
+	/**
+	 * Set the maximum time to wait for further events after the first event
+	 * of a batch has been received. Default is 100 milliseconds.
+	 */
+	public void setMaxBatchDelay(Duration maxBatchDelay) {
+		Assert.isTrue(!maxBatchDelay.isNegative(), "Max batch delay must not be negative");
+		this.maxBatchDelay = maxBatchDelay;
+	}
+
+	/**
+	 * Set the capacity of the queue of pending events. Default is 10000.
+	 * <p>Needs to be set before the first event is received.
+	 * @see #setOverflowPolicy
+	 */
+	public void setQueueCapacity(int queueCapacity) {
+		Assert.isTrue(queueCapacity > 0, "Queue capacity must be greater than 0");
+		this.queueCapacity = queueCapacity;
+	}
+
+	/**
+	 * Set the policy to apply when an event is published while the queue is full.
+	 * Default is {@link OverflowPolicy#BLOCK}.
+	 */
+	public void setOverflowPolicy(OverflowPolicy overflowPolicy) {
+		Assert.notNull(overflowPolicy, "OverflowPolicy must not be null");
+		this.overflowPolicy = overflowPolicy;
+	}
+
+	/**
+	 * Set the executor to run the worker delivering batches with. The worker
+	 * occupies a thread of that executor while this listener is active.
+	 * <p>Default is a {@link SimpleAsyncTaskExecutor}, creating a dedicated daemon
+	 * thread which does not prevent the JVM from exiting; remaining events are
+	 * only guaranteed to be delivered on {@link #destroy()}.
+	 */
+	public void setExecutor(Executor executor) {
+		Assert.notNull(executor, "Executor must not be null");
+		this.executor = executor;
+	}
+
+	/**
+	 * Set the {@link ErrorHandler} to invoke in case an exception is thrown
+	 * from the batch consumer. Default is to log the exception and to continue
+	 * with the next batch; an exception propagated from the error handler is
+	 * logged as well, with delivery continuing in any case.
+	 * @see TaskUtils#LOG_AND_SUPPRESS_ERROR_HANDLER
+	 */
+	public void setErrorHandler(ErrorHandler errorHandler) {
+		Assert.notNull(errorHandler, "ErrorHandler must not be null");
+		this.errorHandler = errorHandler;
+	}
+
+	/**
+	 * Set the maximum time to wait for the remaining events to be delivered on
+	 * {@link #destroy()}. Default is 10 seconds.
+	 */
+	public void setAwaitTerminationPeriod(Duration awaitTerminationPeriod) {
+		Assert.isTrue(!awaitTerminationPeriod.isNegative(), "Await termination period must not be negative");
+		this.awaitTerminationPeriod = awaitTerminationPeriod;
+	}
+
+	/**
+	 * Return the number of events dropped due to the {@linkplain #setOverflowPolicy
+	 * overflow policy} or due to being published after {@link #destroy()}.
+	 */
+	public long getDroppedEventCount() {
+		return this.droppedEventCount.sum();
+	}
+
+	/**
+	 * Return the number of events currently waiting to be delivered.
+	 */
+	public int getPendingEventCount() {
+		BlockingQueue<E> queue = this.queue;
+		return (queue != null ? queue.size() : 0);
+	}
+
+
+	@Override
+	public boolean supportsEventType(ResolvableType eventType) {
+		Class<?> eventClass = eventType.toClass();
+		return this.eventType.isAssignableFrom(eventClass);
+	}
+
+	/**
+	 * This implementation returns {@code false}: events are enqueued in the
+	 * publishing thread, preserving their order and applying backpressure
+	 * to the publisher if necessary.
+	 */
+	@Override
+	public boolean supportsAsyncExecution() {
+		return false;
+	}
+
+	@Override
+	public void onApplicationEvent(ApplicationEvent event) {
+		if (!this.eventType.isInstance(event)) {
+			return;
+		}
+		if (this.closed) {
+			this.droppedEventCount.increment();
+			if (logger.isDebugEnabled()) {
+				logger.debug("Dropping event published after shutdown: " + event);
+			}
+			return;
+		}
+		BlockingQueue<E> queue = obtainQueue();
+		E element = this.eventType.cast(event);
+		switch (this.overflowPolicy) {
+			case BLOCK -> {
+				try {
+					queue.put(element);
+				}
+				catch (InterruptedException ex) {
+					Thread.currentThread().interrupt();
+					this.droppedEventCount.increment();
+				}
+			}
+			case DROP_NEWEST -> {
+				if (!queue.offer(element)) {
+					this.droppedEventCount.increment();
+				}
+			}
+			case DROP_OLDEST -> {
+				while (!queue.offer(element)) {
+					if (queue.poll() != null) {
+						this.droppedEventCount.increment();
+					}
+				}
+			}
+		}
+	}
+
+	private BlockingQueue<E> obtainQueue() {
+		BlockingQueue<E> queue = this.queue;
+		if (queue == null) {
+			synchronized (this) {
+				queue = this.queue;
+				if (queue == null) {
+					queue = new ArrayBlockingQueue<>(this.queueCapacity);
+					this.queue = queue;
+				}
+			}
+		}
+		if (!this.started.get() && this.started.compareAndSet(false, true)) {
+			BlockingQueue<E> queueToUse = queue;
+			try {
+				this.executor.execute(() -> processBatches(queueToUse));
+			}
+			catch (RuntimeException ex) {
+				this.started.set(false);
+				throw ex;
+			}
+		}
+		return queue;
+	}
+
+	private void processBatches(BlockingQueue<E> queue) {
+		try {
+			List<E> batch = new ArrayList<>(this.maxBatchSize);
+			while (!this.closed || !queue.isEmpty()) {
+				E first = queue.poll(IDLE_POLL_NANOS, TimeUnit.NANOSECONDS);
+				if (first == null) {
+					continue;
+				}
+				batch.add(first);
+				long deadline = System.nanoTime() + this.maxBatchDelay.toNanos();
+				while (batch.size() < this.maxBatchSize) {
+					queue.drainTo(batch, this.maxBatchSize - batch.size());
+					long remaining = deadline - System.nanoTime();
+					if (batch.size() >= this.maxBatchSize || remaining <= 0 || this.closed) {
+						break;
+					}
+					E next = queue.poll(Math.min(remaining, IDLE_POLL_NANOS), TimeUnit.NANOSECONDS);
+					if (next != null) {
+						batch.add(next);
+					}
+				}
+				deliver(batch);
+				batch = new ArrayList<>(this.maxBatchSize);
+			}
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			logger.warn("Interrupted while waiting for events - stopping batch delivery");
+		}
+		finally {
+			this.terminated.countDown();
+		}
+	}
+
+	private void deliver(List<E> batch) {
+		try {
+			this.batchConsumer.accept(batch);
+		}
+		catch (Throwable ex) {
+			try {
+				this.errorHandler.handleError(ex);
+			}
+			catch (Throwable handlerEx) {
+				// Keep the worker alive for subsequent batches
+				logger.error("Failed to deliver batch of " + batch.size() + " events", handlerEx);
+			}
+		}
+	}
+
+	/**
+	 * Deliver the remaining events and stop the worker.
+	 */
+	@Override
+	public void destroy() throws InterruptedException {
+		this.closed = true;
+		if (this.started.get() &&
+				!this.terminated.await(this.awaitTerminationPeriod.toNanos(), TimeUnit.NANOSECONDS)) {
+			logger.warn("Timed out waiting for pending events to be delivered: " + getPendingEventCount() +
+					" events remaining");
+		}
+	}
+
+	private static Executor createDefaultExecutor() {
+		SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("batching-listener-");
+		executor.setDaemon(true);
+		return executor;
+	}
+
+
+	/**
+	 * Policy for events published while the queue is full.
+	 */
+	public enum OverflowPolicy {
+
+		/**
+		 * Block the publishing thread until the queue has space available.
+		 */
+		BLOCK,
+
+		/**
+		 * Drop the event being published.
+		 */
+		DROP_NEWEST,
+
+		/**
+		 * Drop the oldest pending event in favor of the event being published.
+		 */
+		DROP_OLDEST
+	}
+
+}
@@ -31,6 +31,8 @@ import org.springframework.expression.spel.support.StandardEvaluationContext;
 /**
  * Utility class for handling SpEL expression parsing for application events.
  * <p>Meant to be used as a reusable, thread-safe component.
+ * <p>As of 6.1.2, conditions are {@linkplain #createCompilingParser compiled}
+ * once they have been evaluated repeatedly, unless configured otherwise.
  *
  * @author Stephane Nicoll
  * @since 4.2
@@ -43,6 +45,7 @@ class EventExpressionEvaluator extends CachedExpressionEvaluator {
 	private final StandardEvaluationContext originalEvaluationContext;
 
 	EventExpressionEvaluator(StandardEvaluationContext originalEvaluationContext) {
+		super(createCompilingParser(null));
 		this.originalEvaluationContext = originalEvaluationContext;
 	}
 
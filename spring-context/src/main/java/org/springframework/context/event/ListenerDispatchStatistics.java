@@ -0,0 +1,103 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.context.event;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Dispatch statistics for a single application listener, as recorded by
+ * {@link SimpleApplicationEventMulticaster} if
+ * {@linkplain SimpleApplicationEventMulticaster#setRecordDispatchStatistics enabled}.
+ *
+ * <p>The dispatch latency of an event is split into the time between
+ * multicasting the event and starting the listener invocation (i.e. the time
+ * spent waiting for an executor) and the time spent in the listener itself.
+ *
+ * @since 6.1.2
+ * @see SimpleApplicationEventMulticaster#getDispatchStatistics()
+ */
+public final class ListenerDispatchStatistics {
+
+	private final LongAdder invocationCount = new LongAdder();
+
+	private final LongAdder totalWaitTime = new LongAdder();
+
+	private final LongAdder totalExecutionTime = new LongAdder();
+
+	private final LongAccumulator maxLatency = new LongAccumulator(Math::max, 0);
+
+
+	ListenerDispatchStatistics() {
+	}
+
+
+	void record(long waitNanos, long executionNanos) {
+		this.invocationCount.increment();
+		this.totalWaitTime.add(waitNanos);
+		this.totalExecutionTime.add(executionNanos);
+		this.maxLatency.accumulate(waitNanos + executionNanos);
+	}
+
+	/**
+	 * Return the number of listener invocations.
+	 */
+	public long getInvocationCount() {
+		return this.invocationCount.sum();
+	}
+
+	/**
+	 * Return the accumulated time between multicasting an event and
+	 * invoking the listener.
+	 */
+	public Duration getTotalWaitTime() {
+		return Duration.ofNanos(this.totalWaitTime.sum());
+	}
+
+	/**
+	 * Return the accumulated time spent in the listener.
+	 */
+	public Duration getTotalExecutionTime() {
+		return Duration.ofNanos(this.totalExecutionTime.sum());
+	}
+
+	/**
+	 * Return the average dispatch latency, from multicasting an event
+	 * to the completion of the listener invocation.
+	 */
+	public Duration getAverageLatency() {
+		long count = this.invocationCount.sum();
+		return (count > 0 ?
+				Duration.ofNanos((this.totalWaitTime.sum() + this.totalExecutionTime.sum()) / count) : Duration.ZERO);
+	}
+
+	/**
+	 * Return the maximum dispatch latency, from multicasting an event
+	 * to the completion of the listener invocation.
+	 */
+	public Duration getMaxLatency() {
+		return Duration.ofNanos(this.maxLatency.get());
+	}
+
+	@Override
+	public String toString() {
+		return "ListenerDispatchStatistics: invocations=" + getInvocationCount() +
+				", averageLatency=" + getAverageLatency() + ", maxLatency=" + getMaxLatency();
+	}
+
+}
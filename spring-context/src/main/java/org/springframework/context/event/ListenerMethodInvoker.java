@@ -0,0 +1,147 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.context.event;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Generated invoker for an event listener method, spun through
+ * {@link LambdaMetafactory} once per listener method and then invoked as a
+ * plain functional interface call instead of going through
+ * {@link Method#invoke} for every event.
+ *
+ * <p>Only applicable to instance methods with at most one parameter; callers
+ * need to check {@link #canInvoke} and fall back to reflective invocation
+ * otherwise, retaining the error reporting of {@link Method#invoke} for
+ * mismatching target beans and arguments.
+ *
+ * @since 6.1.2
+ * @see ApplicationListenerMethodAdapter#doInvoke
+ */
+final class ListenerMethodInvoker {
+
+	private final Class<?> declaringClass;
+
+	@Nullable
+	private final Class<?> parameterType;
+
+	private final boolean parameterNullable;
+
+	private final Object function;
+
+
+	private ListenerMethodInvoker(Method method, Object function) {
+		this.declaringClass = method.getDeclaringClass();
+		Class<?>[] parameterTypes = method.getParameterTypes();
+		this.parameterType = (parameterTypes.length > 0 ?
+				ClassUtils.resolvePrimitiveIfNecessary(parameterTypes[0]) : null);
+		this.parameterNullable = (parameterTypes.length > 0 && !parameterTypes[0].isPrimitive());
+		this.function = function;
+	}
+
+
+	/**
+	 * Determine whether this invoker can be used for the given target bean
+	 * and arguments, i.e. without a reflective argument conversion.
+	 */
+	boolean canInvoke(Object bean, Object[] args) {
+		if (!this.declaringClass.isInstance(bean)) {
+			return false;
+		}
+		if (this.parameterType == null) {
+			return (args.length == 0);
+		}
+		return (args.length == 1 &&
+				(args[0] != null ? this.parameterType.isInstance(args[0]) : this.parameterNullable));
+	}
+
+	/**
+	 * Invoke the listener method, propagating any exception thrown by the
+	 * method as-is.
+	 */
+	@Nullable
+	@SuppressWarnings("unchecked")
+	Object invoke(Object bean, Object[] args) {
+		if (this.function instanceof Function<?, ?> function) {
+			return ((Function<Object, Object>) function).apply(bean);
+		}
+		else if (this.function instanceof BiFunction<?, ?, ?> function) {
+			return ((BiFunction<Object, Object, Object>) function).apply(bean, args[0]);
+		}
+		else if (this.function instanceof Consumer<?> consumer) {
+			((Consumer<Object>) consumer).accept(bean);
+		}
+		else {
+			((BiConsumer<Object, Object>) this.function).accept(bean, args[0]);
+		}
+		return null;
+	}
+
+
+	/**
+	 * Generate an invoker for the given listener method, if possible.
+	 * @param method the listener method
+	 * @return the invoker, or {@code null} if the method needs to be
+	 * invoked reflectively
+	 */
+	@Nullable
+	static ListenerMethodInvoker generate(Method method) {
+		if (Modifier.isStatic(method.getModifiers()) || method.getParameterCount() > 1 ||
+				method.getDeclaringClass().isHidden()) {
+			return null;
+		}
+		try {
+			// The generated class becomes a nestmate of the declaring class,
+			// in the declaring class's ClassLoader: no pinning of other loaders.
+			MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(method.getDeclaringClass(), MethodHandles.lookup());
+			MethodHandle handle = lookup.unreflect(method);
+			boolean hasParameter = (method.getParameterCount() == 1);
+			boolean hasResult = (method.getReturnType() != void.class);
+			Class<?> functionType = (hasResult ? (hasParameter ? BiFunction.class : Function.class) :
+					(hasParameter ? BiConsumer.class : Consumer.class));
+			MethodType erasedType = (hasParameter ?
+					MethodType.methodType(hasResult ? Object.class : void.class, Object.class, Object.class) :
+					MethodType.methodType(hasResult ? Object.class : void.class, Object.class));
+			MethodType instantiatedType = (hasResult ? handle.type().wrap() :
+					handle.type().wrap().changeReturnType(void.class));
+			CallSite callSite = LambdaMetafactory.metafactory(lookup, (hasResult ? "apply" : "accept"),
+					MethodType.methodType(functionType), erasedType, handle, instantiatedType);
+			return new ListenerMethodInvoker(method, callSite.getTarget().invoke());
+		}
+		catch (Throwable ex) {
+			LogFactory.getLog(ListenerMethodInvoker.class).debug(
+					"Falling back to reflective invocation for event listener method [" + method + "]: " + ex);
+			return null;
+		}
+	}
+
+}
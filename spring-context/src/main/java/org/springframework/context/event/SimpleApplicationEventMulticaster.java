@@ -16,7 +16,11 @@
 
 package org.springframework.context.event;
 
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
+import java.util.function.Function;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -41,21 +45,32 @@ import org.springframework.util.ErrorHandler;
  * This allows the danger of a rogue listener blocking the entire application,
  * but adds minimal overhead. Specify an alternative task executor to have
  * listeners executed in different threads, for example from a thread pool.
+ * Individual listeners may be routed to dedicated executors through a
+ * {@linkplain #setTaskExecutorResolver task executor resolver}, and the
+ * dispatch latency per listener may be
+ * {@linkplain #setRecordDispatchStatistics recorded} for monitoring purposes.
  *
  * @author Rod Johnson
  * @author Juergen Hoeller
  * @author Stephane Nicoll
  * @author Brian Clozel
  * @see #setTaskExecutor
+ * @see BatchingApplicationListener
  */
 public class SimpleApplicationEventMulticaster extends AbstractApplicationEventMulticaster {
 
 	@Nullable
 	private Executor taskExecutor;
 
+	@Nullable
+	private Function<ApplicationListener<?>, Executor> taskExecutorResolver;
+
 	@Nullable
 	private ErrorHandler errorHandler;
 
+	@Nullable
+	private volatile Map<String, ListenerDispatchStatistics> dispatchStatistics;
+
 	@Nullable
 	private volatile Log lazyLogger;
 
@@ -104,6 +119,28 @@ public class SimpleApplicationEventMulticaster extends AbstractApplicationEventM
 		return this.taskExecutor;
 	}
 
+	/**
+	 * Set a function determining a specific executor for each listener, e.g. a
+	 * separate bounded thread pool for a slow listener so that it does not
+	 * hold up the other listeners.
+	 * <p>The function may return {@code null} for listeners which should be
+	 * invoked with the {@linkplain #setTaskExecutor default task executor}.
+	 * It is not consulted for listeners which declare no support for
+	 * {@linkplain ApplicationListener#supportsAsyncExecution() asynchronous execution}.
+	 * <p>Backpressure and overflow handling can be applied per listener through the
+	 * queue capacity and the rejection policy of the returned executor, e.g. a
+	 * {@link org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor}
+	 * with a {@link java.util.concurrent.ThreadPoolExecutor.CallerRunsPolicy}
+	 * (blocking the publisher) or a {@link java.util.concurrent.ThreadPoolExecutor.DiscardPolicy}
+	 * (dropping events for that listener).
+	 * @since 6.1.2
+	 * @see #determineTaskExecutor(ApplicationListener)
+	 * @see SmartApplicationListener#getListenerId()
+	 */
+	public void setTaskExecutorResolver(@Nullable Function<ApplicationListener<?>, Executor> taskExecutorResolver) {
+		this.taskExecutorResolver = taskExecutorResolver;
+	}
+
 	/**
 	 * Set the {@link ErrorHandler} to invoke in case an exception is thrown
 	 * from a listener.
@@ -132,6 +169,32 @@ public class SimpleApplicationEventMulticaster extends AbstractApplicationEventM
 		return this.errorHandler;
 	}
 
+	/**
+	 * Specify whether to record dispatch statistics per listener, i.e. the
+	 * number of invocations as well as the time spent waiting for an executor
+	 * and the time spent in the listener itself.
+	 * <p>Default is {@code false}. Statistics are kept per
+	 * {@linkplain SmartApplicationListener#getListenerId() listener id} or,
+	 * for listeners without an id, per listener class.
+	 * @since 6.1.2
+	 * @see #getDispatchStatistics()
+	 */
+	public void setRecordDispatchStatistics(boolean recordDispatchStatistics) {
+		this.dispatchStatistics = (recordDispatchStatistics ? new ConcurrentHashMap<>() : null);
+	}
+
+	/**
+	 * Return the dispatch statistics recorded so far, keyed by listener id
+	 * or listener class name.
+	 * @return an unmodifiable view of the statistics (empty if
+	 * {@linkplain #setRecordDispatchStatistics not recording})
+	 * @since 6.1.2
+	 */
+	public Map<String, ListenerDispatchStatistics> getDispatchStatistics() {
+		Map<String, ListenerDispatchStatistics> dispatchStatistics = this.dispatchStatistics;
+		return (dispatchStatistics != null ? Collections.unmodifiableMap(dispatchStatistics) : Collections.emptyMap());
+	}
+
 	@Override
 	public void multicastEvent(ApplicationEvent event) {
 		multicastEvent(event, null);
@@ -140,9 +203,20 @@ public class SimpleApplicationEventMulticaster extends AbstractApplicationEventM
 	@Override
 	public void multicastEvent(ApplicationEvent event, @Nullable ResolvableType eventType) {
 		ResolvableType type = (eventType != null ? eventType : ResolvableType.forInstance(event));
-		Executor executor = getTaskExecutor();
+		Map<String, ListenerDispatchStatistics> dispatchStatistics = this.dispatchStatistics;
 		for (ApplicationListener<?> listener : getApplicationListeners(event, type)) {
-			if (executor != null && listener.supportsAsyncExecution()) {
+			Executor executor = (listener.supportsAsyncExecution() ? determineTaskExecutor(listener) : null);
+			if (dispatchStatistics != null) {
+				// Per listener, not including the time spent in previously invoked listeners
+				long dispatchTime = System.nanoTime();
+				if (executor != null) {
+					executor.execute(() -> invokeListener(listener, event, dispatchTime, dispatchStatistics));
+				}
+				else {
+					invokeListener(listener, event, dispatchTime, dispatchStatistics);
+				}
+			}
+			else if (executor != null) {
 				executor.execute(() -> invokeListener(listener, event));
 			}
 			else {
@@ -151,6 +225,52 @@ public class SimpleApplicationEventMulticaster extends AbstractApplicationEventM
 		}
 	}
 
+	/**
+	 * Determine the executor to invoke the given listener with.
+	 * <p>The default implementation consults the
+	 * {@linkplain #setTaskExecutorResolver task executor resolver}, if any,
+	 * falling back to the {@linkplain #getTaskExecutor() default task executor}.
+	 * @param listener the ApplicationListener to invoke, supporting
+	 * asynchronous execution
+	 * @return the executor to use, or {@code null} to invoke the listener
+	 * in the calling thread
+	 * @since 6.1.2
+	 */
+	@Nullable
+	protected Executor determineTaskExecutor(ApplicationListener<?> listener) {
+		Function<ApplicationListener<?>, Executor> taskExecutorResolver = this.taskExecutorResolver;
+		if (taskExecutorResolver != null) {
+			Executor executor = taskExecutorResolver.apply(listener);
+			if (executor != null) {
+				return executor;
+			}
+		}
+		return getTaskExecutor();
+	}
+
+	private void invokeListener(ApplicationListener<?> listener, ApplicationEvent event,
+			long dispatchTime, Map<String, ListenerDispatchStatistics> dispatchStatistics) {
+
+		long startTime = System.nanoTime();
+		try {
+			invokeListener(listener, event);
+		}
+		finally {
+			dispatchStatistics.computeIfAbsent(getStatisticsKey(listener), key -> new ListenerDispatchStatistics())
+					.record(startTime - dispatchTime, System.nanoTime() - startTime);
+		}
+	}
+
+	private static String getStatisticsKey(ApplicationListener<?> listener) {
+		if (listener instanceof SmartApplicationListener smartListener) {
+			String listenerId = smartListener.getListenerId();
+			if (!listenerId.isEmpty()) {
+				return listenerId;
+			}
+		}
+		return listener.getClass().getName();
+	}
+
 	/**
 	 * Invoke the given listener with the given event.
 	 * @param listener the ApplicationListener to invoke
@@ -16,11 +16,15 @@
 
 package org.springframework.context.expression;
 
+import java.util.Locale;
 import java.util.Map;
 
 import org.springframework.core.DefaultParameterNameDiscoverer;
 import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.core.SpringProperties;
 import org.springframework.expression.Expression;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
@@ -57,6 +61,25 @@ public abstract class CachedExpressionEvaluator {
 	}
 
 
+	/**
+	 * Create a {@link SpelExpressionParser} which compiles frequently evaluated
+	 * expressions in {@link SpelCompilerMode#MIXED MIXED} mode, reverting to
+	 * interpreted evaluation for expressions which cannot be compiled or which
+	 * fail in compiled form, unless a compiler mode has been set explicitly
+	 * through the {@value SpelParserConfiguration#SPRING_EXPRESSION_COMPILER_MODE_PROPERTY_NAME}
+	 * Spring property.
+	 * @param classLoader the ClassLoader to use as the basis for expression
+	 * compilation, or {@code null} for the default ClassLoader
+	 * @since 6.1.2
+	 */
+	protected static SpelExpressionParser createCompilingParser(@Nullable ClassLoader classLoader) {
+		String mode = SpringProperties.getProperty(SpelParserConfiguration.SPRING_EXPRESSION_COMPILER_MODE_PROPERTY_NAME);
+		SpelCompilerMode compilerMode = (mode != null ?
+				SpelCompilerMode.valueOf(mode.toUpperCase(Locale.ROOT)) : SpelCompilerMode.MIXED);
+		return new SpelExpressionParser(new SpelParserConfiguration(compilerMode, classLoader));
+	}
+
+
 	/**
 	 * Return the {@link SpelExpressionParser} to use.
 	 */
@@ -17,11 +17,20 @@
 package org.springframework.context.index;
 
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.core.type.classreading.MetadataReader;
+import org.springframework.core.type.classreading.MetadataReaderFactory;
+import org.springframework.lang.Nullable;
 import org.springframework.util.AntPathMatcher;
 import org.springframework.util.ClassUtils;
 import org.springframework.util.LinkedMultiValueMap;
@@ -43,6 +52,11 @@ import org.springframework.util.MultiValueMap;
  * not a rule. Similarly, the {@code stereotype} is usually the fully qualified name of
  * a target type but it can be any marker really.
  *
+ * <p>As of 6.1.2, the index may also provide the class and annotation metadata of
+ * candidate types, as recorded in {@code META-INF/spring.components.metadata}.
+ * This allows for registering indexed components without reading their class files:
+ * see {@link #getMetadataReader}.
+ *
  * @author Stephane Nicoll
  * @since 5.0
  * @deprecated as of 6.1, in favor of the AOT engine.
@@ -52,11 +66,20 @@ public class CandidateComponentsIndex {
 
 	private static final AntPathMatcher pathMatcher = new AntPathMatcher(".");
 
+	private static final Log logger = LogFactory.getLog(CandidateComponentsIndex.class);
+
 	private final MultiValueMap<String, Entry> index;
 
+	private final Map<String, String> componentMetadata;
+
 
 	CandidateComponentsIndex(List<Properties> content) {
+		this(content, Collections.emptyList());
+	}
+
+	CandidateComponentsIndex(List<Properties> content, List<Properties> componentMetadata) {
 		this.index = parseIndex(content);
+		this.componentMetadata = parseComponentMetadata(componentMetadata);
 	}
 
 	private static MultiValueMap<String, Entry> parseIndex(List<Properties> content) {
@@ -72,6 +95,14 @@ public class CandidateComponentsIndex {
 		return index;
 	}
 
+	private static Map<String, String> parseComponentMetadata(List<Properties> content) {
+		Map<String, String> componentMetadata = new HashMap<>();
+		for (Properties entry : content) {
+			entry.forEach((type, metadata) -> componentMetadata.put((String) type, (String) metadata));
+		}
+		return componentMetadata;
+	}
+
 
 	/**
 	 * Return the candidate types that are associated with the specified stereotype.
@@ -91,6 +122,40 @@ public class CandidateComponentsIndex {
 		return Collections.emptySet();
 	}
 
+	/**
+	 * Return a {@link MetadataReader} for the specified candidate type, based on
+	 * the class and annotation metadata recorded in the index.
+	 * <p>The returned reader does not read the class file of the candidate type,
+	 * unless method metadata or member classes are requested: in that case, it
+	 * falls back to the given {@code MetadataReaderFactory}.
+	 * @param type the candidate type, as returned from {@link #getCandidateTypes}
+	 * @param resourceLoader the ResourceLoader to obtain the class file resource
+	 * from, also determining the ClassLoader for annotation types
+	 * @param metadataReaderFactory the factory to read the class file with,
+	 * if necessary
+	 * @return the metadata reader, or {@code null} if the index does not provide
+	 * (usable) metadata for the specified type
+	 * @since 6.1.2
+	 */
+	@Nullable
+	public MetadataReader getMetadataReader(String type, ResourceLoader resourceLoader,
+			MetadataReaderFactory metadataReaderFactory) {
+
+		String metadata = this.componentMetadata.get(type);
+		if (metadata == null) {
+			return null;
+		}
+		try {
+			return new IndexedMetadataReader(metadata, resourceLoader, metadataReaderFactory);
+		}
+		catch (IllegalArgumentException | LinkageError ex) {
+			if (logger.isDebugEnabled()) {
+				logger.debug("Ignoring indexed metadata for type [" + type + "]: " + ex.getMessage());
+			}
+			return null;
+		}
+	}
+
 
 	private static class Entry {
 
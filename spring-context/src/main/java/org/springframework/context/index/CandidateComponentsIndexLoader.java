@@ -50,6 +50,14 @@ public final class CandidateComponentsIndexLoader {
 	 */
 	public static final String COMPONENTS_RESOURCE_LOCATION = "META-INF/spring.components";
 
+	/**
+	 * The location to look for the class and annotation metadata of components.
+	 * <p>Can be present in multiple JAR files, next to the components index.
+	 * @since 6.1.2
+	 * @see CandidateComponentsIndex#getMetadataReader
+	 */
+	public static final String COMPONENTS_METADATA_RESOURCE_LOCATION = "META-INF/spring.components.metadata";
+
 	/**
 	 * System property that instructs Spring to ignore the components index, i.e.
 	 * to always return {@code null} from {@link #loadIndex(ClassLoader)}.
@@ -103,17 +111,16 @@ public final class CandidateComponentsIndexLoader {
 			if (!urls.hasMoreElements()) {
 				return null;
 			}
-			List<Properties> result = new ArrayList<>();
-			while (urls.hasMoreElements()) {
-				URL url = urls.nextElement();
-				Properties properties = PropertiesLoaderUtils.loadProperties(new UrlResource(url));
-				result.add(properties);
-			}
+			List<Properties> result = loadProperties(urls);
 			if (logger.isDebugEnabled()) {
 				logger.debug("Loaded " + result.size() + " index(es)");
 			}
 			int totalCount = result.stream().mapToInt(Properties::size).sum();
-			return (totalCount > 0 ? new CandidateComponentsIndex(result) : null);
+			if (totalCount == 0) {
+				return null;
+			}
+			List<Properties> metadata = loadProperties(classLoader.getResources(COMPONENTS_METADATA_RESOURCE_LOCATION));
+			return new CandidateComponentsIndex(result, metadata);
 		}
 		catch (IOException ex) {
 			throw new IllegalStateException("Unable to load indexes from location [" +
@@ -121,4 +128,14 @@ public final class CandidateComponentsIndexLoader {
 		}
 	}
 
+	private static List<Properties> loadProperties(Enumeration<URL> urls) throws IOException {
+		List<Properties> result = new ArrayList<>();
+		while (urls.hasMoreElements()) {
+			URL url = urls.nextElement();
+			Properties properties = PropertiesLoaderUtils.loadProperties(new UrlResource(url));
+			result.add(properties);
+		}
+		return result;
+	}
+
 }
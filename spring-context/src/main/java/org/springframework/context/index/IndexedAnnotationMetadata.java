@@ -0,0 +1,427 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.context.index;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import org.springframework.core.annotation.AnnotationFilter;
+import org.springframework.core.annotation.MergedAnnotation;
+import org.springframework.core.annotation.MergedAnnotations;
+import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.core.type.MethodMetadata;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.util.StringUtils;
+
+/**
+ * {@link AnnotationMetadata} for a candidate component, based on the class and
+ * annotation metadata recorded in the index by the {@code spring-context-indexer}.
+ *
+ * <p>Type-level metadata is available without reading the class file of the
+ * component. Method-level metadata and member classes are not recorded in the
+ * index: they are retrieved from the class file on demand.
+ *
+ * @since 6.1.2
+ * @see CandidateComponentsIndex#getMetadataReader
+ */
+final class IndexedAnnotationMetadata implements AnnotationMetadata {
+
+	static final String FORMAT_VERSION = "1";
+
+	private final String className;
+
+	private final String flags;
+
+	@Nullable
+	private final String superClassName;
+
+	private final String[] interfaceNames;
+
+	@Nullable
+	private final String enclosingClassName;
+
+	private final MergedAnnotations annotations;
+
+	private final Supplier<AnnotationMetadata> classFileMetadataSupplier;
+
+	@Nullable
+	private volatile AnnotationMetadata classFileMetadata;
+
+
+	private IndexedAnnotationMetadata(String className, String flags, @Nullable String superClassName,
+			String[] interfaceNames, @Nullable String enclosingClassName, MergedAnnotations annotations,
+			Supplier<AnnotationMetadata> classFileMetadataSupplier) {
+
+		this.className = className;
+		this.flags = flags;
+		this.superClassName = superClassName;
+		this.interfaceNames = interfaceNames;
+		this.enclosingClassName = enclosingClassName;
+		this.annotations = annotations;
+		this.classFileMetadataSupplier = classFileMetadataSupplier;
+	}
+
+
+	@Override
+	public String getClassName() {
+		return this.className;
+	}
+
+	@Override
+	public boolean isInterface() {
+		return (this.flags.indexOf('i') != -1);
+	}
+
+	@Override
+	public boolean isAnnotation() {
+		return (this.flags.indexOf('n') != -1);
+	}
+
+	@Override
+	public boolean isAbstract() {
+		return (this.flags.indexOf('a') != -1);
+	}
+
+	@Override
+	public boolean isFinal() {
+		return (this.flags.indexOf('f') != -1);
+	}
+
+	@Override
+	public boolean isIndependent() {
+		return (this.flags.indexOf('d') != -1);
+	}
+
+	@Override
+	@Nullable
+	public String getEnclosingClassName() {
+		return this.enclosingClassName;
+	}
+
+	@Override
+	@Nullable
+	public String getSuperClassName() {
+		return this.superClassName;
+	}
+
+	@Override
+	public String[] getInterfaceNames() {
+		return this.interfaceNames.clone();
+	}
+
+	@Override
+	public String[] getMemberClassNames() {
+		return getClassFileMetadata().getMemberClassNames();
+	}
+
+	@Override
+	public MergedAnnotations getAnnotations() {
+		return this.annotations;
+	}
+
+	@Override
+	public Set<MethodMetadata> getAnnotatedMethods(String annotationName) {
+		return getClassFileMetadata().getAnnotatedMethods(annotationName);
+	}
+
+	@Override
+	public Set<MethodMetadata> getDeclaredMethods() {
+		return getClassFileMetadata().getDeclaredMethods();
+	}
+
+	private AnnotationMetadata getClassFileMetadata() {
+		AnnotationMetadata metadata = this.classFileMetadata;
+		if (metadata == null) {
+			metadata = this.classFileMetadataSupplier.get();
+			this.classFileMetadata = metadata;
+		}
+		return metadata;
+	}
+
+
+	@Override
+	public boolean equals(@Nullable Object other) {
+		return (this == other || (other instanceof IndexedAnnotationMetadata that && this.className.equals(that.className)));
+	}
+
+	@Override
+	public int hashCode() {
+		return this.className.hashCode();
+	}
+
+	@Override
+	public String toString() {
+		return this.className;
+	}
+
+
+	/**
+	 * Create the metadata for a candidate component from its index entry.
+	 * @param entry the metadata entry as written by the {@code spring-context-indexer}
+	 * @param classLoader the ClassLoader to resolve annotation types against
+	 * @param classFileMetadataSupplier the supplier for the metadata read from the
+	 * class file, for anything which is not recorded in the index
+	 * @return the metadata for the component
+	 * @throws IllegalArgumentException if the entry has an unsupported format
+	 * or does not match the annotation types on the classpath
+	 */
+	static IndexedAnnotationMetadata parse(String entry, @Nullable ClassLoader classLoader,
+			Supplier<AnnotationMetadata> classFileMetadataSupplier) {
+
+		String[] fields = entry.split("\\|", 7);
+		if (fields.length != 7 || !FORMAT_VERSION.equals(fields[0])) {
+			throw new IllegalArgumentException("Unsupported component metadata format: " + entry);
+		}
+		String className = fields[1];
+		List<MergedAnnotation<?>> annotations = new ArrayList<>();
+		for (RawAnnotation annotation : new EntryParser(fields[6]).parseAnnotations()) {
+			MergedAnnotation<?> mergedAnnotation = annotation.toMergedAnnotation(classLoader, className);
+			if (mergedAnnotation != null) {
+				annotations.add(mergedAnnotation);
+			}
+		}
+		return new IndexedAnnotationMetadata(className, fields[2], emptyToNull(fields[3]),
+				StringUtils.commaDelimitedListToStringArray(fields[4]), emptyToNull(fields[5]),
+				MergedAnnotations.of(annotations), classFileMetadataSupplier);
+	}
+
+	@Nullable
+	private static String emptyToNull(String field) {
+		return (field.isEmpty() ? null : field);
+	}
+
+
+	/**
+	 * An annotation as recorded in the index, with raw attribute values:
+	 * a {@code String}, a {@code List} for an array or a nested {@code RawAnnotation}.
+	 */
+	private record RawAnnotation(String typeName, Map<String, Object> attributes) {
+
+		/**
+		 * Resolve this annotation against the given ClassLoader, skipping it
+		 * if the annotation type is not present like for the class file.
+		 */
+		@Nullable
+		@SuppressWarnings("unchecked")
+		MergedAnnotation<?> toMergedAnnotation(@Nullable ClassLoader classLoader, Object source) {
+			if (AnnotationFilter.PLAIN.matches(this.typeName)) {
+				return null;
+			}
+			Class<? extends Annotation> annotationType;
+			try {
+				annotationType = (Class<? extends Annotation>) ClassUtils.forName(this.typeName, classLoader);
+			}
+			catch (ClassNotFoundException | LinkageError ex) {
+				return null;
+			}
+			return MergedAnnotation.of(classLoader, source, annotationType, adaptAttributes(annotationType));
+		}
+
+		Map<String, Object> adaptAttributes(Class<? extends Annotation> annotationType) {
+			if (this.attributes.isEmpty()) {
+				return Collections.emptyMap();
+			}
+			Map<String, Object> result = new LinkedHashMap<>(this.attributes.size());
+			this.attributes.forEach((name, value) -> {
+				Method attribute = ReflectionUtils.findMethod(annotationType, name);
+				if (attribute == null) {
+					throw new IllegalArgumentException(
+							"No attribute '" + name + "' in annotation type [" + annotationType.getName() + "]");
+				}
+				result.put(name, adaptValue(value, attribute.getReturnType()));
+			});
+			return result;
+		}
+
+		/**
+		 * Adapt the given raw value to the representation used for the class
+		 * file, e.g. a class name for a {@code Class} attribute.
+		 */
+		@SuppressWarnings({"unchecked", "rawtypes"})
+		private static Object adaptValue(Object value, Class<?> type) {
+			if (type.isArray()) {
+				List<?> elements = (value instanceof List<?> list ? list : List.of(value));
+				Class<?> componentType = type.componentType();
+				Class<?> arrayType = (componentType == Class.class ? String.class :
+						componentType.isAnnotation() ? Map.class : componentType);
+				Object array = Array.newInstance(arrayType, elements.size());
+				for (int i = 0; i < elements.size(); i++) {
+					Array.set(array, i, adaptValue(elements.get(i), componentType));
+				}
+				return array;
+			}
+			if (value instanceof RawAnnotation nested && type.isAnnotation()) {
+				return nested.adaptAttributes((Class<? extends Annotation>) type);
+			}
+			if (!(value instanceof String str)) {
+				throw new IllegalArgumentException("Unexpected value for attribute of type " + type.getName());
+			}
+			if (type == String.class || type == Class.class) {
+				return str;
+			}
+			if (type.isEnum()) {
+				return Enum.valueOf((Class<Enum>) type, str);
+			}
+			if (type == char.class) {
+				if (str.length() != 1) {
+					throw new IllegalArgumentException("Invalid char value '" + str + "'");
+				}
+				return str.charAt(0);
+			}
+			if (type == boolean.class) {
+				return Boolean.valueOf(str);
+			}
+			if (type == int.class) {
+				return Integer.valueOf(str);
+			}
+			if (type == long.class) {
+				return Long.valueOf(str);
+			}
+			if (type == short.class) {
+				return Short.valueOf(str);
+			}
+			if (type == byte.class) {
+				return Byte.valueOf(str);
+			}
+			if (type == float.class) {
+				return Float.valueOf(str);
+			}
+			if (type == double.class) {
+				return Double.valueOf(str);
+			}
+			throw new IllegalArgumentException("Unsupported attribute type " + type.getName());
+		}
+	}
+
+
+	/**
+	 * Parser for the annotations section of a metadata entry.
+	 */
+	private static class EntryParser {
+
+		private final String text;
+
+		private int pos;
+
+		EntryParser(String text) {
+			this.text = text;
+		}
+
+		List<RawAnnotation> parseAnnotations() {
+			List<RawAnnotation> annotations = new ArrayList<>();
+			while (this.pos < this.text.length()) {
+				annotations.add(parseAnnotation());
+			}
+			return annotations;
+		}
+
+		private RawAnnotation parseAnnotation() {
+			expect('@');
+			String typeName = readName();
+			if (!hasNext('(')) {
+				return new RawAnnotation(typeName, Collections.emptyMap());
+			}
+			this.pos++;
+			Map<String, Object> attributes = new LinkedHashMap<>();
+			do {
+				String name = readName();
+				expect('=');
+				attributes.put(name, parseValue());
+			}
+			while (next(','));
+			expect(')');
+			return new RawAnnotation(typeName, attributes);
+		}
+
+		private Object parseValue() {
+			if (hasNext('@')) {
+				return parseAnnotation();
+			}
+			if (next('{')) {
+				List<Object> elements = new ArrayList<>();
+				if (!next('}')) {
+					do {
+						elements.add(parseValue());
+					}
+					while (next(','));
+					expect('}');
+				}
+				return elements;
+			}
+			expect('"');
+			StringBuilder value = new StringBuilder();
+			while (!hasNext('"')) {
+				char ch = charAt(this.pos++);
+				value.append(ch == '\\' ? charAt(this.pos++) : ch);
+			}
+			this.pos++;
+			return value.toString();
+		}
+
+		private String readName() {
+			int start = this.pos;
+			while (this.pos < this.text.length() && "@(),={}\"".indexOf(this.text.charAt(this.pos)) == -1) {
+				this.pos++;
+			}
+			if (this.pos == start) {
+				throw error("name");
+			}
+			return this.text.substring(start, this.pos);
+		}
+
+		private boolean hasNext(char ch) {
+			return (this.pos < this.text.length() && this.text.charAt(this.pos) == ch);
+		}
+
+		private boolean next(char ch) {
+			if (hasNext(ch)) {
+				this.pos++;
+				return true;
+			}
+			return false;
+		}
+
+		private void expect(char ch) {
+			if (!next(ch)) {
+				throw error("'" + ch + "'");
+			}
+		}
+
+		private char charAt(int index) {
+			if (index >= this.text.length()) {
+				throw error("'\"'");
+			}
+			return this.text.charAt(index);
+		}
+
+		private IllegalArgumentException error(String expected) {
+			return new IllegalArgumentException("Expected " + expected + " at position " + this.pos +
+					" in component metadata: " + this.text);
+		}
+	}
+
+}
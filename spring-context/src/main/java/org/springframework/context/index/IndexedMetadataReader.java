@@ -0,0 +1,77 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.context.index;
+
+import java.io.IOException;
+
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.core.type.ClassMetadata;
+import org.springframework.core.type.classreading.MetadataReader;
+import org.springframework.core.type.classreading.MetadataReaderFactory;
+import org.springframework.util.ClassUtils;
+
+/**
+ * {@link MetadataReader} for a candidate component, exposing the metadata
+ * recorded in the index and reading the class file only when necessary.
+ *
+ * @since 6.1.2
+ * @see IndexedAnnotationMetadata
+ */
+final class IndexedMetadataReader implements MetadataReader {
+
+	private final Resource resource;
+
+	private final IndexedAnnotationMetadata annotationMetadata;
+
+
+	IndexedMetadataReader(String entry, ResourceLoader resourceLoader, MetadataReaderFactory metadataReaderFactory) {
+		this.annotationMetadata = IndexedAnnotationMetadata.parse(entry, resourceLoader.getClassLoader(),
+				() -> readClassFileMetadata(metadataReaderFactory));
+		this.resource = resourceLoader.getResource(ResourceLoader.CLASSPATH_URL_PREFIX +
+				ClassUtils.convertClassNameToResourcePath(this.annotationMetadata.getClassName()) +
+				ClassUtils.CLASS_FILE_SUFFIX);
+	}
+
+	private AnnotationMetadata readClassFileMetadata(MetadataReaderFactory metadataReaderFactory) {
+		try {
+			return metadataReaderFactory.getMetadataReader(this.resource).getAnnotationMetadata();
+		}
+		catch (IOException ex) {
+			throw new IllegalStateException("Failed to read class file of indexed component [" +
+					this.annotationMetadata.getClassName() + "]", ex);
+		}
+	}
+
+
+	@Override
+	public Resource getResource() {
+		return this.resource;
+	}
+
+	@Override
+	public ClassMetadata getClassMetadata() {
+		return this.annotationMetadata;
+	}
+
+	@Override
+	public AnnotationMetadata getAnnotationMetadata() {
+		return this.annotationMetadata;
+	}
+
+}
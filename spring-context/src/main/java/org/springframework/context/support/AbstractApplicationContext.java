@@ -26,6 +26,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.apache.commons.logging.Log;
@@ -39,6 +40,7 @@ import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
 import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
 import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
 import org.springframework.beans.support.ResourceEditorRegistrar;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
@@ -69,6 +71,7 @@ import org.springframework.context.weaving.LoadTimeWeaverAware;
 import org.springframework.context.weaving.LoadTimeWeaverAwareProcessor;
 import org.springframework.core.NativeDetector;
 import org.springframework.core.ResolvableType;
+import org.springframework.core.SpringProperties;
 import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.core.env.ConfigurableEnvironment;
@@ -166,6 +169,28 @@ public abstract class AbstractApplicationContext extends DefaultResourceLoader
 	 */
 	public static final String APPLICATION_EVENT_MULTICASTER_BEAN_NAME = "applicationEventMulticaster";
 
+	/**
+	 * The name of the bootstrap {@link Executor} bean in the context.
+	 * If supplied, non-lazy singletons get pre-instantiated in parallel on it.
+	 * If none is supplied, all singletons get created in the refreshing thread.
+	 * @since 6.1.2
+	 * @see DefaultListableBeanFactory#setBootstrapExecutor
+	 * @see #finishBeanFactoryInitialization
+	 */
+	public static final String BOOTSTRAP_EXECUTOR_BEAN_NAME = "bootstrapExecutor";
+
+	/**
+	 * Boolean flag controlled by a {@code spring.context.compact-metadata} system
+	 * property that instructs Spring to release metadata which is only needed for
+	 * creating singleton beans, once all singletons have been pre-instantiated.
+	 * <p>The default is "false". Consider switching this flag to "true" for large
+	 * contexts, in particular when singleton beans do not get re-created at runtime.
+	 * @since 6.1.2
+	 * @see DefaultListableBeanFactory#compactMetadata()
+	 * @see DefaultListableBeanFactory#getMetadataReport()
+	 */
+	public static final String COMPACT_METADATA_PROPERTY_NAME = "spring.context.compact-metadata";
+
 
 	static {
 		// Eagerly load the ContextClosedEvent class to avoid weird classloader issues
@@ -983,6 +1008,13 @@ public abstract class AbstractApplicationContext extends DefaultResourceLoader
 			beanFactory.addEmbeddedValueResolver(strVal -> getEnvironment().resolvePlaceholders(strVal));
 		}
 
+		// Initialize bootstrap executor for this context, for parallel singleton creation.
+		if (beanFactory.containsBean(BOOTSTRAP_EXECUTOR_BEAN_NAME) &&
+				beanFactory.isTypeMatch(BOOTSTRAP_EXECUTOR_BEAN_NAME, Executor.class) &&
+				beanFactory instanceof DefaultListableBeanFactory dlbf) {
+			dlbf.setBootstrapExecutor(beanFactory.getBean(BOOTSTRAP_EXECUTOR_BEAN_NAME, Executor.class));
+		}
+
 		// Initialize LoadTimeWeaverAware beans early to allow for registering their transformers early.
 		//尽早初始化LoadTimeWeaverAware bean以便尽早注册他们的解析器
 		String[] weaverAwareNames = beanFactory.getBeanNamesForType(LoadTimeWeaverAware.class, false, false);
@@ -1014,6 +1046,12 @@ public abstract class AbstractApplicationContext extends DefaultResourceLoader
 		// Clear context-level resource caches (such as ASM metadata from scanning).
 		clearResourceCaches();
 
+		// Release creation metadata for pre-instantiated singletons, if requested.
+		if (SpringProperties.getFlag(COMPACT_METADATA_PROPERTY_NAME) &&
+				getBeanFactory() instanceof DefaultListableBeanFactory dlbf) {
+			dlbf.compactMetadata();
+		}
+
 		// Initialize lifecycle processor for this context.
 		initLifecycleProcessor();
 
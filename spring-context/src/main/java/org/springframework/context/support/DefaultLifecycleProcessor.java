@@ -20,16 +20,23 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -49,6 +56,7 @@ import org.springframework.context.Phased;
 import org.springframework.context.SmartLifecycle;
 import org.springframework.core.NativeDetector;
 import org.springframework.core.SpringProperties;
+import org.springframework.core.metrics.StartupStep;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
@@ -104,6 +112,11 @@ public class DefaultLifecycleProcessor implements LifecycleProcessor, BeanFactor
 
 	private volatile long timeoutPerShutdownPhase = 30000;
 
+	@Nullable
+	private volatile Executor concurrentStartupExecutor;
+
+	private volatile long timeoutPerStartupPhase = -1;
+
 	private volatile boolean running;
 
 	@Nullable
@@ -138,6 +151,39 @@ public class DefaultLifecycleProcessor implements LifecycleProcessor, BeanFactor
 		this.timeoutPerShutdownPhase = timeoutPerShutdownPhase;
 	}
 
+	/**
+	 * Specify an executor for starting the beans of each phase concurrently,
+	 * typically a bounded thread pool such as a
+	 * {@link org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor}.
+	 * <p>By default, the beans of a phase are started one after the other in the
+	 * calling thread. With an executor, all beans of a phase are started in
+	 * parallel, with a bean declared as a dependency of another bean still being
+	 * started before the dependent bean; the next phase is only started once all
+	 * beans of the current phase have been started. If the executor rejects a
+	 * start task, the bean is started in the thread that triggered it instead.
+	 * <p>If any bean of a phase fails to start, its dependent beans are not
+	 * started and the first failure is propagated once all other beans of the
+	 * phase have completed their start procedure, with any further failures
+	 * being added as suppressed exceptions.
+	 * @since 6.1.2
+	 * @see #setTimeoutPerStartupPhase
+	 */
+	public void setConcurrentStartupExecutor(@Nullable Executor concurrentStartupExecutor) {
+		this.concurrentStartupExecutor = concurrentStartupExecutor;
+	}
+
+	/**
+	 * Specify the maximum time allotted in milliseconds for the concurrent
+	 * startup of any phase, failing the startup with an
+	 * {@link ApplicationContextException} if exceeded.
+	 * <p>By default, there is no timeout. Only applies in combination with a
+	 * {@link #setConcurrentStartupExecutor concurrent startup executor}.
+	 * @since 6.1.2
+	 */
+	public void setTimeoutPerStartupPhase(long timeoutPerStartupPhase) {
+		this.timeoutPerStartupPhase = timeoutPerStartupPhase;
+	}
+
 	@Override
 	public void setBeanFactory(BeanFactory beanFactory) {
 		if (!(beanFactory instanceof ConfigurableListableBeanFactory clbf)) {
@@ -276,19 +322,88 @@ public class DefaultLifecycleProcessor implements LifecycleProcessor, BeanFactor
 			for (String dependency : dependenciesForBean) {
 				doStart(lifecycleBeans, dependency, autoStartupOnly);
 			}
-			if (!bean.isRunning() && (!autoStartupOnly || toBeStarted(beanName, bean))) {
-				if (logger.isTraceEnabled()) {
-					logger.trace("Starting bean '" + beanName + "' of type [" + bean.getClass().getName() + "]");
-				}
+			startBean(beanName, bean, autoStartupOnly);
+		}
+	}
+
+	/**
+	 * Start the specified bean as part of the given set of Lifecycle beans on the
+	 * given executor, once all beans that it depends on have been started.
+	 * @param lifecycleBeans a Map with bean name as key and Lifecycle instance as value
+	 * @param beanName the name of the bean to start
+	 * @param startFutures the start futures of the beans scheduled so far
+	 * @return the future for the start of the bean, or {@code null} if not to be
+	 * started as part of the given set of Lifecycle beans
+	 */
+	@Nullable
+	private CompletableFuture<Void> doStartAsync(Map<String, ? extends Lifecycle> lifecycleBeans, String beanName,
+			boolean autoStartupOnly, Executor executor, Map<String, CompletableFuture<Void>> startFutures) {
+
+		CompletableFuture<Void> startFuture = startFutures.get(beanName);
+		if (startFuture != null) {
+			return startFuture;
+		}
+		Lifecycle bean = lifecycleBeans.remove(beanName);
+		if (bean == null || bean == this) {
+			return null;
+		}
+		List<CompletableFuture<Void>> dependencyFutures = new ArrayList<>();
+		for (String dependency : getBeanFactory().getDependenciesForBean(beanName)) {
+			CompletableFuture<Void> dependencyFuture =
+					doStartAsync(lifecycleBeans, dependency, autoStartupOnly, executor, startFutures);
+			if (dependencyFuture != null) {
+				dependencyFutures.add(dependencyFuture);
+			}
+		}
+		CompletableFuture<Void> future = new CompletableFuture<>();
+		startFutures.put(beanName, future);
+		CompletableFuture.allOf(dependencyFutures.toArray(new CompletableFuture<?>[0])).whenComplete((result, ex) -> {
+			if (ex != null) {
+				// A dependency failed to start: do not start the dependent bean
+				future.completeExceptionally(ex instanceof CompletionException && ex.getCause() != null ?
+						ex.getCause() : ex);
+				return;
+			}
+			Runnable task = () -> {
 				try {
-					bean.start();
+					startBean(beanName, bean, autoStartupOnly);
+					future.complete(null);
 				}
-				catch (Throwable ex) {
-					throw new ApplicationContextException("Failed to start bean '" + beanName + "'", ex);
-				}
-				if (logger.isDebugEnabled()) {
-					logger.debug("Successfully started bean '" + beanName + "'");
+				catch (Throwable startEx) {
+					future.completeExceptionally(startEx);
 				}
+			};
+			try {
+				executor.execute(task);
+			}
+			catch (RejectedExecutionException rejectedEx) {
+				task.run();
+			}
+		});
+		return future;
+	}
+
+	private void startBean(String beanName, Lifecycle bean, boolean autoStartupOnly) {
+		if (!bean.isRunning() && (!autoStartupOnly || toBeStarted(beanName, bean))) {
+			if (logger.isTraceEnabled()) {
+				logger.trace("Starting bean '" + beanName + "' of type [" + bean.getClass().getName() + "]");
+			}
+			StartupStep beanStart = getBeanFactory().getApplicationStartup().start("spring.context.lifecycle.start")
+					.tag("beanName", beanName)
+					.tag("phase", () -> String.valueOf(getPhase(bean)));
+			try {
+				bean.start();
+			}
+			catch (Throwable ex) {
+				beanStart.tag("exception", ex.getClass().toString());
+				beanStart.tag("message", String.valueOf(ex.getMessage()));
+				throw new ApplicationContextException("Failed to start bean '" + beanName + "'", ex);
+			}
+			finally {
+				beanStart.end();
+			}
+			if (logger.isDebugEnabled()) {
+				logger.debug("Successfully started bean '" + beanName + "'");
 			}
 		}
 	}
@@ -463,11 +578,65 @@ public class DefaultLifecycleProcessor implements LifecycleProcessor, BeanFactor
 			if (logger.isDebugEnabled()) {
 				logger.debug("Starting beans in phase " + this.phase);
 			}
+			Executor executor = concurrentStartupExecutor;
+			if (executor != null && this.members.size() > 1) {
+				startConcurrently(executor);
+				return;
+			}
 			for (LifecycleGroupMember member : this.members) {
 				doStart(this.lifecycleBeans, member.name, this.autoStartupOnly);
 			}
 		}
 
+		private void startConcurrently(Executor executor) {
+			Map<String, CompletableFuture<Void>> startFutures = new LinkedHashMap<>();
+			for (LifecycleGroupMember member : this.members) {
+				doStartAsync(this.lifecycleBeans, member.name, this.autoStartupOnly, executor, startFutures);
+			}
+			long timeout = timeoutPerStartupPhase;
+			long deadline = (timeout > 0 ? System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout) : 0);
+			Set<Throwable> failures = new LinkedHashSet<>();
+			try {
+				for (CompletableFuture<Void> startFuture : startFutures.values()) {
+					try {
+						if (timeout > 0) {
+							startFuture.get(Math.max(deadline - System.nanoTime(), 0), TimeUnit.NANOSECONDS);
+						}
+						else {
+							startFuture.get();
+						}
+					}
+					catch (ExecutionException ex) {
+						// Dependent beans fail with the very same exception as their dependency
+						failures.add(ex.getCause() != null ? ex.getCause() : ex);
+					}
+				}
+			}
+			catch (TimeoutException ex) {
+				List<String> pendingBeanNames = new ArrayList<>();
+				startFutures.forEach((beanName, startFuture) -> {
+					if (!startFuture.isDone()) {
+						pendingBeanNames.add(beanName);
+					}
+				});
+				throw new ApplicationContextException("Failed to start " + pendingBeanNames.size() + " bean" +
+						(pendingBeanNames.size() > 1 ? "s" : "") + " with phase value " + this.phase +
+						" within timeout of " + timeout + "ms: " + pendingBeanNames);
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				throw new ApplicationContextException("Interrupted while starting beans with phase value " + this.phase);
+			}
+			if (!failures.isEmpty()) {
+				Iterator<Throwable> it = failures.iterator();
+				Throwable failure = it.next();
+				ApplicationContextException ex = (failure instanceof ApplicationContextException ace ? ace :
+						new ApplicationContextException("Failed to start beans with phase value " + this.phase, failure));
+				it.forEachRemaining(ex::addSuppressed);
+				throw ex;
+			}
+		}
+
 		public void stop() {
 			if (this.members.isEmpty()) {
 				return;
@@ -17,10 +17,12 @@
 package org.springframework.jndi.support;
 
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import javax.naming.NameNotFoundException;
 import javax.naming.NamingException;
@@ -67,10 +69,13 @@ public class SimpleJndiBeanFactory extends JndiLocatorSupport implements BeanFac
 	private final Set<String> shareableResources = new HashSet<>();
 
 	/** Cache of shareable singleton objects: bean name to bean instance. */
-	private final Map<String, Object> singletonObjects = new HashMap<>();
+	private final Map<String, Object> singletonObjects = new ConcurrentHashMap<>();
 
 	/** Cache of the types of nonshareable resources: bean name to bean type. */
-	private final Map<String, Class<?>> resourceTypes = new HashMap<>();
+	private final Map<String, Class<?>> resourceTypes = new ConcurrentHashMap<>();
+
+	/** Lock for JNDI lookups populating the caches above. */
+	private final Lock lookupLock = new ReentrantLock();
 
 
 	public SimpleJndiBeanFactory() {
@@ -260,18 +265,25 @@ public class SimpleJndiBeanFactory extends JndiLocatorSupport implements BeanFac
 
 	@SuppressWarnings("unchecked")
 	private <T> T doGetSingleton(String name, @Nullable Class<T> requiredType) throws NamingException {
-		synchronized (this.singletonObjects) {
-			Object singleton = this.singletonObjects.get(name);
-			if (singleton != null) {
-				if (requiredType != null && !requiredType.isInstance(singleton)) {
-					throw new TypeMismatchNamingException(convertJndiName(name), requiredType, singleton.getClass());
+		Object singleton = this.singletonObjects.get(name);
+		if (singleton == null) {
+			this.lookupLock.lock();
+			try {
+				singleton = this.singletonObjects.get(name);
+				if (singleton == null) {
+					T jndiObject = lookup(name, requiredType);
+					this.singletonObjects.put(name, jndiObject);
+					return jndiObject;
 				}
-				return (T) singleton;
 			}
-			T jndiObject = lookup(name, requiredType);
-			this.singletonObjects.put(name, jndiObject);
-			return jndiObject;
+			finally {
+				this.lookupLock.unlock();
+			}
+		}
+		if (requiredType != null && !requiredType.isInstance(singleton)) {
+			throw new TypeMismatchNamingException(convertJndiName(name), requiredType, singleton.getClass());
 		}
+		return (T) singleton;
 	}
 
 	private Class<?> doGetType(String name) throws NamingException {
@@ -279,14 +291,21 @@ public class SimpleJndiBeanFactory extends JndiLocatorSupport implements BeanFac
 			return doGetSingleton(name, null).getClass();
 		}
 		else {
-			synchronized (this.resourceTypes) {
-				Class<?> type = this.resourceTypes.get(name);
-				if (type == null) {
-					type = lookup(name, null).getClass();
-					this.resourceTypes.put(name, type);
+			Class<?> type = this.resourceTypes.get(name);
+			if (type == null) {
+				this.lookupLock.lock();
+				try {
+					type = this.resourceTypes.get(name);
+					if (type == null) {
+						type = lookup(name, null).getClass();
+						this.resourceTypes.put(name, type);
+					}
+				}
+				finally {
+					this.lookupLock.unlock();
 				}
-				return type;
 			}
+			return type;
 		}
 	}
 
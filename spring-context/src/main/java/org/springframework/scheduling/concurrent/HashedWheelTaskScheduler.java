@@ -0,0 +1,711 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.scheduling.concurrent;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Queue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationContextAware;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.Trigger;
+import org.springframework.scheduling.support.SimpleTriggerContext;
+import org.springframework.scheduling.support.TaskUtils;
+import org.springframework.util.Assert;
+import org.springframework.util.ErrorHandler;
+
+/**
+ * An implementation of Spring's {@link TaskScheduler} interface based on a
+ * hashed timing wheel, scheduling and cancelling tasks in constant time. This
+ * is an attractive choice for a large number of short-lived timeouts, such as
+ * session or heartbeat expirations, most of which get cancelled before they
+ * are due, where the heap-based delay queue of a
+ * {@link java.util.concurrent.ScheduledThreadPoolExecutor} incurs logarithmic
+ * costs for every scheduling and cancellation.
+ *
+ * <p>A single daemon scheduler thread advances the wheel once per
+ * {@linkplain #setTickDuration tick}, dispatching all tasks that became due
+ * within that tick. Tasks are therefore executed with a delay of up to one
+ * tick duration, trading timing precision for throughput. Each task is placed
+ * into one of the {@linkplain #setTicksPerWheel buckets of the wheel} through
+ * its deadline, with tasks further ahead than one revolution of the wheel
+ * remaining in their bucket for the corresponding number of rounds. Cancelled
+ * tasks are removed from their bucket on the next tick.
+ *
+ * <p>Like {@link SimpleAsyncTaskScheduler}, this scheduler extends
+ * {@link SimpleAsyncTaskExecutor}, executing every scheduled task in an
+ * individual thread, with common usage expected with
+ * {@link #setVirtualThreads setVirtualThreads(true)} on JDK 21, or on a
+ * {@linkplain #setTargetTaskExecutor target executor}. Repeated executions of
+ * fixed-rate, fixed-delay and trigger-based tasks are scheduled once the previous
+ * execution has completed, so they never overlap, and the scheduler thread is
+ * never blocked by a task.
+ *
+ * @since 6.1.2
+ * @see #setTickDuration
+ * @see #setTicksPerWheel
+ * @see #setVirtualThreads
+ * @see SimpleAsyncTaskScheduler
+ */
+@SuppressWarnings("serial")
+public class HashedWheelTaskScheduler extends SimpleAsyncTaskExecutor implements TaskScheduler,
+		ApplicationContextAware, ApplicationListener<ContextClosedEvent> {
+
+	/**
+	 * The default duration of a tick: 10 milliseconds.
+	 * @see #setTickDuration
+	 */
+	public static final Duration DEFAULT_TICK_DURATION = Duration.ofMillis(10);
+
+	/**
+	 * The default number of ticks per revolution of the wheel: 512.
+	 * @see #setTicksPerWheel
+	 */
+	public static final int DEFAULT_TICKS_PER_WHEEL = 512;
+
+	/**
+	 * The maximum number of newly scheduled tasks to place into the wheel per
+	 * tick, in order not to stall the scheduler thread under a scheduling storm.
+	 */
+	private static final int MAX_TRANSFERS_PER_TICK = 100_000;
+
+	/**
+	 * The maximum delay of a task (about 146 years), keeping deadlines
+	 * comparable without overflow relative to {@link System#nanoTime()}.
+	 */
+	private static final long MAX_DELAY_NANOS = Long.MAX_VALUE >> 1;
+
+	private static final int WORKER_INIT = 0;
+
+	private static final int WORKER_STARTED = 1;
+
+	private static final int WORKER_SHUTDOWN = 2;
+
+
+	private Duration tickDuration = DEFAULT_TICK_DURATION;
+
+	private int ticksPerWheel = DEFAULT_TICKS_PER_WHEEL;
+
+	private Clock clock = Clock.systemDefaultZone();
+
+	@Nullable
+	private ErrorHandler errorHandler;
+
+	@Nullable
+	private Executor targetTaskExecutor;
+
+	@Nullable
+	private ApplicationContext applicationContext;
+
+	private final Queue<WheelTask> pendingTasks = new ConcurrentLinkedQueue<>();
+
+	private final Queue<WheelTask> cancelledTasks = new ConcurrentLinkedQueue<>();
+
+	private final AtomicLong scheduledTaskCount = new AtomicLong();
+
+	private final AtomicInteger workerState = new AtomicInteger(WORKER_INIT);
+
+	@Nullable
+	private volatile Thread workerThread;
+
+
+	/**
+	 * Set the duration of a tick of the wheel, i.e. the resolution at which
+	 * due tasks are dispatched. To be set before any task is scheduled.
+	 * <p>Default is {@link #DEFAULT_TICK_DURATION 10 milliseconds}. A shorter
+	 * tick duration increases timing precision at the expense of more frequent
+	 * wake-ups of the scheduler thread.
+	 */
+	public void setTickDuration(Duration tickDuration) {
+		Assert.notNull(tickDuration, "Tick duration must not be null");
+		Assert.isTrue(tickDuration.toMillis() >= 1, "Tick duration must be at least 1 millisecond");
+		this.tickDuration = tickDuration;
+	}
+
+	/**
+	 * Return the duration of a tick of the wheel.
+	 */
+	public Duration getTickDuration() {
+		return this.tickDuration;
+	}
+
+	/**
+	 * Set the number of ticks per revolution of the wheel, i.e. the number of
+	 * buckets, rounded up to the next power of two. To be set before any task
+	 * is scheduled.
+	 * <p>Default is {@link #DEFAULT_TICKS_PER_WHEEL 512}. Tasks due further ahead
+	 * than one revolution remain in their bucket for several rounds, so a larger
+	 * wheel reduces the number of tasks visited per tick for long delays.
+	 */
+	public void setTicksPerWheel(int ticksPerWheel) {
+		Assert.isTrue(ticksPerWheel > 0 && ticksPerWheel <= (1 << 30),
+				"Ticks per wheel must be between 1 and 2^30");
+		this.ticksPerWheel = ticksPerWheel;
+	}
+
+	/**
+	 * Return the number of ticks per revolution of the wheel.
+	 */
+	public int getTicksPerWheel() {
+		return this.ticksPerWheel;
+	}
+
+	/**
+	 * Set the clock to use for scheduling purposes.
+	 * <p>The default clock is the system clock for the default time zone.
+	 * The clock is used to determine the delay for tasks scheduled at a
+	 * given {@link Instant} as well as for {@link Trigger} evaluation, whereas
+	 * the wheel itself advances based on {@link System#nanoTime()}.
+	 * @see Clock#systemDefaultZone()
+	 */
+	public void setClock(Clock clock) {
+		Assert.notNull(clock, "Clock must not be null");
+		this.clock = clock;
+	}
+
+	@Override
+	public Clock getClock() {
+		return this.clock;
+	}
+
+	/**
+	 * Provide an {@link ErrorHandler} strategy for exceptions thrown by
+	 * scheduled tasks.
+	 * <p>By default, exceptions of one-time tasks are logged and exposed
+	 * through the returned {@link ScheduledFuture}, whereas exceptions of
+	 * repeating tasks are logged and suppressed.
+	 * @see TaskUtils#getDefaultErrorHandler(boolean)
+	 */
+	public void setErrorHandler(ErrorHandler errorHandler) {
+		this.errorHandler = errorHandler;
+	}
+
+	/**
+	 * Specify a custom target {@link Executor} to delegate to for
+	 * the individual execution of scheduled tasks. This can for example
+	 * be set to a separate thread pool for executing scheduled tasks,
+	 * whereas this scheduler keeps using its single scheduler thread.
+	 * <p>If not set, the regular {@link SimpleAsyncTaskExecutor}
+	 * arrangements kicks in with a new thread per task.
+	 */
+	public void setTargetTaskExecutor(Executor targetTaskExecutor) {
+		this.targetTaskExecutor = (targetTaskExecutor == this ? null : targetTaskExecutor);
+	}
+
+	@Override
+	public void setApplicationContext(ApplicationContext applicationContext) {
+		this.applicationContext = applicationContext;
+	}
+
+	/**
+	 * Return the number of tasks currently scheduled in the wheel or about
+	 * to be placed into it, including cancelled tasks not removed yet.
+	 */
+	public long getScheduledTaskCount() {
+		return this.scheduledTaskCount.get();
+	}
+
+
+	@Override
+	protected void doExecute(Runnable task) {
+		if (this.targetTaskExecutor != null) {
+			this.targetTaskExecutor.execute(task);
+		}
+		else {
+			super.doExecute(task);
+		}
+	}
+
+
+	@Override
+	@Nullable
+	public ScheduledFuture<?> schedule(Runnable task, Trigger trigger) {
+		SimpleTriggerContext triggerContext = new SimpleTriggerContext(this.clock);
+		Instant startTime = trigger.nextExecution(triggerContext);
+		if (startTime == null) {
+			return null;
+		}
+		WheelTask wheelTask = new WheelTask(errorHandlingTask(task, true), 0, trigger, triggerContext);
+		wheelTask.scheduledExecution = startTime;
+		return scheduleTask(wheelTask, delayUntil(startTime));
+	}
+
+	@Override
+	public ScheduledFuture<?> schedule(Runnable task, Instant startTime) {
+		return scheduleTask(new WheelTask(errorHandlingTask(task, false), 0, null, null), delayUntil(startTime));
+	}
+
+	@Override
+	public ScheduledFuture<?> scheduleAtFixedRate(Runnable task, Instant startTime, Duration period) {
+		return scheduleTask(new WheelTask(errorHandlingTask(task, true), checkPeriod(period), null, null),
+				delayUntil(startTime));
+	}
+
+	@Override
+	public ScheduledFuture<?> scheduleAtFixedRate(Runnable task, Duration period) {
+		return scheduleTask(new WheelTask(errorHandlingTask(task, true), checkPeriod(period), null, null), 0);
+	}
+
+	@Override
+	public ScheduledFuture<?> scheduleWithFixedDelay(Runnable task, Instant startTime, Duration delay) {
+		return scheduleTask(new WheelTask(errorHandlingTask(task, true), -checkPeriod(delay), null, null),
+				delayUntil(startTime));
+	}
+
+	@Override
+	public ScheduledFuture<?> scheduleWithFixedDelay(Runnable task, Duration delay) {
+		return scheduleTask(new WheelTask(errorHandlingTask(task, true), -checkPeriod(delay), null, null), 0);
+	}
+
+	private Runnable errorHandlingTask(Runnable task, boolean isRepeatingTask) {
+		Assert.notNull(task, "Runnable must not be null");
+		return TaskUtils.decorateTaskWithErrorHandler(task, this.errorHandler, isRepeatingTask);
+	}
+
+	private long checkPeriod(Duration period) {
+		long nanos = TimeUnit.NANOSECONDS.convert(period);
+		Assert.isTrue(nanos > 0, "Period must be greater than 0");
+		return Math.min(nanos, MAX_DELAY_NANOS);
+	}
+
+	private long delayUntil(Instant startTime) {
+		return TimeUnit.NANOSECONDS.convert(Duration.between(this.clock.instant(), startTime));
+	}
+
+	private WheelTask scheduleTask(WheelTask task, long delayNanos) {
+		task.deadline = System.nanoTime() + Math.max(0, Math.min(delayNanos, MAX_DELAY_NANOS));
+		if (this.workerState.get() == WORKER_INIT) {
+			startWorker();
+		}
+		if (this.workerState.get() == WORKER_SHUTDOWN) {
+			throw new TaskRejectedException(getClass().getSimpleName() + " has been shut down already");
+		}
+		this.scheduledTaskCount.incrementAndGet();
+		this.pendingTasks.add(task);
+		if (this.workerState.get() == WORKER_SHUTDOWN && this.pendingTasks.remove(task)) {
+			// Shut down concurrently: not going to be picked up by the scheduler thread anymore
+			this.scheduledTaskCount.decrementAndGet();
+			throw new TaskRejectedException(getClass().getSimpleName() + " has been shut down already");
+		}
+		return task;
+	}
+
+	private void startWorker() {
+		if (this.workerState.compareAndSet(WORKER_INIT, WORKER_STARTED)) {
+			// Dedicated platform thread for the timing loop, not keeping the JVM alive,
+			// with virtual threads only ever used for the execution of due tasks
+			Thread thread = new Thread(getThreadGroup(), new Worker(this.tickDuration.toNanos(), this.ticksPerWheel),
+					getThreadNamePrefix() + "timer");
+			thread.setPriority(getThreadPriority());
+			thread.setDaemon(true);
+			this.workerThread = thread;
+			thread.start();
+		}
+	}
+
+	/**
+	 * Stop the scheduler thread, cancelling all tasks which have not been
+	 * dispatched yet, while letting current task executions complete.
+	 * Any further attempt to schedule a task gets rejected.
+	 */
+	public void shutdown() {
+		int previousState = this.workerState.getAndSet(WORKER_SHUTDOWN);
+		Thread thread = this.workerThread;
+		if (previousState == WORKER_STARTED && thread != null) {
+			thread.interrupt();
+			if (thread != Thread.currentThread()) {
+				try {
+					thread.join();
+				}
+				catch (InterruptedException ex) {
+					Thread.currentThread().interrupt();
+				}
+			}
+		}
+		else {
+			cancelAll(this.pendingTasks);
+		}
+	}
+
+	private void cancelAll(Queue<WheelTask> tasks) {
+		WheelTask task;
+		while ((task = tasks.poll()) != null) {
+			this.scheduledTaskCount.decrementAndGet();
+			task.cancelCompletion();
+		}
+	}
+
+	@Override
+	public void onApplicationEvent(ContextClosedEvent event) {
+		if (event.getApplicationContext() == this.applicationContext) {
+			shutdown();
+		}
+	}
+
+	@Override
+	public void close() {
+		shutdown();
+		super.close();
+	}
+
+
+	/**
+	 * The scheduler thread, exclusively maintaining the buckets of the wheel.
+	 */
+	private final class Worker implements Runnable {
+
+		private final long tickNanos;
+
+		private final Bucket[] wheel;
+
+		private final int mask;
+
+		private long startTime;
+
+		private long tick;
+
+		Worker(long tickNanos, int ticksPerWheel) {
+			int size = 1;
+			while (size < ticksPerWheel) {
+				size <<= 1;
+			}
+			this.tickNanos = tickNanos;
+			this.wheel = new Bucket[size];
+			for (int i = 0; i < size; i++) {
+				this.wheel[i] = new Bucket();
+			}
+			this.mask = size - 1;
+		}
+
+		@Override
+		public void run() {
+			this.startTime = System.nanoTime();
+			while (workerState.get() == WORKER_STARTED && awaitNextTick()) {
+				removeCancelledTasks();
+				transferPendingTasks();
+				this.wheel[(int) (this.tick & this.mask)].expireTasks();
+				this.tick++;
+			}
+			for (Bucket bucket : this.wheel) {
+				bucket.cancelTasks();
+			}
+			cancelAll(pendingTasks);
+			cancelledTasks.clear();
+		}
+
+		private boolean awaitNextTick() {
+			long tickTime = this.startTime + this.tickNanos * (this.tick + 1);
+			long sleepNanos;
+			while ((sleepNanos = tickTime - System.nanoTime()) > 0) {
+				try {
+					TimeUnit.NANOSECONDS.sleep(sleepNanos);
+				}
+				catch (InterruptedException ex) {
+					if (workerState.get() != WORKER_STARTED) {
+						return false;
+					}
+				}
+			}
+			return true;
+		}
+
+		private void removeCancelledTasks() {
+			WheelTask task;
+			while ((task = cancelledTasks.poll()) != null) {
+				Bucket bucket = task.bucket;
+				if (bucket != null) {
+					bucket.remove(task);
+					scheduledTaskCount.decrementAndGet();
+				}
+			}
+		}
+
+		private void transferPendingTasks() {
+			for (int i = 0; i < MAX_TRANSFERS_PER_TICK; i++) {
+				WheelTask task = pendingTasks.poll();
+				if (task == null) {
+					break;
+				}
+				if (task.isCancelled()) {
+					scheduledTaskCount.decrementAndGet();
+					continue;
+				}
+				long dueTick = Math.floorDiv(task.deadline - this.startTime, this.tickNanos);
+				task.remainingRounds = (dueTick - this.tick) / this.wheel.length;
+				// Tasks already due go into the current bucket
+				this.wheel[(int) (Math.max(dueTick, this.tick) & this.mask)].add(task);
+			}
+		}
+	}
+
+
+	/**
+	 * A bucket of the wheel: a doubly-linked list of tasks, allowing for
+	 * removal of a cancelled task in constant time.
+	 */
+	private final class Bucket {
+
+		@Nullable
+		private WheelTask head;
+
+		@Nullable
+		private WheelTask tail;
+
+		void add(WheelTask task) {
+			task.bucket = this;
+			if (this.head == null) {
+				this.head = task;
+				this.tail = task;
+			}
+			else {
+				WheelTask last = this.tail;
+				last.next = task;
+				task.prev = last;
+				this.tail = task;
+			}
+		}
+
+		void remove(WheelTask task) {
+			WheelTask prev = task.prev;
+			WheelTask next = task.next;
+			if (prev != null) {
+				prev.next = next;
+			}
+			else {
+				this.head = next;
+			}
+			if (next != null) {
+				next.prev = prev;
+			}
+			else {
+				this.tail = prev;
+			}
+			task.prev = null;
+			task.next = null;
+			task.bucket = null;
+		}
+
+		void expireTasks() {
+			WheelTask task = this.head;
+			while (task != null) {
+				WheelTask next = task.next;
+				if (task.remainingRounds <= 0 || task.isCancelled()) {
+					remove(task);
+					scheduledTaskCount.decrementAndGet();
+					if (!task.isCancelled()) {
+						task.dispatch();
+					}
+				}
+				else {
+					task.remainingRounds--;
+				}
+				task = next;
+			}
+		}
+
+		void cancelTasks() {
+			WheelTask task = this.head;
+			while (task != null) {
+				WheelTask next = task.next;
+				remove(task);
+				scheduledTaskCount.decrementAndGet();
+				task.cancelCompletion();
+				task = next;
+			}
+		}
+	}
+
+
+	/**
+	 * A scheduled task, serving as its own {@link ScheduledFuture}.
+	 * The period is positive for fixed-rate tasks, negative for fixed-delay
+	 * tasks and zero for one-time and trigger-based tasks.
+	 */
+	private final class WheelTask implements ScheduledFuture<Object>, Runnable {
+
+		private final Runnable task;
+
+		private final long period;
+
+		@Nullable
+		private final Trigger trigger;
+
+		@Nullable
+		private final SimpleTriggerContext triggerContext;
+
+		private final CompletableFuture<Object> completion = new CompletableFuture<>();
+
+		private volatile long deadline;
+
+		@Nullable
+		private volatile Instant scheduledExecution;
+
+		// Maintained by the scheduler thread only
+
+		private long remainingRounds;
+
+		@Nullable
+		private WheelTask prev;
+
+		@Nullable
+		private WheelTask next;
+
+		@Nullable
+		private Bucket bucket;
+
+		WheelTask(Runnable task, long period, @Nullable Trigger trigger, @Nullable SimpleTriggerContext triggerContext) {
+			this.task = task;
+			this.period = period;
+			this.trigger = trigger;
+			this.triggerContext = triggerContext;
+		}
+
+		void dispatch() {
+			try {
+				execute(this);
+			}
+			catch (RuntimeException ex) {
+				this.completion.completeExceptionally(ex);
+			}
+		}
+
+		@Override
+		public void run() {
+			if (this.completion.isDone()) {
+				return;
+			}
+			Instant actualExecution = (this.trigger != null ? clock.instant() : null);
+			try {
+				this.task.run();
+			}
+			catch (Throwable ex) {
+				this.completion.completeExceptionally(ex);
+				return;
+			}
+			if (this.trigger != null && this.triggerContext != null) {
+				this.triggerContext.update(this.scheduledExecution, actualExecution, clock.instant());
+				Instant nextExecution = this.trigger.nextExecution(this.triggerContext);
+				if (nextExecution == null) {
+					this.completion.complete(null);
+					return;
+				}
+				this.scheduledExecution = nextExecution;
+				reschedule(delayUntil(nextExecution));
+			}
+			else if (this.period > 0) {
+				reschedule(this.deadline + this.period - System.nanoTime());
+			}
+			else if (this.period < 0) {
+				reschedule(-this.period);
+			}
+			else {
+				this.completion.complete(null);
+			}
+		}
+
+		private void reschedule(long delayNanos) {
+			if (!this.completion.isDone()) {
+				try {
+					scheduleTask(this, delayNanos);
+				}
+				catch (TaskRejectedException ex) {
+					cancelCompletion();
+				}
+			}
+		}
+
+		boolean cancelCompletion() {
+			// Equivalent to CompletableFuture.cancel, without filling in a stack trace
+			return this.completion.completeExceptionally(new TaskCancellationException());
+		}
+
+		@Override
+		public boolean cancel(boolean mayInterruptIfRunning) {
+			boolean cancelled = cancelCompletion();
+			if (cancelled) {
+				cancelledTasks.add(this);
+			}
+			return cancelled;
+		}
+
+		@Override
+		public boolean isCancelled() {
+			return this.completion.isCancelled();
+		}
+
+		@Override
+		public boolean isDone() {
+			return this.completion.isDone();
+		}
+
+		@Override
+		public Object get() throws InterruptedException, ExecutionException {
+			return this.completion.get();
+		}
+
+		@Override
+		public Object get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+			return this.completion.get(timeout, unit);
+		}
+
+		@Override
+		public long getDelay(TimeUnit unit) {
+			return unit.convert(this.deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+		}
+
+		@Override
+		public int compareTo(Delayed other) {
+			if (this == other) {
+				return 0;
+			}
+			return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+		}
+	}
+
+
+	/**
+	 * Cancellation of a {@link WheelTask}, cheap to create for the common
+	 * case of timeouts being cancelled before they are due.
+	 */
+	@SuppressWarnings("serial")
+	private static final class TaskCancellationException extends CancellationException {
+
+		@Override
+		public synchronized Throwable fillInStackTrace() {
+			return this;
+		}
+	}
+
+}
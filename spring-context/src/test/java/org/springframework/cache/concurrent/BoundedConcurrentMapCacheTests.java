@@ -0,0 +1,212 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cache.concurrent;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.cache.support.AgedValueWrapper;
+import org.springframework.context.testfixture.cache.AbstractValueAdaptingCacheTests;
+import org.springframework.core.serializer.support.SerializationDelegate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link BoundedConcurrentMapCache}.
+ *
+ * @since 6.1.2
+ */
+class BoundedConcurrentMapCacheTests extends AbstractValueAdaptingCacheTests<BoundedConcurrentMapCache> {
+
+	private final AtomicLong ticker = new AtomicLong();
+
+	private BoundedConcurrentMapCache cache;
+
+	private BoundedConcurrentMapCache cacheNoNull;
+
+
+	@BeforeEach
+	void setup() {
+		BoundedCacheConfiguration configuration = BoundedCacheConfiguration.defaultConfiguration()
+				.withMaximumSize(1000).withTimeToLive(Duration.ofMinutes(1));
+		this.cache = new BoundedConcurrentMapCache(CACHE_NAME, configuration, true);
+		this.cacheNoNull = new BoundedConcurrentMapCache(CACHE_NAME_NO_NULL, configuration, false);
+	}
+
+	@Override
+	protected BoundedConcurrentMapCache getCache() {
+		return getCache(true);
+	}
+
+	@Override
+	protected BoundedConcurrentMapCache getCache(boolean allowNull) {
+		return (allowNull ? this.cache : this.cacheNoNull);
+	}
+
+	@Override
+	protected Object getNativeCache() {
+		return this.cache;
+	}
+
+
+	@Test
+	void evictEntriesNotAccessedRecently() {
+		BoundedConcurrentMapCache cache = createCache(BoundedCacheConfiguration.defaultConfiguration()
+				.withMaximumSize(3));
+		cache.put("a", 1);
+		cache.put("b", 2);
+		cache.put("c", 3);
+		assertThat(cache.get("a")).isNotNull();
+		cache.put("d", 4);
+
+		assertThat(cache.getEstimatedSize()).isEqualTo(3);
+		assertThat(cache.getEvictionCount()).isEqualTo(1);
+		assertThat(cache.get("b")).isNull();
+		assertThat(cache.get("a")).isNotNull();
+		assertThat(cache.get("c")).isNotNull();
+		assertThat(cache.get("d")).isNotNull();
+	}
+
+	@Test
+	void retainFrequentlyAccessedEntriesWithinMaximumSize() {
+		BoundedConcurrentMapCache cache = createCache(BoundedCacheConfiguration.defaultConfiguration()
+				.withMaximumSize(100));
+		for (int i = 0; i < 100; i++) {
+			cache.put("hot" + i, i);
+		}
+		for (int i = 0; i < 10_000; i++) {
+			cache.get("hot" + (i % 10));
+			cache.put("key" + i, i);
+		}
+		assertThat(cache.getEstimatedSize()).isEqualTo(100);
+		assertThat(cache.getWeightedSize()).isEqualTo(100);
+		assertThat(cache.getEvictionCount()).isEqualTo(10_000);
+		List<String> retainedHotKeys = new ArrayList<>();
+		for (int i = 0; i < 10; i++) {
+			if (cache.get("hot" + i) != null) {
+				retainedHotKeys.add("hot" + i);
+			}
+		}
+		assertThat(retainedHotKeys).hasSize(10);
+	}
+
+	@Test
+	void evictByWeight() {
+		BoundedConcurrentMapCache cache = createCache(BoundedCacheConfiguration.defaultConfiguration()
+				.withMaximumWeight(10, (key, value) -> ((String) value).length()));
+		cache.put("a", "1234");
+		cache.put("b", "1234");
+		assertThat(cache.getWeightedSize()).isEqualTo(8);
+		cache.put("a", "12");
+		assertThat(cache.getWeightedSize()).isEqualTo(6);
+		cache.put("c", "12345");
+
+		assertThat(cache.getWeightedSize()).isLessThanOrEqualTo(10);
+		assertThat(cache.getEvictionCount()).isEqualTo(1);
+		assertThat(cache.get("c")).isNotNull();
+
+		// Heavier than the maximum weight: never retained
+		cache.put("d", "12345678901");
+		assertThat(cache.get("d")).isNull();
+		assertThat(cache.getWeightedSize()).isLessThanOrEqualTo(10);
+	}
+
+	@Test
+	void expireEntriesLazily() {
+		BoundedConcurrentMapCache cache = createCache(BoundedCacheConfiguration.defaultConfiguration()
+				.withTimeToLive(Duration.ofSeconds(10)));
+		cache.put("a", 1);
+		this.ticker.addAndGet(Duration.ofSeconds(5).toNanos());
+		assertThat(cache.get("a")).isNotNull();
+		assertThat(cache.putIfAbsent("a", 2).get()).isEqualTo(1);
+		this.ticker.addAndGet(Duration.ofSeconds(5).toNanos());
+
+		assertThat(cache.get("a")).isNull();
+		assertThat(cache.getEstimatedSize()).isZero();
+		assertThat(cache.putIfAbsent("a", 2)).isNull();
+		assertThat(cache.get("a", () -> 3)).isEqualTo(2);
+		assertThat(cache.getEvictionCount()).isZero();
+	}
+
+	@Test
+	void expireEntriesOnSubsequentWrites() {
+		BoundedConcurrentMapCache cache = createCache(BoundedCacheConfiguration.defaultConfiguration()
+				.withTimeToLive(Duration.ofSeconds(10)));
+		for (int i = 0; i < 100; i++) {
+			cache.put("key" + i, i);
+		}
+		this.ticker.addAndGet(Duration.ofSeconds(10).toNanos());
+		for (int i = 0; i < 50; i++) {
+			cache.put("other" + i, i);
+		}
+		assertThat(cache.getEstimatedSize()).isEqualTo(50);
+		assertThat(cache.getWeightedSize()).isEqualTo(50);
+	}
+
+	@Test
+	void loadValueAfterExpiration() {
+		BoundedConcurrentMapCache cache = createCache(BoundedCacheConfiguration.defaultConfiguration()
+				.withMaximumSize(10).withTimeToLive(Duration.ofSeconds(10)));
+		assertThat(cache.get("a", () -> 1)).isEqualTo(1);
+		assertThat(cache.get("a", () -> 2)).isEqualTo(1);
+		this.ticker.addAndGet(Duration.ofSeconds(10).toNanos());
+		assertThat(cache.get("a", () -> 3)).isEqualTo(3);
+		assertThat(cache.getWeightedSize()).isEqualTo(1);
+	}
+
+	@Test
+	void exposeAgeOfCachedValue() {
+		BoundedConcurrentMapCache cache = createCache(BoundedCacheConfiguration.defaultConfiguration()
+				.withTimeToLive(Duration.ofSeconds(10)));
+		cache.put("a", 1);
+		this.ticker.addAndGet(Duration.ofSeconds(3).toNanos());
+
+		assertThat(cache.get("a")).isInstanceOfSatisfying(AgedValueWrapper.class, wrapper -> {
+			assertThat(wrapper.get()).isEqualTo(1);
+			assertThat(wrapper.getAge()).isEqualTo(Duration.ofSeconds(3));
+			assertThat(wrapper.isOlderThan(Duration.ofSeconds(3))).isTrue();
+			assertThat(wrapper.isOlderThan(Duration.ofSeconds(4))).isFalse();
+		});
+		cache.put("a", 2);
+		assertThat(((AgedValueWrapper) cache.get("a")).getAge()).isZero();
+	}
+
+	@Test
+	void storeByValue() {
+		BoundedConcurrentMapCache cache = new BoundedConcurrentMapCache("test",
+				BoundedCacheConfiguration.defaultConfiguration().withMaximumSize(10), true,
+				new SerializationDelegate(getClass().getClassLoader()));
+		assertThat(cache.isStoreByValue()).isTrue();
+		List<String> content = new ArrayList<>(List.of("one"));
+		cache.put("key", content);
+		content.add("two");
+		assertThat(cache.get("key").get()).isEqualTo(List.of("one"));
+	}
+
+
+	private BoundedConcurrentMapCache createCache(BoundedCacheConfiguration configuration) {
+		BoundedConcurrentMapCache cache = new BoundedConcurrentMapCache("test", configuration);
+		cache.setTicker(this.ticker::get);
+		return cache;
+	}
+
+}
@@ -16,6 +16,9 @@
 
 package org.springframework.cache.concurrent;
 
+import java.time.Duration;
+import java.util.Map;
+
 import org.junit.jupiter.api.Test;
 
 import org.springframework.cache.Cache;
@@ -131,4 +134,24 @@ public class ConcurrentMapCacheManagerTests {
 		assertThat(cache1x.get("key")).isNull();
 	}
 
+	@Test
+	public void testBoundedCacheConfigurations() {
+		ConcurrentMapCacheManager cm = new ConcurrentMapCacheManager("c1", "c2", "c3");
+		assertThat(cm.getCache("c1")).isInstanceOf(ConcurrentMapCache.class);
+
+		BoundedCacheConfiguration defaultConfiguration = BoundedCacheConfiguration.defaultConfiguration().withMaximumSize(100);
+		cm.setDefaultCacheConfiguration(defaultConfiguration);
+		cm.setCacheConfigurations(Map.of("c1", defaultConfiguration.withTimeToLive(Duration.ofMinutes(1))));
+		Cache cache1 = cm.getCache("c1");
+		assertThat(cache1).isInstanceOf(BoundedConcurrentMapCache.class);
+		assertThat(cm.getCache("c2")).isInstanceOf(BoundedConcurrentMapCache.class);
+		cache1.put("key", "value");
+		assertThat(cache1.get("key").get()).isEqualTo("value");
+
+		cm.setDefaultCacheConfiguration(null);
+		assertThat(cm.getCache("c1")).isInstanceOf(BoundedConcurrentMapCache.class).isNotSameAs(cache1);
+		assertThat(cm.getCache("c2")).isInstanceOf(ConcurrentMapCache.class);
+		assertThat(cm.getCache("c3")).isInstanceOf(ConcurrentMapCache.class);
+	}
+
 }
@@ -0,0 +1,288 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cache.interceptor;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.CachingConfigurer;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+/**
+ * Tests for bulk caching of methods with a collection argument,
+ * see {@link Cacheable#bulk()}.
+ *
+ * @since 6.1.2
+ */
+class CacheBulkTests {
+
+	private ConfigurableApplicationContext context;
+
+	private CacheManager cacheManager;
+
+	private UserService userService;
+
+
+	@BeforeEach
+	void setup() {
+		this.context = new AnnotationConfigApplicationContext(Config.class);
+		this.cacheManager = this.context.getBean(CacheManager.class);
+		this.userService = this.context.getBean(UserService.class);
+	}
+
+	@AfterEach
+	void closeContext() {
+		this.context.close();
+	}
+
+
+	@Test
+	void invokeMethodWithMissingElementsOnly() {
+		assertThat(this.userService.findUsers(List.of(1, 2))).containsExactly(entry(1), entry(2));
+		assertThat(this.userService.findUsers(List.of(3, 2, 1, 4)))
+				.containsExactly(entry(3), entry(2), entry(1), entry(4));
+
+		assertThat(this.userService.getInvocations()).containsExactly(List.of(1, 2), List.of(3, 4));
+		assertThat(this.cacheManager.getCache("users").get(4).get()).isEqualTo("user4");
+	}
+
+	@Test
+	void noInvocationIfAllElementsAreCached() {
+		Cache cache = this.cacheManager.getCache("users");
+		cache.put(1, "cached1");
+		cache.put(2, "cached2");
+
+		assertThat(this.userService.findUsers(Set.of(2, 1))).containsOnly(
+				Map.entry(1, "cached1"), Map.entry(2, "cached2"));
+		assertThat(this.userService.getInvocations()).isEmpty();
+	}
+
+	@Test
+	void shareEntriesWithSingleElementOperation() {
+		assertThat(this.userService.findUser(2)).isEqualTo("user2");
+		assertThat(this.userService.findUsers(List.of(1, 2))).containsExactly(entry(1), entry(2));
+		assertThat(this.userService.findUser(1)).isEqualTo("user1");
+
+		assertThat(this.userService.getInvocations()).containsExactly(List.of(2), List.of(1));
+	}
+
+	@Test
+	void elementsWithoutValueAreNotCached() {
+		assertThat(this.userService.findUsers(List.of(1, -1))).containsExactly(entry(1));
+		assertThat(this.userService.findUsers(List.of(1, -1))).containsExactly(entry(1));
+
+		assertThat(this.userService.getInvocations()).containsExactly(List.of(1, -1), List.of(-1));
+	}
+
+	@Test
+	void listResultInOrderOfElements() {
+		assertThat(this.userService.findUserList(List.of(1, 2))).containsExactly("user1", "user2");
+		assertThat(this.userService.findUserList(List.of(3, 1, 3, -1, 2)))
+				.containsExactly("user3", "user1", "user3", null, "user2");
+
+		assertThat(this.userService.getInvocations()).containsExactly(List.of(1, 2), List.of(3, -1));
+	}
+
+	@Test
+	void unlessIsEvaluatedPerValue() {
+		this.userService.findUsersUnlessAdmin(List.of(0, 1));
+		this.userService.findUsersUnlessAdmin(List.of(0, 1));
+
+		assertThat(this.userService.getInvocations()).containsExactly(List.of(0, 1), List.of(0));
+	}
+
+	@Test
+	void conditionNotPassing() {
+		this.userService.findUsersIfSeveral(List.of(1));
+		this.userService.findUsersIfSeveral(List.of(1));
+
+		assertThat(this.userService.getInvocations()).containsExactly(List.of(1), List.of(1));
+		assertThat(this.cacheManager.getCache("users").get(1)).isNull();
+	}
+
+	@Test
+	void consultCachesInOrder() {
+		this.cacheManager.getCache("primary").put(1, "primary1");
+		this.cacheManager.getCache("secondary").put(1, "secondary1");
+		this.cacheManager.getCache("secondary").put(2, "secondary2");
+
+		assertThat(this.userService.findUsersInTwoCaches(List.of(1, 2, 3)))
+				.containsExactly(Map.entry(1, "primary1"), Map.entry(2, "secondary2"), entry(3));
+		assertThat(this.userService.getInvocations()).containsExactly(List.of(3));
+		assertThat(this.cacheManager.getCache("primary").get(3).get()).isEqualTo("user3");
+		assertThat(this.cacheManager.getCache("secondary").get(3).get()).isEqualTo("user3");
+	}
+
+	@Test
+	void invokerWithoutArgumentSubstitution() throws Exception {
+		this.cacheManager.getCache("users").put(2, "cached2");
+		CacheInterceptor interceptor = this.context.getBean(CacheInterceptor.class);
+		UserService target = new UserService();
+		Method method = UserService.class.getMethod("findUserList", List.class);
+		List<Integer> ids = List.of(1, 2, 3);
+
+		// Like AspectJ's proceed, the invoker does not see the replaced argument
+		Object result = interceptor.execute(() -> target.findUserList(ids), target, method, new Object[] {ids});
+		assertThat(result).isEqualTo(List.of("user1", "cached2", "user3"));
+		assertThat(target.getInvocations()).containsExactly(List.of(1, 2, 3));
+		assertThat(this.cacheManager.getCache("users").get(2).get()).isEqualTo("cached2");
+		assertThat(this.cacheManager.getCache("users").get(3).get()).isEqualTo("user3");
+	}
+
+	@Test
+	void listResultWithWrongSize() {
+		assertThatIllegalStateException()
+				.isThrownBy(() -> this.userService.findUserListBroken(List.of(1, 2)))
+				.withMessageContaining("returned 1 value(s) for 2 element(s)");
+	}
+
+	@Test
+	void bulkWithoutCollectionParameter() {
+		assertThatIllegalStateException()
+				.isThrownBy(() -> this.userService.findUserBulk(1))
+				.withMessageContaining("A bulk=true operation requires a single Collection parameter");
+	}
+
+	@Test
+	void bulkWithKey() {
+		assertThatIllegalStateException()
+				.isThrownBy(() -> this.userService.findUsersWithKey(List.of(1)))
+				.withMessageContaining("A bulk=true operation does not support the key attribute");
+	}
+
+	@Test
+	void bulkWithAnotherOperation() {
+		assertThatIllegalStateException()
+				.isThrownBy(() -> this.userService.findUsersAndEvict(List.of(1)))
+				.withMessageContaining("A bulk=true operation cannot be combined with other cache operations");
+	}
+
+
+	private static Map.Entry<Integer, String> entry(int id) {
+		return Map.entry(id, "user" + id);
+	}
+
+
+	static class UserService {
+
+		private final List<List<Integer>> invocations = new ArrayList<>();
+
+		public List<List<Integer>> getInvocations() {
+			return this.invocations;
+		}
+
+		@Cacheable("users")
+		public String findUser(Integer id) {
+			this.invocations.add(List.of(id));
+			return "user" + id;
+		}
+
+		@Cacheable(cacheNames = "users", bulk = true)
+		public Map<Integer, String> findUsers(Collection<Integer> ids) {
+			return load(ids);
+		}
+
+		@Cacheable(cacheNames = "users", bulk = true)
+		public List<String> findUserList(List<Integer> ids) {
+			return new ArrayList<>(load(ids).values());
+		}
+
+		@Cacheable(cacheNames = "users", bulk = true, unless = "#result == 'user0'")
+		public Map<Integer, String> findUsersUnlessAdmin(Collection<Integer> ids) {
+			return load(ids);
+		}
+
+		@Cacheable(cacheNames = "users", bulk = true, condition = "#p0.size() > 1")
+		public Map<Integer, String> findUsersIfSeveral(Collection<Integer> ids) {
+			return load(ids);
+		}
+
+		@Cacheable(cacheNames = {"primary", "secondary"}, bulk = true)
+		public Map<Integer, String> findUsersInTwoCaches(Collection<Integer> ids) {
+			return load(ids);
+		}
+
+		@Cacheable(cacheNames = "users", bulk = true)
+		public List<String> findUserListBroken(List<Integer> ids) {
+			return List.of("user");
+		}
+
+		@Cacheable(cacheNames = "users", bulk = true)
+		public String findUserBulk(Integer id) {
+			return "user" + id;
+		}
+
+		@Cacheable(cacheNames = "users", bulk = true, key = "#p0")
+		public Map<Integer, String> findUsersWithKey(Collection<Integer> ids) {
+			return load(ids);
+		}
+
+		@Cacheable(cacheNames = "users", bulk = true)
+		@CacheEvict("others")
+		public Map<Integer, String> findUsersAndEvict(Collection<Integer> ids) {
+			return load(ids);
+		}
+
+		private Map<Integer, String> load(Collection<Integer> ids) {
+			this.invocations.add(List.copyOf(ids));
+			Map<Integer, String> result = new LinkedHashMap<>();
+			for (Integer id : ids) {
+				result.put(id, (id >= 0 ? "user" + id : null));
+			}
+			return result;
+		}
+	}
+
+
+	@Configuration
+	@EnableCaching
+	static class Config implements CachingConfigurer {
+
+		@Override
+		@Bean
+		public CacheManager cacheManager() {
+			return new ConcurrentMapCacheManager();
+		}
+
+		@Bean
+		public UserService userService() {
+			return new UserService();
+		}
+	}
+
+}
@@ -0,0 +1,249 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cache.interceptor;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.cache.annotation.AnnotationCacheOperationSource;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+/**
+ * Tests for recording cache statistics through a {@link CacheInstrumentation}.
+ *
+ * @since 6.1.2
+ */
+class CacheInstrumentationTests {
+
+	private final ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager();
+
+	private final SimpleCacheInstrumentation instrumentation = new SimpleCacheInstrumentation();
+
+	private final CacheInterceptor interceptor = new CacheInterceptor();
+
+	private final SampleService target = new SampleService();
+
+	private SampleService service;
+
+
+	@BeforeEach
+	void setup() {
+		this.interceptor.setCacheOperationSource(new AnnotationCacheOperationSource());
+		this.interceptor.setCacheManager(this.cacheManager);
+		this.interceptor.setCacheInstrumentation(this.instrumentation);
+		this.interceptor.afterPropertiesSet();
+		this.interceptor.afterSingletonsInstantiated();
+		ProxyFactory proxyFactory = new ProxyFactory(this.target);
+		proxyFactory.setProxyTargetClass(true);
+		proxyFactory.addAdvice(this.interceptor);
+		this.service = (SampleService) proxyFactory.getProxy();
+	}
+
+
+	@Test
+	void recordHitsMissesPutsAndLoads() {
+		this.service.get("a");
+		this.service.get("a");
+		this.service.get("b");
+
+		CacheStatistics statistics = this.instrumentation.getCacheStatistics("test");
+		assertThat(statistics).isNotNull();
+		assertThat(statistics.getHitCount()).isEqualTo(1);
+		assertThat(statistics.getMissCount()).isEqualTo(2);
+		assertThat(statistics.getHitRatio()).isEqualTo(1.0 / 3);
+		assertThat(statistics.getPutCount()).isEqualTo(2);
+		assertThat(statistics.getLoadCount()).isEqualTo(2);
+		assertThat(statistics.getLoadFailureCount()).isZero();
+		assertThat(statistics.getTotalLoadTimeNanos()).isPositive();
+		assertThat(statistics.getKeyGenerationCount()).isZero();
+
+		assertThat(this.instrumentation.getOperationStatistics()).hasSize(1);
+		CacheStatistics operationStatistics = this.instrumentation.getOperationStatistics().values().iterator().next();
+		assertThat(operationStatistics.getHitCount()).isEqualTo(1);
+		assertThat(operationStatistics.getLoadCount()).isEqualTo(2);
+		assertThat(operationStatistics.getKeyGenerationCount()).isEqualTo(5);
+	}
+
+	@Test
+	void recordMissesPerCache() {
+		this.service.getFromTwoCaches("a");
+		this.service.getFromTwoCaches("a");
+
+		assertThat(this.instrumentation.getCacheStatistics("first").getMissCount()).isEqualTo(1);
+		assertThat(this.instrumentation.getCacheStatistics("first").getHitCount()).isEqualTo(1);
+		assertThat(this.instrumentation.getCacheStatistics("second").getMissCount()).isEqualTo(1);
+		assertThat(this.instrumentation.getCacheStatistics("second").getHitCount()).isZero();
+		assertThat(this.instrumentation.getCacheStatistics("second").getPutCount()).isEqualTo(1);
+		assertThat(this.instrumentation.getCacheStatistics("second").getLoadCount()).isEqualTo(1);
+	}
+
+	@Test
+	void recordLoadFailure() {
+		assertThatIllegalStateException().isThrownBy(() -> this.service.fail("a"));
+
+		CacheStatistics statistics = this.instrumentation.getCacheStatistics("test");
+		assertThat(statistics.getMissCount()).isEqualTo(1);
+		assertThat(statistics.getLoadCount()).isEqualTo(1);
+		assertThat(statistics.getLoadFailureCount()).isEqualTo(1);
+		assertThat(statistics.getPutCount()).isZero();
+	}
+
+	@Test
+	void recordEvictions() {
+		this.service.get("a");
+		this.service.evict("a");
+		this.service.clear();
+
+		assertThat(this.instrumentation.getCacheStatistics("test").getEvictionCount()).isEqualTo(2);
+	}
+
+	@Test
+	void recordExpressionEvaluations() {
+		this.service.getConditionally("a");
+		this.service.getConditionally("a");
+
+		CacheStatistics statistics = this.instrumentation.getCacheStatistics("test");
+		assertThat(statistics.getHitCount()).isEqualTo(1);
+		assertThat(statistics.getExpressionEvaluationCount()).isZero();
+
+		CacheStatistics operationStatistics = this.instrumentation.getOperationStatistics().values().iterator().next();
+		// Two conditions and one unless expression
+		assertThat(operationStatistics.getExpressionEvaluationCount()).isEqualTo(3);
+		assertThat(operationStatistics.getTotalExpressionEvaluationTimeNanos()).isPositive();
+	}
+
+	@Test
+	void recordSynchronizedHitsAndMisses() {
+		this.service.getSynchronized("a");
+		this.service.getSynchronized("a");
+		this.service.getSynchronized("a");
+
+		CacheStatistics statistics = this.instrumentation.getCacheStatistics("test");
+		assertThat(statistics.getHitCount()).isEqualTo(2);
+		assertThat(statistics.getMissCount()).isEqualTo(1);
+		assertThat(statistics.getLoadCount()).isEqualTo(1);
+		assertThat(this.target.invocations).hasValue(1);
+	}
+
+	@Test
+	void recordLoadOnCompletionOfFuture() {
+		CompletableFuture<Object> pending = new CompletableFuture<>();
+		this.target.future = pending;
+		CompletableFuture<Object> result = this.service.getFuture("a");
+
+		CacheStatistics statistics = this.instrumentation.getCacheStatistics("test");
+		assertThat(statistics.getMissCount()).isEqualTo(1);
+		assertThat(statistics.getLoadCount()).isZero();
+		pending.complete("value");
+		assertThat(result).succeedsWithin(Duration.ofSeconds(5)).isEqualTo("value");
+		assertThat(statistics.getLoadCount()).isEqualTo(1);
+
+		assertThat(this.service.getFuture("a")).succeedsWithin(Duration.ofSeconds(5)).isEqualTo("value");
+		assertThat(statistics.getHitCount()).isEqualTo(1);
+	}
+
+	@Test
+	void recordCoalescedWaits() {
+		this.interceptor.setCoalesceCacheMisses(true);
+		CompletableFuture<Object> pending = new CompletableFuture<>();
+		this.target.future = pending;
+		CompletableFuture<Object> first = this.service.getFuture("a");
+		CompletableFuture<Object> second = this.service.getFuture("a");
+		pending.complete("value");
+
+		assertThat(List.of(first, second)).allSatisfy(result ->
+				assertThat(result).succeedsWithin(Duration.ofSeconds(5)).isEqualTo("value"));
+		CacheStatistics statistics = this.instrumentation.getCacheStatistics("test");
+		assertThat(statistics.getLoadCount()).isEqualTo(1);
+		assertThat(statistics.getCoalescedWaitCount()).isEqualTo(1);
+	}
+
+	@Test
+	void resetStatistics() {
+		this.service.get("a");
+		assertThat(this.instrumentation.getCacheStatistics()).containsOnlyKeys("test");
+
+		this.instrumentation.reset();
+		assertThat(this.instrumentation.getCacheStatistics()).isEmpty();
+		assertThat(this.instrumentation.getOperationStatistics()).isEmpty();
+	}
+
+	@Test
+	void noInstrumentationByDefault() {
+		assertThat(new CacheInterceptor().getCacheInstrumentation()).isNull();
+		assertThat(new CacheStatistics().getHitRatio()).isEqualTo(1.0);
+	}
+
+
+	static class SampleService {
+
+		final AtomicInteger invocations = new AtomicInteger();
+
+		volatile CompletableFuture<Object> future;
+
+		@Cacheable("test")
+		public Object get(Object key) {
+			return this.invocations.incrementAndGet();
+		}
+
+		@Cacheable({"first", "second"})
+		public Object getFromTwoCaches(Object key) {
+			return this.invocations.incrementAndGet();
+		}
+
+		@Cacheable("test")
+		public Object fail(Object key) {
+			throw new IllegalStateException("failure");
+		}
+
+		@CacheEvict("test")
+		public void evict(Object key) {
+		}
+
+		@CacheEvict(cacheNames = "test", allEntries = true)
+		public void clear() {
+		}
+
+		@Cacheable(cacheNames = "test", condition = "#p0 != null", unless = "#result == null")
+		public Object getConditionally(Object key) {
+			return this.invocations.incrementAndGet();
+		}
+
+		@Cacheable(cacheNames = "test", sync = true)
+		public Object getSynchronized(Object key) {
+			return this.invocations.incrementAndGet();
+		}
+
+		@Cacheable("test")
+		public CompletableFuture<Object> getFuture(Object key) {
+			this.invocations.incrementAndGet();
+			return this.future;
+		}
+	}
+
+}
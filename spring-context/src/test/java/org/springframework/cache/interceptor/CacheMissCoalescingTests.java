@@ -0,0 +1,324 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cache.interceptor;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.cache.annotation.AnnotationCacheOperationSource;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Tests for coalescing concurrent cache misses of non-sync
+ * {@link Cacheable @Cacheable} methods.
+ *
+ * @since 6.1.2
+ */
+class CacheMissCoalescingTests {
+
+	private static final int CALLERS = 4;
+
+	private final ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager();
+
+	private final CacheInterceptor interceptor = new CacheInterceptor();
+
+	private final SlowService target = new SlowService();
+
+	private final ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+
+	private final List<Thread> callerThreads = new ArrayList<>();
+
+
+	@BeforeEach
+	void setup() {
+		this.interceptor.setCacheOperationSource(new AnnotationCacheOperationSource());
+		this.interceptor.setCacheManager(this.cacheManager);
+		this.interceptor.setCoalesceCacheMisses(true);
+	}
+
+	@AfterEach
+	void shutdown() {
+		this.executor.shutdownNow();
+	}
+
+
+	@Test
+	void concurrentMissesInvokeMethodOnce() throws Exception {
+		SlowService service = createService();
+		List<Future<Object>> results = invokeConcurrently(() -> service.get("key"));
+		this.target.latch.countDown();
+
+		for (Future<Object> result : results) {
+			assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo(1);
+		}
+		assertThat(this.target.invocations).hasValue(1);
+		assertThat(this.cacheManager.getCache("test").get("key").get()).isEqualTo(1);
+	}
+
+	@Test
+	void concurrentMissesForDifferentKeysAreNotCoalesced() throws Exception {
+		SlowService service = createService();
+		this.target.latch.countDown();
+
+		assertThat(service.get("key1")).isEqualTo(1);
+		assertThat(service.get("key2")).isEqualTo(2);
+		assertThat(service.get("key1")).isEqualTo(1);
+		assertThat(this.target.invocations).hasValue(2);
+	}
+
+	@Test
+	void missesAreNotCoalescedByDefault() throws Exception {
+		this.interceptor.setCoalesceCacheMisses(false);
+		SlowService service = createService();
+		List<Future<Object>> results = invokeConcurrently(() -> service.get("key"));
+		this.target.latch.countDown();
+
+		for (Future<Object> result : results) {
+			result.get(5, TimeUnit.SECONDS);
+		}
+		assertThat(this.target.invocations).hasValue(CALLERS);
+	}
+
+	@Test
+	void failureIsPropagatedToWaitingCallers() throws Exception {
+		SlowService service = createService();
+		List<Future<Object>> results = invokeConcurrently(() -> service.fail("key"));
+		this.target.latch.countDown();
+
+		for (Future<Object> result : results) {
+			assertThat(result).failsWithin(Duration.ofSeconds(5))
+					.withThrowableOfType(Exception.class).havingCause()
+					.isInstanceOf(IllegalStateException.class).withMessage("failure 1");
+		}
+		assertThat(this.target.invocations).hasValue(1);
+	}
+
+	@Test
+	void failureLetsWaitingCallersInvokeWithInvokePolicy() throws Exception {
+		this.interceptor.setCoalescingFailurePolicy(CacheAspectSupport.CoalescingFailurePolicy.INVOKE);
+		SlowService service = createService();
+		List<Future<Object>> results = invokeConcurrently(() -> service.fail("key"));
+		this.target.latch.countDown();
+
+		for (Future<Object> result : results) {
+			assertThat(result).failsWithin(Duration.ofSeconds(5));
+		}
+		assertThat(this.target.invocations).hasValue(CALLERS);
+	}
+
+	@Test
+	void waitingCallersInvokeAfterTimeout() throws Exception {
+		this.interceptor.setCoalescingTimeout(Duration.ofMillis(50));
+		SlowService service = createService();
+		CountDownLatch leaderLatch = new CountDownLatch(1);
+		this.target.latch = leaderLatch;
+		Future<Object> leader = this.executor.submit(() -> service.get("key"));
+		await().atMost(Duration.ofSeconds(5)).until(() -> this.target.invocations.get() == 1);
+
+		// Waiting caller gives up on the blocked invocation
+		this.target.latch = new CountDownLatch(0);
+		assertThat(service.get("key")).isEqualTo(2);
+		leaderLatch.countDown();
+		assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo(1);
+	}
+
+	@Test
+	void concurrentMissesWithCompletableFutureInvokeMethodOnce() {
+		SlowService service = createService();
+		CompletableFuture<Object> pending = new CompletableFuture<>();
+		this.target.future = pending;
+
+		List<CompletableFuture<Object>> results = new ArrayList<>();
+		for (int i = 0; i < CALLERS; i++) {
+			results.add(service.getFuture("key"));
+		}
+		assertThat(results).noneMatch(CompletableFuture::isDone);
+		pending.complete("value");
+
+		for (CompletableFuture<Object> result : results) {
+			assertThat(result).succeedsWithin(Duration.ofSeconds(5)).isEqualTo("value");
+		}
+		assertThat(this.target.invocations).hasValue(1);
+		assertThat(service.getFuture("key")).succeedsWithin(Duration.ofSeconds(5)).isEqualTo("value");
+		assertThat(this.target.invocations).hasValue(1);
+	}
+
+	@Test
+	void failedCompletableFutureIsPropagatedToWaitingCallers() {
+		SlowService service = createService();
+		CompletableFuture<Object> pending = new CompletableFuture<>();
+		this.target.future = pending;
+
+		CompletableFuture<Object> first = service.getFuture("key");
+		CompletableFuture<Object> second = service.getFuture("key");
+		pending.completeExceptionally(new IllegalStateException("failure"));
+
+		assertThat(first).failsWithin(Duration.ofSeconds(5));
+		assertThat(second).failsWithin(Duration.ofSeconds(5)).withThrowableThat().havingCause()
+				.isInstanceOf(IllegalStateException.class).withMessage("failure");
+		assertThat(this.target.invocations).hasValue(1);
+	}
+
+	@Test
+	void concurrentSubscriptionsToMonoInvokeMethodOnce() {
+		SlowService service = createService();
+		CompletableFuture<Object> pending = new CompletableFuture<>();
+		this.target.future = pending;
+
+		List<CompletableFuture<Object>> results = new ArrayList<>();
+		for (int i = 0; i < CALLERS; i++) {
+			results.add(service.getMono("key").toFuture());
+		}
+		pending.complete("value");
+
+		for (CompletableFuture<Object> result : results) {
+			assertThat(result).succeedsWithin(Duration.ofSeconds(5)).isEqualTo("value");
+		}
+		assertThat(this.target.invocations).hasValue(1);
+		assertThat(service.getMono("key").block(Duration.ofSeconds(5))).isEqualTo("value");
+		assertThat(this.target.invocations).hasValue(1);
+	}
+
+	@Test
+	void monoIsNotInvokedBeforeSubscription() {
+		SlowService service = createService();
+		this.target.future = CompletableFuture.completedFuture("value");
+
+		Mono<Object> mono = service.getMono("key");
+		assertThat(this.target.invocations).hasValue(0);
+		assertThat(mono.block(Duration.ofSeconds(5))).isEqualTo("value");
+		assertThat(this.target.invocations).hasValue(1);
+	}
+
+	@Test
+	void reentrantInvocationForSameKeyDoesNotWaitForItself() throws Exception {
+		SlowService service = createService();
+		this.target.self = service;
+		this.target.latch.countDown();
+
+		Future<Object> result = this.executor.submit(() -> service.getReentrant("key", true));
+		assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+		assertThat(this.target.invocations).hasValue(2);
+	}
+
+	@Test
+	void directInvocationIsNotAffected() {
+		SlowService service = createService();
+		this.target.latch.countDown();
+		assertThatIllegalStateException().isThrownBy(() -> service.fail("key")).withMessage("failure 1");
+		assertThatIllegalStateException().isThrownBy(() -> service.fail("key")).withMessage("failure 2");
+	}
+
+
+	private SlowService createService() {
+		this.interceptor.afterPropertiesSet();
+		this.interceptor.afterSingletonsInstantiated();
+		ProxyFactory proxyFactory = new ProxyFactory(this.target);
+		proxyFactory.setProxyTargetClass(true);
+		proxyFactory.addAdvice(this.interceptor);
+		return (SlowService) proxyFactory.getProxy();
+	}
+
+	/**
+	 * Invoke the given task from several threads and wait until all of them
+	 * are blocked, either in the method invocation or awaiting its result.
+	 */
+	private List<Future<Object>> invokeConcurrently(Callable<Object> task) {
+		List<Future<Object>> results = new ArrayList<>();
+		for (int i = 0; i < CALLERS; i++) {
+			results.add(this.executor.submit(() -> {
+				synchronized (this.callerThreads) {
+					this.callerThreads.add(Thread.currentThread());
+				}
+				return task.call();
+			}));
+		}
+		await().atMost(Duration.ofSeconds(5)).until(() -> {
+			synchronized (this.callerThreads) {
+				return (this.callerThreads.size() == CALLERS && this.callerThreads.stream()
+						.allMatch(thread -> thread.getState() == Thread.State.WAITING ||
+								thread.getState() == Thread.State.TIMED_WAITING));
+			}
+		});
+		return results;
+	}
+
+
+	static class SlowService {
+
+		final AtomicInteger invocations = new AtomicInteger();
+
+		volatile CountDownLatch latch = new CountDownLatch(1);
+
+		volatile CompletableFuture<Object> future;
+
+		volatile SlowService self;
+
+		@Cacheable("test")
+		public Object get(Object key) throws InterruptedException {
+			int invocation = this.invocations.incrementAndGet();
+			this.latch.await();
+			return invocation;
+		}
+
+		@Cacheable("test")
+		public Object fail(Object key) throws InterruptedException {
+			int invocation = this.invocations.incrementAndGet();
+			this.latch.await();
+			throw new IllegalStateException("failure " + invocation);
+		}
+
+		@Cacheable(cacheNames = "test", key = "#p0")
+		public Object getReentrant(Object key, boolean nested) {
+			this.invocations.incrementAndGet();
+			return (nested ? this.self.getReentrant(key, false) : "value");
+		}
+
+		@Cacheable("test")
+		public CompletableFuture<Object> getFuture(Object key) {
+			this.invocations.incrementAndGet();
+			return this.future;
+		}
+
+		@Cacheable("test")
+		public Mono<Object> getMono(Object key) {
+			this.invocations.incrementAndGet();
+			return Mono.fromFuture(this.future);
+		}
+	}
+
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cache.interceptor;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.cache.annotation.AnnotationCacheOperationSource;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.concurrent.BoundedCacheConfiguration;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+/**
+ * Tests for refreshing cached values of {@link Cacheable @Cacheable} methods
+ * ahead of their expiration.
+ *
+ * @since 6.1.2
+ */
+class CacheRefreshAheadTests {
+
+	private final ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager();
+
+	private final CacheInterceptor interceptor = new CacheInterceptor();
+
+	private final Queue<Runnable> refreshTasks = new ArrayDeque<>();
+
+	private final CountingService target = new CountingService();
+
+
+	@BeforeEach
+	void setup() {
+		this.cacheManager.setDefaultCacheConfiguration(BoundedCacheConfiguration.defaultConfiguration()
+				.withMaximumSize(100).withTimeToLive(Duration.ofMinutes(10)));
+		this.interceptor.setCacheOperationSource(new AnnotationCacheOperationSource());
+		this.interceptor.setCacheManager(this.cacheManager);
+		this.interceptor.setRefreshAheadAge(Duration.ZERO);
+		this.interceptor.setRefreshAheadExecutor(this.refreshTasks::add);
+	}
+
+
+	@Test
+	void staleValueIsReturnedWhileRefreshing() {
+		CountingService service = createService();
+		assertThat(service.get("key")).isEqualTo(1);
+		assertThat(this.refreshTasks).isEmpty();
+
+		assertThat(service.get("key")).isEqualTo(1);
+		assertThat(this.refreshTasks).hasSize(1);
+		assertThat(this.target.invocations).hasValue(1);
+
+		this.refreshTasks.poll().run();
+		assertThat(this.target.invocations).hasValue(2);
+		assertThat(this.cacheManager.getCache("test").get("key").get()).isEqualTo(2);
+		assertThat(service.get("key")).isEqualTo(2);
+	}
+
+	@Test
+	void singleRefreshForConcurrentStaleHits() {
+		CountingService service = createService();
+		service.get("key");
+		service.get("key");
+		service.get("key");
+		service.get("other");
+		service.get("other");
+
+		assertThat(this.refreshTasks).hasSize(2);
+		this.refreshTasks.poll().run();
+		service.get("key");
+		assertThat(this.refreshTasks).hasSize(2);
+	}
+
+	@Test
+	void noRefreshForRecentValues() {
+		this.interceptor.setRefreshAheadAge(Duration.ofHours(1));
+		CountingService service = createService();
+		service.get("key");
+		service.get("key");
+
+		assertThat(this.refreshTasks).isEmpty();
+		assertThat(this.target.invocations).hasValue(1);
+	}
+
+	@Test
+	void noRefreshForCacheWithoutAge() {
+		this.cacheManager.setDefaultCacheConfiguration(null);
+		CountingService service = createService();
+		service.get("key");
+		service.get("key");
+
+		assertThat(this.refreshTasks).isEmpty();
+	}
+
+	@Test
+	void refreshFailureKeepsStaleValue() {
+		CountingService service = createService();
+		service.get("key");
+		service.get("key");
+		this.target.failure = new IllegalStateException("refresh failure");
+
+		this.refreshTasks.poll().run();
+		assertThat(this.cacheManager.getCache("test").get("key").get()).isEqualTo(1);
+		assertThat(service.get("key")).isEqualTo(1);
+		assertThat(this.refreshTasks).hasSize(1);
+	}
+
+	@Test
+	void refreshRespectsUnlessCondition() {
+		CountingService service = createService();
+		service.getUnlessEven("key");
+		service.getUnlessEven("key");
+
+		this.refreshTasks.poll().run();
+		assertThat(this.target.invocations).hasValue(2);
+		assertThat(this.cacheManager.getCache("test").get("key").get()).isEqualTo(1);
+	}
+
+	@Test
+	void rejectedRefreshKeepsStaleValue() {
+		Executor rejectingExecutor = task -> {
+			throw new RejectedExecutionException();
+		};
+		this.interceptor.setRefreshAheadExecutor(rejectingExecutor);
+		CountingService service = createService();
+		service.get("key");
+
+		assertThat(service.get("key")).isEqualTo(1);
+		assertThat(service.get("key")).isEqualTo(1);
+		assertThat(this.target.invocations).hasValue(1);
+	}
+
+	@Test
+	void refreshAheadAgeRequiresExecutor() {
+		this.interceptor.setRefreshAheadExecutor(null);
+		assertThatIllegalStateException().isThrownBy(this.interceptor::afterPropertiesSet);
+	}
+
+
+	private CountingService createService() {
+		this.interceptor.afterPropertiesSet();
+		this.interceptor.afterSingletonsInstantiated();
+		ProxyFactory proxyFactory = new ProxyFactory(this.target);
+		proxyFactory.setProxyTargetClass(true);
+		proxyFactory.addAdvice(this.interceptor);
+		return (CountingService) proxyFactory.getProxy();
+	}
+
+
+	static class CountingService {
+
+		final AtomicInteger invocations = new AtomicInteger();
+
+		volatile RuntimeException failure;
+
+		@Cacheable("test")
+		public Object get(Object key) {
+			if (this.failure != null) {
+				throw this.failure;
+			}
+			return this.invocations.incrementAndGet();
+		}
+
+		@Cacheable(cacheNames = "test", unless = "#result % 2 == 0")
+		public Object getUnlessEven(Object key) {
+			return this.invocations.incrementAndGet();
+		}
+	}
+
+}
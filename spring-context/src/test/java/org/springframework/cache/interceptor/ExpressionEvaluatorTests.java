@@ -34,6 +34,7 @@ import org.springframework.context.expression.AnnotatedElementKey;
 import org.springframework.context.expression.BeanFactoryResolver;
 import org.springframework.context.support.StaticApplicationContext;
 import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.spel.SpelEvaluationException;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
 import org.springframework.lang.Nullable;
@@ -101,6 +102,77 @@ public class ExpressionEvaluatorTests {
 		assertThat(keyB).isEqualTo(args[1]);
 	}
 
+	@Test
+	void keyAccessesArgumentsDirectly() {
+		Method method = ReflectionUtils.findMethod(
+				AnnotatedClass.class, "multipleCaching", Object.class, Object.class);
+		AnnotatedElementKey methodKey = new AnnotatedElementKey(method, AnnotatedClass.class);
+		Object[] args = new Object[] {"one", "two"};
+
+		assertThat(this.eval.key("#a", methodKey, method, args, this::failOnEvaluationContext)).isEqualTo("one");
+		assertThat(this.eval.key("#p1", methodKey, method, args, this::failOnEvaluationContext)).isEqualTo("two");
+		assertThat(this.eval.key("#a1", methodKey, method, args, this::failOnEvaluationContext)).isEqualTo("two");
+		assertThat(this.eval.key("#p0.length", methodKey, method, args, () -> createEvaluationContext(method, args)))
+				.isEqualTo(3);
+	}
+
+	@Test
+	void keyAccessesArgumentPropertiesDirectly() {
+		Method method = ReflectionUtils.findMethod(AnnotatedClass.class, "lookup", Book.class);
+		AnnotatedElementKey methodKey = new AnnotatedElementKey(method, AnnotatedClass.class);
+		Object[] args = new Object[] {new Book("isbn-1", new Book("isbn-0", null))};
+
+		assertThat(this.eval.key("#book.isbn", methodKey, method, args, this::failOnEvaluationContext))
+				.isEqualTo("isbn-1");
+		assertThat(this.eval.key("#p0.previousEdition.isbn", methodKey, method, args, this::failOnEvaluationContext))
+				.isEqualTo("isbn-0");
+		assertThat(this.eval.key("#book.available", methodKey, method, args, this::failOnEvaluationContext))
+				.isEqualTo(true);
+	}
+
+	@Test
+	void keyFallsBackToEvaluationContext() {
+		Method method = ReflectionUtils.findMethod(AnnotatedClass.class, "lookup", Book.class);
+		AnnotatedElementKey methodKey = new AnnotatedElementKey(method, AnnotatedClass.class);
+		Object[] args = new Object[] {new Book("isbn-1", null)};
+
+		assertThat(this.eval.key("#book.isbn + '-' + #book.available", methodKey, method, args,
+				() -> createEvaluationContext(method, args))).isEqualTo("isbn-1-true");
+		assertThat(this.eval.key("#root.args[0].isbn", methodKey, method, args,
+				() -> createEvaluationContext(method, args))).isEqualTo("isbn-1");
+		assertThat(this.eval.key("#book.previousEdition?.isbn", methodKey, method, args,
+				() -> createEvaluationContext(method, args))).isNull();
+		assertThatExceptionOfType(SpelEvaluationException.class).isThrownBy(() ->
+				this.eval.key("#book.previousEdition.isbn", methodKey, method, args,
+						() -> createEvaluationContext(method, args)));
+	}
+
+	@Test
+	void keyPropagatesGetterException() {
+		Method method = ReflectionUtils.findMethod(AnnotatedClass.class, "lookup", Book.class);
+		AnnotatedElementKey methodKey = new AnnotatedElementKey(method, AnnotatedClass.class);
+		Book book = new Book("isbn-1", null);
+		Object[] args = new Object[] {book};
+
+		assertThatExceptionOfType(IllegalStateException.class).isThrownBy(() ->
+				this.eval.key("#book.title", methodKey, method, args, this::failOnEvaluationContext))
+				.withMessage("No title");
+		assertThat(book.titleReads).isEqualTo(1);
+	}
+
+	@Test
+	void keyEvaluatedRepeatedly() {
+		Method method = ReflectionUtils.findMethod(AnnotatedClass.class, "lookup", Book.class);
+		AnnotatedElementKey methodKey = new AnnotatedElementKey(method, AnnotatedClass.class);
+		for (int i = 0; i < 500; i++) {
+			Object[] args = new Object[] {new Book("isbn-" + i, null)};
+			assertThat(this.eval.key("'book-' + #book.isbn", methodKey, method, args,
+					() -> createEvaluationContext(method, args))).isEqualTo("book-isbn-" + i);
+			assertThat(this.eval.condition("#book.isbn.length() > 6",
+					methodKey, createEvaluationContext(method, args))).isEqualTo(i >= 10);
+		}
+	}
+
 	@Test
 	public void withReturnValue() {
 		EvaluationContext context = createEvaluationContext("theResult");
@@ -160,11 +232,60 @@ public class ExpressionEvaluatorTests {
 	}
 
 
+	private EvaluationContext createEvaluationContext(Method method, Object[] args) {
+		AnnotatedClass target = new AnnotatedClass();
+		return this.eval.createEvaluationContext(Collections.emptyList(), method, args,
+				target, target.getClass(), method, CacheOperationExpressionEvaluator.NO_RESULT);
+	}
+
+	private EvaluationContext failOnEvaluationContext() {
+		throw new AssertionError("Should not create an EvaluationContext");
+	}
+
+
 	private static class AnnotatedClass {
 
 		@Caching(cacheable = { @Cacheable(value = "test", key = "#a"), @Cacheable(value = "test", key = "#b") })
 		public void multipleCaching(Object a, Object b) {
 		}
+
+		@Cacheable(value = "test", key = "#book.isbn")
+		public void lookup(Book book) {
+		}
+	}
+
+
+	public static class Book {
+
+		private final String isbn;
+
+		@Nullable
+		private final Book previousEdition;
+
+		int titleReads;
+
+		Book(String isbn, @Nullable Book previousEdition) {
+			this.isbn = isbn;
+			this.previousEdition = previousEdition;
+		}
+
+		public String getIsbn() {
+			return this.isbn;
+		}
+
+		@Nullable
+		public Book getPreviousEdition() {
+			return this.previousEdition;
+		}
+
+		public boolean isAvailable() {
+			return true;
+		}
+
+		public String getTitle() {
+			this.titleReads++;
+			throw new IllegalStateException("No title");
+		}
 	}
 
 }
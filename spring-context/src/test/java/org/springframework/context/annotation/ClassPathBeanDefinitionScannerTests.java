@@ -16,6 +16,12 @@
 
 package org.springframework.context.annotation;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import example.profilescan.DevComponent;
+import example.profilescan.ProfileAnnotatedComponent;
+import example.profilescan.ProfileMetaAnnotatedComponent;
 import example.scannable.CustomComponent;
 import example.scannable.FooService;
 import example.scannable.FooServiceImpl;
@@ -552,6 +558,66 @@ public class ClassPathBeanDefinitionScannerTests {
 	}
 
 
+	@Test
+	public void testConcurrentScanRegistersInDeclarationOrder() {
+		String[] basePackages = {BASE_PACKAGE, "org.springframework.context.annotation6", "example.profilescan"};
+		GenericApplicationContext sequentialContext = new GenericApplicationContext();
+		sequentialContext.getEnvironment().setActiveProfiles(DevComponent.PROFILE_NAME);
+		new ClassPathBeanDefinitionScanner(sequentialContext).scan(basePackages);
+
+		ExecutorService executor = Executors.newFixedThreadPool(3);
+		try {
+			GenericApplicationContext context = new GenericApplicationContext();
+			context.getEnvironment().setActiveProfiles(DevComponent.PROFILE_NAME);
+			ClassPathBeanDefinitionScanner scanner = new ClassPathBeanDefinitionScanner(context);
+			scanner.setScanExecutor(executor);
+			int beanCount = scanner.scan(basePackages);
+			assertThat(beanCount).isEqualTo(sequentialContext.getBeanDefinitionCount());
+			assertThat(context.getBeanDefinitionNames()).containsExactly(sequentialContext.getBeanDefinitionNames());
+			assertThat(context.containsBean(ProfileMetaAnnotatedComponent.BEAN_NAME)).isTrue();
+			assertThat(context.containsBean(ProfileAnnotatedComponent.BEAN_NAME)).isFalse();
+			assertThat(context.containsBean("componentForScanning")).isTrue();
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void testConcurrentScanEvaluatesRegistryConditionsInDeclarationOrder() {
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			GenericApplicationContext context = new GenericApplicationContext();
+			ClassPathBeanDefinitionScanner scanner = new ClassPathBeanDefinitionScanner(context);
+			scanner.setScanExecutor(executor);
+			scanner.scan(BASE_PACKAGE, "example.conditionalscan");
+			assertThat(context.containsBean("fooDaoDependentComponent")).isTrue();
+
+			GenericApplicationContext reversedContext = new GenericApplicationContext();
+			ClassPathBeanDefinitionScanner reversedScanner = new ClassPathBeanDefinitionScanner(reversedContext);
+			reversedScanner.setScanExecutor(executor);
+			reversedScanner.scan("example.conditionalscan", BASE_PACKAGE);
+			assertThat(reversedContext.containsBean("stubFooDao")).isTrue();
+			assertThat(reversedContext.containsBean("fooDaoDependentComponent")).isFalse();
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void testConcurrentScanWithRejectingExecutor() {
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		executor.shutdown();
+		GenericApplicationContext context = new GenericApplicationContext();
+		ClassPathBeanDefinitionScanner scanner = new ClassPathBeanDefinitionScanner(context);
+		scanner.setScanExecutor(executor);
+		scanner.scan(BASE_PACKAGE, "example.conditionalscan");
+		assertThat(context.containsBean("stubFooDao")).isTrue();
+		assertThat(context.containsBean("fooDaoDependentComponent")).isTrue();
+	}
+
+
 	private static class TestBeanNameGenerator extends AnnotationBeanNameGenerator {
 
 		@Override
@@ -0,0 +1,303 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.context.annotation;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.context.annotation.componentscan.simple.SimpleComponent;
+import org.springframework.core.env.CompositePropertySource;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.type.AnnotatedTypeMetadata;
+import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.lang.Nullable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for caching the configuration model through
+ * {@link ConfigurationClassPostProcessor#setConfigurationModelCacheLocation}.
+ *
+ * @since 6.1.2
+ */
+class ConfigurationModelCacheTests {
+
+	@TempDir
+	Path tempDir;
+
+	private Path cacheFile;
+
+	@Nullable
+	private ClassLoader classLoader;
+
+
+	@BeforeEach
+	void setup() {
+		this.cacheFile = this.tempDir.resolve("configuration-model.cache");
+		CountingImportSelector.invocations.set(0);
+	}
+
+
+	@Test
+	void replayCachedModel() {
+		String[] beanNames;
+		try (AnnotationConfigApplicationContext context = refresh(CachedConfig.class, true)) {
+			beanNames = context.getBeanDefinitionNames();
+			assertThat(context.getBean("selected")).isEqualTo("selected");
+		}
+		assertThat(this.cacheFile).exists();
+		assertThat(CountingImportSelector.invocations).hasValue(1);
+
+		try (AnnotationConfigApplicationContext context = refresh(CachedConfig.class, true)) {
+			assertThat(CountingImportSelector.invocations).hasValue(1);
+			assertThat(context.getBeanDefinitionNames()).containsExactly(beanNames);
+			assertThat(context.getBean("selected")).isEqualTo("selected");
+			assertThat(context.getBean("exampleBean")).isEqualTo("example");
+			assertThat(context.getBean("feature")).isEqualTo("feature");
+			assertThat(context.getBean(SimpleComponent.class)).isNotNull();
+			assertThat(context.getEnvironment().getProperty("from.p2")).isEqualTo("p2Value");
+			assertThat(context.getBean(SelectedConfig.class).importingClass).isEqualTo(CachedConfig.class.getName());
+		}
+	}
+
+	@Test
+	void parseAgainIfConditionOutcomeChanged() {
+		refresh(CachedConfig.class, true).close();
+		assertThat(CountingImportSelector.invocations).hasValue(1);
+
+		try (AnnotationConfigApplicationContext context = refresh(CachedConfig.class, false)) {
+			assertThat(CountingImportSelector.invocations).hasValue(2);
+			assertThat(context.containsBean("feature")).isFalse();
+			assertThat(context.containsBean("selected")).isTrue();
+		}
+	}
+
+	@Test
+	void parseAgainIfActiveProfilesChanged() {
+		refresh(CachedConfig.class, true).close();
+		try (AnnotationConfigApplicationContext context = refresh(CachedConfig.class, true, "dev")) {
+			assertThat(CountingImportSelector.invocations).hasValue(2);
+			assertThat(context.getBean("dev")).isEqualTo("dev");
+		}
+		try (AnnotationConfigApplicationContext context = refresh(CachedConfig.class, true, "dev")) {
+			assertThat(CountingImportSelector.invocations).hasValue(2);
+			assertThat(context.getBean("dev")).isEqualTo("dev");
+		}
+	}
+
+	@Test
+	void replayCachedModelWithConditionOnPropertySourceOfImportingClass() {
+		try (AnnotationConfigApplicationContext context = refresh(PropertySourceConfig.class, true)) {
+			assertThat(context.getBean("propertyDependent")).isEqualTo("propertyDependent");
+		}
+		assertThat(CountingImportSelector.invocations).hasValue(1);
+
+		try (AnnotationConfigApplicationContext context = refresh(PropertySourceConfig.class, true)) {
+			assertThat(CountingImportSelector.invocations).hasValue(1);
+			assertThat(context.getBean("propertyDependent")).isEqualTo("propertyDependent");
+			assertThat(context.getEnvironment().getProperty("from.p2")).isEqualTo("p2Value");
+		}
+	}
+
+	@Test
+	void parseAgainWithoutProcessingPropertySourcesTwice() {
+		refresh(PropertySourceConfig.class, true).close();
+
+		try (AnnotationConfigApplicationContext context = refresh(PropertySourceConfig.class, false)) {
+			assertThat(CountingImportSelector.invocations).hasValue(2);
+			assertThat(context.containsBean("feature")).isFalse();
+			assertThat(context.getBean("propertyDependent")).isEqualTo("propertyDependent");
+			assertThat(context.getEnvironment().getPropertySources().stream())
+					.noneMatch(CompositePropertySource.class::isInstance);
+		}
+	}
+
+	@Test
+	void doNotCacheModelWithRegistryDependentCondition() {
+		refresh(RegistryDependentConfig.class, true).close();
+		assertThat(this.cacheFile).doesNotExist();
+
+		try (AnnotationConfigApplicationContext context = refresh(RegistryDependentConfig.class, true)) {
+			assertThat(CountingImportSelector.invocations).hasValue(2);
+			assertThat(context.containsBean("selected")).isTrue();
+		}
+	}
+
+	@Test
+	void ignoreUnreadableCacheFile() throws IOException {
+		Files.writeString(this.cacheFile, "not a configuration model cache");
+		refresh(CachedConfig.class, true).close();
+		refresh(CachedConfig.class, true).close();
+		assertThat(CountingImportSelector.invocations).hasValue(1);
+	}
+
+	@Test
+	void parseAgainIfClassLoaderRootChanged() throws IOException {
+		Path classes = Files.createDirectory(this.tempDir.resolve("classes"));
+		try (URLClassLoader loader = new URLClassLoader(
+				new URL[] {classes.toUri().toURL()}, getClass().getClassLoader())) {
+			this.classLoader = loader;
+			refresh(CachedConfig.class, true).close();
+			refresh(CachedConfig.class, true).close();
+			assertThat(CountingImportSelector.invocations).hasValue(1);
+
+			Files.writeString(classes.resolve("application.properties"), "added=true");
+			refresh(CachedConfig.class, true).close();
+			assertThat(CountingImportSelector.invocations).hasValue(2);
+		}
+	}
+
+	@Test
+	void doNotUseCacheIfClassLoaderRootNotInFileSystem() throws IOException {
+		try (URLClassLoader loader = new URLClassLoader(
+				new URL[] {URI.create("http://localhost/classes/").toURL()}, getClass().getClassLoader())) {
+			this.classLoader = loader;
+			refresh(CachedConfig.class, true).close();
+			assertThat(this.cacheFile).doesNotExist();
+			refresh(CachedConfig.class, true).close();
+			assertThat(CountingImportSelector.invocations).hasValue(2);
+		}
+	}
+
+
+	private AnnotationConfigApplicationContext refresh(Class<?> configClass, boolean featureEnabled, String... profiles) {
+		AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+		if (this.classLoader != null) {
+			context.setClassLoader(this.classLoader);
+		}
+		context.getEnvironment().setActiveProfiles(profiles);
+		context.getEnvironment().getPropertySources().addFirst(
+				new MapPropertySource("test", Map.of("feature.enabled", String.valueOf(featureEnabled))));
+		context.getBeanDefinition(AnnotationConfigUtils.CONFIGURATION_ANNOTATION_PROCESSOR_BEAN_NAME)
+				.getPropertyValues().add("configurationModelCacheLocation", this.cacheFile);
+		context.register(configClass);
+		context.refresh();
+		return context;
+	}
+
+
+	@Configuration
+	@ComponentScan(basePackageClasses = SimpleComponent.class)
+	@Import({CountingImportSelector.class, FeatureConfig.class, DevConfig.class})
+	@PropertySource("classpath:org/springframework/context/annotation/p2.properties")
+	static class CachedConfig {
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	@Import({CountingImportSelector.class, PropertyDependentConfig.class, FeatureConfig.class})
+	@PropertySource("classpath:org/springframework/context/annotation/p2.properties")
+	static class PropertySourceConfig {
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	@Import(CountingImportSelector.class)
+	@Conditional(RegistryDependentCondition.class)
+	static class RegistryDependentConfig {
+	}
+
+	static class CountingImportSelector implements ImportSelector {
+
+		static final AtomicInteger invocations = new AtomicInteger();
+
+		@Override
+		public String[] selectImports(AnnotationMetadata importingClassMetadata) {
+			invocations.incrementAndGet();
+			return new String[] {SelectedConfig.class.getName()};
+		}
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	static class SelectedConfig implements ImportAware {
+
+		String importingClass;
+
+		@Override
+		public void setImportMetadata(AnnotationMetadata importMetadata) {
+			this.importingClass = importMetadata.getClassName();
+		}
+
+		@Bean
+		String selected() {
+			return "selected";
+		}
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	@Conditional(FeatureCondition.class)
+	static class FeatureConfig {
+
+		@Bean
+		String feature() {
+			return "feature";
+		}
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	@Profile("dev")
+	static class DevConfig {
+
+		@Bean
+		String dev() {
+			return "dev";
+		}
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	@Conditional(PropertyDependentCondition.class)
+	static class PropertyDependentConfig {
+
+		@Bean
+		String propertyDependent() {
+			return "propertyDependent";
+		}
+	}
+
+	static class FeatureCondition implements Condition {
+
+		@Override
+		public boolean matches(ConditionContext context, AnnotatedTypeMetadata metadata) {
+			return context.getEnvironment().getProperty("feature.enabled", Boolean.class, false);
+		}
+	}
+
+	static class PropertyDependentCondition implements Condition {
+
+		@Override
+		public boolean matches(ConditionContext context, AnnotatedTypeMetadata metadata) {
+			return context.getEnvironment().containsProperty("from.p2");
+		}
+	}
+
+	static class RegistryDependentCondition implements Condition {
+
+		@Override
+		public boolean matches(ConditionContext context, AnnotatedTypeMetadata metadata) {
+			return !context.getRegistry().containsBeanDefinition("other");
+		}
+	}
+
+}
@@ -614,6 +614,20 @@ class AnnotationDrivenEventListenerTests {
 		this.eventCollector.assertTotalEventsCount(4);
 	}
 
+	@Test
+	void conditionMatchWithRepeatedEvaluation() {
+		load(ConditionalEventListener.class);
+		ConditionalEventInterface listener = this.context.getBean(ConditionalEventInterface.class);
+
+		// Exceed the threshold for compiling the condition
+		for (int i = 0; i < 250; i++) {
+			this.context.publishEvent((i % 2 == 0 ? "OK " : "KO ") + i);
+		}
+		this.eventCollector.assertTotalEventsCount(125);
+		assertThat(this.eventCollector.getEvents(listener)).allSatisfy(event ->
+				assertThat(event).asString().startsWith("OK"));
+	}
+
 	@Test
 	void conditionDoesNotMatch() {
 		long maxLong = Long.MAX_VALUE;
@@ -16,6 +16,7 @@
 
 package org.springframework.context.event;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
@@ -182,6 +183,77 @@ public class ApplicationContextEventTests extends AbstractApplicationEventListen
 		verify(listener, times(1)).onApplicationEvent(evt);
 	}
 
+	@Test
+	public void simpleApplicationEventMulticasterWithTaskExecutorResolver() {
+		@SuppressWarnings("unchecked")
+		ApplicationListener<ApplicationEvent> listener = mock();
+		willReturn(true).given(listener).supportsAsyncExecution();
+		@SuppressWarnings("unchecked")
+		ApplicationListener<ApplicationEvent> otherListener = mock();
+		willReturn(true).given(otherListener).supportsAsyncExecution();
+		ApplicationEvent evt = new ContextClosedEvent(new StaticApplicationContext());
+
+		SimpleApplicationEventMulticaster smc = new SimpleApplicationEventMulticaster();
+		List<String> executions = new ArrayList<>();
+		smc.setTaskExecutor(command -> {
+			executions.add("default");
+			command.run();
+		});
+		smc.setTaskExecutorResolver(candidate -> candidate == listener ? command -> {
+			executions.add("dedicated");
+			command.run();
+		} : null);
+		smc.addApplicationListener(listener);
+		smc.addApplicationListener(otherListener);
+
+		smc.multicastEvent(evt);
+		assertThat(executions).containsExactlyInAnyOrder("dedicated", "default");
+		verify(listener).onApplicationEvent(evt);
+		verify(otherListener).onApplicationEvent(evt);
+	}
+
+	@Test
+	public void simpleApplicationEventMulticasterWithDispatchStatistics() {
+		MyOrderedListener1 listener = new MyOrderedListener1();
+		ApplicationEvent evt = new ContextClosedEvent(new StaticApplicationContext());
+
+		SimpleApplicationEventMulticaster smc = new SimpleApplicationEventMulticaster();
+		assertThat(smc.getDispatchStatistics()).isEmpty();
+		smc.setRecordDispatchStatistics(true);
+		smc.addApplicationListener(listener);
+		smc.multicastEvent(evt);
+		smc.multicastEvent(evt);
+
+		assertThat(listener.seenEvents).hasSize(2);
+		ListenerDispatchStatistics statistics = smc.getDispatchStatistics().get(MyOrderedListener1.class.getName());
+		assertThat(statistics.getInvocationCount()).isEqualTo(2);
+		assertThat(statistics.getMaxLatency()).isGreaterThanOrEqualTo(statistics.getAverageLatency());
+		assertThat(statistics.getTotalExecutionTime().isNegative()).isFalse();
+	}
+
+	@Test
+	public void simpleApplicationEventMulticasterWithDispatchStatisticsPerListener() {
+		ApplicationListener<ApplicationEvent> slowListener = event -> {
+			try {
+				Thread.sleep(50);
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+		};
+		ApplicationListener<ApplicationEvent> fastListener = event -> {};
+
+		SimpleApplicationEventMulticaster smc = new SimpleApplicationEventMulticaster();
+		smc.setRecordDispatchStatistics(true);
+		smc.addApplicationListener(slowListener);
+		smc.addApplicationListener(fastListener);
+		smc.multicastEvent(new ContextClosedEvent(new StaticApplicationContext()));
+
+		ListenerDispatchStatistics statistics = smc.getDispatchStatistics().get(fastListener.getClass().getName());
+		assertThat(statistics.getInvocationCount()).isEqualTo(1);
+		assertThat(statistics.getTotalWaitTime()).isLessThan(Duration.ofMillis(50));
+	}
+
 	@Test
 	public void simpleApplicationEventMulticasterWithException() {
 		@SuppressWarnings("unchecked")
@@ -19,6 +19,7 @@ package org.springframework.context.event;
 import java.io.IOException;
 import java.lang.reflect.Method;
 import java.lang.reflect.UndeclaredThrowableException;
+import java.util.ArrayList;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
@@ -252,6 +253,21 @@ public class ApplicationListenerMethodAdapterTests extends AbstractApplicationEv
 			.withCauseInstanceOf(IOException.class);
 	}
 
+	@Test
+	public void invokeNonPublicListenerMethodWithResult() {
+		NonPublicListener target = new NonPublicListener();
+		Method method = ReflectionUtils.findMethod(NonPublicListener.class, "handle", String.class);
+		ApplicationContext context = mock();
+		StaticApplicationListenerMethodAdapter listener = new StaticApplicationListenerMethodAdapter(method, target);
+		listener.init(context, null);
+
+		listener.onApplicationEvent(new PayloadApplicationEvent<>(this, "test"));
+		listener.onApplicationEvent(new PayloadApplicationEvent<>(this, "again"));
+		assertThat(target.received).containsExactly("test", "again");
+		verify(context).publishEvent("test-handled");
+		verify(context).publishEvent("again-handled");
+	}
+
 	@Test
 	public void invokeListenerInvalidProxy() {
 		Object target = new InvalidProxyTestBean();
@@ -459,6 +475,18 @@ public class ApplicationListenerMethodAdapterTests extends AbstractApplicationEv
 	}
 
 
+	private static class NonPublicListener {
+
+		private final List<String> received = new ArrayList<>();
+
+		@EventListener
+		private String handle(String payload) {
+			this.received.add(payload);
+			return payload + "-handled";
+		}
+	}
+
+
 	private static class SampleEvents {
 
 		@EventListener
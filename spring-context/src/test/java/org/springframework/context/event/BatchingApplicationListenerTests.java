@@ -0,0 +1,202 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.context.event;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.event.BatchingApplicationListener.OverflowPolicy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link BatchingApplicationListener}.
+ *
+ * @since 6.1.2
+ */
+class BatchingApplicationListenerTests {
+
+	private final List<List<TestEvent>> batches = new CopyOnWriteArrayList<>();
+
+
+	@Test
+	void deliverFullBatches() throws Exception {
+		BatchingApplicationListener<TestEvent> listener = new BatchingApplicationListener<>(TestEvent.class, this.batches::add);
+		listener.setMaxBatchSize(3);
+		listener.setMaxBatchDelay(Duration.ofSeconds(30));
+		SimpleApplicationEventMulticaster multicaster = new SimpleApplicationEventMulticaster();
+		multicaster.addApplicationListener(listener);
+
+		for (int i = 0; i < 7; i++) {
+			multicaster.multicastEvent(new TestEvent(i));
+		}
+		listener.destroy();
+
+		assertThat(this.batches).extracting(List::size).containsExactly(3, 3, 1);
+		assertThat(this.batches.stream().flatMap(List::stream).map(TestEvent::getSource))
+				.containsExactly(0, 1, 2, 3, 4, 5, 6);
+	}
+
+	@Test
+	void deliverPartialBatchAfterMaxDelay() throws Exception {
+		CountDownLatch delivered = new CountDownLatch(1);
+		BatchingApplicationListener<TestEvent> listener = new BatchingApplicationListener<>(TestEvent.class, batch -> {
+			this.batches.add(batch);
+			delivered.countDown();
+		});
+		listener.setMaxBatchSize(100);
+		listener.setMaxBatchDelay(Duration.ofMillis(20));
+
+		listener.onApplicationEvent(new TestEvent(1));
+		listener.onApplicationEvent(new TestEvent(2));
+		assertThat(delivered.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(this.batches).hasSize(1);
+		assertThat(this.batches.get(0)).hasSize(2);
+		listener.destroy();
+	}
+
+	@Test
+	void deliverOnDaemonThreadByDefault() throws Exception {
+		List<Boolean> daemon = new CopyOnWriteArrayList<>();
+		BatchingApplicationListener<TestEvent> listener = new BatchingApplicationListener<>(TestEvent.class,
+				batch -> daemon.add(Thread.currentThread().isDaemon()));
+
+		listener.onApplicationEvent(new TestEvent(1));
+		listener.destroy();
+		assertThat(daemon).containsExactly(true);
+	}
+
+	@Test
+	void supportsConfiguredEventTypeOnly() {
+		BatchingApplicationListener<TestEvent> listener = new BatchingApplicationListener<>(TestEvent.class, this.batches::add);
+		assertThat(listener.supportsEventType(TestEvent.class)).isTrue();
+		assertThat(listener.supportsEventType(ContextClosedEvent.class)).isFalse();
+		assertThat(listener.supportsAsyncExecution()).isFalse();
+	}
+
+	@Test
+	void dropNewestWhenQueueFull() throws Exception {
+		CountDownLatch blocked = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		BatchingApplicationListener<TestEvent> listener = new BatchingApplicationListener<>(TestEvent.class, batch -> {
+			this.batches.add(batch);
+			blocked.countDown();
+			await(release);
+		});
+		listener.setMaxBatchSize(1);
+		listener.setQueueCapacity(2);
+		listener.setOverflowPolicy(OverflowPolicy.DROP_NEWEST);
+
+		listener.onApplicationEvent(new TestEvent(0));
+		assertThat(blocked.await(5, TimeUnit.SECONDS)).isTrue();
+		for (int i = 1; i <= 4; i++) {
+			listener.onApplicationEvent(new TestEvent(i));
+		}
+		assertThat(listener.getDroppedEventCount()).isEqualTo(2);
+		release.countDown();
+		listener.destroy();
+
+		assertThat(deliveredSources()).containsExactly(0, 1, 2);
+	}
+
+	@Test
+	void dropOldestWhenQueueFull() throws Exception {
+		CountDownLatch blocked = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		BatchingApplicationListener<TestEvent> listener = new BatchingApplicationListener<>(TestEvent.class, batch -> {
+			this.batches.add(batch);
+			blocked.countDown();
+			await(release);
+		});
+		listener.setMaxBatchSize(1);
+		listener.setQueueCapacity(2);
+		listener.setOverflowPolicy(OverflowPolicy.DROP_OLDEST);
+
+		listener.onApplicationEvent(new TestEvent(0));
+		assertThat(blocked.await(5, TimeUnit.SECONDS)).isTrue();
+		for (int i = 1; i <= 4; i++) {
+			listener.onApplicationEvent(new TestEvent(i));
+		}
+		assertThat(listener.getDroppedEventCount()).isEqualTo(2);
+		release.countDown();
+		listener.destroy();
+
+		assertThat(deliveredSources()).containsExactly(0, 3, 4);
+	}
+
+	@Test
+	void continueAfterFailingBatch() throws Exception {
+		List<Throwable> errors = new CopyOnWriteArrayList<>();
+		BatchingApplicationListener<TestEvent> listener = new BatchingApplicationListener<>(TestEvent.class, batch -> {
+			if (batch.get(0).getSource().equals(0)) {
+				throw new IllegalStateException("Failed");
+			}
+			this.batches.add(batch);
+		});
+		listener.setMaxBatchSize(1);
+		listener.setErrorHandler(errors::add);
+
+		listener.onApplicationEvent(new TestEvent(0));
+		listener.onApplicationEvent(new TestEvent(1));
+		listener.destroy();
+
+		assertThat(errors).singleElement().isInstanceOf(IllegalStateException.class);
+		assertThat(deliveredSources()).containsExactly(1);
+	}
+
+	@Test
+	void dropEventsAfterDestroy() throws Exception {
+		BatchingApplicationListener<TestEvent> listener = new BatchingApplicationListener<>(TestEvent.class, this.batches::add);
+		listener.destroy();
+		listener.onApplicationEvent(new TestEvent(0));
+		assertThat(listener.getDroppedEventCount()).isEqualTo(1);
+		assertThat(this.batches).isEmpty();
+	}
+
+
+	private List<Object> deliveredSources() {
+		List<Object> sources = new ArrayList<>();
+		this.batches.forEach(batch -> batch.forEach(event -> sources.add(event.getSource())));
+		return sources;
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+
+	@SuppressWarnings("serial")
+	static class TestEvent extends ApplicationEvent {
+
+		TestEvent(Object source) {
+			super(source);
+		}
+	}
+
+}
@@ -16,13 +16,26 @@
 
 package org.springframework.context.index;
 
+import java.io.IOException;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.Properties;
 import java.util.Set;
 
+import example.scannable.NamedStubDao;
 import org.junit.jupiter.api.Test;
 
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.Resource;
+import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.core.type.MethodMetadata;
+import org.springframework.core.type.classreading.MetadataReader;
+import org.springframework.core.type.classreading.SimpleMetadataReaderFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.stereotype.Repository;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 /**
@@ -34,6 +47,10 @@ import static org.assertj.core.api.Assertions.assertThat;
 @SuppressWarnings("removal")
 public class CandidateComponentsIndexTests {
 
+	private static final String NAMED_STUB_DAO_METADATA = "1|example.scannable.NamedStubDao|d|java.lang.Object|||" +
+			"@org.springframework.stereotype.Repository(value=\"myNamedDao\")";
+
+
 	@Test
 	public void getCandidateTypes() {
 		CandidateComponentsIndex index = new CandidateComponentsIndex(
@@ -78,6 +95,50 @@ public class CandidateComponentsIndexTests {
 				.contains("com.example.Foo");
 	}
 
+	@Test
+	public void getMetadataReaderFromIndexedMetadata() throws IOException {
+		CandidateComponentsIndex index = new CandidateComponentsIndex(
+				List.of(createProperties(NamedStubDao.class.getName(), Component.class.getName())),
+				List.of(createProperties(NamedStubDao.class.getName(), NAMED_STUB_DAO_METADATA)));
+		CountingMetadataReaderFactory metadataReaderFactory = new CountingMetadataReaderFactory();
+		MetadataReader metadataReader = index.getMetadataReader(
+				NamedStubDao.class.getName(), new DefaultResourceLoader(), metadataReaderFactory);
+
+		assertThat(metadataReader).isNotNull();
+		assertThat(metadataReader.getResource()).isEqualTo(new ClassPathResource("example/scannable/NamedStubDao.class"));
+		AnnotationMetadata metadata = metadataReader.getAnnotationMetadata();
+		assertThat(metadata.getClassName()).isEqualTo(NamedStubDao.class.getName());
+		assertThat(metadata.isIndependent()).isTrue();
+		assertThat(metadata.isConcrete()).isTrue();
+		assertThat(metadata.getSuperClassName()).isEqualTo(Object.class.getName());
+		assertThat(metadata.getInterfaceNames()).isEmpty();
+		assertThat(metadata.hasAnnotation(Repository.class.getName())).isTrue();
+		assertThat(metadata.hasMetaAnnotation(Component.class.getName())).isTrue();
+		assertThat(metadata.getAnnotationAttributes(Component.class.getName())).containsEntry("value", "myNamedDao");
+		assertThat(metadataReaderFactory.count).isZero();
+
+		assertThat(metadata.getDeclaredMethods()).extracting(MethodMetadata::getMethodName).contains("find");
+		assertThat(metadataReaderFactory.count).isOne();
+	}
+
+	@Test
+	public void getMetadataReaderWithoutIndexedMetadata() {
+		CandidateComponentsIndex index = new CandidateComponentsIndex(
+				List.of(createProperties(NamedStubDao.class.getName(), Component.class.getName())),
+				List.of(createProperties("com.example.Other", NAMED_STUB_DAO_METADATA)));
+		assertThat(index.getMetadataReader(NamedStubDao.class.getName(),
+				new DefaultResourceLoader(), new CountingMetadataReaderFactory())).isNull();
+	}
+
+	@Test
+	public void getMetadataReaderWithUnsupportedIndexedMetadata() {
+		CandidateComponentsIndex index = new CandidateComponentsIndex(
+				List.of(createProperties(NamedStubDao.class.getName(), Component.class.getName())),
+				List.of(createProperties(NamedStubDao.class.getName(), NAMED_STUB_DAO_METADATA.replace("1|", "99|"))));
+		assertThat(index.getMetadataReader(NamedStubDao.class.getName(),
+				new DefaultResourceLoader(), new CountingMetadataReaderFactory())).isNull();
+	}
+
 	private static Properties createProperties(String key, String stereotypes) {
 		Properties properties = new Properties();
 		properties.put(key, String.join(",", stereotypes));
@@ -93,4 +154,16 @@ public class CandidateComponentsIndexTests {
 		return properties;
 	}
 
+
+	private static class CountingMetadataReaderFactory extends SimpleMetadataReaderFactory {
+
+		int count;
+
+		@Override
+		public MetadataReader getMetadataReader(Resource resource) throws IOException {
+			this.count++;
+			return super.getMetadataReader(resource);
+		}
+	}
+
 }
@@ -17,6 +17,11 @@
 package org.springframework.context.support;
 
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.Test;
 
@@ -28,10 +33,16 @@ import org.springframework.context.ApplicationContextException;
 import org.springframework.context.Lifecycle;
 import org.springframework.context.LifecycleProcessor;
 import org.springframework.context.SmartLifecycle;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
 import org.springframework.core.testfixture.EnabledForTestGroups;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.Mockito.RETURNS_SELF;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.springframework.core.testfixture.TestGroup.LONG_RUNNING;
 
 /**
@@ -446,6 +457,102 @@ class DefaultLifecycleProcessorTests {
 		context.close();
 	}
 
+	@Test
+	void concurrentStartupWithinPhase() {
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		CyclicBarrier barrier = new CyclicBarrier(3);
+		CopyOnWriteArrayList<Lifecycle> startedBeans = new CopyOnWriteArrayList<>();
+		TestSmartLifecycleBean bean1 = TestSmartLifecycleBean.forStartupTests(1, startedBeans, () -> awaitBarrier(barrier));
+		TestSmartLifecycleBean bean2 = TestSmartLifecycleBean.forStartupTests(1, startedBeans, () -> awaitBarrier(barrier));
+		TestSmartLifecycleBean bean3 = TestSmartLifecycleBean.forStartupTests(1, startedBeans, () -> awaitBarrier(barrier));
+		TestSmartLifecycleBean bean5 = TestSmartLifecycleBean.forStartupTests(5, startedBeans);
+		StartupStep startupStep = mock(StartupStep.class, RETURNS_SELF);
+		StaticApplicationContext context = new StaticApplicationContext();
+		context.setApplicationStartup(mock(ApplicationStartup.class, invocation -> startupStep));
+		context.registerBeanDefinition("lifecycleProcessor", concurrentLifecycleProcessor(executor, -1));
+		context.getBeanFactory().registerSingleton("bean5", bean5);
+		context.getBeanFactory().registerSingleton("bean1", bean1);
+		context.getBeanFactory().registerSingleton("bean2", bean2);
+		context.getBeanFactory().registerSingleton("bean3", bean3);
+		context.refresh();
+		assertThat(bean1.isRunning()).isTrue();
+		assertThat(bean2.isRunning()).isTrue();
+		assertThat(bean3.isRunning()).isTrue();
+		assertThat(bean5.isRunning()).isTrue();
+		assertThat(startedBeans).hasSize(4);
+		assertThat(startedBeans.subList(0, 3)).containsExactlyInAnyOrder(bean1, bean2, bean3);
+		assertThat(startedBeans.get(3)).isEqualTo(bean5);
+		verify(startupStep).tag("beanName", "bean1");
+		verify(startupStep).tag("beanName", "bean2");
+		verify(startupStep).tag("beanName", "bean3");
+		verify(startupStep).tag("beanName", "bean5");
+		verify(startupStep, atLeast(4)).end();
+		context.close();
+		executor.shutdown();
+	}
+
+	@Test
+	void concurrentStartupWithDependencyWithinPhase() {
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		CopyOnWriteArrayList<Lifecycle> startedBeans = new CopyOnWriteArrayList<>();
+		TestSmartLifecycleBean dependent = TestSmartLifecycleBean.forStartupTests(1, startedBeans);
+		TestSmartLifecycleBean dependency = TestSmartLifecycleBean.forStartupTests(1, startedBeans, () -> sleep(100));
+		TestSmartLifecycleBean other = TestSmartLifecycleBean.forStartupTests(1, startedBeans);
+		StaticApplicationContext context = new StaticApplicationContext();
+		context.registerBeanDefinition("lifecycleProcessor", concurrentLifecycleProcessor(executor, -1));
+		context.getBeanFactory().registerSingleton("dependent", dependent);
+		context.getBeanFactory().registerSingleton("dependency", dependency);
+		context.getBeanFactory().registerSingleton("other", other);
+		context.getBeanFactory().registerDependentBean("dependency", "dependent");
+		context.refresh();
+		assertThat(startedBeans).containsExactlyInAnyOrder(dependent, dependency, other);
+		assertThat(startedBeans.indexOf(dependency)).isLessThan(startedBeans.indexOf(dependent));
+		context.close();
+		executor.shutdown();
+	}
+
+	@Test
+	void concurrentStartupWithFailingBean() {
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		CopyOnWriteArrayList<Lifecycle> startedBeans = new CopyOnWriteArrayList<>();
+		TestSmartLifecycleBean dependent = TestSmartLifecycleBean.forStartupTests(0, startedBeans);
+		TestSmartLifecycleBean other = TestSmartLifecycleBean.forStartupTests(0, startedBeans);
+		StaticApplicationContext context = new StaticApplicationContext();
+		context.registerBeanDefinition("lifecycleProcessor", concurrentLifecycleProcessor(executor, -1));
+		context.registerSingleton("failingBean", FailingLifecycleBean.class);
+		context.getBeanFactory().registerSingleton("dependent", dependent);
+		context.getBeanFactory().registerSingleton("other", other);
+		context.getBeanFactory().registerDependentBean("failingBean", "dependent");
+		assertThatExceptionOfType(ApplicationContextException.class)
+				.isThrownBy(context::refresh)
+				.withMessageContaining("failingBean")
+				.withCauseInstanceOf(IllegalStateException.class);
+		assertThat(startedBeans).containsExactly(other);
+		assertThat(dependent.isRunning()).isFalse();
+		assertThat(other.isRunning()).isFalse();
+		context.close();
+		executor.shutdown();
+	}
+
+	@Test
+	void concurrentStartupExceedingTimeout() {
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		CountDownLatch latch = new CountDownLatch(1);
+		CopyOnWriteArrayList<Lifecycle> startedBeans = new CopyOnWriteArrayList<>();
+		TestSmartLifecycleBean slowBean = TestSmartLifecycleBean.forStartupTests(0, startedBeans, () -> awaitLatch(latch));
+		TestSmartLifecycleBean bean = TestSmartLifecycleBean.forStartupTests(0, startedBeans);
+		StaticApplicationContext context = new StaticApplicationContext();
+		context.registerBeanDefinition("lifecycleProcessor", concurrentLifecycleProcessor(executor, 100));
+		context.getBeanFactory().registerSingleton("slowBean", slowBean);
+		context.getBeanFactory().registerSingleton("bean", bean);
+		assertThatExceptionOfType(ApplicationContextException.class)
+				.isThrownBy(context::refresh)
+				.withMessageContaining("within timeout of 100ms: [slowBean]");
+		latch.countDown();
+		context.close();
+		executor.shutdown();
+	}
+
 	@Test
 	void dependencyStartedFirstEvenIfItsPhaseIsHigher() {
 		CopyOnWriteArrayList<Lifecycle> startedBeans = new CopyOnWriteArrayList<>();
@@ -660,6 +767,40 @@ class DefaultLifecycleProcessorTests {
 		return (lifecycle instanceof SmartLifecycle smartLifecycle ? smartLifecycle.getPhase() : 0);
 	}
 
+	private static BeanDefinition concurrentLifecycleProcessor(ExecutorService executor, long timeoutPerStartupPhase) {
+		BeanDefinition beanDefinition = new RootBeanDefinition(DefaultLifecycleProcessor.class);
+		beanDefinition.getPropertyValues().addPropertyValue("concurrentStartupExecutor", executor);
+		beanDefinition.getPropertyValues().addPropertyValue("timeoutPerStartupPhase", timeoutPerStartupPhase);
+		return beanDefinition;
+	}
+
+	private static void awaitBarrier(CyclicBarrier barrier) {
+		try {
+			barrier.await(5, TimeUnit.SECONDS);
+		}
+		catch (Exception ex) {
+			throw new IllegalStateException("Beans of the same phase not started concurrently", ex);
+		}
+	}
+
+	private static void awaitLatch(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
 
 	private static class TestLifecycleBean implements Lifecycle {
 
@@ -669,6 +810,8 @@ class DefaultLifecycleProcessorTests {
 
 		private volatile boolean running;
 
+		Runnable onStart = () -> {};
+
 		static TestLifecycleBean forStartupTests(CopyOnWriteArrayList<Lifecycle> startedBeans) {
 			return new TestLifecycleBean(startedBeans, null);
 		}
@@ -689,6 +832,7 @@ class DefaultLifecycleProcessorTests {
 
 		@Override
 		public void start() {
+			this.onStart.run();
 			if (this.startedBeans != null) {
 				this.startedBeans.add(this);
 			}
@@ -717,6 +861,14 @@ class DefaultLifecycleProcessorTests {
 			return new TestSmartLifecycleBean(phase, 0, startedBeans, null);
 		}
 
+		static TestSmartLifecycleBean forStartupTests(int phase, CopyOnWriteArrayList<Lifecycle> startedBeans,
+				Runnable onStart) {
+
+			TestSmartLifecycleBean bean = new TestSmartLifecycleBean(phase, 0, startedBeans, null);
+			bean.onStart = onStart;
+			return bean;
+		}
+
 		static TestSmartLifecycleBean forShutdownTests(int phase, int shutdownDelay, CopyOnWriteArrayList<Lifecycle> stoppedBeans) {
 			return new TestSmartLifecycleBean(phase, shutdownDelay, null, stoppedBeans);
 		}
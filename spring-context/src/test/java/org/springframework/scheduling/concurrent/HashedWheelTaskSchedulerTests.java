@@ -0,0 +1,226 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.scheduling.concurrent;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.Trigger;
+import org.springframework.scheduling.TriggerContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Tests for {@link HashedWheelTaskScheduler}.
+ *
+ * @since 6.1.2
+ */
+class HashedWheelTaskSchedulerTests {
+
+	private final HashedWheelTaskScheduler scheduler = new HashedWheelTaskScheduler();
+
+
+	@BeforeEach
+	void setup() {
+		this.scheduler.setTickDuration(Duration.ofMillis(1));
+		this.scheduler.setTicksPerWheel(64);
+	}
+
+	@AfterEach
+	void shutdown() {
+		this.scheduler.close();
+	}
+
+
+	@Test
+	void scheduleOneTimeTask() throws Exception {
+		CountDownLatch latch = new CountDownLatch(1);
+		ScheduledFuture<?> future = this.scheduler.schedule(latch::countDown, Instant.now().plusMillis(20));
+
+		assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(future.get(5, TimeUnit.SECONDS)).isNull();
+		assertThat(future.isDone()).isTrue();
+		await().atMost(Duration.ofSeconds(5)).until(() -> this.scheduler.getScheduledTaskCount() == 0);
+	}
+
+	@Test
+	void scheduleTaskBeyondOneRevolutionOfTheWheel() throws Exception {
+		long start = System.nanoTime();
+		AtomicReference<Long> executionTime = new AtomicReference<>();
+		ScheduledFuture<?> future = this.scheduler.schedule(() -> executionTime.set(System.nanoTime()),
+				Instant.now().plusMillis(200));
+
+		future.get(5, TimeUnit.SECONDS);
+		assertThat(executionTime.get() - start).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(190));
+	}
+
+	@Test
+	void scheduleTaskInFarFuture() throws Exception {
+		AtomicInteger count = new AtomicInteger();
+		ScheduledFuture<?> future = this.scheduler.schedule(count::incrementAndGet, Instant.MAX);
+		ScheduledFuture<?> repeatingFuture = this.scheduler.scheduleWithFixedDelay(count::incrementAndGet,
+				Instant.now(), ChronoUnit.FOREVER.getDuration());
+
+		await().atMost(Duration.ofSeconds(5)).until(() -> count.get() == 1);
+		Thread.sleep(50);
+		assertThat(count).hasValue(1);
+		assertThat(future.isDone()).isFalse();
+		assertThat(future.getDelay(TimeUnit.DAYS)).isGreaterThan(365 * 100);
+		assertThat(repeatingFuture.isDone()).isFalse();
+		assertThat(repeatingFuture.getDelay(TimeUnit.DAYS)).isGreaterThan(365 * 100);
+		assertThat(future.cancel(false)).isTrue();
+		assertThat(repeatingFuture.cancel(false)).isTrue();
+	}
+
+	@Test
+	void cancelTaskBeforeExecution() throws Exception {
+		AtomicInteger count = new AtomicInteger();
+		List<ScheduledFuture<?>> futures = new ArrayList<>();
+		for (int i = 0; i < 1000; i++) {
+			futures.add(this.scheduler.schedule(count::incrementAndGet, Instant.now().plusSeconds(10)));
+		}
+		assertThat(this.scheduler.getScheduledTaskCount()).isEqualTo(1000);
+		for (ScheduledFuture<?> future : futures) {
+			assertThat(future.cancel(false)).isTrue();
+			assertThat(future.isCancelled()).isTrue();
+		}
+
+		await().atMost(Duration.ofSeconds(5)).until(() -> this.scheduler.getScheduledTaskCount() == 0);
+		assertThat(count).hasValue(0);
+	}
+
+	@Test
+	void scheduleAtFixedRate() {
+		AtomicInteger count = new AtomicInteger();
+		ScheduledFuture<?> future = this.scheduler.scheduleAtFixedRate(count::incrementAndGet, Duration.ofMillis(5));
+
+		await().atMost(Duration.ofSeconds(5)).until(() -> count.get() >= 5);
+		future.cancel(false);
+		assertThat(future.isCancelled()).isTrue();
+		await().atMost(Duration.ofSeconds(5)).until(() -> this.scheduler.getScheduledTaskCount() == 0);
+	}
+
+	@Test
+	void scheduleWithFixedDelay() {
+		AtomicInteger count = new AtomicInteger();
+		ScheduledFuture<?> future = this.scheduler.scheduleWithFixedDelay(count::incrementAndGet,
+				Instant.now().plusMillis(10), Duration.ofMillis(5));
+
+		await().atMost(Duration.ofSeconds(5)).until(() -> count.get() >= 5);
+		future.cancel(false);
+		await().atMost(Duration.ofSeconds(5)).until(() -> this.scheduler.getScheduledTaskCount() == 0);
+	}
+
+	@Test
+	void scheduleTriggerTask() throws Exception {
+		AtomicInteger count = new AtomicInteger();
+		Future<?> future = this.scheduler.schedule(count::incrementAndGet, new TestTrigger(3));
+
+		assertThat(future).isNotNull();
+		assertThat(future.get(5, TimeUnit.SECONDS)).isNull();
+		assertThat(count).hasValue(3);
+	}
+
+	@Test
+	void scheduleOneTimeFailingTask() {
+		Future<?> future = this.scheduler.schedule(() -> {
+			throw new IllegalStateException("failure");
+		}, Instant.now());
+
+		assertThat(future).failsWithin(Duration.ofSeconds(5)).withThrowableThat().havingCause()
+				.isInstanceOf(IllegalStateException.class).withMessage("failure");
+	}
+
+	@Test
+	void scheduleRepeatingFailingTaskWithErrorHandler() {
+		AtomicInteger errors = new AtomicInteger();
+		this.scheduler.setErrorHandler(ex -> errors.incrementAndGet());
+		ScheduledFuture<?> future = this.scheduler.scheduleAtFixedRate(() -> {
+			throw new IllegalStateException("failure");
+		}, Duration.ofMillis(5));
+
+		await().atMost(Duration.ofSeconds(5)).until(() -> errors.get() >= 3);
+		assertThat(future.isDone()).isFalse();
+		future.cancel(false);
+	}
+
+	@Test
+	void scheduleOnTargetTaskExecutor() throws Exception {
+		this.scheduler.setTargetTaskExecutor(runnable -> new Thread(runnable, "target").start());
+		AtomicReference<String> threadName = new AtomicReference<>();
+		this.scheduler.schedule(() -> threadName.set(Thread.currentThread().getName()), Instant.now())
+				.get(5, TimeUnit.SECONDS);
+
+		assertThat(threadName.get()).isEqualTo("target");
+	}
+
+	@Test
+	void scheduleOnDaemonSchedulerThread() {
+		this.scheduler.setThreadNamePrefix("wheel-");
+		this.scheduler.schedule(() -> {}, Instant.now().plusSeconds(10));
+
+		assertThat(Thread.getAllStackTraces().keySet()).filteredOn(thread -> thread.getName().equals("wheel-timer"))
+				.singleElement().satisfies(thread -> assertThat(thread.isDaemon()).isTrue());
+	}
+
+	@Test
+	void shutdownCancelsScheduledTasks() {
+		ScheduledFuture<?> future = this.scheduler.schedule(() -> {}, Instant.now().plusSeconds(10));
+		this.scheduler.close();
+
+		assertThat(future.isCancelled()).isTrue();
+		assertThat(this.scheduler.getScheduledTaskCount()).isZero();
+		assertThatExceptionOfType(TaskRejectedException.class).isThrownBy(() ->
+				this.scheduler.schedule(() -> {}, Instant.now()));
+	}
+
+
+	private static class TestTrigger implements Trigger {
+
+		private final AtomicInteger remainingExecutions;
+
+		TestTrigger(int executions) {
+			this.remainingExecutions = new AtomicInteger(executions);
+		}
+
+		@Override
+		public Instant nextExecution(TriggerContext triggerContext) {
+			if (this.remainingExecutions.getAndDecrement() <= 0) {
+				return null;
+			}
+			Instant lastExecution = triggerContext.lastActualExecution();
+			return (lastExecution != null ? lastExecution.plusMillis(5) : triggerContext.getClock().instant());
+		}
+	}
+
+}
@@ -16,7 +16,9 @@
 
 package org.springframework.context.testfixture.cache;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
@@ -89,6 +91,27 @@ public abstract class AbstractCacheTests<T extends Cache> {
 		assertThat(cache.get(key).get()).isEqualTo(value);
 	}
 
+	@Test
+	public void testCachePutAllGetAll() {
+		T cache = getCache();
+
+		String key1 = createRandomKey();
+		String key2 = createRandomKey();
+		String key3 = createRandomKey();
+		assertThat(cache.getAll(List.of(key1, key2, key3))).isEmpty();
+
+		Map<String, Object> entries = new LinkedHashMap<>();
+		entries.put(key1, "george");
+		entries.put(key2, null);
+		cache.putAll(entries);
+		assertThat(cache.get(key1).get()).isEqualTo("george");
+
+		Map<Object, Cache.ValueWrapper> result = cache.getAll(List.of(key1, key2, key3));
+		assertThat(result).containsOnlyKeys(key1, key2);
+		assertThat(result.get(key1).get()).isEqualTo("george");
+		assertThat(result.get(key2).get()).isNull();
+	}
+
 	@Test
 	public void testCacheRemove() throws Exception {
 		T cache = getCache();
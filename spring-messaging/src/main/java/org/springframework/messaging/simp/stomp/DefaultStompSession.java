@@ -27,6 +27,8 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
 
 import org.apache.commons.logging.Log;
@@ -557,6 +559,8 @@ public class DefaultStompSession implements ConnectionHandlingStompSession {
 		@Nullable
 		private StompHeaders receiptHeaders;
 
+		private final Lock lock = new ReentrantLock();
+
 		public ReceiptHandler(@Nullable String receiptId) {
 			this.receiptId = receiptId;
 			if (receiptId != null) {
@@ -585,7 +589,8 @@ public class DefaultStompSession implements ConnectionHandlingStompSession {
 		@Override
 		public void addReceiptTask(Consumer<StompHeaders> task) {
 			Assert.notNull(this.receiptId, "Set autoReceiptEnabled to track receipts or add a 'receiptId' header");
-			synchronized (this) {
+			this.lock.lock();
+			try {
 				if (this.result != null) {
 					if (this.result) {
 						task.accept(this.receiptHeaders);
@@ -595,11 +600,15 @@ public class DefaultStompSession implements ConnectionHandlingStompSession {
 					this.receiptCallbacks.add(task);
 				}
 			}
+			finally {
+				this.lock.unlock();
+			}
 		}
 
 		@Override
 		public void addReceiptLostTask(Runnable task) {
-			synchronized (this) {
+			this.lock.lock();
+			try {
 				if (this.result != null) {
 					if (!this.result) {
 						task.run();
@@ -609,6 +618,9 @@ public class DefaultStompSession implements ConnectionHandlingStompSession {
 					this.receiptLostCallbacks.add(task);
 				}
 			}
+			finally {
+				this.lock.unlock();
+			}
 		}
 
 		public void handleReceiptReceived(StompHeaders receiptHeaders) {
@@ -620,7 +632,8 @@ public class DefaultStompSession implements ConnectionHandlingStompSession {
 		}
 
 		private void handleInternal(boolean result, @Nullable StompHeaders receiptHeaders) {
-			synchronized (this) {
+			this.lock.lock();
+			try {
 				if (this.result != null) {
 					return;
 				}
@@ -651,6 +664,9 @@ public class DefaultStompSession implements ConnectionHandlingStompSession {
 					this.future.cancel(true);
 				}
 			}
+			finally {
+				this.lock.unlock();
+			}
 		}
 
 	}
@@ -52,7 +52,14 @@ public class SessionScope extends AbstractRequestAttributesScope {
 
 	@Override
 	public Object get(String name, ObjectFactory<?> objectFactory) {
-		Object mutex = RequestContextHolder.currentRequestAttributes().getSessionMutex();
+		RequestAttributes attributes = RequestContextHolder.currentRequestAttributes();
+		// Quick check for an existing scoped object without entering the session mutex,
+		// which would otherwise pin a virtual thread for every scoped bean access.
+		Object scopedObject = attributes.getAttribute(name, getScope());
+		if (scopedObject != null) {
+			return scopedObject;
+		}
+		Object mutex = attributes.getSessionMutex();
 		synchronized (mutex) {
 			return super.get(name, objectFactory);
 		}
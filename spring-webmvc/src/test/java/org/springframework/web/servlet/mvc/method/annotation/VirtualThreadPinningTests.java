@@ -0,0 +1,195 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.web.servlet.mvc.method.annotation;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationContextAware;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.PayloadApplicationEvent;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Controller;
+import org.springframework.util.Assert;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.testfixture.servlet.MockHttpServletRequest;
+import org.springframework.web.testfixture.servlet.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Regression test for virtual thread pinning in the request processing path:
+ * runs concurrent MVC requests on virtual threads, with lazy singleton,
+ * request-scoped and session-scoped beans as well as event publication,
+ * and checks that no {@code jdk.VirtualThreadPinned} events are recorded.
+ *
+ * @since 6.1.2
+ */
+@EnabledForJreRange(min = JRE.JAVA_21)
+class VirtualThreadPinningTests extends AbstractServletHandlerMethodTests {
+
+	private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+	private static final int REQUEST_COUNT = 100;
+
+
+	@Test
+	void noPinningForConcurrentRequestsOnVirtualThreads(@TempDir Path tempDir) throws Exception {
+		initDispatcherServlet(WorkController.class, true, wac -> {
+			for (int i = 0; i < SlowInitBean.BEAN_COUNT; i++) {
+				RootBeanDefinition slowBean = new RootBeanDefinition(SlowInitBean.class);
+				slowBean.setLazyInit(true);
+				wac.registerBeanDefinition("slowBean" + i, slowBean);
+			}
+			RootBeanDefinition requestBean = new RootBeanDefinition(RequestBean.class);
+			requestBean.setScope(WebApplicationContext.SCOPE_REQUEST);
+			wac.registerBeanDefinition("requestBean", requestBean);
+			RootBeanDefinition sessionBean = new RootBeanDefinition(SessionBean.class);
+			sessionBean.setScope(WebApplicationContext.SCOPE_SESSION);
+			wac.registerBeanDefinition("sessionBean", sessionBean);
+			wac.registerBeanDefinition("workListener", new RootBeanDefinition(WorkListener.class));
+		});
+
+		Path dump = tempDir.resolve("pinning.jfr");
+		try (Recording recording = new Recording()) {
+			recording.enable(PINNED_EVENT).withThreshold(Duration.ZERO).withStackTrace();
+			recording.start();
+			runRequests();
+			recording.stop();
+			recording.dump(dump);
+		}
+
+		List<String> pinnedStacks = new ArrayList<>();
+		for (RecordedEvent event : RecordingFile.readAllEvents(dump)) {
+			if (event.getEventType().getName().equals(PINNED_EVENT) && event.getStackTrace() != null) {
+				StringBuilder sb = new StringBuilder();
+				for (RecordedFrame frame : event.getStackTrace().getFrames()) {
+					sb.append("\n\tat ").append(frame.getMethod().getType().getName())
+							.append('.').append(frame.getMethod().getName());
+				}
+				pinnedStacks.add(sb.toString());
+			}
+		}
+		assertThat(pinnedStacks).as("Pinned virtual thread stacks").isEmpty();
+	}
+
+	private void runRequests() throws Exception {
+		VirtualThreadTaskExecutor executor = new VirtualThreadTaskExecutor("mvc-");
+		List<Future<Integer>> futures = new ArrayList<>(REQUEST_COUNT);
+		for (int i = 0; i < REQUEST_COUNT; i++) {
+			int beanIndex = i % SlowInitBean.BEAN_COUNT;
+			futures.add(executor.submit(() -> {
+				MockHttpServletRequest request = new MockHttpServletRequest("GET", "/work");
+				request.addParameter("bean", String.valueOf(beanIndex));
+				MockHttpServletResponse response = new MockHttpServletResponse();
+				getServlet().service(request, response);
+				return response.getStatus();
+			}));
+		}
+		for (Future<Integer> future : futures) {
+			assertThat(future.get(30, TimeUnit.SECONDS)).isEqualTo(200);
+		}
+	}
+
+
+	@Controller
+	static class WorkController implements ApplicationContextAware {
+
+		@Nullable
+		private ApplicationContext context;
+
+		@Override
+		public void setApplicationContext(ApplicationContext context) {
+			this.context = context;
+		}
+
+		@GetMapping("/work")
+		@ResponseBody
+		String work(@RequestParam("bean") int bean) {
+			Assert.state(this.context != null, "No ApplicationContext");
+			SlowInitBean slowBean = this.context.getBean("slowBean" + bean, SlowInitBean.class);
+			this.context.getBean(RequestBean.class).increment();
+			this.context.getBean(SessionBean.class).increment();
+			this.context.publishEvent("work");
+			return slowBean.toString();
+		}
+	}
+
+
+	static class SlowInitBean {
+
+		static final int BEAN_COUNT = 4;
+
+		SlowInitBean() throws InterruptedException {
+			// Simulates I/O in a lazy singleton's initialization, parking the
+			// current virtual thread while the singleton lock is being held
+			Thread.sleep(50);
+		}
+	}
+
+
+	static class RequestBean {
+
+		private final AtomicInteger count = new AtomicInteger();
+
+		void increment() {
+			this.count.incrementAndGet();
+		}
+	}
+
+
+	static class SessionBean {
+
+		private final AtomicInteger count = new AtomicInteger();
+
+		void increment() {
+			this.count.incrementAndGet();
+		}
+	}
+
+
+	static class WorkListener implements ApplicationListener<PayloadApplicationEvent<String>> {
+
+		private final AtomicInteger count = new AtomicInteger();
+
+		@Override
+		public void onApplicationEvent(PayloadApplicationEvent<String> event) {
+			this.count.incrementAndGet();
+		}
+	}
+
+}